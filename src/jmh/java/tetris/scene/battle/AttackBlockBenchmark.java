@@ -0,0 +1,73 @@
+package tetris.scene.battle;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tetris.scene.game.core.BoardFixture;
+import tetris.scene.game.core.BoardManager;
+
+/**
+ * 배틀 모드 공격 블록 적용 벤치마크
+ *
+ * BattleScene.applyAttackBlocks는 씬이 있어야 호출할 수 있으므로, 실제 적용을 담당하는
+ * BattleScene.applyAttackStack을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AttackBlockBenchmark {
+
+    private static final int ATTACK_LINES = 4; // 테트리스 한 번 분량
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private BoardManager boardManager;
+    private BoardManager.State fixture;
+    private AttackBlock[] attacks;
+    private final Stack<AttackBlock> attackStack = new Stack<>();
+
+    @Setup
+    public void setUp() {
+        boardManager = new BoardManager();
+        BoardFixture.fill(boardManager, fillPercent, 0, BoardFixture.SEED);
+        fixture = boardManager.copyState();
+
+        Random random = new Random(BoardFixture.SEED);
+        int width = boardManager.getWidth();
+        attacks = new AttackBlock[ATTACK_LINES];
+        for (int i = 0; i < ATTACK_LINES; i++) {
+            boolean[] pattern = new boolean[width];
+            Color[] colors = new Color[width];
+            int[] types = new int[width];
+            int hole = random.nextInt(width);
+            for (int col = 0; col < width; col++) {
+                pattern[col] = col != hole;
+                colors[col] = pattern[col] ? Color.GRAY : Color.BLACK;
+                types[col] = pattern[col] ? 8 : -1; // 8: 방해 블록
+            }
+            attacks[i] = new AttackBlock(width, pattern, colors, types);
+        }
+    }
+
+    /**
+     * 대기 중인 공격 4줄을 적용합니다. 보드와 대기열은 매번 같은 상태에서 시작합니다.
+     */
+    @Benchmark
+    public BoardManager applyAttackBlocks() {
+        boardManager.restoreState(fixture);
+        attackStack.clear();
+        for (AttackBlock attack : attacks) {
+            attackStack.push(attack);
+        }
+        BattleScene.applyAttackStack(attackStack, boardManager);
+        return boardManager;
+    }
+}
@@ -0,0 +1,133 @@
+package tetris.scene.battle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tetris.network.BoardSyncCodec;
+import tetris.scene.game.core.BoardFixture;
+import tetris.scene.game.core.BoardManager;
+
+/**
+ * P2P 보드 동기화 직렬화/역직렬화 벤치마크
+ *
+ * P2PBattleScene.serializeGameState/deserializeGameState는 씬(창, 연결)이 있어야 호출할 수 있으므로,
+ * 그 안에서 하는 변환(toSyncFrame/fromSyncFrame)과 BoardSyncCodec 인코딩/디코딩을 같은 순서로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class P2PSyncBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    // 낙하 중인 블록 위치만 다른 두 상태 (100ms마다 보내는 델타 프레임 재현)
+    private SerializedGameState[] states;
+    private int frameIndex;
+
+    private BoardSyncCodec.Encoder encoder;
+    private BoardSyncCodec.Encoder pairedEncoder;
+    private BoardSyncCodec.Decoder pairedDecoder;
+    private BoardSyncCodec.Decoder keyframeDecoder;
+    private String keyframePayload;
+
+    @Setup
+    public void setUp() {
+        BoardManager boardManager = new BoardManager();
+        BoardFixture.fill(boardManager, fillPercent, 0, BoardFixture.SEED);
+        states = new SerializedGameState[] {
+            capture(boardManager, 3, 0),
+            capture(boardManager, 3, 1)
+        };
+
+        encoder = new BoardSyncCodec.Encoder();
+        pairedEncoder = new BoardSyncCodec.Encoder();
+        pairedDecoder = new BoardSyncCodec.Decoder();
+        keyframeDecoder = new BoardSyncCodec.Decoder();
+        keyframePayload = new BoardSyncCodec.Encoder().encode(P2PBattleScene.toSyncFrame(states[0]));
+    }
+
+    /**
+     * 키프레임 직렬화 (접속 직후, 재동기화 요청 시)
+     */
+    @Benchmark
+    public String serializeKeyframe() {
+        encoder.requestKeyframe();
+        return encoder.encode(P2PBattleScene.toSyncFrame(states[0]));
+    }
+
+    /**
+     * 평상시 직렬화 (대부분 델타, KEYFRAME_INTERVAL마다 키프레임)
+     */
+    @Benchmark
+    public String serializeSteady() {
+        frameIndex ^= 1;
+        return encoder.encode(P2PBattleScene.toSyncFrame(states[frameIndex]));
+    }
+
+    /**
+     * 키프레임 역직렬화
+     */
+    @Benchmark
+    public SerializedGameState deserializeKeyframe() {
+        return P2PBattleScene.fromSyncFrame(keyframeDecoder.decode(keyframePayload));
+    }
+
+    /**
+     * 평상시 송신 + 수신 (델타 디코딩은 직전 프레임이 있어야 하므로 짝을 이룬 인코더로 만든 프레임을 받음)
+     */
+    @Benchmark
+    public SerializedGameState roundTripSteady() {
+        frameIndex ^= 1;
+        String payload = pairedEncoder.encode(P2PBattleScene.toSyncFrame(states[frameIndex]));
+        return P2PBattleScene.fromSyncFrame(pairedDecoder.decode(payload));
+    }
+
+    /**
+     * P2PBattleScene.captureGameState와 같은 형태의 상태를 만들고, T 블록을 (blockX, blockY)에 겹쳐 그립니다.
+     */
+    private static SerializedGameState capture(BoardManager boardManager, int blockX, int blockY) {
+        int height = boardManager.getHeight();
+        int width = boardManager.getWidth();
+        SerializedGameState state = new SerializedGameState();
+        state.board = new int[height][];
+        state.boardTypes = new int[height][];
+        state.bombCells = new boolean[height][];
+        state.itemCells = new boolean[height][];
+        state.boardColors = new char[height][width];
+        state.itemBlockInfo = new String[height][width];
+
+        byte[][] colors = boardManager.getBoardColorIndices();
+        for (int r = 0; r < height; r++) {
+            state.board[r] = boardManager.getBoard()[r].clone();
+            state.boardTypes[r] = boardManager.getBoardTypes()[r].clone();
+            state.bombCells[r] = boardManager.getBombCells()[r].clone();
+            state.itemCells[r] = boardManager.getItemCells()[r].clone();
+            for (int c = 0; c < width; c++) {
+                state.boardColors[r][c] = P2PBattleScene.PALETTE_SYMBOLS.charAt(colors[r][c]);
+            }
+        }
+
+        int[][] tCells = {{1, 0}, {0, 1}, {1, 1}, {2, 1}};
+        for (int[] cell : tCells) {
+            int r = blockY + cell[1];
+            int c = blockX + cell[0];
+            state.board[r][c] = 1;
+            state.boardTypes[r][c] = 6;
+            state.boardColors[r][c] = 'T';
+        }
+
+        state.type = 4;
+        state.score = 12345;
+        state.speedMultiplier = 1.0;
+        state.difficultyMultiplier = 1.0;
+        state.elapsedSeconds = 90;
+        state.fallSpeed1 = 1000;
+        state.fallSpeed2 = 1000;
+        return state;
+    }
+}
@@ -0,0 +1,310 @@
+package tetris.scene.battle;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Stack;
+
+import tetris.GameSettings;
+import tetris.scene.game.blocks.ItemBlock;
+import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.BoardFixture;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.GameStateManager;
+import tetris.scene.game.core.RenderManager;
+import tetris.scene.game.core.ScoreManager;
+import tetris.scene.game.core.UIManager;
+import tetris.scene.game.items.ItemEffectType;
+import tetris.util.LineBlinkEffect;
+
+/**
+ * 헤드리스 렌더링 벤치마크
+ *
+ * 창 없이(java.awt.headless=true) 오프스크린 BufferedImage에 한 프레임씩 그려서 프레임당 시간(ms)
+ * 백분위수와 할당량을 잽니다. 해상도(GameSettings 0~3) × 색맹 모드(0~2) × 아이템 칸 비율 × 효과
+ * (없음, 줄 점멸, 시야 제한, 청소 점멸)의 모든 조합을 일반 게임 화면과 배틀 보드 패널에서 각각 측정합니다.
+ *
+ * 배틀 보드 패널(BattleScene.GameBoardPanel)은 JFrame이 있어야 만들 수 있으므로, 패널의 paintComponent와
+ * 같은 순서로 RenderManager.render와 BattleScene.paintBoardOverlay를 호출합니다.
+ * 셀 크기도 각 화면과 같은 방식(UIManager, BattleScene.calculateCellSize)으로 해상도에서 계산합니다.
+ *
+ * 실행: ./gradlew renderBenchmark  (프레임 수 지정: -PrenderBenchArgs="측정프레임 워밍업프레임")
+ */
+public final class RenderBenchmark {
+
+    private static final int GAME_WIDTH = 10;
+    private static final int GAME_HEIGHT = 20;
+    private static final int PREVIEW_SIZE = 4;
+
+    private static final int FILL_PERCENT = 50; // 보드 절반까지 쌓인 상태
+    private static final int[] ITEM_PERCENTS = {0, 10, 30}; // 쌓인 칸 중 아이템 칸 비율
+    private static final int ATTACK_LINES = 4; // 배틀: 공격 대기 줄 수
+    private static final String GAME_MODE = "normal"; // 배틀: 시간제한 모드가 아닌 일반 대전
+
+    private static final ItemEffectType[] ITEM_TYPES = {
+        ItemEffectType.LINE_CLEAR, ItemEffectType.CLEANUP, ItemEffectType.SPEED_DOWN,
+        ItemEffectType.SPEED_UP, ItemEffectType.VISION_BLOCK
+    };
+
+    enum Target { GAME, BATTLE }
+
+    enum Effect { NONE, LINE_BLINK, VISION_BLOCK, CLEANUP_BLINK }
+
+    private RenderBenchmark() {}
+
+    public static void main(String[] args) throws IOException {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int warmup = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        File csvFile = args.length > 2 ? new File(args[2]) : null;
+
+        GameSettings settings = GameSettings.getInstance();
+        int savedResolution = settings.getResolution();
+        int savedColorBlindMode = settings.getColorBlindMode();
+
+        // 게임 코드의 디버그 출력이 결과를 덮지 않도록 측정 중에는 표준 출력을 버림
+        PrintStream report = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        PrintWriter csv = null;
+        if (csvFile != null) {
+            if (csvFile.getParentFile() != null) {
+                csvFile.getParentFile().mkdirs();
+            }
+            csv = new PrintWriter(csvFile, "UTF-8");
+            csv.println("target,resolution,colorBlindMode,itemPercent,effect,cellSize,"
+                + "p50Ms,p95Ms,p99Ms,maxMs,allocBytesPerFrame,allocMBPerSec");
+        }
+
+        report.printf("frames=%d, warmup=%d, fill=%d%%%n", frames, warmup, FILL_PERCENT);
+        report.printf("%-6s %-9s %2s %4s %-13s %4s %8s %8s %8s %8s %11s %9s%n",
+            "target", "res", "cb", "item", "effect", "cell",
+            "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "alloc(KB/f)", "MB/s");
+        try {
+            for (Target target : Target.values()) {
+                for (int resolution = 0; resolution <= 3; resolution++) {
+                    for (int colorBlindMode = 0; colorBlindMode <= 2; colorBlindMode++) {
+                        for (int itemPercent : ITEM_PERCENTS) {
+                            for (Effect effect : Effect.values()) {
+                                settings.setResolution(resolution);
+                                settings.setColorBlindMode(colorBlindMode);
+                                Result result = run(target, settings.getResolutionSize(), itemPercent, effect,
+                                    frames, warmup);
+                                String res = settings.getResolutionSize()[0] + "x" + settings.getResolutionSize()[1];
+                                report.printf("%-6s %-9s %2d %3d%% %-13s %4d %8.3f %8.3f %8.3f %8.3f %11.1f %9.1f%n",
+                                    target, res, colorBlindMode, itemPercent, effect, result.cellSize,
+                                    result.p50Ms, result.p95Ms, result.p99Ms, result.maxMs,
+                                    result.allocBytesPerFrame / 1024.0, result.allocMBPerSec);
+                                if (csv != null) {
+                                    csv.printf("%s,%s,%d,%d,%s,%d,%.4f,%.4f,%.4f,%.4f,%.0f,%.2f%n",
+                                        target, res, colorBlindMode, itemPercent, effect, result.cellSize,
+                                        result.p50Ms, result.p95Ms, result.p99Ms, result.maxMs,
+                                        result.allocBytesPerFrame, result.allocMBPerSec);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            System.setOut(report);
+            if (csv != null) {
+                csv.close();
+                report.println("결과 저장: " + csvFile.getPath());
+            }
+            settings.setResolution(savedResolution);
+            settings.setColorBlindMode(savedColorBlindMode);
+        }
+    }
+
+    /**
+     * 한 조합을 측정합니다. 매 프레임 현재 블록을 좌우로 한 칸씩 움직여 블록과 고스트가 다시 그려지게 합니다.
+     */
+    static Result run(Target target, int[] screenSize, int itemPercent, Effect effect, int frames, int warmup) {
+        BoardManager boardManager = new BoardManager();
+        BoardFixture.fill(boardManager, FILL_PERCENT, 0, BoardFixture.SEED);
+        placeItems(boardManager, itemPercent);
+
+        ScoreManager scoreManager = new ScoreManager();
+        BlockManager blockManager = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager, scoreManager,
+            GameSettings.Difficulty.NORMAL, BoardFixture.SEED);
+        blockManager.initializeBlocks();
+        GameStateManager gameStateManager = new GameStateManager(null);
+
+        int cellSize, previewCellSize, panelWidth, panelHeight;
+        if (target == Target.GAME) {
+            // 창이 없으면 UIManager는 GameSettings 해상도로 셀 크기를 계산함
+            UIManager uiManager = new UIManager();
+            uiManager.recalculateSizes();
+            cellSize = uiManager.getCellSize();
+            previewCellSize = uiManager.getPreviewCellSize();
+            panelWidth = screenSize[0];
+            panelHeight = screenSize[1];
+        } else {
+            cellSize = BattleScene.calculateCellSize(screenSize[0], screenSize[1]);
+            previewCellSize = cellSize * 2 / 3;
+            panelWidth = screenSize[0] / 2;
+            panelHeight = screenSize[1];
+        }
+        RenderManager renderManager = new RenderManager(GAME_WIDTH, GAME_HEIGHT, cellSize, PREVIEW_SIZE,
+            previewCellSize, boardManager, blockManager, gameStateManager, scoreManager);
+
+        LineBlinkEffect lineBlinkEffect = new LineBlinkEffect(null);
+        if (effect == Effect.LINE_BLINK) {
+            // update()를 부르지 않으므로 측정 내내 점멸 상태가 유지됨
+            lineBlinkEffect.startBlinkEffect(List.of(GAME_HEIGHT - 2, GAME_HEIGHT - 1));
+        }
+        boolean visionBlockActive = effect == Effect.VISION_BLOCK;
+        boolean cleanupActive = effect == Effect.CLEANUP_BLINK;
+        Set<Point> cleanupCells = new HashSet<>();
+        if (cleanupActive) {
+            int centerY = GAME_HEIGHT - 3;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    cleanupCells.add(new Point(GAME_WIDTH / 2 + dx, centerY + dy));
+                }
+            }
+        }
+        Stack<AttackBlock> attackQueue = createAttackQueue();
+
+        BufferedImage image = new BufferedImage(panelWidth, panelHeight, BufferedImage.TYPE_INT_RGB);
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long[] frameNanos = new long[frames];
+        long allocatedBefore = 0;
+        long measuredStart = 0;
+        for (int i = 0; i < warmup + frames; i++) {
+            if (i == warmup) {
+                allocatedBefore = threads != null ? threads.getThreadAllocatedBytes(threadId) : 0;
+                measuredStart = System.nanoTime();
+            }
+            if ((i & 1) == 0) {
+                blockManager.moveLeft();
+            } else {
+                blockManager.moveRight();
+            }
+
+            Graphics2D g2 = image.createGraphics();
+            long start = System.nanoTime();
+            if (target == Target.GAME) {
+                renderManager.render(g2, panelWidth, panelHeight, lineBlinkEffect, null, 0, 0,
+                    visionBlockActive, cleanupActive, cleanupCells, false);
+            } else {
+                // GameBoardPanel.paintComponent와 같은 순서 (시야 제한은 오버레이에서 그림)
+                renderManager.render(g2, panelWidth, panelHeight, lineBlinkEffect, null, 0, 0,
+                    false, cleanupActive, cleanupCells, false);
+                BattleScene.paintBoardOverlay(g2, renderManager, 1, GAME_MODE, 0,
+                    screenSize[0], screenSize[1], attackQueue, visionBlockActive);
+            }
+            long elapsed = System.nanoTime() - start;
+            g2.dispose();
+
+            if (i >= warmup) {
+                frameNanos[i - warmup] = elapsed;
+            }
+        }
+        long measuredNanos = System.nanoTime() - measuredStart;
+        long allocated = threads != null ? threads.getThreadAllocatedBytes(threadId) - allocatedBefore : -1;
+
+        return new Result(cellSize, frameNanos, allocated, measuredNanos);
+    }
+
+    /**
+     * 쌓인 칸 중 itemPercent%를 아이템 칸으로 바꿉니다. (아이템 종류는 순서대로 돌아가며 배치)
+     */
+    private static void placeItems(BoardManager boardManager, int itemPercent) {
+        if (itemPercent <= 0) return;
+        Random random = new Random(BoardFixture.SEED);
+        int[][] board = boardManager.getBoard();
+        int placed = 0;
+        for (int y = 0; y < GAME_HEIGHT; y++) {
+            for (int x = 0; x < GAME_WIDTH; x++) {
+                if (board[y][x] != 0 && random.nextInt(100) < itemPercent) {
+                    boardManager.setItemBlockInfo(x, y, new ItemBlock(ITEM_TYPES[placed++ % ITEM_TYPES.length]));
+                }
+            }
+        }
+    }
+
+    private static Stack<AttackBlock> createAttackQueue() {
+        Random random = new Random(BoardFixture.SEED);
+        Stack<AttackBlock> attackQueue = new Stack<>();
+        for (int i = 0; i < ATTACK_LINES; i++) {
+            boolean[] pattern = new boolean[GAME_WIDTH];
+            Color[] colors = new Color[GAME_WIDTH];
+            int[] types = new int[GAME_WIDTH];
+            int hole = random.nextInt(GAME_WIDTH);
+            for (int col = 0; col < GAME_WIDTH; col++) {
+                pattern[col] = col != hole;
+                colors[col] = pattern[col] ? Color.GRAY : Color.BLACK;
+                types[col] = pattern[col] ? 8 : -1; // 8: 방해 블록
+            }
+            attackQueue.push(new AttackBlock(GAME_WIDTH, pattern, colors, types));
+        }
+        return attackQueue;
+    }
+
+    /**
+     * 스레드별 할당량을 잴 수 있으면 HotSpot 확장 MXBean을 반환합니다. (지원하지 않으면 null)
+     */
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    /**
+     * 한 조합의 측정 결과 (시간은 ms, 할당량을 잴 수 없으면 음수)
+     */
+    static final class Result {
+        final int cellSize;
+        final double p50Ms;
+        final double p95Ms;
+        final double p99Ms;
+        final double maxMs;
+        final double allocBytesPerFrame;
+        final double allocMBPerSec;
+
+        Result(int cellSize, long[] frameNanos, long allocatedBytes, long measuredNanos) {
+            long[] sorted = frameNanos.clone();
+            Arrays.sort(sorted);
+            this.cellSize = cellSize;
+            this.p50Ms = percentile(sorted, 0.50) / 1e6;
+            this.p95Ms = percentile(sorted, 0.95) / 1e6;
+            this.p99Ms = percentile(sorted, 0.99) / 1e6;
+            this.maxMs = sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0;
+            if (allocatedBytes < 0 || sorted.length == 0) {
+                this.allocBytesPerFrame = -1;
+                this.allocMBPerSec = -1;
+            } else {
+                this.allocBytesPerFrame = (double) allocatedBytes / sorted.length;
+                this.allocMBPerSec = measuredNanos > 0 ? allocatedBytes / (1024.0 * 1024.0) / (measuredNanos / 1e9) : 0;
+            }
+        }
+
+        // nearest-rank 방식 백분위수
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+    }
+}
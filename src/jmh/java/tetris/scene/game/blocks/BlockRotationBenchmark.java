@@ -0,0 +1,66 @@
+package tetris.scene.game.blocks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tetris.scene.game.core.BoardFixture;
+import tetris.scene.game.core.BoardManager;
+
+/**
+ * Block 회전과 회전 가능 검사 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockRotationBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private Block[] blocks;
+    private int[][] board;
+    private int width;
+    private int height;
+
+    @Setup
+    public void setUp() {
+        blocks = new Block[] {
+            new ZBlock(), new LBlock(), new OBlock(), new SBlock(), new IBlock(), new JBlock(), new TBlock()
+        };
+        BoardManager boardManager = new BoardManager();
+        BoardFixture.fill(boardManager, fillPercent, 0, BoardFixture.SEED);
+        board = boardManager.getBoard();
+        width = boardManager.getWidth();
+        height = boardManager.getHeight();
+    }
+
+    /**
+     * 7종 블록을 한 번씩 회전합니다 (네 번마다 원래 상태로 돌아옴).
+     */
+    @Benchmark
+    public void rotate(Blackhole bh) {
+        for (Block block : blocks) {
+            block.rotate();
+            bh.consume(block.getRotation());
+        }
+    }
+
+    /**
+     * 7종 블록을 보드의 모든 위치에서 회전 가능한지 검사합니다.
+     */
+    @Benchmark
+    public void canRotate(Blackhole bh) {
+        for (Block block : blocks) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    bh.consume(block.canRotate(x, y, board, width, height));
+                }
+            }
+        }
+    }
+}
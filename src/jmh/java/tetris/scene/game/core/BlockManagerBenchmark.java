@@ -0,0 +1,38 @@
+package tetris.scene.game.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import tetris.GameSettings;
+
+/**
+ * BlockManager 고스트 블록 위치 계산 벤치마크 (매 프레임 호출됨)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockManagerBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private BlockManager blockManager;
+
+    @Setup
+    public void setUp() {
+        BoardManager boardManager = new BoardManager();
+        BoardFixture.fill(boardManager, fillPercent, 0, BoardFixture.SEED);
+        blockManager = new BlockManager(boardManager.getWidth(), boardManager.getHeight(), boardManager,
+            new ScoreManager(), GameSettings.Difficulty.NORMAL, BoardFixture.SEED);
+        blockManager.initializeBlocks();
+    }
+
+    @Benchmark
+    public int getGhostY() {
+        return blockManager.getGhostY();
+    }
+}
@@ -0,0 +1,59 @@
+package tetris.scene.game.core;
+
+import java.util.Random;
+
+import tetris.util.CellPalette;
+
+/**
+ * 벤치마크용 보드 고정 상태
+ *
+ * 보드 높이의 fillPercent%까지 아래에서부터 블록을 쌓습니다.
+ * 각 줄은 한 칸 이상 비워 완성되지 않게 하고, fullRows만큼은 가득 채워 줄 삭제 대상을 만듭니다.
+ * 같은 시드면 항상 같은 보드가 됩니다.
+ */
+public final class BoardFixture {
+
+    public static final long SEED = 42L;
+
+    private BoardFixture() {}
+
+    /**
+     * 보드를 비우고 지정한 채움 정도로 블록을 쌓습니다.
+     * @param fillPercent 쌓을 높이 (보드 높이 대비 %, 0~100)
+     * @param fullRows 가득 채울 줄 수 (쌓인 줄 중 가장 아래부터)
+     */
+    public static void fill(BoardManager boardManager, int fillPercent, int fullRows, long seed) {
+        boardManager.reset();
+        int width = boardManager.getWidth();
+        int height = boardManager.getHeight();
+        int stackHeight = Math.max(0, Math.min(height, height * fillPercent / 100));
+        Random random = new Random(seed);
+
+        int[][] board = boardManager.getBoard();
+        int[][] types = boardManager.getBoardTypes();
+        byte[][] colors = boardManager.getBoardColorIndices();
+        for (int i = 0; i < stackHeight; i++) {
+            int row = height - 1 - i;
+            boolean full = i < fullRows;
+            int hole = random.nextInt(width);
+            for (int col = 0; col < width; col++) {
+                // 구멍 하나는 반드시 비우고, 나머지는 80% 확률로 채움
+                boolean filled = full || (col != hole && random.nextInt(10) < 8);
+                if (!filled) continue;
+                int type = random.nextInt(CellPalette.BLOCK_COUNT);
+                board[row][col] = 1;
+                types[row][col] = type;
+                colors[row][col] = CellPalette.blockIndex(type);
+            }
+        }
+        boardManager.syncRowMasks();
+    }
+
+    /**
+     * 쌓인 블록 위쪽의 빈 줄 수 (블록을 놓을 수 있는 높이)
+     */
+    public static int freeRows(BoardManager boardManager, int fillPercent) {
+        int height = boardManager.getHeight();
+        return height - Math.max(0, Math.min(height, height * fillPercent / 100));
+    }
+}
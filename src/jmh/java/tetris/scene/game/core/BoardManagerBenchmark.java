@@ -0,0 +1,82 @@
+package tetris.scene.game.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tetris.scene.game.blocks.Block;
+import tetris.scene.game.blocks.IBlock;
+import tetris.scene.game.blocks.JBlock;
+import tetris.scene.game.blocks.LBlock;
+import tetris.scene.game.blocks.OBlock;
+import tetris.scene.game.blocks.SBlock;
+import tetris.scene.game.blocks.TBlock;
+import tetris.scene.game.blocks.ZBlock;
+
+/**
+ * BoardManager 충돌 검사와 줄 삭제 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardManagerBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    public int fillPercent;
+
+    private BoardManager boardManager;
+    private BoardManager.State clearFixture;
+    private Block[] blocks;
+
+    @Setup
+    public void setUp() {
+        blocks = new Block[] {
+            new ZBlock(), new LBlock(), new OBlock(), new SBlock(), new IBlock(), new JBlock(), new TBlock()
+        };
+
+        // 줄 삭제용: 쌓인 줄 중 아래 4줄을 가득 채운 상태를 저장해 두고 매번 되돌림
+        boardManager = new BoardManager();
+        BoardFixture.fill(boardManager, Math.max(fillPercent, 20), 4, BoardFixture.SEED);
+        clearFixture = boardManager.copyState();
+
+        BoardFixture.fill(boardManager, fillPercent, 0, BoardFixture.SEED);
+    }
+
+    /**
+     * 모든 블록을 모든 열·행 위치에 놓아 봅니다 (CPU 탐색, 이동 검사와 같은 접근 패턴).
+     */
+    @Benchmark
+    public void canPlaceBlock(Blackhole bh) {
+        int width = boardManager.getWidth();
+        int height = boardManager.getHeight();
+        for (Block block : blocks) {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    bh.consume(boardManager.canPlaceBlock(block, x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * 완성된 줄 4개를 삭제합니다. 상태 복원 비용은 restoreOnly로 따로 잽니다.
+     */
+    @Benchmark
+    public int[] clearCompletedAndBombLinesSeparately() {
+        boardManager.restoreState(clearFixture);
+        return boardManager.clearCompletedAndBombLinesSeparately();
+    }
+
+    /**
+     * clearCompletedAndBombLinesSeparately의 기준선 (상태 복원만)
+     */
+    @Benchmark
+    public BoardManager restoreOnly() {
+        boardManager.restoreState(clearFixture);
+        return boardManager;
+    }
+}
@@ -1,13 +1,60 @@
 package tetris;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.swing.SwingUtilities;
+
+import tetris.scene.game.ReplayScene;
+import tetris.scene.game.core.Replay;
+import tetris.scene.game.core.ReplayPlayer;
 import tetris.util.DataPathManager;
 
 public class Tetris {
     public static void main(String[] args) {
+        // 리플레이 검증 (화면 없이 다시 시뮬레이션 후 종료): --verify-replay <파일...>
+        if (args.length > 0 && args[0].equals("--verify-replay")) {
+            System.exit(verifyReplays(args));
+        }
+
         // 데이터 경로 초기화 (사용자 홈 디렉토리 기반)
         DataPathManager pathManager = DataPathManager.getInstance();
         pathManager.printDebugInfo();
         
         Game.run();
+
+        // 리플레이 보기: --replay <파일>
+        if (args.length > 1 && args[0].equals("--replay")) {
+            openReplay(Paths.get(args[1]));
+        }
+    }
+
+    private static void openReplay(Path file) {
+        try {
+            ReplayPlayer player = new ReplayPlayer(Replay.read(file));
+            SwingUtilities.invokeLater(() -> Game.setScene(new ReplayScene(Game.getInstance().frame, player)));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("리플레이를 열 수 없습니다: " + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 리플레이 파일들을 검증합니다.
+     * @return 모두 일치하면 0, 하나라도 불일치하거나 읽을 수 없으면 1
+     */
+    private static int verifyReplays(String[] args) {
+        int failures = 0;
+        for (int i = 1; i < args.length; i++) {
+            try {
+                ReplayPlayer.Verification result = ReplayPlayer.verify(Replay.read(Paths.get(args[i])));
+                System.out.println(args[i] + ": " + result);
+                if (!result.matches()) failures++;
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println(args[i] + ": 검증 불가 - " + e.getMessage());
+                failures++;
+            }
+        }
+        return failures == 0 ? 0 : 1;
     }
 }
@@ -0,0 +1,282 @@
+package tetris.network;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * P2P 대전용 보드 동기화 바이너리 포맷
+ *
+ * 보드의 각 칸은 16비트 셀 코드 하나로 표현하고(코드 구성은 호출하는 쪽에서 결정),
+ * 이전에 보낸 상태와 비교해 바뀐 줄/칸만 전송합니다.
+ * 일정 간격 또는 상대방이 요청하면 전체 보드(키프레임)를 보냅니다.
+ *
+ * 기존 P2PBase 소켓은 줄 단위 텍스트 프로토콜이므로 바이너리 데이터는 Base64로 감싸서 보냅니다.
+ *
+ * 프레임 구조:
+ *   [kind:1][seq:4][baseSeq:4 (델타만)][헤더 필드][보드]
+ *   키프레임 보드: [height:1][width:1][cell:2 x height x width]
+ *   델타 보드:     [changedRows:1] { [row:1][columnMask:2][cell:2 x 바뀐 칸 수] } ...
+ */
+public class BoardSyncCodec {
+
+    public static final int KEYFRAME_INTERVAL = 20; // 100ms 주기 기준 2초마다 키프레임
+
+    private static final byte KIND_KEYFRAME = 0;
+    private static final byte KIND_DELTA = 1;
+
+    /**
+     * 한 번에 주고받는 게임 상태 (보드는 셀 코드 배열)
+     */
+    public static class Frame {
+        public int[][] cells;
+
+        public int nextType;
+        public int nextItem = -1; // 다음 블록 아이템 종류 (-1이면 없음)
+        public boolean nextIsWeightBlock;
+
+        public int score;
+        public double speedMultiplier;
+        public double difficultyMultiplier;
+        public int elapsedSeconds;
+
+        public boolean gameOverFlag;
+        public boolean pauseFlag;
+
+        public int fallSpeed1;
+        public int fallSpeed2;
+    }
+
+    /**
+     * 송신 측 상태: 마지막으로 보낸 보드와 시퀀스 번호를 기억합니다.
+     * TCP는 순서와 도착을 보장하므로 마지막으로 보낸 상태를 상대방이 가진 상태로 간주하고,
+     * 어긋나면 상대방이 키프레임을 요청합니다.
+     */
+    public static class Encoder {
+        private int[][] lastSent;
+        private int seq = 0;
+        private int framesSinceKeyframe = 0;
+        private volatile boolean keyframeRequested = true;
+
+        // 통계
+        private long bytesSent = 0;
+        private long keyframesSent = 0;
+        private long deltasSent = 0;
+
+        /**
+         * 다음 프레임을 키프레임으로 보내도록 요청합니다 (수신 측 재동기화 요청 시).
+         */
+        public void requestKeyframe() {
+            keyframeRequested = true;
+        }
+
+        /**
+         * 프레임을 인코딩합니다.
+         * @return Base64 문자열
+         */
+        public synchronized String encode(Frame frame) {
+            boolean keyframe = keyframeRequested || lastSent == null
+                || framesSinceKeyframe >= KEYFRAME_INTERVAL
+                || lastSent.length != frame.cells.length
+                || lastSent[0].length != frame.cells[0].length;
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(keyframe ? 512 : 64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            int baseSeq = seq;
+            seq++;
+            try {
+                out.writeByte(keyframe ? KIND_KEYFRAME : KIND_DELTA);
+                out.writeInt(seq);
+                if (!keyframe) out.writeInt(baseSeq);
+                writeHeader(out, frame);
+                if (keyframe) {
+                    writeKeyframe(out, frame.cells);
+                } else {
+                    writeDelta(out, lastSent, frame.cells);
+                }
+                out.flush();
+            } catch (IOException e) {
+                // ByteArrayOutputStream에서는 발생하지 않음
+                throw new IllegalStateException(e);
+            }
+
+            if (keyframe) {
+                keyframeRequested = false;
+                framesSinceKeyframe = 0;
+                keyframesSent++;
+            } else {
+                framesSinceKeyframe++;
+                deltasSent++;
+            }
+            lastSent = copyCells(frame.cells);
+            bytesSent += bytes.size();
+
+            return Base64.getEncoder().encodeToString(bytes.toByteArray());
+        }
+
+        public long getBytesSent() { return bytesSent; }
+        public long getKeyframesSent() { return keyframesSent; }
+        public long getDeltasSent() { return deltasSent; }
+    }
+
+    /**
+     * 수신 측 상태: 마지막으로 적용한 보드에 델타를 덮어씁니다.
+     */
+    public static class Decoder {
+        private int[][] current;
+        private int lastSeq = -1;
+
+        /**
+         * 수신한 프레임을 디코딩합니다.
+         * @return 전체 상태가 복원된 프레임, 기준 상태가 맞지 않으면 null (키프레임 요청 필요)
+         */
+        public Frame decode(String payload) {
+            byte[] data;
+            try {
+                data = Base64.getDecoder().decode(payload.trim());
+            } catch (IllegalArgumentException e) {
+                System.err.println("P2P: 잘못된 보드 동기화 데이터 - " + e.getMessage());
+                return null;
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            try {
+                byte kind = in.readByte();
+                int seq = in.readInt();
+                if (kind == KIND_DELTA) {
+                    int baseSeq = in.readInt();
+                    if (current == null || baseSeq != lastSeq) {
+                        return null;
+                    }
+                }
+
+                Frame frame = new Frame();
+                readHeader(in, frame);
+                if (kind == KIND_KEYFRAME) {
+                    current = readKeyframe(in);
+                } else {
+                    readDelta(in, current);
+                }
+                lastSeq = seq;
+                frame.cells = copyCells(current);
+                return frame;
+            } catch (IOException e) {
+                System.err.println("P2P: 보드 동기화 데이터 해석 실패 - " + e.getMessage());
+                current = null;
+                return null;
+            }
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 직렬화 도우미
+    // ═══════════════════════════════════════════════════════════════
+
+    private static void writeHeader(DataOutputStream out, Frame frame) throws IOException {
+        int flags = (frame.nextIsWeightBlock ? 1 : 0)
+                  | (frame.gameOverFlag ? 2 : 0)
+                  | (frame.pauseFlag ? 4 : 0);
+        out.writeByte(flags);
+        out.writeByte(frame.nextType);
+        out.writeByte(frame.nextItem);
+        out.writeInt(frame.score);
+        out.writeDouble(frame.speedMultiplier);
+        out.writeDouble(frame.difficultyMultiplier);
+        out.writeInt(frame.elapsedSeconds);
+        out.writeInt(frame.fallSpeed1);
+        out.writeInt(frame.fallSpeed2);
+    }
+
+    private static void readHeader(DataInputStream in, Frame frame) throws IOException {
+        int flags = in.readUnsignedByte();
+        frame.nextIsWeightBlock = (flags & 1) != 0;
+        frame.gameOverFlag = (flags & 2) != 0;
+        frame.pauseFlag = (flags & 4) != 0;
+        frame.nextType = in.readByte();
+        frame.nextItem = in.readByte();
+        frame.score = in.readInt();
+        frame.speedMultiplier = in.readDouble();
+        frame.difficultyMultiplier = in.readDouble();
+        frame.elapsedSeconds = in.readInt();
+        frame.fallSpeed1 = in.readInt();
+        frame.fallSpeed2 = in.readInt();
+    }
+
+    private static void writeKeyframe(DataOutputStream out, int[][] cells) throws IOException {
+        out.writeByte(cells.length);
+        out.writeByte(cells[0].length);
+        for (int[] row : cells) {
+            for (int cell : row) {
+                out.writeShort(cell);
+            }
+        }
+    }
+
+    private static int[][] readKeyframe(DataInputStream in) throws IOException {
+        int height = in.readUnsignedByte();
+        int width = in.readUnsignedByte();
+        int[][] cells = new int[height][width];
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                cells[r][c] = in.readUnsignedShort();
+            }
+        }
+        return cells;
+    }
+
+    private static void writeDelta(DataOutputStream out, int[][] previous, int[][] cells) throws IOException {
+        int height = cells.length;
+        int width = cells[0].length;
+
+        // 바뀐 칸을 줄별 비트마스크로 계산 (bit c = c번째 열)
+        int[] masks = new int[height];
+        int changedRows = 0;
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                if (previous[r][c] != cells[r][c]) {
+                    masks[r] |= 1 << c;
+                }
+            }
+            if (masks[r] != 0) changedRows++;
+        }
+
+        out.writeByte(changedRows);
+        for (int r = 0; r < height; r++) {
+            if (masks[r] == 0) continue;
+            out.writeByte(r);
+            out.writeShort(masks[r]);
+            for (int c = 0; c < width; c++) {
+                if ((masks[r] & (1 << c)) != 0) {
+                    out.writeShort(cells[r][c]);
+                }
+            }
+        }
+    }
+
+    private static void readDelta(DataInputStream in, int[][] cells) throws IOException {
+        int changedRows = in.readUnsignedByte();
+        for (int i = 0; i < changedRows; i++) {
+            int r = in.readUnsignedByte();
+            int mask = in.readUnsignedShort();
+            if (r >= cells.length) {
+                throw new IOException("row out of range: " + r);
+            }
+            for (int c = 0; c < cells[r].length; c++) {
+                if ((mask & (1 << c)) != 0) {
+                    cells[r][c] = in.readUnsignedShort();
+                }
+            }
+        }
+    }
+
+    private static int[][] copyCells(int[][] cells) {
+        int[][] copy = new int[cells.length][];
+        for (int r = 0; r < cells.length; r++) {
+            copy[r] = cells[r].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,99 @@
+package tetris.network;
+
+import java.util.Arrays;
+
+/**
+ * P2P 수신 메시지 통계
+ *
+ * - 종류(opcode)별 수신 횟수와 핸들러 처리 시간(평균/최대)
+ * - 처리할 핸들러가 없거나 알 수 없는 opcode로 버려진 메시지 수
+ *
+ * 네트워크 스레드에서 기록하고 UI(NetworkStatusDisplay)에서 읽습니다.
+ */
+public class MessageStats {
+
+    private final long[] counts = new long[MessageType.MAX_OPCODE + 1];
+    private final long[] totalNanos = new long[MessageType.MAX_OPCODE + 1];
+    private final long[] maxNanos = new long[MessageType.MAX_OPCODE + 1];
+    private long unknownCount = 0;
+
+    /**
+     * 메시지 하나의 처리 결과를 기록합니다.
+     * @param elapsedNanos 핸들러 실행에 걸린 시간
+     */
+    public synchronized void record(MessageType type, long elapsedNanos) {
+        int op = type.getOpcode();
+        counts[op]++;
+        totalNanos[op] += elapsedNanos;
+        if (elapsedNanos > maxNanos[op]) maxNanos[op] = elapsedNanos;
+    }
+
+    /**
+     * 알 수 없거나 처리할 핸들러가 없는 메시지를 기록합니다.
+     */
+    public synchronized void recordUnknown() {
+        unknownCount++;
+    }
+
+    public synchronized long getUnknownCount() {
+        return unknownCount;
+    }
+
+    public synchronized long getCount(MessageType type) {
+        return counts[type.getOpcode()];
+    }
+
+    /**
+     * 평균 처리 시간 (마이크로초), 수신 기록이 없으면 0
+     */
+    public synchronized double getAverageMicros(MessageType type) {
+        int op = type.getOpcode();
+        return counts[op] == 0 ? 0 : totalNanos[op] / 1000.0 / counts[op];
+    }
+
+    /**
+     * 최대 처리 시간 (마이크로초)
+     */
+    public synchronized double getMaxMicros(MessageType type) {
+        return maxNanos[type.getOpcode()] / 1000.0;
+    }
+
+    /**
+     * 평균 처리 시간이 가장 긴 종류, 수신 기록이 없으면 null
+     */
+    public synchronized MessageType getSlowestType() {
+        MessageType slowest = null;
+        double slowestAvg = -1;
+        for (MessageType type : MessageType.values()) {
+            if (counts[type.getOpcode()] == 0) continue;
+            double avg = getAverageMicros(type);
+            if (avg > slowestAvg) {
+                slowestAvg = avg;
+                slowest = type;
+            }
+        }
+        return slowest;
+    }
+
+    /**
+     * 상태 표시용 요약 문자열 (예: "미확인 2 · board-delta 0.35ms")
+     */
+    public synchronized String summary() {
+        StringBuilder sb = new StringBuilder("미확인 ").append(unknownCount);
+        MessageType slowest = getSlowestType();
+        if (slowest != null) {
+            String name = slowest.getPrefix();
+            if (name.endsWith(":")) name = name.substring(0, name.length() - 1);
+            sb.append(" · ").append(name)
+              .append(String.format(" %.2fms", getAverageMicros(slowest) / 1000.0));
+        }
+        return sb.toString();
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(totalNanos, 0);
+        Arrays.fill(maxNanos, 0);
+        unknownCount = 0;
+    }
+}
@@ -0,0 +1,135 @@
+package tetris.network;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * P2P 메시지 종류 (opcode 레지스트리)
+ *
+ * 알려진 메시지는 줄 맨 앞에 opcode 바이트 하나를 붙여 보내고(접두어 문자열 대신),
+ * 수신 측은 opcode로 배열을 바로 조회해 핸들러를 찾습니다.
+ * opcode는 텍스트에 나오지 않는 제어 문자(0x01~0x1F, 줄바꿈 0x0A/0x0D 제외)를 사용하므로
+ * opcode 없이 온 일반 텍스트 줄과 구분됩니다.
+ *
+ * 기존 addCallback("board-delta:", ...) 같은 문자열 접두어 API는 그대로 사용할 수 있으며,
+ * 접두어가 등록된 종류와 같으면 opcode 핸들러로 등록됩니다.
+ */
+public enum MessageType {
+    // 연결 제어 (우선 전송)
+    PING(0x01, "ping:", true),
+    PONG(0x02, "pong:", true),
+    RELEASE(0x03, "release", true),
+
+    // 대기실
+    READY(0x04, "ready", false),
+    MODE(0x05, "mode:", false),
+    START(0x06, "start", false),
+
+    // 게임 상태 동기화
+    BOARD_DELTA(0x07, "board-delta:", false),
+    BOARD_RESYNC(0x08, "board-resync", false),
+
+    // 공격 (우선 전송)
+    ATTACK_GENERATE(0x09, "attack-generate:", true),
+    ATTACK_APPLY(0x0B, "attack-apply", true),
+
+    // 아이템 효과
+    ITEM_SPEED_UP(0x0C, "item:speed-up:", false),
+    ITEM_SPEED_DOWN(0x0E, "item:speed-down:", false),
+    ITEM_VISION_BLOCK(0x0F, "item:vision-block:", false),
+
+    // 입력 기반 동기화 (LockstepSession)
+    LOCKSTEP_SYNC(0x10, "ls-sync", false),
+    LOCKSTEP_SEED(0x11, "ls-seed:", false),
+    LOCKSTEP_INPUT(0x12, "ls-input:", false),
+    LOCKSTEP_DESYNC(0x13, "ls-desync", false);
+
+    public static final int MAX_OPCODE = 0x1F;
+
+    private final int opcode;
+    private final String prefix;
+    private final boolean priority;
+
+    MessageType(int opcode, String prefix, boolean priority) {
+        this.opcode = opcode;
+        this.prefix = prefix;
+        this.priority = priority;
+    }
+
+    public int getOpcode() { return opcode; }
+    public String getPrefix() { return prefix; }
+
+    /**
+     * 우선 대기열로 보낼 제어 메시지인지 여부
+     */
+    public boolean isPriority() { return priority; }
+
+    // opcode → 종류 (O(1) 조회)
+    private static final MessageType[] BY_OPCODE = new MessageType[MAX_OPCODE + 1];
+    // 접두어 → 종류 (addCallback 등록용 정확 일치)
+    private static final Map<String, MessageType> BY_PREFIX = new HashMap<>();
+    // 접두어 트라이 (opcode 없는 텍스트 메시지 분류용)
+    private static final TrieNode TRIE = new TrieNode();
+
+    static {
+        for (MessageType type : values()) {
+            if (type.opcode <= 0 || type.opcode > MAX_OPCODE || type.opcode == '\n' || type.opcode == '\r'
+                    || BY_OPCODE[type.opcode] != null) {
+                throw new IllegalStateException("잘못된 opcode: " + type);
+            }
+            BY_OPCODE[type.opcode] = type;
+            BY_PREFIX.put(type.prefix, type);
+
+            TrieNode node = TRIE;
+            for (int i = 0; i < type.prefix.length(); i++) {
+                node = node.children.computeIfAbsent(type.prefix.charAt(i), c -> new TrieNode());
+            }
+            node.type = type;
+        }
+    }
+
+    private static class TrieNode {
+        final Map<Character, TrieNode> children = new HashMap<>(4);
+        MessageType type;
+    }
+
+    /**
+     * opcode 바이트로 종류를 찾습니다.
+     * @return 등록되지 않은 opcode이면 null
+     */
+    public static MessageType fromOpcode(int opcode) {
+        if (opcode < 0 || opcode > MAX_OPCODE) return null;
+        return BY_OPCODE[opcode];
+    }
+
+    /**
+     * 접두어와 정확히 같은 종류를 찾습니다 (addCallback/removeCallback용).
+     * @return 등록되지 않은 접두어이면 null
+     */
+    public static MessageType fromPrefix(String prefix) {
+        return BY_PREFIX.get(prefix);
+    }
+
+    /**
+     * 메시지 문자열이 어떤 종류의 접두어로 시작하는지 찾습니다 (가장 긴 접두어 우선).
+     * 트라이를 따라가므로 비용은 메시지 길이가 아니라 접두어 길이에 비례합니다.
+     * @return 일치하는 종류가 없으면 null
+     */
+    public static MessageType match(String message) {
+        TrieNode node = TRIE;
+        MessageType matched = null;
+        for (int i = 0; i < message.length(); i++) {
+            node = node.children.get(message.charAt(i));
+            if (node == null) break;
+            if (node.type != null) matched = node.type;
+        }
+        return matched;
+    }
+
+    /**
+     * 제어 문자(opcode 후보)인지 여부
+     */
+    public static boolean isOpcodeByte(int b) {
+        return b > 0 && b <= MAX_OPCODE && b != '\n' && b != '\r';
+    }
+}
@@ -1,35 +1,208 @@
 package tetris.network;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
-
+/**
+ * P2P 통신 공통 처리 (줄 단위 텍스트 프로토콜)
+ *
+ * 네트워크 스레드는 논블로킹 SocketChannel을 Selector에 등록하고,
+ * 다음 ping 전송 시각 또는 pong 타임아웃 시각까지 select()로 대기합니다.
+ * 수신 데이터나 타이머 만료가 없으면 스레드가 잠들어 있으므로 대기 중 CPU를 사용하지 않습니다.
+ */
 public class P2PBase {
 
     final int PORT = 5000;
     public String HOST;
 
-    Socket socket = null;
-    BufferedReader in = null;
-    BufferedWriter out = null;
+    SocketChannel channel = null;
+    Socket socket = null; // channel.socket() (기존 코드/테스트 호환용)
+
+    private volatile Selector selector; // run()에서 bRunning과 함께 queueLock 안에서 설정
+    private SelectionKey selectionKey;  // 네트워크 스레드 전용
+
+    /**
+     * 송신 대기열
+     *
+     * send()는 메시지를 대기열에 넣고 네트워크 스레드를 깨우기만 하므로 호출 스레드(EDT, 타이머)는
+     * 소켓이 느려도 멈추지 않습니다. 네트워크 스레드는 대기열의 메시지를 한 버퍼로 모아(최대 MAX_BATCH_BYTES)
+     * 한 번에 쓰고, 소켓 버퍼가 가득 차면 OP_WRITE로 이어서 씁니다.
+     * ping/pong/공격 같은 제어 메시지(MessageType.isPriority())는 우선 대기열에 넣어
+     * 일반 메시지(보드 동기화 등)보다 먼저 보냅니다.
+     */
+    private static final int MAX_BATCH_BYTES = 64 * 1024;
+    private static final int BACKPRESSURE_BYTES = 256 * 1024; // 이 이상 밀려 있으면 혼잡 상태
+
+    private final Object queueLock = new Object();
+    private final ArrayDeque<byte[]> priorityQueue = new ArrayDeque<>();
+    private final ArrayDeque<byte[]> normalQueue = new ArrayDeque<>();
+    private final ByteBuffer batchBuffer = ByteBuffer.allocateDirect(MAX_BATCH_BYTES);
+    private final Object writeLock = new Object(); // 채널 쓰기 (네트워크 스레드 ↔ release)
+    private ByteBuffer inFlight; // 아직 다 쓰지 못한 배치 (네트워크 스레드 전용)
+
+    // 송신 통계 (queueLock 보호)
+    private int queuedMessages = 0;
+    private long queuedBytes = 0;
+    private long maxQueuedBytes = 0;
+    private long messagesSent = 0;
+    private long batchesSent = 0;
+    private long bytesSent = 0;
+    private long messagesDropped = 0;
+
+    // 수신: 줄바꿈이 올 때까지 바이트를 모았다가 UTF-8로 변환 (멀티바이트 문자가 잘려도 안전)
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(64 * 1024);
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream(1024);
+
+    /**
+     * 연결된 채널을 등록합니다 (P2PServer/P2PClient에서 호출).
+     */
+    void attach(SocketChannel channel) {
+        this.channel = channel;
+        this.socket = channel.socket();
+    }
 
+    /**
+     * 메시지를 보냅니다.
+     * 등록된 종류(MessageType)의 접두어로 시작하면 opcode 형식으로, 아니면 텍스트 그대로 보냅니다.
+     */
     public void send(String message) { 
-        if (out == null) {
+        MessageType type = MessageType.match(message);
+        if (type != null) {
+            send(type, message.substring(type.getPrefix().length()));
+        } else {
+            enqueue(null, message);
+        }
+    }
+
+    /**
+     * opcode 형식으로 메시지를 보냅니다: [opcode 1바이트][payload UTF-8]\n
+     */
+    public void send(MessageType type, String payload) {
+        enqueue(type, payload);
+    }
+
+    private static byte[] encode(MessageType type, String payload) {
+        if (type == null) {
+            return (payload + '\n').getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[body.length + 2];
+        data[0] = (byte) type.getOpcode();
+        System.arraycopy(body, 0, data, 1, body.length);
+        data[data.length - 1] = '\n';
+        return data;
+    }
+
+    private void enqueue(MessageType type, String payload) {
+        if (channel == null) {
+            String message = type == null ? payload : type.getPrefix() + payload;
             System.err.println("P2P: 출력 스트림이 null입니다. 메시지 전송 실패: " + message);
             handleNetworkError(new IOException("출력 스트림이 null입니다"));
             return;
         }
-        try { 
-            out.write(message + '\n'); 
-            out.flush(); 
-        } catch (IOException ex) {
-            System.err.println("P2P: 메시지 전송 실패 - " + ex.getMessage() + " (메시지: " + message + ")");
-            handleNetworkError(ex);
+        byte[] data = encode(type, payload);
+
+        boolean wakeup;
+        synchronized (queueLock) {
+            if (!bRunning) {
+                if (selector != null) {
+                    messagesDropped++; // 이미 끊긴 연결
+                    return;
+                }
+                // 네트워크 스레드 시작 전(블로킹 모드)에는 바로 씀
+                // queueLock을 잡고 쓰므로 run()이 논블로킹으로 바꾸기 전에 끝나고, 대기열 메시지보다 먼저 나감
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(data);
+                    synchronized (writeLock) {
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                    }
+                } catch (IOException ex) {
+                    String message = type == null ? payload : type.getPrefix() + payload;
+                    System.err.println("P2P: 메시지 전송 실패 - " + ex.getMessage() + " (메시지: " + message + ")");
+                    handleNetworkError(ex);
+                }
+                return;
+            }
+            wakeup = queuedMessages == 0;
+            (type != null && type.isPriority() ? priorityQueue : normalQueue).add(data);
+            queuedMessages++;
+            queuedBytes += data.length;
+            if (queuedBytes > maxQueuedBytes) maxQueuedBytes = queuedBytes;
+        }
+        // 대기열이 비어 있었을 때만 깨움 (연속 전송은 한 번의 flush로 합쳐짐)
+        if (wakeup && Thread.currentThread() != networkThread) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 대기열의 메시지를 배치로 묶어 씁니다 (네트워크 스레드 전용).
+     * 소켓 버퍼가 가득 차면 OP_WRITE를 등록하고 돌아갑니다.
+     */
+    private void flushOutbound() throws IOException {
+        while (true) {
+            if (inFlight == null || !inFlight.hasRemaining()) {
+                inFlight = nextBatch();
+                if (inFlight == null) {
+                    selectionKey.interestOps(SelectionKey.OP_READ);
+                    return;
+                }
+            }
+            synchronized (writeLock) {
+                channel.write(inFlight);
+            }
+            if (inFlight.hasRemaining()) {
+                selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 우선 대기열 → 일반 대기열 순서로 MAX_BATCH_BYTES까지 메시지를 한 버퍼에 모읍니다.
+     * @return 보낼 배치, 대기열이 비어 있으면 null
+     */
+    private ByteBuffer nextBatch() {
+        synchronized (queueLock) {
+            if (queuedMessages == 0) return null;
+
+            byte[] first = priorityQueue.isEmpty() ? normalQueue.peek() : priorityQueue.peek();
+            ByteBuffer batch = first.length > MAX_BATCH_BYTES ? ByteBuffer.allocate(first.length) : batchBuffer;
+            batch.clear();
+
+            int count = 0;
+            while (queuedMessages > 0) {
+                ArrayDeque<byte[]> queue = priorityQueue.isEmpty() ? normalQueue : priorityQueue;
+                byte[] data = queue.peek();
+                if (data.length > batch.remaining()) break;
+                queue.poll();
+                batch.put(data);
+                queuedMessages--;
+                queuedBytes -= data.length;
+                count++;
+            }
+            batch.flip();
+
+            messagesSent += count;
+            batchesSent++;
+            bytesSent += batch.remaining();
+            return batch;
         }
     }
 
@@ -39,25 +212,45 @@ public class P2PBase {
         isHandlingError = true; // handleNetworkError가 호출되지 않도록 설정
         
         if(onDisconnect != null) {
-            onDisconnect.run();
+            Runnable callback = onDisconnect;
             onDisconnect = null;
+            try {
+                callback.run();
+            } catch (Exception ex) {
+                // 콜백 예외로 소켓 정리가 건너뛰어지지 않도록 함
+                System.err.println("P2P: onDisconnect 콜백 실행 중 오류: " + ex.getMessage());
+            }
         }
         
-        // RELEASE_MESSAGE 전송 시도 (실패해도 무시)
+        // release 메시지 전송 시도 (실패해도 무시)
+        // 보내던 배치가 중간에 끊긴 상태라면 줄이 섞이므로 보내지 않음
         try {
-            if (out != null) {
-                out.write(RELEASE_MESSAGE + '\n');
-                out.flush();
+            if (channel != null && channel.isOpen()) {
+                synchronized (writeLock) {
+                    ByteBuffer pending = inFlight;
+                    if (pending == null || !pending.hasRemaining()) {
+                        channel.write(ByteBuffer.wrap(encode(MessageType.RELEASE, "")));
+                    }
+                }
             }
         } catch (IOException e) {
             // release() 중에는 예외를 무시
         }
+        synchronized (queueLock) {
+            messagesDropped += queuedMessages;
+            priorityQueue.clear();
+            normalQueue.clear();
+            queuedMessages = 0;
+            queuedBytes = 0;
+        }
         
         callbacks.clear();
+        for (int i = 0; i < handlers.length(); i++) {
+            handlers.set(i, null);
+        }
         try {
-            if(in != null) in.close();
-            if(out != null) out.close();
-            if(socket != null) socket.close();
+            if(selector != null) selector.close(); // select() 중인 네트워크 스레드를 깨움
+            if(channel != null) channel.close();
             System.out.println("p2p release success");
 
         } catch (IOException e) {
@@ -65,11 +258,14 @@ public class P2PBase {
         }
     }
 
-    boolean bRunning = false;
+    volatile boolean bRunning = false;
+    private Thread networkThread;
 
-    private Map<String, Consumer<String>> callbacks = new HashMap<>();
+    // 수신 핸들러: 등록된 종류는 opcode 인덱스로 바로 조회, 그 외 접두어는 기존 방식으로 검색
+    private final AtomicReferenceArray<Consumer<String>> handlers = new AtomicReferenceArray<>(MessageType.MAX_OPCODE + 1);
+    private final Map<String, Consumer<String>> callbacks = new ConcurrentHashMap<>();
+    private final MessageStats messageStats = new MessageStats();
     protected Runnable onDisconnect;
-    private final String RELEASE_MESSAGE = "release";
     
     /**
      * 네트워크 타임아웃 및 ping 간격 설정 (밀리초)
@@ -80,9 +276,7 @@ public class P2PBase {
     private static final int TIMEOUT_MS = 5000;      // 5초 이상 pong 없으면 끊김
     private static final int PING_INTERVAL_MS = 500; // 0.5초마다 ping 전송
 
-    // ping/pong 메시지 포맷: ping:<id>, pong:<id>
-    private final String PING_PREFIX = "ping:"; 
-    private final String PONG_PREFIX = "pong:"; 
+    // ping/pong 메시지 포맷: ping:<id>, pong:<id> (MessageType.PING/PONG)
 
     private boolean bWaitingPong = false;
     private long lastPingTime = -1;
@@ -90,10 +284,10 @@ public class P2PBase {
     private final Map<Long, Long> pingSentTimeMap = new HashMap<>(); // pingID → 보낸 시각(ms)
 
     // RTT 측정 결과
-    private long lastRttMs = -1;   // 마지막 ping의 RTT(ms)
-    private long avgRttMs  = -1;   // 간단한 이동 평균 RTT(ms)
+    private volatile long lastRttMs = -1;   // 마지막 ping의 RTT(ms)
+    private volatile long avgRttMs  = -1;   // 간단한 이동 평균 RTT(ms)
 
-    private boolean isHandlingError = false; // 중복 오류 처리 방지
+    private volatile boolean isHandlingError = false; // 중복 오류 처리 방지
 
     /**
      * 네트워크 오류 발생 시 처리
@@ -121,91 +315,76 @@ public class P2PBase {
     }
 
     protected void run() {
-        bRunning = true;
+        if (channel == null) {
+            System.err.println("P2P: 입력 스트림이 null입니다");
+            bRunning = true;
+            handleNetworkError(new IOException("입력 스트림이 null입니다"));
+            return;
+        }
+        try {
+            Selector opened = Selector.open();
+            // 논블로킹으로 바꾸기 전에 실행 상태를 켜서, 이후 send()는 모두 대기열로 보냄
+            // (블로킹 직접 쓰기가 진행 중이면 queueLock에서 끝날 때까지 기다림)
+            synchronized (queueLock) {
+                selector = opened;
+                bRunning = true;
+            }
+            channel.configureBlocking(false);
+            selectionKey = channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            System.err.println("P2P: 셀렉터 등록 실패 - " + e.getMessage());
+            bRunning = true;
+            handleNetworkError(e);
+            return;
+        }
         
-        Thread networkThread = new Thread(() -> {
-            while (bRunning) {
-                long currentTime = System.currentTimeMillis();
-
-                // 1) 주기적인 ping 전송 (RTT 측정 + 끊김 감지용)
-                if (!bWaitingPong && (lastPingTime < 0 || currentTime - lastPingTime >= PING_INTERVAL_MS)) {
-                    long id = ++pingSeq;
-                    pingSentTimeMap.put(id, currentTime);
-                    send(PING_PREFIX + id);
-                    bWaitingPong = true;
-                    lastPingTime = currentTime;
-                    // System.out.println("P2P: send ping:" + id);
-                }
+        networkThread = new Thread(() -> {
+            try {
+                while (bRunning) {
+                    long currentTime = System.currentTimeMillis();
 
-                // 2) pong 타임아웃 체크
-                if (bWaitingPong && currentTime - lastPingTime > TIMEOUT_MS) {
-                    System.out.println("타임아웃 발생: ping/pong " + TIMEOUT_MS + "ms 초과");
-                    handleNetworkError(new IOException("ping/pong 타임아웃"));
-                    break;
-                }
+                    // 1) 주기적인 ping 전송 (RTT 측정 + 끊김 감지용)
+                    if (!bWaitingPong && (lastPingTime < 0 || currentTime - lastPingTime >= PING_INTERVAL_MS)) {
+                        long id = ++pingSeq;
+                        pingSentTimeMap.put(id, currentTime);
+                        send(MessageType.PING, Long.toString(id));
+                        bWaitingPong = true;
+                        lastPingTime = currentTime;
+                    }
 
-                // 3) 입력 스트림 준비 확인
-                try { 
-                    if (in == null) {
-                        System.err.println("P2P: 입력 스트림이 null입니다");
-                        handleNetworkError(new IOException("입력 스트림이 null입니다"));
+                    // 2) pong 타임아웃 체크
+                    if (bWaitingPong && currentTime - lastPingTime > TIMEOUT_MS) {
+                        System.out.println("타임아웃 발생: ping/pong " + TIMEOUT_MS + "ms 초과");
+                        handleNetworkError(new IOException("ping/pong 타임아웃"));
                         break;
                     }
-                    if(!in.ready()) continue;
-                } catch (IOException e) { 
-                    System.err.println("P2P: 입력 스트림 확인 중 오류 - " + e.getMessage());
-                    handleNetworkError(e);
-                    break; 
-                }
-                
-                String message = null;
-                try { 
-                    message = in.readLine(); 
-                } catch (IOException ex) { 
-                    System.err.println("P2P: 메시지 읽기 중 오류 - " + ex.getMessage());
-                    handleNetworkError(ex);
-                    break; 
-                }
-                if(message == null) {
-                    System.out.println("P2P: 연결이 종료되었습니다 (null 메시지 수신)");
-                    handleNetworkError(new IOException("연결이 종료되었습니다"));
-                    break;
-                }
+                    if (!bRunning) break;
 
-                // 5) 제어 메시지 처리
-                if(message.equals(RELEASE_MESSAGE)) { 
-                    send(RELEASE_MESSAGE);
-                    break; 
-                } else if(message.startsWith(PING_PREFIX)) {
-                    // 상대가 보낸 ping:<id> → 그대로 pong:<id>로 돌려줌
-                    String idPart = message.substring(PING_PREFIX.length());
-                    send(PONG_PREFIX + idPart);
-                    continue;
-                } else if(message.startsWith(PONG_PREFIX)) {
-                    // 내가 보낸 ping:<id>에 대한 응답
-                    String idPart = message.substring(PONG_PREFIX.length());
-                    try {
-                        long id = Long.parseLong(idPart.trim());
-                        Long sentTime = pingSentTimeMap.remove(id);
-                        if (sentTime != null) {
-                            long rtt = currentTime - sentTime;
-                            lastRttMs = rtt;
-                            if (avgRttMs < 0) avgRttMs = rtt;
-                            else avgRttMs = (avgRttMs * 3 + rtt) / 4;
-                        }
-                    } catch (NumberFormatException ignore) { }
-                    bWaitingPong = false;
-                    lastPingTime = currentTime;
-                    continue;
-                }
+                    // 3) 송신 대기열 전송 (ping, 수신 처리 중 쌓인 pong, 다른 스레드의 send 포함)
+                    flushOutbound();
 
-                // 6) 일반 메시지 콜백 처리
-                for(String key : callbacks.keySet()) {
-                    if(message.startsWith(key)) {
-                        callbacks.get(key).accept(message.substring(key.length()));
+                    // 4) 다음 타이머(ping 전송 또는 pong 타임아웃) 시각까지 이벤트 대기
+                    //    send()의 wakeup 또는 OP_WRITE(소켓 버퍼 여유)로도 깨어남
+                    long deadline = bWaitingPong ? lastPingTime + TIMEOUT_MS + 1 : lastPingTime + PING_INTERVAL_MS;
+                    int ready = selector.select(Math.max(1, deadline - currentTime));
+
+                    // 5) 수신 처리
+                    if (!selectionKey.isValid()) {
+                        handleNetworkError(new IOException("연결이 종료되었습니다"));
+                        break;
+                    }
+                    selector.selectedKeys().clear();
+                    if (ready > 0 && selectionKey.isReadable() && !readMessages()) {
                         break;
                     }
                 }
+            } catch (ClosedSelectorException e) {
+                // release()에서 셀렉터를 닫음 → 종료
+            } catch (CancelledKeyException e) {
+                handleNetworkError(new IOException("연결이 종료되었습니다"));
+            } catch (IOException e) {
+                System.err.println("P2P: 메시지 읽기 중 오류 - " + e.getMessage());
+                handleNetworkError(e);
             }
 
             // 정상 종료가 아닌 경우에만 release 호출
@@ -213,18 +392,164 @@ public class P2PBase {
             if (bRunning || !isHandlingError) {
                 release();
             }
-        });
+        }, "P2P-Network");
         networkThread.setDaemon(true); // 데몬 스레드로 설정 (메인 종료 시 자동 정리)
         networkThread.start();
     }
 
+    /**
+     * 읽을 수 있는 데이터를 모두 읽어 완성된 줄마다 메시지를 처리합니다.
+     * @return 계속 실행하면 true, 연결 종료(release 수신 또는 EOF)면 false
+     */
+    private boolean readMessages() throws IOException {
+        while (true) {
+            readBuffer.clear();
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                System.out.println("P2P: 연결이 종료되었습니다 (null 메시지 수신)");
+                handleNetworkError(new IOException("연결이 종료되었습니다"));
+                return false;
+            }
+            if (read == 0) return true;
+
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                byte b = readBuffer.get();
+                if (b != '\n') {
+                    lineBuffer.write(b);
+                    continue;
+                }
+                byte[] line = lineBuffer.toByteArray();
+                lineBuffer.reset();
+                int length = line.length;
+                if (length > 0 && line[length - 1] == '\r') length--;
+
+                boolean keepRunning;
+                if (length > 0 && MessageType.isOpcodeByte(line[0])) {
+                    // opcode 형식: 배열 조회로 바로 분류
+                    MessageType type = MessageType.fromOpcode(line[0]);
+                    if (type == null) {
+                        messageStats.recordUnknown();
+                        continue;
+                    }
+                    keepRunning = dispatch(type, new String(line, 1, length - 1, StandardCharsets.UTF_8));
+                } else {
+                    keepRunning = handleTextMessage(new String(line, 0, length, StandardCharsets.UTF_8));
+                }
+                if (!keepRunning) return false;
+            }
+        }
+    }
 
+    /**
+     * opcode 없이 온 텍스트 메시지를 처리합니다.
+     * 등록된 종류의 접두어이면 해당 opcode로 처리하고, 아니면 접두어 콜백을 검색합니다.
+     */
+    private boolean handleTextMessage(String message) {
+        MessageType type = MessageType.match(message);
+        if (type != null) {
+            return dispatch(type, message.substring(type.getPrefix().length()));
+        }
+        if (!dispatchByPrefix(message)) {
+            messageStats.recordUnknown();
+        }
+        return true;
+    }
+
+    /**
+     * 종류별로 메시지를 처리하고 처리 시간을 기록합니다.
+     * @return 계속 실행하면 true, 상대방이 연결을 종료했으면 false
+     */
+    private boolean dispatch(MessageType type, String payload) {
+        long start = System.nanoTime();
+        boolean keepRunning = true;
+        switch (type) {
+            case RELEASE:
+                send(MessageType.RELEASE, "");
+                keepRunning = false;
+                break;
+            case PING:
+                // 상대가 보낸 ping:<id> → 그대로 pong:<id>로 돌려줌
+                send(MessageType.PONG, payload);
+                break;
+            case PONG:
+                // 내가 보낸 ping:<id>에 대한 응답
+                handlePong(payload);
+                break;
+            default:
+                Consumer<String> handler = handlers.get(type.getOpcode());
+                if (handler != null) {
+                    handler.accept(payload);
+                } else if (!dispatchByPrefix(type.getPrefix() + payload)) {
+                    // 등록된 핸들러가 없음 (예: 장면 전환 중 도착한 메시지)
+                    messageStats.recordUnknown();
+                    return true;
+                }
+                break;
+        }
+        messageStats.record(type, System.nanoTime() - start);
+        return keepRunning;
+    }
+
+    private void handlePong(String idPart) {
+        long currentTime = System.currentTimeMillis();
+        try {
+            long id = Long.parseLong(idPart.trim());
+            Long sentTime = pingSentTimeMap.remove(id);
+            if (sentTime != null) {
+                long rtt = currentTime - sentTime;
+                lastRttMs = rtt;
+                if (avgRttMs < 0) avgRttMs = rtt;
+                else avgRttMs = (avgRttMs * 3 + rtt) / 4;
+            }
+        } catch (NumberFormatException ignore) { }
+        bWaitingPong = false;
+        lastPingTime = currentTime;
+    }
+
+    /**
+     * 문자열 접두어로 등록된 콜백을 찾아 호출합니다 (MessageType에 없는 접두어용).
+     * @return 호출한 콜백이 있으면 true
+     */
+    private boolean dispatchByPrefix(String message) {
+        for (Map.Entry<String, Consumer<String>> entry : callbacks.entrySet()) {
+            if (message.startsWith(entry.getKey())) {
+                entry.getValue().accept(message.substring(entry.getKey().length()));
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 접두어로 시작하는 메시지의 콜백을 등록합니다 (콜백에는 접두어를 뺀 나머지가 전달됨).
+     * 접두어가 MessageType에 등록된 종류와 같으면 opcode 핸들러로 등록됩니다.
+     */
     public void addCallback(String message, Consumer<String> callback) {
-        callbacks.put(message, callback);
+        MessageType type = MessageType.fromPrefix(message);
+        if (type != null) {
+            addCallback(type, callback);
+        } else {
+            callbacks.put(message, callback);
+        }
+    }
+
+    public void addCallback(MessageType type, Consumer<String> callback) {
+        handlers.set(type.getOpcode(), callback);
     }
 
     public void removeCallback(String message) {
-        callbacks.remove(message);
+        MessageType type = MessageType.fromPrefix(message);
+        if (type != null) {
+            removeCallback(type);
+        } else {
+            callbacks.remove(message);
+        }
+    }
+
+    public void removeCallback(MessageType type) {
+        handlers.set(type.getOpcode(), null);
     }
 
     public void setOnDisconnect(Runnable onDisconnect) {
@@ -246,4 +571,62 @@ public class P2PBase {
     public long getAvgRttMs() {
         return avgRttMs;
     }
+
+    /**
+     * 수신 메시지 통계 (종류별 처리 시간, 알 수 없는 메시지 수)
+     */
+    public MessageStats getMessageStats() {
+        return messageStats;
+    }
+
+    /**
+     * 송신 대기열에 쌓여 아직 보내지 않은 메시지 수
+     */
+    public int getQueuedMessages() {
+        synchronized (queueLock) { return queuedMessages; }
+    }
+
+    /**
+     * 송신 대기열에 쌓인 바이트 수
+     */
+    public long getQueuedBytes() {
+        synchronized (queueLock) { return queuedBytes; }
+    }
+
+    /**
+     * 연결 이후 송신 대기열이 가장 많이 쌓였을 때의 바이트 수
+     */
+    public long getMaxQueuedBytes() {
+        synchronized (queueLock) { return maxQueuedBytes; }
+    }
+
+    public long getMessagesSent() {
+        synchronized (queueLock) { return messagesSent; }
+    }
+
+    /**
+     * 소켓에 쓴 배치 수 (getMessagesSent()보다 작을수록 많이 합쳐서 보낸 것)
+     */
+    public long getBatchesSent() {
+        synchronized (queueLock) { return batchesSent; }
+    }
+
+    public long getBytesSent() {
+        synchronized (queueLock) { return bytesSent; }
+    }
+
+    /**
+     * 연결 종료로 보내지 못하고 버린 메시지 수
+     */
+    public long getMessagesDropped() {
+        synchronized (queueLock) { return messagesDropped; }
+    }
+
+    /**
+     * 송신 대기열이 BACKPRESSURE_BYTES 이상 밀려 있으면 true.
+     * 주기적으로 보내는 상태 동기화는 이때 한 번 건너뛰어도 됩니다.
+     */
+    public boolean isBackpressured() {
+        return getQueuedBytes() >= BACKPRESSURE_BYTES;
+    }
 }
@@ -2,11 +2,14 @@ package tetris.network;
 
 import java.io.*;
 import java.net.*;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import javax.swing.SwingUtilities;
 
 public class P2PServer extends P2PBase {
 
-    ServerSocket serverSocket;
+    ServerSocketChannel serverChannel;
+    ServerSocket serverSocket; // serverChannel.socket()
     public Runnable onConnect;
 
     public P2PServer() {
@@ -21,7 +24,8 @@ public class P2PServer extends P2PBase {
 
         // 서버 소켓 생성
         try { 
-            serverSocket = new ServerSocket();
+            serverChannel = ServerSocketChannel.open();
+            serverSocket = serverChannel.socket();
             serverSocket.setReuseAddress(true); // 포트 재사용 허용 (테스트 환경에서 필수)
             serverSocket.bind(new InetSocketAddress(PORT));
         } catch (IOException e) { 
@@ -38,9 +42,10 @@ public class P2PServer extends P2PBase {
     }
 
     void waitForClient() {
-        // 클라이언트 접속 대기
+        // 클라이언트 접속 대기 (블로킹 accept, 접속 후 채널은 P2PBase에서 논블로킹으로 전환)
+        SocketChannel accepted;
         try { 
-            socket = serverSocket.accept(); 
+            accepted = serverChannel.accept(); 
         } catch (IOException e) { 
             System.err.println("P2P 서버: 클라이언트 접속 대기 중 오류 - " + e.getMessage());
             e.printStackTrace();
@@ -57,42 +62,14 @@ public class P2PServer extends P2PBase {
             return;
         }
         
-        if (socket == null) {
+        if (accepted == null) {
             System.err.println("P2P 서버: 소켓이 null입니다");
             return;
         }
+        attach(accepted);
         
         System.out.println("클라이언트 접속: " + socket.getInetAddress());
 
-        // 입출력 스트림 생성
-        try {
-            in = new BufferedReader(
-                new InputStreamReader(socket.getInputStream(), "UTF-8"));
-            out = new BufferedWriter(
-                new OutputStreamWriter(socket.getOutputStream(), "UTF-8"));
-        } catch (IOException e) {
-            System.err.println("P2P 서버: 입출력 스트림 생성 실패 - " + e.getMessage());
-            e.printStackTrace();
-            // 스트림 생성 실패 시 리소스 정리
-            try {
-                if (socket != null && !socket.isClosed()) {
-                    socket.close();
-                }
-            } catch (IOException ex) {
-                System.err.println("P2P 서버: 소켓 닫기 실패 - " + ex.getMessage());
-            }
-            if (onDisconnect != null) {
-                SwingUtilities.invokeLater(() -> {
-                    try {
-                        onDisconnect.run();
-                    } catch (Exception ex) {
-                        System.err.println("P2P 서버: onDisconnect 콜백 실행 중 오류: " + ex.getMessage());
-                    }
-                });
-            }
-            return;
-        }
-        
         // 접속 콜백 호출 (Swing UI 변경은 EDT에서 실행)
         if (onConnect != null) {
             SwingUtilities.invokeLater(onConnect);
@@ -10,18 +10,24 @@ import tetris.scene.game.core.RenderManager;
 import tetris.scene.game.core.GameStateManager;
 import tetris.scene.game.core.InputHandler;
 import tetris.scene.game.core.ItemManager;
+import tetris.scene.game.core.GameLoop;
+import tetris.scene.game.core.TickTimer;
+import tetris.scene.game.core.ReplayRecorder;
 import tetris.scene.game.blocks.Block;
+import tetris.scene.game.blocks.BlockShake;
+import tetris.scene.game.items.ItemEffectHost;
 import tetris.util.LineBlinkEffect;
 import tetris.GameSettings;
 import javax.swing.*;
 import java.awt.*;
+import java.util.Random;
 import java.util.Stack;
 
 /**
  * Local Battle scene - GameScene × 2
  * 각 플레이어가 독립적인 GameScene 로직을 가짐
  */
-public class BattleScene extends Scene {
+public class BattleScene extends Scene implements ItemEffectHost {
     private static final int GAME_HEIGHT = 20;
     private static final int GAME_WIDTH = 10;
     private static final int PREVIEW_SIZE = 4;
@@ -57,16 +63,23 @@ public class BattleScene extends Scene {
     protected final LineBlinkEffect lineBlinkEffect2;
     protected ItemManager itemManager2; // 아이템 모드를 위한 ItemManager
     
+    // 보드 패널 (바뀐 영역만 다시 그리기 위해 보관)
+    private GameBoardPanel gamePanel1;
+    private GameBoardPanel gamePanel2;
+    
+    // 게임 루프 (아래 타이머들과 아이템 효과 복구를 하나의 틱으로 진행)
+    private final GameLoop gameLoop = new GameLoop();
+    
     // 타이머 (블록 자동 낙하)
-    private Timer fallTimer1;
-    private Timer fallTimer2;
+    private TickTimer fallTimer1;
+    private TickTimer fallTimer2;
     
     // 점멸 효과 전용 타이머 (GameScene의 blinkTimer와 동일)
-    private Timer blinkTimer;
+    private TickTimer blinkTimer;
     private static final int BLINK_INTERVAL_MS = 50; // 점멸 효과 업데이트 주기 (밀리초)
     
     // 시간제한 모드용 타이머 (3분)
-    private Timer timeLimitTimer;
+    private TickTimer timeLimitTimer;
     private int remainingTimeSeconds = 180; // 3분 = 180초
     private static final int TIME_LIMIT_SECONDS = 180; // 3분
     
@@ -86,6 +99,14 @@ public class BattleScene extends Scene {
     private boolean visionBlockActive1 = false;
     private boolean visionBlockActive2 = false;
     
+    // 리플레이 녹화 (플레이어별 블록 시드, 파일을 만들 수 없으면 recorder는 null)
+    private final long[] replaySeeds = new long[2];
+    private ReplayRecorder replayRecorder = null;
+    private boolean autoFalling = false; // 자동 낙하 처리 중이면 true (MOVE_DOWN과 구분해 녹화)
+    
+    // 공격 블록의 구멍 위치를 정할 때 사용 (시드를 고정해 리플레이에서 재현 가능하게 함)
+    private final Random attackRandom;
+    
     // 청소 블링킹 효과 (각 플레이어별로 개별 관리)
     private java.util.Set<java.awt.Point> cleanupBlinkingCells1 = new java.util.HashSet<>(); // Player 1
     private java.util.Set<java.awt.Point> cleanupBlinkingCells2 = new java.util.HashSet<>(); // Player 2
@@ -98,6 +119,10 @@ public class BattleScene extends Scene {
         this.gameMode = gameMode;
         
         GameSettings.Difficulty difficulty = GameSettings.getInstance().getDifficulty();
+        long seed = System.currentTimeMillis(); // 양쪽 같은 블록 순서
+        replaySeeds[0] = seed;
+        replaySeeds[1] = seed;
+        attackRandom = new Random(seed);
         
         // ═══════════════════════════════════════════════════════════════
         // 1P 초기화 (GameScene과 동일)
@@ -105,7 +130,7 @@ public class BattleScene extends Scene {
         this.boardManager1 = new BoardManager();
         boardManager1.setPlayerNumber(1); // Player 1 설정
         this.scoreManager1 = new ScoreManager(difficulty);
-        this.blockManager1 = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager1, scoreManager1, difficulty);
+        this.blockManager1 = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager1, scoreManager1, difficulty, seed);
         this.uiManager1 = new tetris.scene.game.core.UIManager();
         this.gameStateManager1 = new GameStateManager(new Player1Callback());
         this.inputHandler1 = new InputHandler(frame, new Player1Callback(), 1); // 1P 키 설정 사용
@@ -133,7 +158,7 @@ public class BattleScene extends Scene {
         this.boardManager2 = new BoardManager();
         boardManager2.setPlayerNumber(2); // Player 2 설정
         this.scoreManager2 = new ScoreManager(difficulty);
-        this.blockManager2 = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager2, scoreManager2, difficulty);
+        this.blockManager2 = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager2, scoreManager2, difficulty, seed);
         this.uiManager2 = new tetris.scene.game.core.UIManager();
         this.gameStateManager2 = new GameStateManager(new Player2Callback());
         this.inputHandler2 = new InputHandler(frame, new Player2Callback(), 2); // 2P 키 설정 사용
@@ -239,6 +264,7 @@ public class BattleScene extends Scene {
                     hardDrop(1);
                     break;
                 case PAUSE:
+                    recordReplayAction(1, action);
                     gameStateManager1.togglePause();
                     break;
                 case EXIT_TO_MENU:
@@ -316,6 +342,7 @@ public class BattleScene extends Scene {
                     hardDrop(2);
                     break;
                 case PAUSE:
+                    recordReplayAction(2, action);
                     gameStateManager2.togglePause();
                     break;
                 case EXIT_TO_MENU:
@@ -375,6 +402,8 @@ public class BattleScene extends Scene {
     private class BlinkCallback1 implements LineBlinkEffect.BlinkEffectCallback {
         @Override
         public void onBlinkComplete() {
+            if (replayRecorder != null) replayRecorder.recordLinesCleared(0, replayMillis());
+            
             // 점멸 완료 후 줄 삭제 실행
             BoardManager boardMgr = boardManager1;
             
@@ -445,18 +474,20 @@ public class BattleScene extends Scene {
                 }
             }
             
-            repaint();
+            repaintBoards(); // 상대 공격 대기 블록도 바뀔 수 있음
         }
         
         @Override
         public void onEffectUpdate() {
-            repaint();
+            repaintBoard(1);
         }
     }
     
     private class BlinkCallback2 implements LineBlinkEffect.BlinkEffectCallback {
         @Override
         public void onBlinkComplete() {
+            if (replayRecorder != null) replayRecorder.recordLinesCleared(1, replayMillis());
+            
             // 점멸 완료 후 줄 삭제 실행
             BoardManager boardMgr = boardManager2;
             
@@ -527,12 +558,12 @@ public class BattleScene extends Scene {
                 }
             }
             
-            repaint();
+            repaintBoards(); // 상대 공격 대기 블록도 바뀔 수 있음
         }
         
         @Override
         public void onEffectUpdate() {
-            repaint();
+            repaintBoard(2);
         }
     }
     
@@ -643,7 +674,7 @@ public class BattleScene extends Scene {
             
             if (!hasHole) {
                 System.out.println("  No holes found, creating random hole as fallback");
-                int randomCol = (int)(Math.random() * GAME_WIDTH);
+                int randomCol = attackRandom.nextInt(GAME_WIDTH);
                 pattern[randomCol] = false;
                 colors[randomCol] = Color.BLACK;
                 blockTypes[randomCol] = 0;
@@ -669,7 +700,16 @@ public class BattleScene extends Scene {
         }
         
         System.out.println("Applying " + attackStack.size() + " attack blocks to Player " + player);
-        
+        applyAttackStack(attackStack, boardMgr);
+    }
+    
+    /**
+     * 대기 중인 공격 블록을 보드 하단에 적용합니다 (방해블럭 최대 10줄).
+     * 씬 상태를 쓰지 않으므로 벤치마크 등에서 화면 없이 호출할 수 있습니다.
+     * @param attackStack 공격 대기열 (적용되거나 버려진 블록은 제거됨)
+     * @param boardMgr 공격받는 보드
+     */
+    static void applyAttackStack(Stack<AttackBlock> attackStack, BoardManager boardMgr) {
         // 현재 보드에서 방해블럭이 있는 줄 수를 계산
         int currentInterferenceLines = countInterferenceLines(boardMgr);
         
@@ -704,48 +744,21 @@ public class BattleScene extends Scene {
         for (int j = 0; j < blocksToApply; j++) {
             AttackBlock attackBlock = blocksToApplyArray[j];
             
-            // 기존 블록들을 위로 한 줄씩 이동
-            int[][] board = boardMgr.getBoard();
-            Color[][] boardColors = boardMgr.getBoardColors();
-            int[][] boardTypes = boardMgr.getBoardTypes();
-            boolean[][] itemCells = boardMgr.getItemCells();
-            
-            // 아이템 블록 정보는 개별적으로 이동해야 함
-            for (int row = 0; row < GAME_HEIGHT - 1; row++) {
-                for (int col = 0; col < GAME_WIDTH; col++) {
-                    board[row][col] = board[row + 1][col];
-                    boardColors[row][col] = boardColors[row + 1][col];
-                    boardTypes[row][col] = boardTypes[row + 1][col];
-                    itemCells[row][col] = itemCells[row + 1][col];
-                    
-                    // 아이템 블록 정보도 함께 이동
-                    if (itemCells[row + 1][col]) {
-                        tetris.scene.game.blocks.ItemBlock itemBlockInfo = boardMgr.getItemBlockInfo(col, row + 1);
-                        if (itemBlockInfo != null) {
-                            System.out.println("🔄 Moving item block info from (" + col + "," + (row + 1) + ") to (" + col + "," + row + ")");
-                            boardMgr.setItemBlockInfo(col, row, itemBlockInfo);
-                        }
-                    } else {
-                        boardMgr.setItemBlockInfo(col, row, null);
-                    }
-                }
-            }
-            
-            // 맨 아래줄(GAME_HEIGHT - 1)에 공격 블록 배치
+            // 기존 블록들을 위로 한 줄씩 올리고 맨 아래줄(GAME_HEIGHT - 1)에 공격 블록 배치
+            int rowMask = 0;
+            Color[] colors = new Color[GAME_WIDTH];
+            int[] types = new int[GAME_WIDTH];
             for (int col = 0; col < GAME_WIDTH; col++) {
                 if (attackBlock.hasBlockAt(col)) {
-                    board[GAME_HEIGHT - 1][col] = 1;
-                    boardColors[GAME_HEIGHT - 1][col] = attackBlock.getColors()[col];
-                    boardTypes[GAME_HEIGHT - 1][col] = attackBlock.getBlockTypes()[col];
+                    rowMask |= 1 << col;
+                    colors[col] = attackBlock.getColors()[col];
+                    types[col] = attackBlock.getBlockTypes()[col];
                 } else {
-                    board[GAME_HEIGHT - 1][col] = 0;
-                    boardColors[GAME_HEIGHT - 1][col] = Color.BLACK;
-                    boardTypes[GAME_HEIGHT - 1][col] = -1;
+                    colors[col] = Color.BLACK;
+                    types[col] = -1;
                 }
-                // 아래줄은 방해블록이므로 아이템 셀이 아님
-                itemCells[GAME_HEIGHT - 1][col] = false;
-                boardMgr.setItemBlockInfo(col, GAME_HEIGHT - 1, null);
             }
+            boardMgr.insertBottomRow(rowMask, colors, types);
         }
     }
     
@@ -754,7 +767,7 @@ public class BattleScene extends Scene {
      * @param boardMgr 확인할 보드 매니저
      * @return 방해블럭이 있는 줄의 수
      */
-    private int countInterferenceLines(BoardManager boardMgr) {
+    private static int countInterferenceLines(BoardManager boardMgr) {
         int[][] board = boardMgr.getBoard();
         int[][] boardTypes = boardMgr.getBoardTypes();
         int interferenceLines = 0;
@@ -783,107 +796,152 @@ public class BattleScene extends Scene {
         GameSettings.Difficulty difficulty = GameSettings.getInstance().getDifficulty();
         int delay = getInitialDelay(difficulty);
         
-        // 1P 타이머
-        fallTimer1 = new Timer(delay, e -> {
-            if (!isGameOver && !gameStateManager1.isPaused()) {
-                moveBlockDown(1);
-                // 무게추 아이템 블록 업데이트 (아이템 모드일 때만)
-                if ("item".equals(gameMode)) {
-                    boolean shouldGenerateNext = blockManager1.updateWeightBlock();
-                    if (shouldGenerateNext) {
-                        // 무게추 블록이 사라졌으므로 다음 블록 생성
-                        if (!blockManager1.isGameOver()) {
-                            blockManager1.generateNextBlock();
-                            System.out.println("Player 1 (fallTimer): Generated next block after WeightItemBlock disappeared");
-                        }
-                        return;
-                    }
-                }
-            }
-        });
+        fallTimer1 = new TickTimer(delay); // 1P 타이머
+        fallTimer2 = new TickTimer(delay); // 2P 타이머
+        blinkTimer = new TickTimer(BLINK_INTERVAL_MS); // 점멸 효과 전용 타이머 (GameScene의 blinkTimer와 동일하게 50ms마다 실행)
         
-        // 2P 타이머
-        fallTimer2 = new Timer(delay, e -> {
-            if (!isGameOver && !gameStateManager2.isPaused()) {
-                moveBlockDown(2);
-                // 무게추 아이템 블록 업데이트 (아이템 모드일 때만)
-                if ("item".equals(gameMode)) {
-                    boolean shouldGenerateNext = blockManager2.updateWeightBlock();
-                    if (shouldGenerateNext) {
-                        // 무게추 블록이 사라졌으므로 다음 블록 생성
-                        if (!blockManager2.isGameOver()) {
-                            blockManager2.generateNextBlock();
-                            System.out.println("Player 2 (fallTimer): Generated next block after WeightItemBlock disappeared");
-                        }
-                        return;
-                    }
+        // 시간제한 모드일 때만 시간 타이머 설정
+        if ("time_limit".equals(gameMode)) {
+            remainingTimeSeconds = TIME_LIMIT_SECONDS;
+            timeLimitTimer = new TickTimer(1000); // 1초마다 실행
+            timeLimitTimer.start();
+        }
+        
+        gameLoop.add(this::tick);
+        gameLoop.setFrameCallback(this::repaintBoards); // 한 프레임의 변경은 한 번에 다시 그림 (바뀐 영역만)
+        // 아이템 효과 시간은 어느 한쪽이라도 일시정지하면 멈춤 (일시정지 화면도 양쪽에 표시됨)
+        gameLoop.setPauseCondition(() -> gameStateManager1.isPaused() || gameStateManager2.isPaused());
+    }
+    
+    /**
+     * 게임 루프 틱마다 양쪽 플레이어의 타이머와 흔들림 효과를 진행합니다.
+     * @return 화면을 다시 그려야 하면 true
+     */
+    private boolean tick(int stepMillis) {
+        boolean needsRepaint = false;
+        
+        if (fallTimer1.advance(stepMillis)) {
+            needsRepaint |= onFallTick(1);
+        }
+        if (fallTimer2.advance(stepMillis)) {
+            needsRepaint |= onFallTick(2);
+        }
+        if (blinkTimer.advance(stepMillis)) {
+            needsRepaint |= onBlinkTick();
+        }
+        if (timeLimitTimer != null && timeLimitTimer.advance(stepMillis)) {
+            needsRepaint |= onTimeLimitTick();
+        }
+        
+        needsRepaint |= advanceShake(blockManager1.getBlockShake(), stepMillis);
+        needsRepaint |= advanceShake(blockManager2.getBlockShake(), stepMillis);
+        needsRepaint |= onGameTick(stepMillis);
+        return needsRepaint;
+    }
+    
+    /**
+     * 게임 루프 틱마다 타이머 처리 후 호출됩니다 (EDT). 하위 클래스에서 플레이어 조작을 진행할 때 사용합니다.
+     * @return 화면을 다시 그려야 하면 true
+     */
+    protected boolean onGameTick(int stepMillis) {
+        return false;
+    }
+    
+    private static boolean advanceShake(BlockShake shake, int stepMillis) {
+        if (shake == null || !shake.isShaking()) return false;
+        shake.advance(stepMillis);
+        return true;
+    }
+    
+    /**
+     * 블록 자동 낙하 (플레이어별 낙하 타이머 만료 시)
+     */
+    private boolean onFallTick(int player) {
+        GameStateManager gameStateManager = (player == 1) ? gameStateManager1 : gameStateManager2;
+        BlockManager blockManager = (player == 1) ? blockManager1 : blockManager2;
+        if (isGameOver || gameStateManager.isPaused() || !isAutoFallEnabled(player)) {
+            return false;
+        }
+        
+        autoFalling = true;
+        try {
+            moveBlockDown(player);
+        } finally {
+            autoFalling = false;
+        }
+        // 무게추 아이템 블록 업데이트 (아이템 모드일 때만)
+        if ("item".equals(gameMode)) {
+            boolean shouldGenerateNext = blockManager.updateWeightBlock();
+            if (shouldGenerateNext) {
+                // 무게추 블록이 사라졌으므로 다음 블록 생성
+                if (!blockManager.isGameOver()) {
+                    blockManager.generateNextBlock();
+                    System.out.println("Player " + player + " (fallTimer): Generated next block after WeightItemBlock disappeared");
                 }
             }
-        });
-        
-        // 점멸 효과 전용 타이머 (GameScene의 blinkTimer와 동일하게 50ms마다 실행)
-        blinkTimer = new Timer(BLINK_INTERVAL_MS, e -> {
-            if (!isGameOver) {
-                boolean needsRepaint = false;
-                
-                // 일시정지되지 않은 플레이어만 점멸 효과 업데이트
-                if (!gameStateManager1.isPaused()) {
-                    lineBlinkEffect1.update();
-                    // 아이템 모드에서 무게추 블록의 점멸 효과 및 소멸 처리
-                    if ("item".equals(gameMode)) {
-                        boolean shouldUpdateP1 = blockManager1.updateWeightBlock();
-                        if (shouldUpdateP1) {
-                            // 무게추 블록이 사라졌으므로 다음 블록 생성
-                            if (!blockManager1.isGameOver()) {
-                                blockManager1.generateNextBlock();
-                                System.out.println("Player 1: Generated next block after WeightItemBlock disappeared");
-                            }
-                            needsRepaint = true;
-                        }
+        }
+        return true;
+    }
+    
+    /**
+     * 점멸 효과 업데이트 (50ms마다)
+     */
+    private boolean onBlinkTick() {
+        if (isGameOver) return false;
+        
+        boolean needsRepaint = false;
+        
+        // 일시정지되지 않은 플레이어만 점멸 효과 업데이트
+        if (!gameStateManager1.isPaused()) {
+            lineBlinkEffect1.update();
+            // 아이템 모드에서 무게추 블록의 점멸 효과 및 소멸 처리
+            if ("item".equals(gameMode)) {
+                boolean shouldUpdateP1 = blockManager1.updateWeightBlock();
+                if (shouldUpdateP1) {
+                    // 무게추 블록이 사라졌으므로 다음 블록 생성
+                    if (!blockManager1.isGameOver()) {
+                        blockManager1.generateNextBlock();
+                        System.out.println("Player 1: Generated next block after WeightItemBlock disappeared");
                     }
+                    needsRepaint = true;
                 }
-                if (!gameStateManager2.isPaused()) {
-                    lineBlinkEffect2.update();
-                    // 아이템 모드에서 무게추 블록의 점멸 효과 및 소멸 처리
-                    if ("item".equals(gameMode)) {
-                        boolean shouldUpdateP2 = blockManager2.updateWeightBlock();
-                        if (shouldUpdateP2) {
-                            // 무게추 블록이 사라졌으므로 다음 블록 생성
-                            if (!blockManager2.isGameOver()) {
-                                blockManager2.generateNextBlock();
-                                System.out.println("Player 2: Generated next block after WeightItemBlock disappeared");
-                            }
-                            needsRepaint = true;
-                        }
+            }
+        }
+        if (!gameStateManager2.isPaused()) {
+            lineBlinkEffect2.update();
+            // 아이템 모드에서 무게추 블록의 점멸 효과 및 소멸 처리
+            if ("item".equals(gameMode)) {
+                boolean shouldUpdateP2 = blockManager2.updateWeightBlock();
+                if (shouldUpdateP2) {
+                    // 무게추 블록이 사라졌으므로 다음 블록 생성
+                    if (!blockManager2.isGameOver()) {
+                        blockManager2.generateNextBlock();
+                        System.out.println("Player 2: Generated next block after WeightItemBlock disappeared");
                     }
-                }
-                
-                // 청소 블링킹이 활성화되어 있으면 항상 화면 갱신 (점멸 애니메이션을 위해)
-                if (cleanupBlinkingActive1 || cleanupBlinkingActive2) {
                     needsRepaint = true;
                 }
-                
-                if (needsRepaint) {
-                    repaint();
-                }
             }
-        });
+        }
         
-        // 시간제한 모드일 때만 시간 타이머 설정
-        if ("time_limit".equals(gameMode)) {
-            remainingTimeSeconds = TIME_LIMIT_SECONDS;
-            timeLimitTimer = new Timer(1000, e -> { // 1초마다 실행
-                remainingTimeSeconds--;
-                repaint(); // UI 업데이트를 위해
-                
-                if (remainingTimeSeconds <= 0) {
-                    // 시간 종료 - 점수 비교하여 승자 결정
-                    timeLimitTimer.stop();
-                    checkTimeLimitGameEnd();
-                }
-            });
-            timeLimitTimer.start();
+        // 청소 블링킹이 활성화되어 있으면 항상 화면 갱신 (점멸 애니메이션을 위해)
+        if (cleanupBlinkingActive1 || cleanupBlinkingActive2) {
+            needsRepaint = true;
+        }
+        return needsRepaint;
+    }
+    
+    /**
+     * 시간제한 모드 남은 시간 감소 (1초마다)
+     */
+    private boolean onTimeLimitTick() {
+        remainingTimeSeconds--;
+        
+        if (remainingTimeSeconds <= 0) {
+            // 시간 종료 - 점수 비교하여 승자 결정
+            timeLimitTimer.stop();
+            checkTimeLimitGameEnd();
         }
+        return true; // UI 업데이트를 위해
     }
     
     /**
@@ -898,6 +956,76 @@ public class BattleScene extends Scene {
         }
     }
     
+    /**
+     * 플레이어 동작을 실행합니다 (입력 핸들러 없이 외부에서 동작을 재생할 때 사용).
+     * 일시정지/점멸 중 무시 규칙은 키 입력과 동일하게 적용됩니다.
+     */
+    protected void applyPlayerAction(int player, InputHandler.GameAction action) {
+        switch (action) {
+            case MOVE_LEFT: moveBlockLeft(player); break;
+            case MOVE_RIGHT: moveBlockRight(player); break;
+            case MOVE_DOWN: moveBlockDown(player); break;
+            case ROTATE: rotateBlock(player); break;
+            case HARD_DROP: hardDrop(player); break;
+            default: break;
+        }
+    }
+    
+    /**
+     * 블록 동작이 실제로 적용된 직후 호출됩니다 (자동 낙하 포함).
+     * 일시정지나 점멸 때문에 무시된 동작에는 호출되지 않습니다. (P2P 입력 동기화용)
+     */
+    protected void onPlayerActionApplied(int player, InputHandler.GameAction action) {
+        // 기본 대전 모드에서는 아무것도 하지 않음
+    }
+    
+    // ═══════════════════════════════════════════════════════════════
+    // 리플레이 녹화
+    // ═══════════════════════════════════════════════════════════════
+    
+    private long replayMillis() {
+        return ReplayRecorder.gameMillis(gameLoop);
+    }
+    
+    /**
+     * 적용되는 입력을 녹화합니다 (적용 중 게임이 끝날 수 있으므로 적용 전에 호출).
+     * @param player 1 또는 2
+     */
+    private void recordReplayAction(int player, InputHandler.GameAction action) {
+        if (replayRecorder != null) {
+            replayRecorder.recordAction(player - 1, action, replayMillis());
+        }
+    }
+    
+    /**
+     * 플레이어의 블록 시드가 바뀌었음을 녹화합니다 (P2P 시드 교환 후 호출).
+     * ReplayRecorder와 마찬가지로 EDT에서만 호출해야 합니다.
+     * @param player 1 또는 2
+     */
+    protected void recordReplaySeed(int player, long seed) {
+        replaySeeds[player - 1] = seed;
+        if (replayRecorder != null) {
+            replayRecorder.recordSeed(player - 1, seed, replayMillis());
+        }
+    }
+    
+    /**
+     * 최종 점수를 기록하고 녹화를 끝냅니다 (이미 끝났으면 무시).
+     */
+    private void finishReplay() {
+        if (replayRecorder == null) return;
+        replayRecorder.finish(replayMillis(),
+            new int[] { scoreManager1.getScore(), scoreManager2.getScore() },
+            new int[] { scoreManager1.getLinesCleared(), scoreManager2.getLinesCleared() });
+    }
+    
+    /**
+     * 해당 플레이어의 자동 낙하 타이머를 사용할지 여부 (원격 입력으로 진행하는 경우 false)
+     */
+    protected boolean isAutoFallEnabled(int player) {
+        return true;
+    }
+    
     /**
      * 블록을 왼쪽으로 이동 (GameScene의 moveBlockLeft와 동일)
      */
@@ -909,8 +1037,10 @@ public class BattleScene extends Scene {
         if (lineBlinkEffect.isActive()) return; // 점멸 중에는 조작 불가
         
         BlockManager blockMgr = (player == 1) ? blockManager1 : blockManager2;
+        recordReplayAction(player, InputHandler.GameAction.MOVE_LEFT);
         blockMgr.moveLeft();
-        repaint();
+        onPlayerActionApplied(player, InputHandler.GameAction.MOVE_LEFT);
+        repaintBoard(player);
     }
     
     /**
@@ -924,8 +1054,10 @@ public class BattleScene extends Scene {
         if (lineBlinkEffect.isActive()) return; // 점멸 중에는 조작 불가
         
         BlockManager blockMgr = (player == 1) ? blockManager1 : blockManager2;
+        recordReplayAction(player, InputHandler.GameAction.MOVE_RIGHT);
         blockMgr.moveRight();
-        repaint();
+        onPlayerActionApplied(player, InputHandler.GameAction.MOVE_RIGHT);
+        repaintBoard(player);
     }
     
     /**
@@ -940,8 +1072,10 @@ public class BattleScene extends Scene {
         
         BlockManager blockMgr = (player == 1) ? blockManager1 : blockManager2;
         if (blockMgr.getCurrentBlock() != null) {
+            recordReplayAction(player, InputHandler.GameAction.ROTATE);
             blockMgr.rotateBlock();
-            repaint();
+            onPlayerActionApplied(player, InputHandler.GameAction.ROTATE);
+            repaintBoard(player);
         }
     }
     
@@ -960,13 +1094,19 @@ public class BattleScene extends Scene {
         }
         
         BlockManager blockMgr = (player == 1) ? blockManager1 : blockManager2;
+        if (autoFalling) {
+            if (replayRecorder != null) replayRecorder.recordGravity(player - 1, replayMillis());
+        } else {
+            recordReplayAction(player, InputHandler.GameAction.MOVE_DOWN);
+        }
         boolean blockPlaced = blockMgr.moveDown();
         
         if (blockPlaced) {
             handleBlockPlaced(player);
         }
+        onPlayerActionApplied(player, InputHandler.GameAction.MOVE_DOWN);
         
-        repaint();
+        repaintBoard(player);
     }
     
     /**
@@ -998,7 +1138,7 @@ public class BattleScene extends Scene {
             }
         }
         
-        repaint();
+        repaintBoard(player);
     }
     
     /**
@@ -1011,13 +1151,15 @@ public class BattleScene extends Scene {
         BlockManager blockMgr = (player == 1) ? blockManager1 : blockManager2;
         
         // BlockManager의 executeHardDrop 사용 (GameScene과 동일)
+        recordReplayAction(player, InputHandler.GameAction.HARD_DROP);
         boolean blockPlaced = blockMgr.executeHardDrop();
         
         if (blockPlaced) {
             handleBlockPlaced(player);
         }
+        onPlayerActionApplied(player, InputHandler.GameAction.HARD_DROP);
         
-        repaint();
+        repaintBoard(player);
     }
     
     /**
@@ -1057,7 +1199,7 @@ public class BattleScene extends Scene {
         // 보드 상태 출력 (디버그용)
         boardMgr.printBoard();
         
-        repaint();
+        repaintBoard(player);
     }
     
     /**
@@ -1070,6 +1212,8 @@ public class BattleScene extends Scene {
             fallTimer2.stop();
             if (blinkTimer != null) blinkTimer.stop(); // 점멸 효과 타이머 정지
             if (timeLimitTimer != null) timeLimitTimer.stop(); // 시간제한 타이머 정지
+            gameLoop.stop();
+            finishReplay();
             
             // 양쪽 모두 게임 오버 상태로 설정
             if (!gameStateManager1.isGameOver()) {
@@ -1118,6 +1262,8 @@ public class BattleScene extends Scene {
             fallTimer2.stop();
             if (blinkTimer != null) blinkTimer.stop();
             if (timeLimitTimer != null) timeLimitTimer.stop();
+            gameLoop.stop();
+            finishReplay();
             
             // 양쪽 모두 게임 오버 상태로 설정
             if (!gameStateManager1.isGameOver()) {
@@ -1341,6 +1487,8 @@ public class BattleScene extends Scene {
         if (blinkTimer != null) {
             blinkTimer.stop();
         }
+        gameLoop.stop();
+        finishReplay();
         
         // 메인 메뉴 Scene으로 전환
         SwingUtilities.invokeLater(() -> {
@@ -1378,6 +1526,22 @@ public class BattleScene extends Scene {
         add(center, BorderLayout.CENTER);
     }
 
+    /**
+     * 창 크기에 맞는 배틀 모드 셀 크기를 계산합니다.
+     * 두 보드가 좌우로 배치되므로 너비를 절반으로 나눠 계산합니다.
+     */
+    static int calculateCellSize(int frameWidth, int frameHeight) {
+        // 배틀 모드: 두 보드가 좌우로 배치되므로 너비를 절반으로 나눔
+        int availableWidth = (frameWidth - 200) / 2; // 간격과 여백을 더 크게 고려 (150 -> 200)
+        int availableHeight = frameHeight - 150; // 상하 여백을 더 크게 고려 (100 -> 150)
+        
+        // 셀 크기 계산 (보드 크기 + 미리보기 영역 + 공격 블록 표시 영역 + 텍스트 영역 고려)
+        int cellSizeByHeight = availableHeight / (GAME_HEIGHT + 4); // 높이 여백 증가 (2 -> 4)
+        int cellSizeByWidth = availableWidth / (GAME_WIDTH + 2 + PREVIEW_SIZE + 6); // 너비 여백 증가 (4 -> 6)
+        int cellSize = Math.min(cellSizeByHeight, cellSizeByWidth);
+        return Math.max(12, Math.min(cellSize, 30)); // 크기 범위 조정 (15~35 -> 12~30)
+    }
+
     private JPanel createBoardPanel(BoardManager boardMgr, BlockManager blockMgr, 
                                      ScoreManager scoreMgr, RenderManager renderMgr,
                                      tetris.scene.game.core.UIManager uiMgr, 
@@ -1396,20 +1560,14 @@ public class BattleScene extends Scene {
 
         // 게임 패널 생성 (RenderManager 사용)
         GameBoardPanel gamePanel = new GameBoardPanel(boardMgr, blockMgr, scoreMgr, lineBlinkEffect, playerNum);
+        if (playerNum == 1) {
+            gamePanel1 = gamePanel;
+        } else {
+            gamePanel2 = gamePanel;
+        }
         
         // 화면 크기에 따라 동적으로 셀 크기 계산
-        int frameHeight = m_frame.getHeight();
-        int frameWidth = m_frame.getWidth();
-        
-        // 배틀 모드: 두 보드가 좌우로 배치되므로 너비를 절반으로 나눔
-        int availableWidth = (frameWidth - 200) / 2; // 간격과 여백을 더 크게 고려 (150 -> 200)
-        int availableHeight = frameHeight - 150; // 상하 여백을 더 크게 고려 (100 -> 150)
-        
-        // 셀 크기 계산 (보드 크기 + 미리보기 영역 + 공격 블록 표시 영역 + 텍스트 영역 고려)
-        int cellSizeByHeight = availableHeight / (GAME_HEIGHT + 4); // 높이 여백 증가 (2 -> 4)
-        int cellSizeByWidth = availableWidth / (GAME_WIDTH + 2 + PREVIEW_SIZE + 6); // 너비 여백 증가 (4 -> 6)
-        int cellSize = Math.min(cellSizeByHeight, cellSizeByWidth);
-        cellSize = Math.max(12, Math.min(cellSize, 30)); // 크기 범위 조정 (15~35 -> 12~30)
+        int cellSize = calculateCellSize(m_frame.getWidth(), m_frame.getHeight());
         
         int previewCellSize = cellSize * 2 / 3; // 셀 크기의 2/3
         
@@ -1481,15 +1639,73 @@ public class BattleScene extends Scene {
         }
     }
 
+    /**
+     * 양쪽 보드에서 바뀐 영역만 다시 그립니다 (게임 루프 프레임 콜백).
+     */
+    private void repaintBoards() {
+        repaintBoard(1);
+        repaintBoard(2);
+    }
+    
+    /**
+     * 해당 플레이어 보드에서 바뀐 영역만 다시 그립니다.
+     */
+    private void repaintBoard(int player) {
+        GameBoardPanel panel = (player == 1) ? gamePanel1 : gamePanel2;
+        if (panel == null) {
+            repaint();
+            return;
+        }
+        panel.repaintDirtyRegion();
+    }
+    
     private class GameBoardPanel extends JPanel {
         private final int playerNum;
         private final LineBlinkEffect lineBlinkEffect;
+        
+        // 셀 단위로 추적하지 않는 보드 밖 표시의 마지막 상태 (바뀌면 전체를 다시 그림)
+        private int lastAttackCount = -1;
+        private int lastRemainingTime = -1;
+        private boolean lastPaused = false;
 
         public GameBoardPanel(BoardManager boardMgr, BlockManager blockMgr, 
                               ScoreManager scoreMgr, LineBlinkEffect lineBlinkEffect, int playerNum) {
             this.playerNum = playerNum;
             this.lineBlinkEffect = lineBlinkEffect;
         }
+        
+        /**
+         * 바뀐 영역만 다시 그립니다 (GameScene.repaintDirtyRegion과 같은 규칙).
+         * 줄 삭제/청소 점멸이나 블록 흔들림이 진행 중이거나, 공격 대기 블록, 남은 시간, 일시정지 상태가
+         * 바뀌었으면 패널 전체를 다시 그립니다.
+         */
+        void repaintDirtyRegion() {
+            RenderManager renderMgr = (playerNum == 1) ? renderManager1 : renderManager2;
+            if (renderMgr == null) {
+                repaint();
+                return;
+            }
+            
+            Rectangle dirty = renderMgr.collectDirtyRegion();
+            BlockManager blockMgr = (playerNum == 1) ? blockManager1 : blockManager2;
+            boolean cleanupActive = (playerNum == 1) ? cleanupBlinkingActive1 : cleanupBlinkingActive2;
+            boolean animating = cleanupActive || lineBlinkEffect.isActive()
+                || (blockMgr.getBlockShake() != null && blockMgr.getBlockShake().isShaking());
+            
+            int attackCount = ((playerNum == 1) ? attackQueue1 : attackQueue2).size();
+            boolean paused = gameStateManager1.isPaused() || gameStateManager2.isPaused();
+            boolean overlayChanged = attackCount != lastAttackCount
+                || remainingTimeSeconds != lastRemainingTime || paused != lastPaused;
+            lastAttackCount = attackCount;
+            lastRemainingTime = remainingTimeSeconds;
+            lastPaused = paused;
+            
+            if (dirty == null || animating || overlayChanged) {
+                repaint();
+            } else if (!dirty.isEmpty()) {
+                repaint(dirty);
+            }
+        }
 
         @Override
         protected void paintComponent(Graphics g) {
@@ -1534,207 +1750,214 @@ public class BattleScene extends Scene {
                 }
             }
             
-            // 시간제한 모드일 때 시간 표시 (별도 변수명 사용하여 겹침 방지)
-            int timeLimitBoardY = 0, timeLimitBoardHeight = 0; // 시간제한 표시 위치 저장용
-            if ("time_limit".equals(gameMode)) {
-                int cellSize = renderMgr.getCellSize();
-                int previewCellSize = renderMgr.getPreviewCellSize();
-                int previewX = (GAME_WIDTH + 2) * cellSize + 20;
-                int previewY = cellSize + 20;
-                int previewAreaSize = PREVIEW_SIZE * previewCellSize;
-                // RenderManager와 동일한 위치/크기 사용
-                int scoreBoardY = previewY + previewAreaSize + 10; // RenderManager와 동일 (10px 간격)
-                int scoreBoardHeight = 120; // RenderManager와 동일 (120px 높이)
-                timeLimitBoardY = scoreBoardY + scoreBoardHeight + 10; // TIME LIMIT 패널 Y 위치 (10px 간격)
-                timeLimitBoardHeight = 30; // 시간제한 표시 높이 저장
-                int timeBoardWidth = PREVIEW_SIZE * previewCellSize;
-                
-                // 기존 시간 보드 영역을 배경색으로 지우기
-                g2.setColor(new Color(40, 40, 40)); // 배경색
-                g2.fillRect(previewX, timeLimitBoardY, timeBoardWidth, timeLimitBoardHeight);
-                
-                // 시간제한 보드 테두리 그리기
-                g2.setColor(new Color(100, 100, 100));
-                g2.setStroke(new BasicStroke(2));
-                g2.drawRect(previewX, timeLimitBoardY, timeBoardWidth, timeLimitBoardHeight);
-                
-                // TIME LIMIT 라벨
-                g2.setColor(Color.WHITE);
-                g2.setFont(new Font("Arial", Font.BOLD, 10)); // 폰트 크기 줄임 (12 -> 10)
-                FontMetrics fm = g2.getFontMetrics();
-                String timeLabel = "TIME LIMIT";
-                int labelWidth = fm.stringWidth(timeLabel);
-                g2.drawString(timeLabel, previewX + (timeBoardWidth - labelWidth) / 2, timeLimitBoardY + 15); // 위치 조정 (20 -> 15)
-                
-                // 남은 시간 표시
-                int minutes = remainingTimeSeconds / 60;
-                int seconds = remainingTimeSeconds % 60;
-                String timeText = String.format("%02d:%02d", minutes, seconds);
-                
-                // 시간이 30초 이하일 때 빨간색으로 표시
-                if (remainingTimeSeconds <= 30) {
-                    g2.setColor(Color.RED);
-                } else {
-                    g2.setColor(Color.WHITE);
-                }
-                
-                g2.setFont(new Font("Arial", Font.BOLD, 14)); // 폰트 크기 줄임 (16 -> 14)
-                fm = g2.getFontMetrics();
-                int timeWidth = fm.stringWidth(timeText);
-                g2.drawString(timeText, previewX + (timeBoardWidth - timeWidth) / 2, timeLimitBoardY + 25); // 위치 조정하고 변수명 수정
-            }
-            
-            // 1P/2P 표시 추가 (타이머 아래)
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2.setColor(Color.WHITE);
-            g2.setFont(new Font("Arial", Font.BOLD, 16));
-            String playerText = (playerNum == 1) ? "1P" : "2P";
+            // 시간제한 표시, 1P/2P 라벨, 공격 대기 블록, 시야 제한 효과
+            boolean visionBlockActive = (playerNum == 1) ? visionBlockActive1 : visionBlockActive2;
+            paintBoardOverlay(g2, renderMgr, playerNum, gameMode, remainingTimeSeconds,
+                              m_frame.getWidth(), m_frame.getHeight(),
+                              (playerNum == 1) ? attackQueue1 : attackQueue2, visionBlockActive);
             
-            // RenderManager와 정확히 동일한 위치 계산 사용
+            g2.dispose();
+        }
+    }
+    
+    /**
+     * 게임 보드 패널에서 RenderManager가 그린 화면 위에 배틀 전용 요소를 그립니다.
+     * (시간제한 표시, 1P/2P 라벨, 공격 대기 블록, 시야 제한 효과)
+     * 씬 없이도 호출할 수 있도록 필요한 상태를 모두 인자로 받습니다. (렌더링 벤치마크에서 사용)
+     */
+    static void paintBoardOverlay(Graphics2D g2, RenderManager renderMgr, int playerNum, String gameMode,
+                                  int remainingTimeSeconds, int frameWidth, int frameHeight,
+                                  Stack<AttackBlock> attackQueue, boolean visionBlockActive) {
+        // 시간제한 모드일 때 시간 표시 (별도 변수명 사용하여 겹침 방지)
+        int timeLimitBoardY = 0, timeLimitBoardHeight = 0; // 시간제한 표시 위치 저장용
+        if ("time_limit".equals(gameMode)) {
             int cellSize = renderMgr.getCellSize();
             int previewCellSize = renderMgr.getPreviewCellSize();
             int previewX = (GAME_WIDTH + 2) * cellSize + 20;
             int previewY = cellSize + 20;
             int previewAreaSize = PREVIEW_SIZE * previewCellSize;
-            
-            // RenderManager의 renderScoreBoard()와 동일한 계산
-            int scoreBoardY = previewY + previewAreaSize + 30; // RenderManager와 동일 (30px 간격)
+            // RenderManager와 동일한 위치/크기 사용
+            int scoreBoardY = previewY + previewAreaSize + 10; // RenderManager와 동일 (10px 간격)
             int scoreBoardHeight = 120; // RenderManager와 동일 (120px 높이)
-            int timeBoardY = scoreBoardY + scoreBoardHeight + 10; // RenderManager와 동일 (10px 간격) 
-            int timeBoardHeight = 50; // RenderManager와 동일 (50px 높이)
+            timeLimitBoardY = scoreBoardY + scoreBoardHeight + 10; // TIME LIMIT 패널 Y 위치 (10px 간격)
+            timeLimitBoardHeight = 30; // 시간제한 표시 높이 저장
+            int timeBoardWidth = PREVIEW_SIZE * previewCellSize;
             
-            // 1P/2P 라벨은 아래에서 올바른 위치에 그려집니다
-            int labelX = previewX;
+            // 기존 시간 보드 영역을 배경색으로 지우기
+            g2.setColor(new Color(40, 40, 40)); // 배경색
+            g2.fillRect(previewX, timeLimitBoardY, timeBoardWidth, timeLimitBoardHeight);
             
-            // ═══════════════════════════════════════════════════════════════
-            // 공격 대기 블록 표시 영역 위치 계산 (해상도별 조건부 배치)
-            // ═══════════════════════════════════════════════════════════════
-            int frameHeight = m_frame.getHeight();
-            int frameWidth = m_frame.getWidth();
-            // 작은 화면 판단: 높이 ≤ 600 또는 너비 ≤ 1024 (1024x768 등 포함)
-            boolean isSmallScreen = frameHeight <= 600 || frameWidth <= 1024;
-            System.out.println("DEBUG: Frame size = " + frameWidth + "x" + frameHeight + ", isSmallScreen = " + isSmallScreen);
+            // 시간제한 보드 테두리 그리기
+            g2.setColor(new Color(100, 100, 100));
+            g2.setStroke(new BasicStroke(2));
+            g2.drawRect(previewX, timeLimitBoardY, timeBoardWidth, timeLimitBoardHeight);
             
-            // 화면 높이의 1/4로 동적 크기 계산 (작은 화면에서는 더 컴팩트하게)
-            int dynamicAttackBoardHeight;
-            if (isSmallScreen) {
-                // 작은 화면: 높이를 더 작게 설정 (frameHeight / 5 또는 최소 120px)
-                dynamicAttackBoardHeight = Math.max(120, frameHeight / 5);
-            } else {
-                dynamicAttackBoardHeight = frameHeight / 4;
-            }
-            // 화면별 최소/최대 크기 제한
-            if (isSmallScreen) {
-                // 작은 화면: 120px~200px 범위
-                dynamicAttackBoardHeight = Math.max(dynamicAttackBoardHeight, 120);
-                dynamicAttackBoardHeight = Math.min(dynamicAttackBoardHeight, 200);
-            } else {
-                // 큰 화면: 180px~300px 범위 (기존 방식)
-                dynamicAttackBoardHeight = Math.max(dynamicAttackBoardHeight, 180);
-                dynamicAttackBoardHeight = Math.min(dynamicAttackBoardHeight, 300);
-            }
+            // TIME LIMIT 라벨
+            g2.setColor(Color.WHITE);
+            g2.setFont(new Font("Arial", Font.BOLD, 10)); // 폰트 크기 줄임 (12 -> 10)
+            FontMetrics fm = g2.getFontMetrics();
+            String timeLabel = "TIME LIMIT";
+            int labelWidth = fm.stringWidth(timeLabel);
+            g2.drawString(timeLabel, previewX + (timeBoardWidth - labelWidth) / 2, timeLimitBoardY + 15); // 위치 조정 (20 -> 15)
             
-            int attackBoardX, attackBoardY, attackBoardWidth, attackBoardHeight;
-            int playerLabelX, playerLabelY;
+            // 남은 시간 표시
+            int minutes = remainingTimeSeconds / 60;
+            int seconds = remainingTimeSeconds % 60;
+            String timeText = String.format("%02d:%02d", minutes, seconds);
             
-            if (isSmallScreen) {
-                // 작은 화면: 공격 블록 표시를 오른쪽 위로 이동, 가로 크기도 넉넉하게
-                attackBoardWidth = Math.max(80, 2 * previewCellSize + 60); // 10개 블록에 충분한 크기
-                attackBoardHeight = dynamicAttackBoardHeight;
-                System.out.println("DEBUG: Small screen - attackBoardWidth=" + attackBoardWidth + ", attackBoardHeight=" + attackBoardHeight);
-                
-                // 미리보기 영역 옆쪽(오른쪽)에 배치
-                attackBoardX = previewX + previewAreaSize + 10; // 미리보기 오른쪽으로
-                attackBoardY = previewY; // 미리보기와 같은 높이에서 시작
-                
-                // 1P/2P 라벨도 공격 블록 영역 위쪽에 배치
-                playerLabelX = attackBoardX;
-                playerLabelY = attackBoardY - 5;
-                
+            // 시간이 30초 이하일 때 빨간색으로 표시
+            if (remainingTimeSeconds <= 30) {
+                g2.setColor(Color.RED);
             } else {
-                // 큰 화면: 기존 방식대로 아래쪽에 배치
-                int finalTimeBoardY, finalTimeBoardHeight;
-                
-                if ("time_limit".equals(gameMode)) {
-                    // 시간제한 모드: 시간제한 표시가 실제로 그려진 위치 사용
-                    finalTimeBoardY = timeLimitBoardY;
-                    finalTimeBoardHeight = timeLimitBoardHeight;
-                } else {
-                    // 일반 모드: RenderManager에서 그려진 기본 타임보드 위치 사용
-                    finalTimeBoardY = timeBoardY;
-                    finalTimeBoardHeight = timeBoardHeight;
-                }
-                
-                // 실제 타임보드 끝 지점에서 시작하여 공격 블록 영역 배치
-                playerLabelY = finalTimeBoardY + finalTimeBoardHeight + 20;
-                playerLabelX = labelX;
-                
-                attackBoardX = previewX - 10;
-                attackBoardY = playerLabelY + 15;
-                attackBoardWidth = Math.max(140, PREVIEW_SIZE * previewCellSize + 80); // 큰 화면에서도 넉넉하게
-                attackBoardHeight = dynamicAttackBoardHeight; // 동적 높이 사용
-                System.out.println("DEBUG: Large screen - attackBoardWidth=" + attackBoardWidth + ", attackBoardHeight=" + attackBoardHeight);
+                g2.setColor(Color.WHITE);
             }
             
-            // 1P/2P 라벨 그리기
-            g2.drawString(playerText, playerLabelX, playerLabelY);
+            g2.setFont(new Font("Arial", Font.BOLD, 14)); // 폰트 크기 줄임 (16 -> 14)
+            fm = g2.getFontMetrics();
+            int timeWidth = fm.stringWidth(timeText);
+            g2.drawString(timeText, previewX + (timeBoardWidth - timeWidth) / 2, timeLimitBoardY + 25); // 위치 조정하고 변수명 수정
+        }
+        
+        // 1P/2P 표시 추가 (타이머 아래)
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(Color.WHITE);
+        g2.setFont(new Font("Arial", Font.BOLD, 16));
+        String playerText = (playerNum == 1) ? "1P" : "2P";
+        
+        // RenderManager와 정확히 동일한 위치 계산 사용
+        int cellSize = renderMgr.getCellSize();
+        int previewCellSize = renderMgr.getPreviewCellSize();
+        int previewX = (GAME_WIDTH + 2) * cellSize + 20;
+        int previewY = cellSize + 20;
+        int previewAreaSize = PREVIEW_SIZE * previewCellSize;
+        
+        // RenderManager의 renderScoreBoard()와 동일한 계산
+        int scoreBoardY = previewY + previewAreaSize + 30; // RenderManager와 동일 (30px 간격)
+        int scoreBoardHeight = 120; // RenderManager와 동일 (120px 높이)
+        int timeBoardY = scoreBoardY + scoreBoardHeight + 10; // RenderManager와 동일 (10px 간격) 
+        int timeBoardHeight = 50; // RenderManager와 동일 (50px 높이)
+        
+        // 1P/2P 라벨은 아래에서 올바른 위치에 그려집니다
+        int labelX = previewX;
+        
+        // ═══════════════════════════════════════════════════════════════
+        // 공격 대기 블록 표시 영역 위치 계산 (해상도별 조건부 배치)
+        // ═══════════════════════════════════════════════════════════════
+        // 작은 화면 판단: 높이 ≤ 600 또는 너비 ≤ 1024 (1024x768 등 포함)
+        boolean isSmallScreen = frameHeight <= 600 || frameWidth <= 1024;
+        System.out.println("DEBUG: Frame size = " + frameWidth + "x" + frameHeight + ", isSmallScreen = " + isSmallScreen);
+        
+        // 화면 높이의 1/4로 동적 크기 계산 (작은 화면에서는 더 컴팩트하게)
+        int dynamicAttackBoardHeight;
+        if (isSmallScreen) {
+            // 작은 화면: 높이를 더 작게 설정 (frameHeight / 5 또는 최소 120px)
+            dynamicAttackBoardHeight = Math.max(120, frameHeight / 5);
+        } else {
+            dynamicAttackBoardHeight = frameHeight / 4;
+        }
+        // 화면별 최소/최대 크기 제한
+        if (isSmallScreen) {
+            // 작은 화면: 120px~200px 범위
+            dynamicAttackBoardHeight = Math.max(dynamicAttackBoardHeight, 120);
+            dynamicAttackBoardHeight = Math.min(dynamicAttackBoardHeight, 200);
+        } else {
+            // 큰 화면: 180px~300px 범위 (기존 방식)
+            dynamicAttackBoardHeight = Math.max(dynamicAttackBoardHeight, 180);
+            dynamicAttackBoardHeight = Math.min(dynamicAttackBoardHeight, 300);
+        }
+        
+        int attackBoardX, attackBoardY, attackBoardWidth, attackBoardHeight;
+        int playerLabelX, playerLabelY;
+        
+        if (isSmallScreen) {
+            // 작은 화면: 공격 블록 표시를 오른쪽 위로 이동, 가로 크기도 넉넉하게
+            attackBoardWidth = Math.max(80, 2 * previewCellSize + 60); // 10개 블록에 충분한 크기
+            attackBoardHeight = dynamicAttackBoardHeight;
+            System.out.println("DEBUG: Small screen - attackBoardWidth=" + attackBoardWidth + ", attackBoardHeight=" + attackBoardHeight);
             
-            // 공격 대기 블록 프레임 그리기
-            g2.setColor(new Color(60, 60, 60)); // 어두운 회색 배경
-            g2.fillRect(attackBoardX, attackBoardY, attackBoardWidth, attackBoardHeight);
+            // 미리보기 영역 옆쪽(오른쪽)에 배치
+            attackBoardX = previewX + previewAreaSize + 10; // 미리보기 오른쪽으로
+            attackBoardY = previewY; // 미리보기와 같은 높이에서 시작
             
-            // 프레임 테두리
-            g2.setColor(new Color(100, 100, 100));
-            g2.setStroke(new BasicStroke(2));
-            g2.drawRect(attackBoardX, attackBoardY, attackBoardWidth, attackBoardHeight);
+            // 1P/2P 라벨도 공격 블록 영역 위쪽에 배치
+            playerLabelX = attackBoardX;
+            playerLabelY = attackBoardY - 5;
             
-            // 공격 블록 스택 내용 표시
-            Stack<AttackBlock> currentStack = (playerNum == 1) ? attackQueue1 : attackQueue2;
-            drawAttackQueue(g2, currentStack, attackBoardX + 5, attackBoardY + 10, previewCellSize, attackBoardWidth, attackBoardHeight);
+        } else {
+            // 큰 화면: 기존 방식대로 아래쪽에 배치
+            int finalTimeBoardY, finalTimeBoardHeight;
             
-            // 시야 제한 효과 렌더링 (일반모드와 동일한 효과 적용)
-            if ((playerNum == 1 && visionBlockActive1) || (playerNum == 2 && visionBlockActive2)) {
-                renderVisionBlockEffect(g2);
+            if ("time_limit".equals(gameMode)) {
+                // 시간제한 모드: 시간제한 표시가 실제로 그려진 위치 사용
+                finalTimeBoardY = timeLimitBoardY;
+                finalTimeBoardHeight = timeLimitBoardHeight;
+            } else {
+                // 일반 모드: RenderManager에서 그려진 기본 타임보드 위치 사용
+                finalTimeBoardY = timeBoardY;
+                finalTimeBoardHeight = timeBoardHeight;
             }
             
-            g2.dispose();
+            // 실제 타임보드 끝 지점에서 시작하여 공격 블록 영역 배치
+            playerLabelY = finalTimeBoardY + finalTimeBoardHeight + 20;
+            playerLabelX = labelX;
+            
+            attackBoardX = previewX - 10;
+            attackBoardY = playerLabelY + 15;
+            attackBoardWidth = Math.max(140, PREVIEW_SIZE * previewCellSize + 80); // 큰 화면에서도 넉넉하게
+            attackBoardHeight = dynamicAttackBoardHeight; // 동적 높이 사용
+            System.out.println("DEBUG: Large screen - attackBoardWidth=" + attackBoardWidth + ", attackBoardHeight=" + attackBoardHeight);
         }
         
-        /**
-         * 일반모드와 동일한 시야 차단 효과를 렌더링합니다.
-         * 게임 보드의 중앙 4x20 영역을 완전 불투명한 검정색으로 가립니다.
-         */
-        private void renderVisionBlockEffect(Graphics2D g2) {
-            RenderManager renderMgr = (playerNum == 1) ? renderManager1 : renderManager2;
-            if (renderMgr == null) return;
-            
-            int cellSize = renderMgr.getCellSize();
-            
-            // 게임 보드 중앙 영역 계산 (일반모드와 동일)
-            int boardStartX = cellSize;  // 보드 시작 X 위치 (경계 고려)
-            int boardStartY = cellSize;  // 보드 시작 Y 위치 (경계 고려)
-            
-            // 중앙 4x20 영역을 가림 (10x20 보드의 중간 부분)
-            int coverWidth = 4 * cellSize;   // 4블록 너비
-            int coverHeight = 20 * cellSize;  // 20블록 높이 (전체 높이)
-            int coverX = boardStartX + 3 * cellSize;  // 좌측에서 3블록 떨어진 위치 (중앙)
-            int coverY = boardStartY;  // 상단부터 시작
-            
-            // 완전 불투명 검정 오버레이로 시야 차단 (일반모드와 동일)
-            g2.setColor(new Color(0, 0, 0, 255)); // 완전 불투명 검정
-            g2.fillRect(coverX, coverY, coverWidth, coverHeight);
-            
-            // 시야 차단 효과 경계선 (일반모드와 동일)
-            g2.setColor(new Color(255, 0, 0, 100)); // 반투명 빨강 경계선
-            g2.setStroke(new BasicStroke(2));
-            g2.drawRect(coverX, coverY, coverWidth, coverHeight);
+        // 1P/2P 라벨 그리기
+        g2.drawString(playerText, playerLabelX, playerLabelY);
+        
+        // 공격 대기 블록 프레임 그리기
+        g2.setColor(new Color(60, 60, 60)); // 어두운 회색 배경
+        g2.fillRect(attackBoardX, attackBoardY, attackBoardWidth, attackBoardHeight);
+        
+        // 프레임 테두리
+        g2.setColor(new Color(100, 100, 100));
+        g2.setStroke(new BasicStroke(2));
+        g2.drawRect(attackBoardX, attackBoardY, attackBoardWidth, attackBoardHeight);
+        
+        // 공격 블록 스택 내용 표시
+        drawAttackQueue(g2, attackQueue, attackBoardX + 5, attackBoardY + 10, previewCellSize, attackBoardWidth, attackBoardHeight);
+        
+        // 시야 제한 효과 렌더링 (일반모드와 동일한 효과 적용)
+        if (visionBlockActive) {
+            renderVisionBlockEffect(g2, cellSize);
         }
     }
+
+    /**
+     * 일반모드와 동일한 시야 차단 효과를 렌더링합니다.
+     * 게임 보드의 중앙 4x20 영역을 완전 불투명한 검정색으로 가립니다.
+     */
+    private static void renderVisionBlockEffect(Graphics2D g2, int cellSize) {
+        // 게임 보드 중앙 영역 계산 (일반모드와 동일)
+        int boardStartX = cellSize;  // 보드 시작 X 위치 (경계 고려)
+        int boardStartY = cellSize;  // 보드 시작 Y 위치 (경계 고려)
+        
+        // 중앙 4x20 영역을 가림 (10x20 보드의 중간 부분)
+        int coverWidth = 4 * cellSize;   // 4블록 너비
+        int coverHeight = 20 * cellSize;  // 20블록 높이 (전체 높이)
+        int coverX = boardStartX + 3 * cellSize;  // 좌측에서 3블록 떨어진 위치 (중앙)
+        int coverY = boardStartY;  // 상단부터 시작
+        
+        // 완전 불투명 검정 오버레이로 시야 차단 (일반모드와 동일)
+        g2.setColor(new Color(0, 0, 0, 255)); // 완전 불투명 검정
+        g2.fillRect(coverX, coverY, coverWidth, coverHeight);
+        
+        // 시야 차단 효과 경계선 (일반모드와 동일)
+        g2.setColor(new Color(255, 0, 0, 100)); // 반투명 빨강 경계선
+        g2.setStroke(new BasicStroke(2));
+        g2.drawRect(coverX, coverY, coverWidth, coverHeight);
+    }
     
     /**
      * 공격 블록 스택의 내용을 그립니다
      */
-    private void drawAttackQueue(Graphics2D g2, Stack<AttackBlock> stack, int startX, int startY, int cellSize, int maxWidth, int maxHeight) {
+    private static void drawAttackQueue(Graphics2D g2, Stack<AttackBlock> stack, int startX, int startY, int cellSize, int maxWidth, int maxHeight) {
         // 사각형 영역 내에서만 그리도록 클리핑 설정
         Shape originalClip = g2.getClip();
         g2.setClip(startX, startY, maxWidth - 10, maxHeight - 20);
@@ -1802,6 +2025,12 @@ public class BattleScene extends Scene {
         if (fallTimer1 != null) fallTimer1.start();
         if (fallTimer2 != null) fallTimer2.start();
         if (blinkTimer != null) blinkTimer.start(); // 점멸 효과 타이머 시작
+        gameLoop.start();
+        
+        // 리플레이 녹화 시작
+        if (replayRecorder == null) {
+            replayRecorder = ReplayRecorder.start(gameMode, GameSettings.getInstance().getDifficulty(), replaySeeds[0], replaySeeds[1]);
+        }
         
         revalidate();
         repaint();
@@ -1829,6 +2058,8 @@ public class BattleScene extends Scene {
         if (fallTimer1 != null) fallTimer1.stop();
         if (fallTimer2 != null) fallTimer2.stop();
         if (blinkTimer != null) blinkTimer.stop(); // 점멸 효과 타이머 정지
+        gameLoop.stop();
+        finishReplay();
     }
     
     /**
@@ -1983,9 +2214,18 @@ public class BattleScene extends Scene {
     
     // ========== 상대방 아이템 효과 처리 메서드들 ==========
     
+    /**
+     * 아이템 효과는 상대 플레이어에게 적용됩니다 (P2PBattleScene 포함).
+     */
+    @Override
+    public boolean isBattleMode() {
+        return true;
+    }
+    
     /**
      * 상대방에게 낙하속도 증가 효과 적용
      */
+    @Override
     public void applySpeedUpToOpponent(int sourcePlayer) {
         System.out.println("🚀 applySpeedUpToOpponent called by Player " + sourcePlayer);
         
@@ -2003,8 +2243,8 @@ public class BattleScene extends Scene {
             System.out.println("🚀 Player 2가 Player 1에게 낙하속도 증가 적용!");
         }
         
-        // 5초 후 원래 속도로 복구
-        Timer restoreTimer = new Timer(5000, e -> {
+        // 5초 후 원래 속도로 복구 (게임 시간 기준)
+        gameLoop.schedule(5000, () -> {
             GameSettings.Difficulty difficulty = GameSettings.getInstance().getDifficulty();
             int normalSpeed = getInitialDelay(difficulty);
             if (sourcePlayer == 1) {
@@ -2019,13 +2259,12 @@ public class BattleScene extends Scene {
                 System.out.println("🔄 Player 1 속도 복구 완료");
             }
         });
-        restoreTimer.setRepeats(false);
-        restoreTimer.start();
     }
     
     /**
      * 상대방에게 낙하속도 감소 효과 적용
      */
+    @Override
     public void applySpeedDownToOpponent(int sourcePlayer) {
         System.out.println("🐌 applySpeedDownToOpponent called by Player " + sourcePlayer);
         
@@ -2043,8 +2282,8 @@ public class BattleScene extends Scene {
             System.out.println("🐌 Player 2가 Player 1에게 낙하속도 감소 적용!");
         }
         
-        // 5초 후 원래 속도로 복구
-        Timer restoreTimer = new Timer(5000, e -> {
+        // 5초 후 원래 속도로 복구 (게임 시간 기준)
+        gameLoop.schedule(5000, () -> {
             GameSettings.Difficulty difficulty = GameSettings.getInstance().getDifficulty();
             int normalSpeed = getInitialDelay(difficulty);
             if (sourcePlayer == 1) {
@@ -2059,13 +2298,12 @@ public class BattleScene extends Scene {
                 System.out.println("🔄 Player 1 속도 복구 완료");
             }
         });
-        restoreTimer.setRepeats(false);
-        restoreTimer.start();
     }
     
     /**
      * 상대방에게 시야제한 효과 적용
      */
+    @Override
     public void applyVisionBlockToOpponent(int sourcePlayer) {
         System.out.println("👁️ applyVisionBlockToOpponent called by Player " + sourcePlayer);
         
@@ -2077,8 +2315,8 @@ public class BattleScene extends Scene {
             System.out.println("👁️ Player 2가 Player 1에게 시야제한 적용!");
         }
         
-        // 3초 후 시야제한 해제
-        Timer restoreTimer = new Timer(3000, e -> {
+        // 3초 후 시야제한 해제 (게임 시간 기준)
+        gameLoop.schedule(3000, () -> {
             if (sourcePlayer == 1) {
                 setVisionBlockActive2(false);
                 System.out.println("🔄 Player 2 시야제한 해제!");
@@ -2088,8 +2326,6 @@ public class BattleScene extends Scene {
             }
             repaint();
         });
-        restoreTimer.setRepeats(false);
-        restoreTimer.start();
         repaint();
     }
     
@@ -2151,6 +2387,38 @@ public class BattleScene extends Scene {
         System.out.println("🚫 Player 2 cleanup blinking stopped");
     }
     
+    /**
+     * 아이템을 사용한 플레이어 보드의 청소 블링킹을 시작합니다 (플레이어 구분이 없으면 Player 1).
+     */
+    @Override
+    public void startCleanupBlinking(int playerNumber, java.util.Set<java.awt.Point> cells) {
+        if (playerNumber == 2) {
+            startCleanupBlinking2(cells);
+        } else {
+            startCleanupBlinking1(cells);
+        }
+    }
+    
+    /**
+     * 아이템 효과의 지연 작업을 게임 루프에 예약합니다 (일시정지 중에는 시간이 흐르지 않음).
+     */
+    @Override
+    public void schedule(int delayMillis, Runnable task) {
+        gameLoop.schedule(delayMillis, task);
+    }
+    
+    /**
+     * 아이템을 사용한 플레이어 보드의 청소 블링킹을 중지합니다 (플레이어 구분이 없으면 Player 1).
+     */
+    @Override
+    public void stopCleanupBlinking(int playerNumber) {
+        if (playerNumber == 2) {
+            stopCleanupBlinking2();
+        } else {
+            stopCleanupBlinking1();
+        }
+    }
+    
     /**
      * LINE_CLEAR 아이템이 사용되었음을 표시합니다.
      * 이후 줄 삭제는 아이템으로 인한 것으로 간주되어 아이템 생성 카운트와 방해블록 생성에서 제외됩니다.
@@ -2168,6 +2436,7 @@ public class BattleScene extends Scene {
      * 특정 플레이어의 LINE_CLEAR 아이템이 사용되었음을 표시합니다.
      * @param playerNumber 플레이어 번호 (1 또는 2)
      */
+    @Override
     public void markItemLineClear(int playerNumber) {
         if (playerNumber == 1) {
             isItemLineClear1 = true;
@@ -2175,6 +2444,8 @@ public class BattleScene extends Scene {
         } else if (playerNumber == 2) {
             isItemLineClear2 = true;
             System.out.println("BattleScene: Marked next line clearing as item-caused for Player 2");
+        } else {
+            markItemLineClear(); // 플레이어 구분이 없으면 양쪽 모두
         }
     }
     
@@ -2199,11 +2470,14 @@ public class BattleScene extends Scene {
      * @param playerNumber 플레이어 번호 (1 또는 2)
      * @param active 시야 제한 활성화 여부
      */
+    @Override
     public void setVisionBlockActive(int playerNumber, boolean active) {
         if (playerNumber == 1) {
             setVisionBlockActive1(active);
         } else if (playerNumber == 2) {
             setVisionBlockActive2(active);
+        } else {
+            setVisionBlockActive(active); // 플레이어 구분이 없으면 양쪽 모두
         }
         System.out.println("👁️ BattleScene: Set vision block for Player " + playerNumber + " to " + active);
     }
@@ -2214,12 +2488,21 @@ public class BattleScene extends Scene {
      * 속도 아이템 효과 활성화 상태를 설정합니다 (단일 플레이어 모드 호환성)
      * @param active 활성화 여부
      */
+    @Override
     public void setSpeedItemActive(boolean active) {
         // VisionBlockEffect와 동일한 패턴으로 처리
         System.out.println("⚠️ BattleScene.setSpeedItemActive called but player not specified");
         // 양쪽 모두에게 적용하지 않도록 수정 필요
     }
     
+    /**
+     * 대전 모드에서는 SpeedUp을 쓰지 않으므로 속도 아이템 상태를 추적하지 않습니다.
+     */
+    @Override
+    public boolean isSpeedItemActive() {
+        return false;
+    }
+    
     /**
      * 특정 플레이어에게 속도 아이템 효과 활성화 상태를 설정합니다.
      * @param playerNumber 플레이어 번호 (1 또는 2)
@@ -2234,6 +2517,7 @@ public class BattleScene extends Scene {
      * 현재 낙하 속도를 반환합니다 (단일 플레이어 모드 호환성)
      * @return 현재 낙하 속도 (밀리초 단위 딜레이)
      */
+    @Override
     public double getFallSpeed() {
         System.out.println("⚠️ BattleScene.getFallSpeed called but player not specified");
         // 기본값 반환
@@ -2246,7 +2530,7 @@ public class BattleScene extends Scene {
      * @return 현재 낙하 속도 (밀리초 단위 딜레이)
      */
     public double getFallSpeed(int playerNumber) {
-        Timer timer = (playerNumber == 1) ? fallTimer1 : fallTimer2;
+        TickTimer timer = (playerNumber == 1) ? fallTimer1 : fallTimer2;
         if (timer != null) {
             return timer.getDelay();
         }
@@ -2257,6 +2541,7 @@ public class BattleScene extends Scene {
      * 낙하 속도를 설정합니다 (단일 플레이어 모드 호환성)
      * @param speed 새로운 낙하 속도 (밀리초 단위 딜레이)
      */
+    @Override
     public void setFallSpeed(double speed) {
         System.out.println("⚠️ BattleScene.setFallSpeed called but player not specified");
         // 양쪽 모두에게 적용하지 않도록 수정 필요
@@ -2268,7 +2553,7 @@ public class BattleScene extends Scene {
      * @param speed 새로운 낙하 속도 (밀리초 단위 딜레이)
      */
     public void setFallSpeed(int playerNumber, double speed) {
-        Timer timer = (playerNumber == 1) ? fallTimer1 : fallTimer2;
+        TickTimer timer = (playerNumber == 1) ? fallTimer1 : fallTimer2;
         if (timer != null) {
             int oldDelay = timer.getDelay();
             int delay = Math.max(10, (int) Math.round(speed)); // 최소 10ms로 제한 완화
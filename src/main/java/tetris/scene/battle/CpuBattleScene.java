@@ -0,0 +1,73 @@
+package tetris.scene.battle;
+
+import javax.swing.JFrame;
+
+import tetris.scene.game.core.InputHandler;
+
+/**
+ * CPU와 대전하는 로컬 대전 화면
+ *
+ * 1P는 사람이 1인용 키 설정으로 조작하고, 2P는 CpuPlayer가 같은 BattleScene 규칙(공격, 점멸, 아이템)으로 조작합니다.
+ * 1P가 일시정지하면 CPU도 함께 멈춥니다.
+ */
+public class CpuBattleScene extends BattleScene {
+
+    private final CpuPlayer cpu;
+
+    public CpuBattleScene(JFrame frame, String gameMode, CpuPlayer.Level level) {
+        super(frame, gameMode);
+
+        // 1P는 1인용 키, 2P 키 입력은 받지 않음 (P2PBattleScene과 동일한 방식)
+        this.inputHandler1 = new InputHandler(frame, new Player1Callback(), 0);
+        this.inputHandler2 = new InputHandler(frame, new CpuInputCallback(), 2);
+
+        this.cpu = new CpuPlayer(level, blockManager2, boardManager2, new CpuPlayer.Controller() {
+            @Override
+            public boolean canAct() {
+                return !isGameOver && !gameStateManager2.isPaused() && !lineBlinkEffect2.isActive();
+            }
+
+            @Override
+            public void apply(InputHandler.GameAction action) {
+                applyPlayerAction(2, action);
+            }
+        }, System.nanoTime());
+    }
+
+    @Override
+    protected boolean onGameTick(int stepMillis) {
+        // 1P 일시정지 상태를 CPU 쪽에도 적용
+        if (!isGameOver && gameStateManager1.isPaused() != gameStateManager2.isPaused()) {
+            gameStateManager2.togglePause();
+        }
+        return cpu.update(stepMillis);
+    }
+
+    @Override
+    public void onExit() {
+        cpu.stop();
+        System.out.println(cpu.summary());
+        super.onExit();
+    }
+
+    public CpuPlayer getCpu() {
+        return cpu;
+    }
+
+    /**
+     * 2P 키 입력 무시 (CPU가 조작)
+     */
+    private class CpuInputCallback implements InputHandler.InputCallback {
+        @Override
+        public void onGameAction(InputHandler.GameAction action) { }
+
+        @Override
+        public boolean isGameOver() { return gameStateManager2.isGameOver(); }
+
+        @Override
+        public boolean isPaused() { return gameStateManager2.isPaused(); }
+
+        @Override
+        public void repaintGame() { repaint(); }
+    }
+}
@@ -0,0 +1,205 @@
+package tetris.scene.battle;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.Future;
+
+import tetris.scene.game.blocks.Block;
+import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.InputHandler;
+
+/**
+ * 대전 모드의 CPU 플레이어
+ *
+ * 새 블록이 나오면 보드와 현재/다음 블록을 복사해 PlacementSearch를 ForkJoinPool에서 실행하고,
+ * 게임 루프(EDT)는 매 틱 결과가 나왔는지만 확인합니다. 결과가 나오면 회전 → 좌우 이동 → 하드 드롭 동작을
+ * 난이도별 간격으로 하나씩 실행하므로 사람이 키를 누르는 것처럼 보입니다.
+ *
+ * update()는 게임 루프와 같은 스레드(EDT)에서만 호출합니다.
+ */
+public class CpuPlayer {
+
+    /**
+     * CPU 난이도
+     */
+    public enum Level {
+        //     탐색 시간(ms), 동작 간격(ms), 다음 블록 고려, 실수 확률
+        EASY(20, 260, false, 0.30),
+        NORMAL(40, 140, true, 0.08),
+        HARD(80, 60, true, 0.0);
+
+        final int searchBudgetMillis; // 한 수의 탐색 제한 시간
+        final int actionDelayMillis;  // 동작 사이 간격
+        final boolean lookahead;
+        final double mistakeRate;     // 최선이 아닌 후보를 고를 확률
+
+        Level(int searchBudgetMillis, int actionDelayMillis, boolean lookahead, double mistakeRate) {
+            this.searchBudgetMillis = searchBudgetMillis;
+            this.actionDelayMillis = actionDelayMillis;
+            this.lookahead = lookahead;
+            this.mistakeRate = mistakeRate;
+        }
+    }
+
+    /**
+     * CPU가 결정한 동작을 실제 게임에 적용하는 대상
+     */
+    public interface Controller {
+        /**
+         * 지금 블록을 조작할 수 있는지 (일시정지, 줄 삭제 점멸, 게임 종료 중이면 false)
+         */
+        boolean canAct();
+
+        void apply(InputHandler.GameAction action);
+    }
+
+    private static final int MISTAKE_CANDIDATES = 4; // 실수할 때 고르는 상위 후보 수
+
+    private final Level level;
+    private final BlockManager blockManager;
+    private final BoardManager boardManager;
+    private final Controller controller;
+    private final Random random;
+
+    private Block plannedBlock;      // 계획을 세운 블록 (바뀌면 다시 탐색)
+    private Future<PlacementSearch.Placement[]> pendingSearch;
+    private final ArrayDeque<InputHandler.GameAction> plan = new ArrayDeque<>();
+    private int actionCooldown = 0;  // 다음 동작까지 남은 시간 (ms)
+
+    // 통계
+    private int searches = 0;
+    private long totalSearchNanos = 0;
+    private long maxSearchNanos = 0;
+    private long searchStartNanos;
+
+    public CpuPlayer(Level level, BlockManager blockManager, BoardManager boardManager, Controller controller, long seed) {
+        this.level = level;
+        this.blockManager = blockManager;
+        this.boardManager = boardManager;
+        this.controller = controller;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 게임 시간을 진행합니다. 탐색 결과를 확인하고, 간격이 되면 동작을 하나 실행합니다.
+     * @return 동작을 실행했으면 true (화면 갱신 필요)
+     */
+    public boolean update(int stepMillis) {
+        if (actionCooldown > 0) actionCooldown -= stepMillis;
+        if (!controller.canAct()) return false;
+
+        Block current = blockManager.getCurrentBlock();
+        if (current == null || blockManager.isGameOver()) return false;
+
+        // 새 블록이 나왔으면 이전 계획을 버리고 다시 탐색
+        if (current != plannedBlock) {
+            cancelSearch();
+            plan.clear();
+            plannedBlock = current;
+            startSearch(current);
+            return false;
+        }
+
+        if (pendingSearch != null) {
+            if (!pendingSearch.isDone()) return false;
+            applyResult();
+        }
+
+        if (actionCooldown > 0) return false;
+        InputHandler.GameAction action = plan.poll();
+        if (action == null) {
+            // 하드 드롭이 무시되었거나(점멸 등) 공격으로 보드가 바뀐 경우: 같은 블록으로 다시 탐색
+            startSearch(current);
+            return false;
+        }
+        actionCooldown = level.actionDelayMillis;
+        controller.apply(action);
+        return true;
+    }
+
+    /**
+     * 현재 상태를 복사해 EDT 밖에서 탐색을 시작합니다.
+     */
+    private void startSearch(Block current) {
+        int[] rows = new int[PlacementSearch.HEIGHT];
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = boardManager.getRowMask(row);
+        }
+        PlacementSearch.Piece piece = new PlacementSearch.Piece(current);
+        Block nextBlock = blockManager.getNextBlock();
+        PlacementSearch.Piece next = (level.lookahead && nextBlock != null) ? new PlacementSearch.Piece(nextBlock) : null;
+        int x = blockManager.getX();
+        int y = blockManager.getY();
+
+        searchStartNanos = System.nanoTime();
+        long deadline = searchStartNanos + level.searchBudgetMillis * 1_000_000L;
+        pendingSearch = PlacementSearch.pool().submit(() -> PlacementSearch.search(rows, piece, x, y, next, deadline));
+    }
+
+    private void applyResult() {
+        PlacementSearch.Placement[] candidates;
+        try {
+            candidates = pendingSearch.get();
+        } catch (Exception e) {
+            System.err.println("CPU 탐색 실패: " + e);
+            candidates = new PlacementSearch.Placement[0];
+        }
+        pendingSearch = null;
+
+        long elapsed = System.nanoTime() - searchStartNanos;
+        searches++;
+        totalSearchNanos += elapsed;
+        maxSearchNanos = Math.max(maxSearchNanos, elapsed);
+
+        plan.clear();
+        if (candidates.length == 0) {
+            plan.add(InputHandler.GameAction.HARD_DROP); // 놓을 곳이 없으면 그대로 떨어뜨림
+            return;
+        }
+
+        PlacementSearch.Placement choice = candidates[0];
+        if (level.mistakeRate > 0 && random.nextDouble() < level.mistakeRate) {
+            choice = candidates[random.nextInt(Math.min(MISTAKE_CANDIDATES, candidates.length))];
+        }
+
+        for (int i = 0; i < choice.rotations; i++) {
+            plan.add(InputHandler.GameAction.ROTATE);
+        }
+        int dx = choice.x - blockManager.getX();
+        InputHandler.GameAction move = dx < 0 ? InputHandler.GameAction.MOVE_LEFT : InputHandler.GameAction.MOVE_RIGHT;
+        for (int i = 0; i < Math.abs(dx); i++) {
+            plan.add(move);
+        }
+        plan.add(InputHandler.GameAction.HARD_DROP);
+    }
+
+    private void cancelSearch() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * 진행 중인 탐색을 취소합니다 (화면을 나갈 때).
+     */
+    public void stop() {
+        cancelSearch();
+        plan.clear();
+        plannedBlock = null;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * 탐색 시간 통계 (로그용)
+     */
+    public String summary() {
+        if (searches == 0) return "CPU(" + level + ") 탐색 없음";
+        return String.format("CPU(%s) 탐색 %d회 · 평균 %.1fms · 최대 %.1fms",
+            level, searches, totalSearchNanos / 1e6 / searches, maxSearchNanos / 1e6);
+    }
+}
@@ -0,0 +1,180 @@
+package tetris.scene.battle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.InputHandler;
+
+/**
+ * P2P 대전의 입력 기반 동기화(lockstep) 상태
+ *
+ * 보드 전체를 보내는 대신 블록 시드와 입력 이벤트만 주고받고,
+ * 상대방 보드는 BlockManager/BoardManager로 직접 시뮬레이션합니다.
+ *
+ * 메시지 형식:
+ *   ls-sync                               상대방 시뮬레이션 준비 완료 → 시드와 지금까지의 입력 전체 요청
+ *   ls-seed:<seed>                        내 블록 시드
+ *   ls-input:<frame>:<action>:<attacks>:<hash>
+ *                                         frame번째 입력, 이 입력으로 블록이 고정될 때 적용한 공격 블록 수,
+ *                                         적용 직후 보드 해시 (자동 낙하는 MOVE_DOWN으로 기록)
+ *   ls-desync                             해시 불일치 → 스냅샷 동기화로 되돌아감
+ *
+ * 프레임 번호는 1부터 빠짐없이 증가하며, 수신 측은 순서대로만 적용합니다.
+ */
+public class LockstepSession {
+
+    public static final String SYNC = "ls-sync";
+    public static final String SEED = "ls-seed:";
+    public static final String INPUT = "ls-input:";
+    public static final String DESYNC = "ls-desync";
+
+    /**
+     * 프레임 번호가 붙은 입력 이벤트
+     */
+    public static class InputEvent {
+        public final int frame;
+        public final InputHandler.GameAction action;
+        public final int attacksApplied;
+        public final int boardHash;
+
+        InputEvent(int frame, InputHandler.GameAction action, int attacksApplied, int boardHash) {
+            this.frame = frame;
+            this.action = action;
+            this.attacksApplied = attacksApplied;
+            this.boardHash = boardHash;
+        }
+    }
+
+    // 송신 측 (내 입력 기록)
+    private final long localSeed;
+    private final List<String> sentLog = new ArrayList<>();
+    private int localFrame = 0;
+
+    // 수신 측 (상대 입력 대기열)
+    private boolean remoteSeedReceived = false;
+    private long remoteSeed;
+    private int lastReceivedFrame = 0;
+    private final Queue<InputEvent> pending = new ArrayDeque<>();
+
+    public LockstepSession(long localSeed) {
+        this.localSeed = localSeed;
+    }
+
+    public long getLocalSeed() {
+        return localSeed;
+    }
+
+    /**
+     * 내 입력을 기록하고 전송할 메시지를 만듭니다.
+     * @param attacksApplied 이 입력으로 블록이 고정되면서 적용 대상이었던 공격 블록 수
+     * @param boardHash 입력을 적용한 직후의 보드 해시
+     */
+    public synchronized String recordLocalAction(InputHandler.GameAction action, int attacksApplied, int boardHash) {
+        localFrame++;
+        String message = INPUT + localFrame + ":" + action.name() + ":" + attacksApplied + ":" + Integer.toHexString(boardHash);
+        sentLog.add(message);
+        return message;
+    }
+
+    /**
+     * 상대방이 동기화를 요청했을 때 보낼 메시지 목록 (시드 + 지금까지의 입력 전체)
+     * 이미 받은 프레임은 수신 측에서 무시되므로 중복 전송해도 안전합니다.
+     */
+    public synchronized List<String> handshakeMessages() {
+        List<String> messages = new ArrayList<>(sentLog.size() + 1);
+        messages.add(SEED + localSeed);
+        messages.addAll(sentLog);
+        return messages;
+    }
+
+    /**
+     * 상대방 시드를 받습니다.
+     * @return 처음 받은 시드이면 true (이때 상대방 시뮬레이션을 초기화)
+     */
+    public synchronized boolean onRemoteSeed(long seed) {
+        if (remoteSeedReceived) return false;
+        remoteSeedReceived = true;
+        remoteSeed = seed;
+        return true;
+    }
+
+    public synchronized boolean hasRemoteSeed() {
+        return remoteSeedReceived;
+    }
+
+    public synchronized long getRemoteSeed() {
+        return remoteSeed;
+    }
+
+    /**
+     * 상대방 입력 메시지(접두어 제외)를 대기열에 넣습니다.
+     * 시드를 받기 전 입력과 이미 받은 프레임은 무시합니다.
+     * @return 프레임이 빠졌거나 형식이 잘못되었으면 false (동기화 실패)
+     */
+    public synchronized boolean onRemoteInput(String payload) {
+        if (!remoteSeedReceived) return true;
+
+        String[] parts = payload.trim().split(":");
+        if (parts.length != 4) return false;
+
+        int frame;
+        InputHandler.GameAction action;
+        int attacks;
+        int hash;
+        try {
+            frame = Integer.parseInt(parts[0]);
+            action = InputHandler.GameAction.valueOf(parts[1]);
+            attacks = Integer.parseInt(parts[2]);
+            hash = Integer.parseUnsignedInt(parts[3], 16);
+        } catch (IllegalArgumentException e) {
+            System.err.println("P2P: 잘못된 입력 이벤트 - " + payload);
+            return false;
+        }
+
+        if (frame <= lastReceivedFrame) return true; // 재전송된 중복 프레임
+        if (frame != lastReceivedFrame + 1) {
+            System.err.println("P2P: 입력 프레임 누락 - expected " + (lastReceivedFrame + 1) + ", got " + frame);
+            return false;
+        }
+
+        pending.add(new InputEvent(frame, action, attacks, hash));
+        lastReceivedFrame = frame;
+        return true;
+    }
+
+    /**
+     * 적용할 다음 상대방 입력을 꺼냅니다 (없으면 null).
+     */
+    public synchronized InputEvent pollRemoteInput() {
+        return pending.poll();
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 입력을 모두 버립니다 (동기화 실패 시).
+     */
+    public synchronized void clearPending() {
+        pending.clear();
+    }
+
+    /**
+     * 보드(행 비트마스크)와 현재 블록 위치로 해시를 계산합니다.
+     * 양쪽이 같은 입력을 같은 순서로 적용했다면 값이 같아야 합니다.
+     */
+    public static int boardHash(BoardManager boardManager, BlockManager blockManager) {
+        int hash = 17;
+        for (int row = 0; row < boardManager.getHeight(); row++) {
+            hash = hash * 31 + boardManager.getRowMask(row);
+        }
+        hash = hash * 31 + blockManager.getX();
+        hash = hash * 31 + blockManager.getY();
+        return hash;
+    }
+}
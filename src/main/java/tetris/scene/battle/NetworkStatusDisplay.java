@@ -3,6 +3,8 @@ package tetris.scene.battle;
 import javax.swing.*;
 import java.awt.*;
 
+import tetris.network.MessageStats;
+
 /**
  * P2P 네트워크 상태를 표시하는 UI 컴포넌트
  * 
@@ -10,10 +12,13 @@ import java.awt.*;
  * - 5단계 Ping 바 표시 (0-100ms: 5개, 101-150ms: 4개, 151-200ms: 3개, 201-300ms: 2개, 300ms+: 1개)
  * - 지연시간 숫자 표시 (밀리초 단위)
  * - 색상 코드: 초록(정상), 노랑(주의), 주황(경고), 빨강(위험), 회색(심각)
+ * - 수신 메시지 통계 (미확인 메시지 수, 처리 시간이 가장 긴 메시지 종류)
  */
 public class NetworkStatusDisplay extends JPanel {
     
     private long currentLatency = 0; // 현재 지연시간 (ms)
+    private long unknownMessages = 0; // 처리되지 않은 수신 메시지 수
+    private String messageStatsText = ""; // 메시지 통계 요약
     
     // Ping 레벨 정의
     private enum PingLevel {
@@ -59,6 +64,22 @@ public class NetworkStatusDisplay extends JPanel {
         repaint();
     }
     
+    /**
+     * 수신 메시지 통계 업데이트
+     */
+    public void updateMessageStats(MessageStats stats) {
+        String text = stats.summary();
+        long unknown = stats.getUnknownCount();
+        if (unknown == unknownMessages && text.equals(messageStatsText)) return;
+        this.unknownMessages = unknown;
+        this.messageStatsText = text;
+        repaint();
+    }
+    
+    public long getUnknownMessageCount() {
+        return unknownMessages;
+    }
+    
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -91,6 +112,13 @@ public class NetworkStatusDisplay extends JPanel {
         
         g2d.setFont(new Font("맑은 고딕", Font.PLAIN, 12));
         g2d.drawString(statusText, 150, 30);
+        
+        // 메시지 통계 (작은 글씨)
+        if (!messageStatsText.isEmpty()) {
+            g2d.setColor(unknownMessages > 0 ? Color.ORANGE : Color.LIGHT_GRAY);
+            g2d.setFont(new Font("맑은 고딕", Font.PLAIN, 10));
+            g2d.drawString(messageStatsText, 80, 48);
+        }
     }
     
     /**
@@ -13,6 +13,7 @@ import javax.swing.JLayeredPane;
 import com.google.gson.Gson;
 
 import tetris.Game;
+import tetris.network.BoardSyncCodec;
 import tetris.network.P2PBase;
 import tetris.scene.game.blocks.Block;
 import tetris.scene.game.blocks.ItemBlock;
@@ -21,6 +22,7 @@ import tetris.scene.game.core.*;
 import tetris.scene.game.items.ItemEffectType;
 import tetris.scene.menu.MainMenuScene;
 import tetris.scene.menu.P2PRoomDialog;
+import tetris.util.CellPalette;
 import tetris.util.Theme;
 
 // 직렬화된 게임 상태를 저장할 필드들
@@ -97,6 +99,21 @@ public class P2PBattleScene extends BattleScene {
     P2PBase p2p;
     Timer writeTimer;
 
+    // 보드 동기화 (바뀐 칸만 전송하는 바이너리 포맷)
+    final BoardSyncCodec.Encoder boardEncoder = new BoardSyncCodec.Encoder();
+    final BoardSyncCodec.Decoder boardDecoder = new BoardSyncCodec.Decoder();
+    private boolean resyncRequested = false; // 키프레임 요청 중복 방지
+
+    // 입력 기반 동기화 (아이템 모드는 아이템 효과 때문에 스냅샷 동기화만 사용)
+    static final int LOCKSTEP_SNAPSHOT_DIVIDER = 10; // 입력 동기화 중에는 스냅샷을 1초마다만 전송
+    final LockstepSession lockstep;
+    private volatile boolean lockstepActive = false;   // 상대 보드를 입력으로 시뮬레이션 중
+    private volatile boolean peerSimulatesMe = false;  // 상대방이 내 입력으로 시뮬레이션 중
+    private int snapshotTick = 0;
+    private int lastAttackApplyCount = 0;    // 이번 입력으로 내 보드에 적용 대상이었던 공격 블록 수
+    private int pendingRemoteAttackCount = 0; // 재생 중인 상대 입력의 공격 블록 수
+    private boolean lockstepStopped = false; // 화면을 나가 상대 입력 재생을 멈춤 (EDT에서만 접근)
+
     // 상대방이 보낸 pauseFlag의 "마지막 값"을 기억
     private boolean hasRemotePauseState = false;
     private boolean lastRemotePauseState = false;
@@ -133,6 +150,12 @@ public class P2PBattleScene extends BattleScene {
     
     // 블럭 타입 매핑
     final char[] blockTypes = { 'I','J','L','O','S','T','Z' };
+
+    // 셀 코드의 색 심볼 인덱스 (0 = 빈 칸)
+    static final String COLOR_SYMBOLS = " IJLOSTZBG";
+
+    // CellPalette 인덱스 순서의 색 심볼 (1~7: 블록 타입 0~6, 8: 검정, 9: 회색)
+    static final String PALETTE_SYMBOLS = " ZLOSIJTBG";
     
     // 네트워크 상태 표시 UI
     private NetworkStatusDisplay networkStatusDisplay;
@@ -150,6 +173,16 @@ public class P2PBattleScene extends BattleScene {
         // P2PBattleScene의 오버라이드된 setupLayout이 실행됨
 
         this.p2p = p2p;
+
+        // 아이템 모드가 아니면 내 블록 순서를 시드로 고정 (상대방이 같은 순서로 시뮬레이션)
+        if (itemManager1 == null) {
+            this.lockstep = new LockstepSession(System.nanoTime());
+            blockManager1.setSeed(lockstep.getLocalSeed());
+            blockManager1.initializeBlocks();
+            recordReplaySeed(1, lockstep.getLocalSeed());
+        } else {
+            this.lockstep = null;
+        }
         
         // 네트워크 상태 표시 UI 초기화
         networkStatusDisplay = new NetworkStatusDisplay();
@@ -168,16 +201,32 @@ public class P2PBattleScene extends BattleScene {
             new java.util.TimerTask() {
                 @Override
                 public void run() {
+                    // 상대 시드를 받을 때까지 동기화 요청 (상대 장면이 늦게 만들어질 수 있음)
+                    if (lockstep != null && !lockstep.hasRemoteSeed()) {
+                        p2p.send(LockstepSession.SYNC);
+                    }
+                    // 상대방이 내 입력으로 시뮬레이션 중이면 스냅샷은 상태 플래그용으로만 가끔 전송
+                    if (peerSimulatesMe && (snapshotTick++ % LOCKSTEP_SNAPSHOT_DIVIDER) != 0) {
+                        return;
+                    }
+                    // 송신 대기열이 밀려 있으면 이번 스냅샷은 건너뜀 (다음 델타에 변경분이 합쳐짐)
+                    if (p2p.isBackpressured()) {
+                        return;
+                    }
                     String send = serializeGameState();
-                    p2p.send("board:" + send);
+                    p2p.send("board-delta:" + send);
                 }
             },
             100, 100
         );
 
-        p2p.addCallback("board:", (serialized) -> {
+        p2p.addCallback("board-delta:", (serialized) -> {
             deserializeGameState(serialized);
         });
+        p2p.addCallback("board-resync", (s) -> {
+            // 상대방이 기준 상태를 잃어버린 경우 다음 전송은 전체 보드로
+            boardEncoder.requestKeyframe();
+        });
         p2p.addCallback("attack-generate:", (serialized) -> {
             Gson gson = new Gson();
             SerializabledAttackBlock sab = gson.fromJson(serialized, SerializabledAttackBlock.class);
@@ -185,25 +234,29 @@ public class P2PBattleScene extends BattleScene {
             attackQueue1.push(ab);
         });
         p2p.addCallback("attack-apply", (s) -> {
-            attackQueue2.clear();
+            // 입력 동기화 중에는 입력 이벤트에 담긴 공격 수로 직접 적용
+            if (!lockstepActive) {
+                attackQueue2.clear();
+            }
         });
+        registerLockstepCallbacks();
         
         // 아이템 효과 네트워크 콜백 등록
         // 메시지: 상대방이 나에게 효과를 적용
         // → 내 화면의 Player 1(나 자신)에게 효과 적용
         p2p.addCallback("item:speed-up:", (msg) -> {
             // 상대방이 아이템 사용 → 나(Player 1)에게 효과
-            super.applySpeedUpToOpponent(2); // sourcePlayer=2 → Player 1에 적용
+            SwingUtilities.invokeLater(() -> super.applySpeedUpToOpponent(2)); // sourcePlayer=2 → Player 1에 적용 (게임 루프 예약은 EDT에서)
             System.out.println("📥 [P2P] Received speed-up effect, applied to Player 1");
         });
         
         p2p.addCallback("item:speed-down:", (msg) -> {
-            super.applySpeedDownToOpponent(2); // sourcePlayer=2 → Player 1에 적용
+            SwingUtilities.invokeLater(() -> super.applySpeedDownToOpponent(2)); // sourcePlayer=2 → Player 1에 적용 (게임 루프 예약은 EDT에서)
             System.out.println("📥 [P2P] Received speed-down effect, applied to Player 1");
         });
         
         p2p.addCallback("item:vision-block:", (msg) -> {
-            super.applyVisionBlockToOpponent(2); // sourcePlayer=2 → Player 1에 적용
+            SwingUtilities.invokeLater(() -> super.applyVisionBlockToOpponent(2)); // sourcePlayer=2 → Player 1에 적용 (게임 루프 예약은 EDT에서)
             System.out.println("📥 [P2P] Received vision-block effect, applied to Player 1");
         });
         
@@ -215,11 +268,181 @@ public class P2PBattleScene extends BattleScene {
 
     }
 
+    // 입력 기반 동기화 메시지 콜백 등록
+    private void registerLockstepCallbacks() {
+        if (lockstep == null) return;
+
+        p2p.addCallback(LockstepSession.SYNC, (s) -> {
+            // 상대방이 내 보드를 시뮬레이션할 준비가 됨 → 시드와 지금까지의 입력 전송
+            peerSimulatesMe = true;
+            synchronized (lockstep) {
+                for (String message : lockstep.handshakeMessages()) {
+                    p2p.send(message);
+                }
+            }
+        });
+        p2p.addCallback(LockstepSession.SEED, (s) -> {
+            long seed;
+            try {
+                seed = Long.parseLong(s.trim());
+            } catch (NumberFormatException e) {
+                return;
+            }
+            if (!lockstep.onRemoteSeed(seed)) return;
+
+            // 상대방과 같은 시드로 Player 2 보드를 처음부터 시뮬레이션
+            // 보드/녹화기는 EDT에서만 다루므로 초기화와 활성화를 한 번에 EDT로 넘김
+            SwingUtilities.invokeLater(() -> {
+                if (lockstepStopped || isGameOver) return; // 그 사이 종료됨
+                boardManager2.reset();
+                blockManager2.setSeed(seed);
+                blockManager2.initializeBlocks();
+                recordReplaySeed(2, seed);
+                scoreManager2.reset();
+                lockstepActive = true;
+                System.out.println("📥 [P2P] Lockstep started with remote seed " + seed);
+            });
+        });
+        p2p.addCallback(LockstepSession.INPUT, (s) -> {
+            if (!lockstep.onRemoteInput(s) && lockstepActive) {
+                SwingUtilities.invokeLater(() -> handleLockstepDesync("input frame gap"));
+            }
+        });
+        p2p.addCallback(LockstepSession.DESYNC, (s) -> {
+            // 상대방이 시뮬레이션을 포기함 → 스냅샷을 다시 매번 전송
+            peerSimulatesMe = false;
+        });
+    }
+
+    @Override
+    protected boolean onGameTick(int stepMillis) {
+        // 상대 입력은 게임 루프 틱에서 재생해 내 보드의 자동 낙하와 같은 프레임에 그림
+        return drainRemoteInputs();
+    }
+
+    // 대기 중인 상대 입력을 Player 2 보드에 재생
+    // @return 하나라도 재생했으면 true
+    private boolean drainRemoteInputs() {
+        if (lockstepStopped || !lockstepActive || isGameOver) return false;
+
+        // 일시정지/점멸 중에는 상대방도 입력이 막혀 있었으므로 끝날 때까지 대기
+        boolean applied = false;
+        while (!gameStateManager2.isPaused() && !lineBlinkEffect2.isActive()) {
+            LockstepSession.InputEvent event = lockstep.pollRemoteInput();
+            if (event == null) break;
+            applied = true;
+
+            pendingRemoteAttackCount = event.attacksApplied;
+            applyPlayerAction(2, event.action);
+
+            int hash = LockstepSession.boardHash(boardManager2, blockManager2);
+            if (hash != event.boardHash) {
+                handleLockstepDesync("board hash mismatch at frame " + event.frame);
+                return true;
+            }
+            if (!lockstepActive || isGameOver) return true;
+        }
+        return applied;
+    }
+
+    // 시뮬레이션 결과가 상대방과 달라지면 스냅샷 동기화로 되돌아감
+    private void handleLockstepDesync(String reason) {
+        if (!lockstepActive) return;
+        System.err.println("P2P: lockstep desync (" + reason + "), falling back to snapshot sync");
+        lockstepActive = false;
+        lockstep.clearPending();
+        blockManager2.resetBlock();
+        p2p.send(LockstepSession.DESYNC);
+    }
+
+    private void stopLockstep() {
+        lockstepStopped = true;
+        lockstepActive = false;
+    }
+
+    @Override
+    protected boolean isAutoFallEnabled(int player) {
+        // 입력 동기화 중 Player 2는 상대방이 보낸 낙하 입력으로만 진행
+        return player != 2 || !lockstepActive;
+    }
+
+    @Override
+    protected void onPlayerActionApplied(int player, InputHandler.GameAction action) {
+        if (player != 1 || lockstep == null) return;
+
+        // 기록과 전송을 같은 잠금에서 처리해야 재전송과 순서가 섞이지 않음
+        synchronized (lockstep) {
+            int hash = LockstepSession.boardHash(boardManager1, blockManager1);
+            p2p.send(lockstep.recordLocalAction(action, lastAttackApplyCount, hash));
+        }
+        lastAttackApplyCount = 0;
+    }
+
     // 수신된 게임 상태를 역직렬화하여 적용
     void deserializeGameState(String serialized) {
-        Gson gson = new Gson();
-        SerializedGameState state = gson.fromJson(serialized, SerializedGameState.class);
+        BoardSyncCodec.Frame frame = boardDecoder.decode(serialized);
+        if (frame == null) {
+            // 기준 상태가 어긋났으면 키프레임 요청 후 다음 프레임을 기다림
+            if (!resyncRequested) {
+                resyncRequested = true;
+                p2p.send("board-resync");
+            }
+            return;
+        }
+        resyncRequested = false;
+        applyGameState(fromSyncFrame(frame));
+    }
+
+    // 게임 상태를 상대방(Player 2) 화면에 적용
+    void applyGameState(SerializedGameState state) {
+
+        // 입력 동기화 중에는 상대 보드를 직접 시뮬레이션하므로 스냅샷 보드는 사용하지 않음
+        if (!lockstepActive) {
+            applyRemoteBoard(state);
+        }
+        repaint();
+        gameStateManager2.setFixedElapsedTime(state.elapsedSeconds);
+        
+        // 상대방의 낙하 속도 동기화 (속도 아이템 효과 반영)
+        // 서버가 보낸 Player 1 속도를 클라이언트의 Player 2에게 적용
+        // 서버가 보낸 Player 2 속도를 클라이언트의 Player 1에게 적용
+        if (state.fallSpeed1 > 0) {
+            System.out.println("📥 [P2P Deserialize] Received fallSpeed1: " + state.fallSpeed1 + "ms, applying to local Player 2");
+            setFallSpeed(2, state.fallSpeed1); // 상대방의 P1 속도 -> 내 P2
+        }
+        if (state.fallSpeed2 > 0) {
+            System.out.println("📥 [P2P Deserialize] Received fallSpeed2: " + state.fallSpeed2 + "ms, applying to local Player 1");
+            setFallSpeed(1, state.fallSpeed2); // 상대방의 P2 속도 -> 내 P1
+        }
+
+        if(state.gameOverFlag && !this.isGameOver) {
+            this.handleGameOver(2); // 2P 패배 처리
+        }
+
+        // 일시정지 상태 동기화 (게임 오버가 아닐 때만)
+        if (!this.isGameOver && !gameStateManager1.isGameOver()) {
+            boolean remoteIsPaused = state.pauseFlag;
+
+            // 1) "상대방이 보낸 값"이 이전과 달라질 때만 딱 한 번 반응
+            if (!hasRemotePauseState || lastRemotePauseState != remoteIsPaused) {
+
+                hasRemotePauseState = true;
+                lastRemotePauseState = remoteIsPaused;
+
+
+                if (gameStateManager1.isPaused() != remoteIsPaused) {
+                    gameStateManager1.togglePause();
+                }
+            }
+        }
+
+        long latency = p2p.getLastRttMs();
+        handleLatency(latency);
+
+    }
 
+    // 스냅샷의 보드/다음 블록/점수를 Player 2 화면에 덮어씀
+    private void applyRemoteBoard(SerializedGameState state) {
         boardManager2.setBoard(state.board);
         boardManager2.setBoardTypes(state.boardTypes);
         boardManager2.setBombCells(state.bombCells);
@@ -229,19 +452,10 @@ public class P2PBattleScene extends BattleScene {
         final int height = state.board.length;
 
         ItemBlock[][] ib = new ItemBlock[height][width];
-        Color[][] bc = new Color[height][width];
-        // ItemBlock[][] ib = new ItemBlock[bc.length][bc[0].length];
+        byte[][] bc = new byte[height][width];
         for (int r = 0; r < height; r++) {
             for (int c = 0; c < width; c++) {
-                if(state.boardColors[r][c] == ' ') {
-                    bc[r][c] = null;
-                } else if(state.boardColors[r][c] == 'B') {
-                    bc[r][c] = Color.BLACK;
-                } else if(state.boardColors[r][c] == 'G') {
-                    bc[r][c] = Color.GRAY;
-                } else {
-                    bc[r][c] = Theme.Block(state.boardColors[r][c]);
-                }
+                bc[r][c] = colorIndexOf(state.boardColors[r][c]);
                 if(state.itemCells[r][c]){
                     ItemEffectType itemType = null;
                     String itemName = (state.itemBlockInfo != null) ? state.itemBlockInfo[r][c] : null;
@@ -267,7 +481,7 @@ public class P2PBattleScene extends BattleScene {
             }
         }
         boardManager2.setItemBlockInfo(ib);
-        boardManager2.setBoardColors(bc);
+        boardManager2.setBoardColorIndices(bc);
 
         // 기본 다음 블록 생성
         blockManager2.setNextBlock(state.type);
@@ -298,56 +512,41 @@ public class P2PBattleScene extends BattleScene {
         scoreManager2.setScore(state.score);
         scoreManager2.setSpeedMultiplier(state.speedMultiplier);
         scoreManager2.setDifficultyMultiplier(state.difficultyMultiplier);
-        repaint();
-        gameStateManager2.setFixedElapsedTime(state.elapsedSeconds);
-        
-        // 상대방의 낙하 속도 동기화 (속도 아이템 효과 반영)
-        // 서버가 보낸 Player 1 속도를 클라이언트의 Player 2에게 적용
-        // 서버가 보낸 Player 2 속도를 클라이언트의 Player 1에게 적용
-        if (state.fallSpeed1 > 0) {
-            System.out.println("📥 [P2P Deserialize] Received fallSpeed1: " + state.fallSpeed1 + "ms, applying to local Player 2");
-            setFallSpeed(2, state.fallSpeed1); // 상대방의 P1 속도 -> 내 P2
-        }
-        if (state.fallSpeed2 > 0) {
-            System.out.println("📥 [P2P Deserialize] Received fallSpeed2: " + state.fallSpeed2 + "ms, applying to local Player 1");
-            setFallSpeed(1, state.fallSpeed2); // 상대방의 P2 속도 -> 내 P1
-        }
+    }
 
-        if(state.gameOverFlag && !this.isGameOver) {
-            this.handleGameOver(2); // 2P 패배 처리
+    // 팔레트 인덱스 → 색 심볼 (블록 색과 같은 고정 색은 그 블록의 심볼)
+    private char colorSymbolOf(CellPalette palette, byte index) {
+        if (index >= 0 && index < PALETTE_SYMBOLS.length()) {
+            return PALETTE_SYMBOLS.charAt(index);
         }
-
-        // 일시정지 상태 동기화 (게임 오버가 아닐 때만)
-        if (!this.isGameOver && !gameStateManager1.isGameOver()) {
-            boolean remoteIsPaused = state.pauseFlag;
-
-            // 1) "상대방이 보낸 값"이 이전과 달라질 때만 딱 한 번 반응
-            if (!hasRemotePauseState || lastRemotePauseState != remoteIsPaused) {
-
-                hasRemotePauseState = true;
-                lastRemotePauseState = remoteIsPaused;
-
-
-                if (gameStateManager1.isPaused() != remoteIsPaused) {
-                    gameStateManager1.togglePause();
-                }
-            }
+        Color color = palette.color(index);
+        for (char blockType : blockTypes) {
+            if (Theme.Block(blockType).equals(color)) return blockType;
         }
+        return ' ';
+    }
 
-        long latency = p2p.getLastRttMs();
-        handleLatency(latency);
-
+    // 색 심볼 → 팔레트 인덱스 (알 수 없는 심볼은 Theme.Block과 같이 Z 블록 색)
+    static byte colorIndexOf(char symbol) {
+        int index = PALETTE_SYMBOLS.indexOf(symbol);
+        return (byte) (index >= 0 ? index : CellPalette.blockIndex(0));
     }
 
     // 현재 게임 상태를 직렬화하여 전송
     String serializeGameState() {
+        return boardEncoder.encode(toSyncFrame(captureGameState()));
+    }
+
+    // 현재 게임 상태(Player 1)를 수집
+    SerializedGameState captureGameState() {
         SerializedGameState state = new SerializedGameState();
 
         int[][] board = boardManager1.getBoard();
         int[][] boardTypes = boardManager1.getBoardTypes();
         boolean[][] bombCells = boardManager1.getBombCells();
         boolean[][] itemCells = boardManager1.getItemCells();
-        Color[][] bc = boardManager1.getBoardColors();
+        byte[][] bc = boardManager1.getBoardColorIndices();
+        CellPalette palette = CellPalette.current();
 
         state.board = copy2DInt(board);
         state.boardTypes = copy2DInt(boardTypes);
@@ -360,18 +559,7 @@ public class P2PBattleScene extends BattleScene {
         state.itemBlockInfo = new String[height][width];
         for (int r = 0; r < height; r++) {
             for (int c = 0; c < width; c++) {
-                for(char blockType : blockTypes) {
-                    if(bc[r][c] == null) {
-                        state.boardColors[r][c] = ' ';
-                        break;
-                    }
-                    if(bc[r][c].equals(Theme.Block(blockType))) {
-                        state.boardColors[r][c] = blockType;
-                        break;
-                    }
-                    if(bc[r][c].equals(Color.BLACK)) state.boardColors[r][c] = 'B';
-                    else if(bc[r][c].equals(Color.GRAY)) state.boardColors[r][c] = 'G';
-                }
+                state.boardColors[r][c] = colorSymbolOf(palette, bc[r][c]);
                 if(state.itemCells[r][c]) {
                     tetris.scene.game.blocks.ItemBlock itemBlock = boardManager1.getItemBlockInfo(c, r);
                     if(itemBlock != null) {
@@ -389,31 +577,8 @@ public class P2PBattleScene extends BattleScene {
             int blockX = blockManager1.getX();
             int blockY = blockManager1.getY();
 
-            // 색 심볼 계산
-            char colorSymbol = ' ';
-            Color blockColor = currentBlock.getColor();
-
-            // 일반 테트리스 블록(I,J,L,O,S,T,Z)은 Theme.Block 매핑으로 심볼을 찾고,
-            // 그 외(예: WeightItemBlock)는 그대로 보드 색을 사용하거나 회색(G)으로 처리
-            boolean mapped = false;
-            for(char blockType : blockTypes) {
-                if(blockColor.equals(Theme.Block(blockType))) {
-                    colorSymbol = blockType;
-                    mapped = true;
-                    break;
-                }
-            }
-            if (!mapped) {
-                // 매핑되지 않는 특수 블록(무게추 등)은 회색 심볼로 표시
-                if (Color.GRAY.equals(blockColor)) {
-                    colorSymbol = 'G';
-                } else if (Color.BLACK.equals(blockColor)) {
-                    colorSymbol = 'B';
-                } else {
-                    // 알 수 없는 색은 심볼 없이 색만 보드에 반영
-                    colorSymbol = ' ';
-                }
-            }
+            // 색 심볼 계산 (무게추 등 특수 블록은 회색(G), 알 수 없는 색은 심볼 없음)
+            char colorSymbol = colorSymbolOf(palette, palette.indexOf(currentBlock.getColor(), currentBlock.getType()));
 
             for (int r = 0; r < currentBlock.height(); r++) {
                 for (int c = 0; c < currentBlock.width(); c++) {
@@ -426,14 +591,7 @@ public class P2PBattleScene extends BattleScene {
 
                         state.board[br][bc2] = 1;
 
-                        // 특수 블록이면 실제 색을 그대로 반영하고,
-                        // 일반 블록이면 심볼 기반으로 색을 복원할 수 있도록 심볼을 기록
-                        if (mapped) {
-                            state.boardColors[br][bc2] = colorSymbol;
-                        } else {
-                            // 회색/기타는 그대로 색상으로만 사용되도록, 심볼은 비워 둠
-                            state.boardColors[br][bc2] = colorSymbol;
-                        }
+                        state.boardColors[br][bc2] = colorSymbol;
                         state.boardTypes[br][bc2] = currentBlock.getType();
 
                         // 현재 블록이 ItemBlock인 경우, 내려오는 블록의 아이템 정보도 함께 전송
@@ -483,21 +641,139 @@ public class P2PBattleScene extends BattleScene {
         if(prevPauseState != gameStateManager1.isPaused()) gameStateManager2.togglePause();
         prevPauseState = gameStateManager1.isPaused();
 
-        
+        return state;
+    }
+
+    /**
+     * 게임 상태를 동기화 프레임으로 변환합니다.
+     * 셀 코드 구성: [0] 블록 유무, [1-4] 색 심볼, [5-9] 블록 타입+1, [10] 폭탄, [11] 아이템, [12-14] 아이템 종류+1
+     */
+    static BoardSyncCodec.Frame toSyncFrame(SerializedGameState state) {
+        BoardSyncCodec.Frame frame = new BoardSyncCodec.Frame();
+        final int height = state.board.length;
+        final int width = state.board[0].length;
+        frame.cells = new int[height][width];
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                int color = Math.max(0, COLOR_SYMBOLS.indexOf(state.boardColors[r][c]));
+                int type = Math.max(0, Math.min(31, state.boardTypes[r][c] + 1));
+                int item = 0;
+                if (state.itemCells[r][c] && state.itemBlockInfo[r][c] != null) {
+                    ItemEffectType itemType = itemTypeByDisplayName(state.itemBlockInfo[r][c]);
+                    item = (itemType != null) ? itemType.ordinal() + 1 : 0;
+                }
+                frame.cells[r][c] = (state.board[r][c] != 0 ? 1 : 0)
+                                  | (color << 1)
+                                  | (type << 5)
+                                  | (state.bombCells[r][c] ? 1 << 10 : 0)
+                                  | (state.itemCells[r][c] ? 1 << 11 : 0)
+                                  | (item << 12);
+            }
+        }
+
+        frame.nextType = state.type;
+        frame.nextItem = (state.nextItemEffect != null) ? ItemEffectType.valueOf(state.nextItemEffect).ordinal() : -1;
+        frame.nextIsWeightBlock = state.nextIsWeightBlock;
+        frame.score = state.score;
+        frame.speedMultiplier = state.speedMultiplier;
+        frame.difficultyMultiplier = state.difficultyMultiplier;
+        frame.elapsedSeconds = state.elapsedSeconds;
+        frame.gameOverFlag = state.gameOverFlag;
+        frame.pauseFlag = state.pauseFlag;
+        frame.fallSpeed1 = state.fallSpeed1;
+        frame.fallSpeed2 = state.fallSpeed2;
+        return frame;
+    }
+
+    /**
+     * 동기화 프레임을 게임 상태로 복원합니다. (toSyncFrame의 역변환)
+     */
+    static SerializedGameState fromSyncFrame(BoardSyncCodec.Frame frame) {
+        SerializedGameState state = new SerializedGameState();
+        final int height = frame.cells.length;
+        final int width = frame.cells[0].length;
+        state.board = new int[height][width];
+        state.boardColors = new char[height][width];
+        state.boardTypes = new int[height][width];
+        state.bombCells = new boolean[height][width];
+        state.itemCells = new boolean[height][width];
+        state.itemBlockInfo = new String[height][width];
 
-        Gson gson = new Gson();
-        return gson.toJson(state);
+        ItemEffectType[] itemTypes = ItemEffectType.values();
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                int cell = frame.cells[r][c];
+                state.board[r][c] = cell & 1;
+                int color = (cell >> 1) & 0xF;
+                state.boardColors[r][c] = color < COLOR_SYMBOLS.length() ? COLOR_SYMBOLS.charAt(color) : ' ';
+                state.boardTypes[r][c] = ((cell >> 5) & 0x1F) - 1;
+                state.bombCells[r][c] = (cell & (1 << 10)) != 0;
+                state.itemCells[r][c] = (cell & (1 << 11)) != 0;
+                int item = (cell >> 12) & 0x7;
+                if (item > 0 && item <= itemTypes.length) {
+                    state.itemBlockInfo[r][c] = itemTypes[item - 1].getDisplayName();
+                }
+            }
+        }
+
+        state.type = frame.nextType;
+        ItemEffectType nextItem = (frame.nextItem >= 0 && frame.nextItem < itemTypes.length) ? itemTypes[frame.nextItem] : null;
+        state.nextItemEffect = (nextItem != null) ? nextItem.name() : null;
+        state.nextIsWeightBlock = frame.nextIsWeightBlock;
+        state.score = frame.score;
+        state.speedMultiplier = frame.speedMultiplier;
+        state.difficultyMultiplier = frame.difficultyMultiplier;
+        state.elapsedSeconds = frame.elapsedSeconds;
+        state.gameOverFlag = frame.gameOverFlag;
+        state.pauseFlag = frame.pauseFlag;
+        state.fallSpeed1 = frame.fallSpeed1;
+        state.fallSpeed2 = frame.fallSpeed2;
+        return state;
+    }
+
+    private static ItemEffectType itemTypeByDisplayName(String displayName) {
+        for (ItemEffectType itemType : ItemEffectType.values()) {
+            if (itemType.getDisplayName().equals(displayName)) {
+                return itemType;
+            }
+        }
+        return null;
     }
 
     @Override
     protected void applyAttackBlocks(int player) {
+        if (player == 2 && lockstepActive) {
+            applyRemoteAttackBlocks(pendingRemoteAttackCount);
+            pendingRemoteAttackCount = 0;
+            return;
+        }
+        int queued = (player == 1) ? attackQueue1.size() : 0;
         super.applyAttackBlocks(player);
         if(player != 1) return;
+        lastAttackApplyCount = queued;
         p2p.send("attack-apply");
     }
 
+    /**
+     * 상대방이 실제로 받은 공격 수(오래된 것부터)만큼만 Player 2 보드에 적용합니다.
+     * 그보다 최근 공격은 아직 상대방에게 도착하지 않은 것이므로 대기열에 남겨둡니다.
+     */
+    private void applyRemoteAttackBlocks(int count) {
+        java.util.ArrayDeque<AttackBlock> newer = new java.util.ArrayDeque<>();
+        while (attackQueue2.size() > count) {
+            newer.push(attackQueue2.pop());
+        }
+        super.applyAttackBlocks(2);
+        while (!newer.isEmpty()) {
+            attackQueue2.push(newer.pop());
+        }
+    }
+
     @Override
     protected void generateAttackBlocks(java.util.List<Integer> clearedLines, int targetPlayer) {
+        // 입력 동기화 중 내가 받을 공격은 상대방이 보낸 attack-generate로만 추가
+        if (targetPlayer == 1 && lockstepActive) return;
+
         int beforeSize = attackQueue2.size();
         super.generateAttackBlocks(clearedLines, targetPlayer);
         if(targetPlayer == 1) return;
@@ -517,12 +793,19 @@ public class P2PBattleScene extends BattleScene {
         // NetworkStatusDisplay 업데이트
         if (networkStatusDisplay != null) {
             networkStatusDisplay.updateLatency(latency);
+            networkStatusDisplay.updateMessageStats(p2p.getMessageStats());
         }
         
     }
     
     
 
+    @Override
+    public void onExit() {
+        stopLockstep();
+        super.onExit();
+    }
+
     class EmptyCallback implements InputHandler.InputCallback, GameStateManager.StateChangeCallback {
         @Override
         public void onGameAction(InputHandler.GameAction action) { }
@@ -854,7 +1137,12 @@ public class P2PBattleScene extends BattleScene {
     private void exit(boolean exitWithDisconnect) {
         // 리소스 정리
         if(p2p != null) {
-            p2p.removeCallback("board:");
+            p2p.removeCallback("board-delta:");
+            p2p.removeCallback("board-resync");
+            p2p.removeCallback(LockstepSession.SYNC);
+            p2p.removeCallback(LockstepSession.SEED);
+            p2p.removeCallback(LockstepSession.INPUT);
+            p2p.removeCallback(LockstepSession.DESYNC);
             p2p.removeCallback("attack-generate:");
             p2p.removeCallback("attack-apply");
             p2p.removeCallback("item:speed-up:");
@@ -866,6 +1154,7 @@ public class P2PBattleScene extends BattleScene {
             writeTimer.cancel(); 
             writeTimer.purge(); // 완전히 정리
         }
+        stopLockstep();
         
         // NetworkStatusDisplay 제거
         if (networkStatusDisplay != null) {
@@ -943,7 +1232,12 @@ public class P2PBattleScene extends BattleScene {
     protected void exitToMenu() {
         // 리소스 정리
         if(p2p != null) {
-            p2p.removeCallback("board:");
+            p2p.removeCallback("board-delta:");
+            p2p.removeCallback("board-resync");
+            p2p.removeCallback(LockstepSession.SYNC);
+            p2p.removeCallback(LockstepSession.SEED);
+            p2p.removeCallback(LockstepSession.INPUT);
+            p2p.removeCallback(LockstepSession.DESYNC);
             p2p.removeCallback("attack-generate:");
             p2p.removeCallback("attack-apply");
             p2p.removeCallback("item:speed-up:");
@@ -956,6 +1250,7 @@ public class P2PBattleScene extends BattleScene {
             writeTimer.cancel(); 
             writeTimer.purge(); // 완전히 정리
         }
+        stopLockstep();
         
         // NetworkStatusDisplay 제거
         if (networkStatusDisplay != null) {
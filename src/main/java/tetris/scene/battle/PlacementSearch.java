@@ -0,0 +1,292 @@
+package tetris.scene.battle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import tetris.scene.game.blocks.Block;
+
+/**
+ * CPU 플레이어의 블록 배치 탐색
+ *
+ * 현재 블록을 회전 → 좌우 이동 → 하드 드롭으로 놓을 수 있는 모든 위치를 나열하고,
+ * 각 결과 보드에서 다음 블록의 모든 위치까지 놓아 본 뒤 가장 좋은 보드 평가값을 그 위치의 점수로 씁니다.
+ * 현재 블록의 위치마다 작업 하나로 나눠 ForkJoinPool에서 병렬로 평가합니다.
+ *
+ * 보드는 BoardManager와 같은 행 비트마스크(bit i = i번째 열, 0행이 맨 위)로 다루며,
+ * 탐색 중에는 입력 배열을 수정하지 않으므로 EDT 밖에서 안전하게 실행할 수 있습니다.
+ */
+public final class PlacementSearch {
+
+    public static final int WIDTH = 10;
+    public static final int HEIGHT = 20;
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    // 보드 평가 가중치 (높이 합, 완성 줄, 구멍, 울퉁불퉁함)
+    private static final double HEIGHT_WEIGHT = -0.510066;
+    private static final double LINES_WEIGHT = 0.760666;
+    private static final double HOLES_WEIGHT = -0.35663;
+    private static final double BUMPINESS_WEIGHT = -0.184483;
+    private static final double TOP_OUT_SCORE = -1_000_000; // 다음 블록이 나올 자리가 막힘
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * 탐색에 쓰는 블록 모양 (회전 상태별 행 마스크). 생성 후 바뀌지 않습니다.
+     */
+    public static final class Piece {
+        final int type;
+        final int[][] masks = new int[4][]; // [회전][행] (블록 내부 좌표)
+        final int[] minCol = new int[4];    // 가장 왼쪽 셀의 열
+        final int[] width = new int[4];     // 가장 오른쪽 셀의 열 + 1
+
+        /**
+         * 블록의 현재 회전 상태부터 시계 방향으로 네 가지 모양을 읽습니다 (블록은 바꾸지 않음).
+         */
+        public Piece(Block block) {
+            this.type = block.getType();
+            Block copy = block.copy();
+            for (int r = 0; r < 4; r++) {
+                int[] rows = new int[copy.height()];
+                int all = 0;
+                for (int j = 0; j < rows.length; j++) {
+                    rows[j] = copy.getRowMask(j);
+                    all |= rows[j];
+                }
+                masks[r] = rows;
+                minCol[r] = (all == 0) ? 0 : Integer.numberOfTrailingZeros(all);
+                width[r] = 32 - Integer.numberOfLeadingZeros(all);
+                copy.rotate();
+            }
+        }
+
+        public int getType() { return type; }
+    }
+
+    /**
+     * 배치 후보 하나 (현재 위치에서 rotations번 회전한 뒤 x로 이동해 하드 드롭)
+     */
+    public static final class Placement {
+        public final int rotations;
+        public final int x;
+        public final int landingY;
+        public final int linesCleared;
+        final int[] board;          // 놓은 뒤 (줄 삭제 후) 보드
+        volatile double score;      // 다음 블록까지 고려한 평가값
+        volatile double immediate;  // 이 블록만 놓은 보드의 평가값 (점수가 같을 때 비교)
+        volatile boolean lookedAhead;
+
+        Placement(int rotations, int x, int landingY, int linesCleared, int[] board) {
+            this.rotations = rotations;
+            this.x = x;
+            this.landingY = landingY;
+            this.linesCleared = linesCleared;
+            this.board = board;
+        }
+
+        public double getScore() { return score; }
+
+        /**
+         * 시간 제한 안에 다음 블록까지 평가했는지 여부
+         */
+        public boolean isLookedAhead() { return lookedAhead; }
+
+        @Override
+        public String toString() {
+            return "Placement[rot=" + rotations + ", x=" + x + ", y=" + landingY + ", score=" + String.format("%.2f", score) + "]";
+        }
+    }
+
+    private PlacementSearch() {}
+
+    /**
+     * 모든 배치를 평가해 점수가 높은 순서로 반환합니다. 놓을 곳이 없으면 빈 배열입니다.
+     * 시간 제한을 넘기면 남은 후보는 다음 블록을 고려하지 않은 점수로 평가합니다.
+     *
+     * @param rows 보드 행 마스크 (HEIGHT개, 수정하지 않음)
+     * @param current 현재 블록
+     * @param x 현재 블록 위치
+     * @param y 현재 블록 위치
+     * @param next 다음 블록 (null이면 현재 블록만 평가)
+     * @param deadlineNanos System.nanoTime 기준 제한 시각
+     */
+    public static Placement[] search(int[] rows, Piece current, int x, int y, Piece next, long deadlineNanos) {
+        List<Placement> placements = enumerate(rows, current, x, y);
+        List<RecursiveAction> tasks = new ArrayList<>(placements.size());
+        for (Placement placement : placements) {
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    evaluate(placement, next, deadlineNanos);
+                }
+            });
+        }
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else if (!tasks.isEmpty()) {
+            POOL.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        Placement[] result = placements.toArray(new Placement[0]);
+        // 최종 평가가 같으면 지금 놓은 결과가 더 좋은 쪽 (줄은 미루지 않고 바로 지움)
+        Arrays.sort(result, (a, b) -> a.score != b.score ? Double.compare(b.score, a.score) : Double.compare(b.immediate, a.immediate));
+        return result;
+    }
+
+    private static void evaluate(Placement placement, Piece next, long deadlineNanos) {
+        double base = LINES_WEIGHT * placement.linesCleared;
+        placement.immediate = base + evaluateBoard(placement.board);
+        if (next == null || System.nanoTime() > deadlineNanos) {
+            placement.score = placement.immediate;
+            return;
+        }
+
+        List<Placement> followUps = enumerate(placement.board, next, spawnX(), 0);
+        if (followUps.isEmpty()) {
+            placement.score = TOP_OUT_SCORE;
+            placement.lookedAhead = true;
+            return;
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (Placement followUp : followUps) {
+            double value = LINES_WEIGHT * followUp.linesCleared + evaluateBoard(followUp.board);
+            if (value > best) best = value;
+        }
+        placement.score = base + best;
+        placement.lookedAhead = true;
+    }
+
+    /**
+     * 새 블록이 나오는 x 위치 (BlockManager와 동일)
+     */
+    static int spawnX() {
+        return 3;
+    }
+
+    /**
+     * (x, y)에서 회전 → 좌우 이동 → 하드 드롭으로 놓을 수 있는 모든 위치를 나열합니다.
+     * 모양이 같은 회전 상태는 한 번만 나열합니다.
+     */
+    static List<Placement> enumerate(int[] rows, Piece piece, int x, int y) {
+        List<Placement> result = new ArrayList<>(40);
+        if (collides(rows, piece, 0, x, y)) return result;
+
+        for (int r = 0; r < 4; r++) {
+            // 제자리 회전이 막히면 그 이후 상태도 만들 수 없음 (BlockManager.rotateBlock과 동일하게 벽차기 없음)
+            if (r > 0 && collides(rows, piece, r, x, y)) break;
+            if (isDuplicate(piece, r)) continue;
+
+            // 왼쪽/오른쪽으로 한 칸씩 이동 가능한 범위
+            int left = x;
+            while (!collides(rows, piece, r, left - 1, y)) left--;
+            int right = x;
+            while (!collides(rows, piece, r, right + 1, y)) right++;
+
+            for (int targetX = left; targetX <= right; targetX++) {
+                int landingY = y;
+                while (!collides(rows, piece, r, targetX, landingY + 1)) landingY++;
+                result.add(place(rows, piece, r, targetX, landingY));
+            }
+        }
+        return result;
+    }
+
+    // 앞의 회전 상태와 (빈 줄/열을 빼면) 같은 모양이면 같은 위치들이 나오므로 건너뜀
+    private static boolean isDuplicate(Piece piece, int rotation) {
+        int[] shape = normalize(piece, rotation);
+        for (int r = 0; r < rotation; r++) {
+            if (Arrays.equals(normalize(piece, r), shape)) return true;
+        }
+        return false;
+    }
+
+    private static int[] normalize(Piece piece, int rotation) {
+        int[] masks = piece.masks[rotation];
+        int top = 0;
+        while (top < masks.length && masks[top] == 0) top++;
+        int[] shape = new int[masks.length - top];
+        for (int j = 0; j < shape.length; j++) {
+            shape[j] = masks[top + j] >>> piece.minCol[rotation];
+        }
+        return shape;
+    }
+
+    static boolean collides(int[] rows, Piece piece, int rotation, int x, int y) {
+        if (x + piece.minCol[rotation] < 0 || x + piece.width[rotation] > WIDTH) return true;
+        int[] masks = piece.masks[rotation];
+        for (int j = 0; j < masks.length; j++) {
+            if (masks[j] == 0) continue;
+            int row = y + j;
+            if (row >= HEIGHT) return true;
+            if (row >= 0 && (rows[row] & shift(masks[j], x)) != 0) return true;
+        }
+        return false;
+    }
+
+    private static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    private static Placement place(int[] rows, Piece piece, int rotation, int x, int y) {
+        int[] board = rows.clone();
+        int[] masks = piece.masks[rotation];
+        for (int j = 0; j < masks.length; j++) {
+            int row = y + j;
+            if (row >= 0 && row < HEIGHT) board[row] |= shift(masks[j], x);
+        }
+
+        // 완성된 줄을 지우고 위쪽 줄을 내림
+        int lines = 0;
+        int write = HEIGHT - 1;
+        for (int read = HEIGHT - 1; read >= 0; read--) {
+            if (board[read] == FULL_ROW) {
+                lines++;
+            } else {
+                board[write--] = board[read];
+            }
+        }
+        while (write >= 0) board[write--] = 0;
+        return new Placement(rotation, x, y, lines, board);
+    }
+
+    /**
+     * 보드 평가값 (높을수록 좋음): 높이 합, 구멍 수, 인접 열 높이 차이를 가중합합니다.
+     */
+    static double evaluateBoard(int[] rows) {
+        // 다음 블록이 나오는 자리(맨 위 두 줄 가운데)가 막혀 있으면 곧 게임 오버
+        if (((rows[0] | rows[1]) & (0xF << spawnX())) != 0) return TOP_OUT_SCORE;
+
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+        int previousHeight = -1;
+        for (int col = 0; col < WIDTH; col++) {
+            int bit = 1 << col;
+            int top = 0;
+            while (top < HEIGHT && (rows[top] & bit) == 0) top++;
+            int height = HEIGHT - top;
+            for (int row = top + 1; row < HEIGHT; row++) {
+                if ((rows[row] & bit) == 0) holes++;
+            }
+            aggregateHeight += height;
+            if (previousHeight >= 0) bumpiness += Math.abs(height - previousHeight);
+            previousHeight = height;
+        }
+        return HEIGHT_WEIGHT * aggregateHeight + HOLES_WEIGHT * holes + BUMPINESS_WEIGHT * bumpiness;
+    }
+
+    /**
+     * 탐색 작업을 실행하는 풀 (EDT 밖에서 탐색을 시작할 때 사용)
+     */
+    static ForkJoinPool pool() {
+        return POOL;
+    }
+}
@@ -4,15 +4,19 @@ import tetris.scene.Scene;
 import tetris.scene.game.blocks.*;
 import tetris.scene.game.core.BoardManager;
 import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.GameEngine;
 import tetris.scene.game.core.InputHandler;
 import tetris.scene.game.core.GameStateManager;
 import tetris.scene.game.core.RenderManager;
+import tetris.scene.game.core.ReplayRecorder;
 import tetris.scene.game.core.TimerManager;
 import tetris.scene.game.core.UIManager;
 import tetris.scene.game.overlay.GameOver;
+import tetris.scene.game.items.ItemEffectHost;
 import tetris.scene.game.core.ScoreManager;
 import tetris.Game;
 import tetris.scene.menu.MainMenuScene;
+import tetris.util.DebugLog;
 import tetris.util.Sound;
 import tetris.GameSettings;
 
@@ -23,7 +27,7 @@ import javax.swing.*;
 import java.awt.*;
 import javax.swing.OverlayLayout;
 
-public class GameScene extends Scene implements InputHandler.InputCallback, GameStateManager.StateChangeCallback, TimerManager.TimerCallback {
+public class GameScene extends Scene implements InputHandler.InputCallback, GameStateManager.StateChangeCallback, TimerManager.TimerCallback, ItemEffectHost {
     private JFrame m_frame;
     private static final int GAME_HEIGHT = 20; // 실제 블록이 놓이는 높이
     private static final int GAME_WIDTH = 10; // 실제 블록이 놓이는 너비
@@ -35,6 +39,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
 
     private final BoardManager boardManager; // 보드 관리자
     private BlockManager blockManager; // 블록 관리자
+    private GameEngine gameEngine; // 블록 고정 후 규칙 진행 (BlockManager와 함께 새로 만듦)
     private final InputHandler inputHandler; // 입력 처리자
     private final GameStateManager gameStateManager; // 게임 상태 관리자
     private RenderManager renderManager; // 렌더링 관리자
@@ -65,6 +70,9 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
     // 배경 음악 추가
     private Sound bgm = null;
 
+    // 리플레이 녹화 (파일을 만들 수 없으면 null)
+    private ReplayRecorder replayRecorder = null;
+
     // ─────────────────────────────────────────────────────────────
     // Scene lifecycle
     // ─────────────────────────────────────────────────────────────
@@ -103,6 +111,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
 
     @Override
     public void onExit() {
+        finishReplay();
         timerManager.stopTimers();
         if (blockShake != null) blockShake.cleanup(); // 흔들림 효과 정리
 
@@ -133,6 +142,16 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         timerManager.setupSpeedUp();
         timerManager.setupLineBlinkEffect();
         
+        // 블록 흔들림도 같은 게임 루프에서 진행하고, 화면 갱신은 프레임당 한 번만 요청
+        timerManager.getGameLoop().add(stepMillis -> {
+            BlockShake shake = blockManager.getBlockShake();
+            if (shake == null || !shake.isShaking()) return false;
+            shake.advance(stepMillis);
+            return true;
+        });
+        timerManager.getGameLoop().setFrameCallback(this::repaintDirtyRegion);
+        timerManager.getGameLoop().setPauseCondition(gameStateManager::isPaused); // 아이템 효과 시간은 일시정지 중 멈춤
+        
         // 포커스 요청
         uiManager.requestFocus(this);
         
@@ -166,6 +185,26 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         }
     }
     
+    /**
+     * 바뀐 영역만 다시 그립니다.
+     * 줄 삭제/청소 점멸이나 블록 흔들림처럼 셀 단위로 추적하지 않는 효과가 진행 중이면 전체를 다시 그립니다.
+     */
+    private void repaintDirtyRegion() {
+        JPanel gamePanel = getGamePanel();
+        if (gamePanel == null || renderManager == null) return;
+        
+        Rectangle dirty = renderManager.collectDirtyRegion();
+        boolean animating = cleanupBlinkingActive
+            || (timerManager.getLineBlinkEffect() != null && timerManager.getLineBlinkEffect().isActive())
+            || (blockManager.getBlockShake() != null && blockManager.getBlockShake().isShaking());
+        
+        if (dirty == null || animating) {
+            gamePanel.repaint();
+        } else if (!dirty.isEmpty()) {
+            gamePanel.repaint(dirty);
+        }
+    }
+    
     /**
      * 게임 시작 시 해상도 설정을 적용합니다.
      */
@@ -198,8 +237,9 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
     private void initGameState() {
         boardManager.reset(); // BoardManager를 사용하여 보드 초기화
         
-        // BlockManager 생성 및 초기화
-        blockManager = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager, scoreManager, difficulty);
+        // BlockManager 생성 및 초기화 (리플레이 재현을 위해 시드를 직접 지정)
+        long seed = System.currentTimeMillis();
+        blockManager = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager, scoreManager, difficulty, seed);
         
         // 속도 조정 관리자가 있으면 BlockManager에 설정
         if (timerManager.getSpeedUp() != null) {
@@ -211,7 +251,9 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         boardManager.setGameScene(this);
         boardManager.setBlockManager(blockManager);
         
-        blockManager.initializeBlocks();
+        // 첫 블록 생성, 점수와 속도 카운터 초기화 (헤드리스 엔진과 같은 순서)
+        gameEngine = new GameEngine(difficulty, seed, boardManager, blockManager, scoreManager, timerManager.getSpeedUp());
+        gameEngine.startGame();
         
         // RenderManager 초기화
         renderManager = new RenderManager(
@@ -219,15 +261,16 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
             boardManager, blockManager, gameStateManager, scoreManager
         );
         
-        // 점수 초기화
-        scoreManager.reset();
-        
         // GameStateManager 초기화
         gameStateManager.reset();
         
-        // TimerManager 속도 리셋
+        // 드롭 타이머 간격 복원 (속도 카운터도 다시 초기화되지만 블록 수는 이미 0이므로 결과는 같음)
         timerManager.resetSpeed();
         
+        // 리플레이 녹화 시작
+        if (replayRecorder != null) replayRecorder.close();
+        replayRecorder = ReplayRecorder.start(getReplayMode(), difficulty, seed);
+        
         // 블록 흔들림 효과 초기화
         if (blockShake != null) {
             blockShake.cleanup();
@@ -284,6 +327,11 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
             return;
         }
         
+        // 적용되는 입력만 녹화 (처리 중 게임이 끝날 수 있으므로 먼저 기록)
+        if (replayRecorder != null && action != InputHandler.GameAction.EXIT_TO_MENU) {
+            replayRecorder.recordAction(0, action, replayMillis());
+        }
+        
         switch (action) {
             case MOVE_LEFT:
                 moveBlockLeft();
@@ -335,7 +383,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         if (gameStateManager.isGameOver()) return;
         
         blockManager.moveLeft();
-        repaintGamePanel();
+        repaintDirtyRegion();
     }
     
     /**
@@ -345,7 +393,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         if (gameStateManager.isGameOver()) return;
         
         blockManager.moveRight();
-        repaintGamePanel();
+        repaintDirtyRegion();
     }
     
     /**
@@ -376,7 +424,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
             // BlockManager의 rotateBlock()를 호출하여 회전 시도
             // BlockManager에서 회전 가능 여부를 판단하고 blockshake 처리
             blockManager.rotateBlock();
-            repaintGamePanel();
+            repaintDirtyRegion();
         }
     }
     
@@ -400,16 +448,21 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
     
     /**
      * 블록이 배치된 후 후속 처리를 수행합니다.
+     * 규칙 순서는 GameEngine.lockPiece를 따르고, 지울 줄이 있으면 점멸 연출이 끝난 뒤 executeLineDeletion에서 삭제합니다.
      */
     private void handleBlockPlaced() {
-        // 블록이 고정되었을 때 게임 오버 체크
-        if (blockManager.isGameOver()) {
+        java.util.List<Integer> linesToClear = gameEngine.lockPiece();
+        if (gameEngine.isGameOver()) {
             handleGameOver();
             return;
         }
         
-        // 완성된 줄 확인 및 제거
-        checkAndClearLines();
+        // 지울 줄이 없으면 lockPiece에서 이미 다음 블록이 생성됨
+        if (!linesToClear.isEmpty()) {
+            // 줄 점멸 연출 시작 (타이머는 계속 실행하되 블록 이동만 일시정지)
+            DebugLog.log("Starting blink effect for lines: " + linesToClear);
+            timerManager.getLineBlinkEffect().startBlinkEffect(linesToClear);
+        }
         
         // 보드 상태 출력 (디버그용)
         boardManager.printBoard();
@@ -417,94 +470,23 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         repaintGamePanel();
     }
     
-    /**
-     * 완성된 줄과 폭탄이 있는 줄을 찾아서 제거 연출을 시작합니다.
-     */
-    private void checkAndClearLines() {
-        java.util.List<Integer> completedLines = new java.util.ArrayList<>();
-        java.util.List<Integer> bombLines = new java.util.ArrayList<>();
-        
-        // BoardManager를 사용하여 완성된 줄들을 찾습니다
-        for (int row = 0; row < boardManager.getHeight(); row++) {
-            if (boardManager.isLineFull(row)) {
-                completedLines.add(row);
-            }
-        }
-        
-        // 폭탄이 있는 줄들을 찾습니다
-        bombLines = boardManager.getBombLines();
-        
-        // 완성된 줄과 폭탄이 있는 줄을 합칩니다 (중복 제거)
-        java.util.Set<Integer> allLinesToDelete = new java.util.HashSet<>();
-        allLinesToDelete.addAll(completedLines);
-        allLinesToDelete.addAll(bombLines);
-        
-        if (!allLinesToDelete.isEmpty()) {
-            java.util.List<Integer> linesToBlink = new java.util.ArrayList<>(allLinesToDelete);
-            linesToBlink.sort(Integer::compareTo); // 정렬
-            
-            System.out.println("Found completed lines: " + completedLines);
-            if (!bombLines.isEmpty()) {
-                System.out.println("Found bomb lines: " + bombLines);
-            }
-            System.out.println("All lines to delete: " + linesToBlink);
-            
-            // 줄 점멸 연출 시작 (타이머는 계속 실행하되 블록 이동만 일시정지)
-            System.out.println("Starting blink effect for lines: " + linesToBlink);
-            timerManager.getLineBlinkEffect().startBlinkEffect(linesToBlink);
-            System.out.println("Blink effect started");
-        } else {
-            // 완성된 줄이나 폭탄이 있는 줄이 없으면 즉시 다음 블록 생성
-            if (!blockManager.isGameOver()) {
-                blockManager.generateNextBlock();
-            }
-        }
-    }
-    
     /**
      * 연출이 끝난 후 실제로 줄을 삭제합니다.
      */
     private void executeLineDeletion() {
-        System.out.println("=== EXECUTING LINE DELETION ===");
-        int[] lineResults = boardManager.clearCompletedAndBombLinesSeparately(); // [완성된 줄 수, 폭탄 줄 수]
-        int completedLines = lineResults[0];
-        int bombLines = lineResults[1];
-        
-        System.out.println("Completed lines cleared: " + completedLines);
-        System.out.println("Bomb lines cleared: " + bombLines);
+        if (replayRecorder != null) replayRecorder.recordLinesCleared(0, replayMillis());
+        int completedLines = gameEngine.clearPendingLines()[0];
         
-        // 완성된 줄에 대한 처리
+        // 아이템 모드에서 ItemManager에 줄 삭제 알림 - 완성된 줄만 카운트
         if (completedLines > 0) {
-            // 점수 업데이트 (ScoreManager 사용)
-            scoreManager.addScore(completedLines);
-            
-            // 줄 삭제 수 증가 (SpeedUp 관리자 사용) - 완성된 줄만 카운트
-            if (timerManager.getSpeedUp() != null) {
-                timerManager.getSpeedUp().onLinesCleared(completedLines);
-            }
-            
-            // 아이템 모드에서 ItemManager에 줄 삭제 알림 - 완성된 줄만 카운트
             notifyLinesCleared(completedLines);
         }
         
-        // 폭탄 줄에 대한 처리 (점수만 주고 줄 카운트는 증가시키지 않음)
-        if (bombLines > 0) {
-            // 폭탄으로 삭제된 각 줄마다 1줄 완성 점수 지급 (게임 속도 배율 적용)
-            for (int i = 0; i < bombLines; i++) {
-                scoreManager.addScore(1); // 1줄씩 점수 추가 (배율 적용됨)
-            }
-            System.out.println("Bomb bonus: " + bombLines + " lines worth of points added (with speed multiplier)");
-        }
-        
         // 아이템 모드에서 다음 블록을 즉시 폭탄 블록으로 교체 (완성된 줄만 기준)
         forceCreateItemBlockIfNeeded(completedLines);
         
         // 줄 삭제 검사 완료 후 다음 블록 생성 (게임이 종료되지 않은 경우에만)
-        if (!blockManager.isGameOver()) {
-            blockManager.generateNextBlock();
-        }
-        
-        System.out.println("=== LINE DELETION COMPLETED ===");
+        gameEngine.spawnNextBlock();
     }
     
     /**
@@ -533,6 +515,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         
         // 게임 종료 상태 설정
         gameStateManager.triggerGameOver();
+        finishReplay();
         
         // 타이머 정지 (블록은 그대로 두고 움직임만 중단)
         timerManager.stopTimers();
@@ -636,6 +619,8 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
             return;
         }
         
+        if (replayRecorder != null) replayRecorder.recordGravity(0, replayMillis());
+        
         // 무게추 블록 업데이트 확인
         if (blockManager.updateWeightBlock()) {
             // 무게추가 사라졌으면 다음 블록 생성
@@ -669,7 +654,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
             }
         }
         
-        repaintGamePanel();
+        // 화면 갱신은 게임 루프의 프레임 콜백(repaintDirtyRegion)에서 한 번에 처리
     }
     
     @Override
@@ -677,6 +662,31 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         executeLineDeletion();
     }
     
+    // ═══════════════════════════════════════════════════════════════
+    // 리플레이 녹화
+    // ═══════════════════════════════════════════════════════════════
+    
+    /**
+     * 리플레이 파일에 기록할 게임 모드 이름 (재생 시 규칙 선택용)
+     */
+    protected String getReplayMode() {
+        return "classic";
+    }
+    
+    private long replayMillis() {
+        return ReplayRecorder.gameMillis(timerManager.getGameLoop());
+    }
+    
+    /**
+     * 최종 점수를 기록하고 녹화를 끝냅니다 (이미 끝났으면 무시).
+     */
+    private void finishReplay() {
+        if (replayRecorder == null) return;
+        replayRecorder.finish(replayMillis(),
+            new int[] { scoreManager.getScore() }, new int[] { scoreManager.getLinesCleared() });
+        replayRecorder = null;
+    }
+    
     /**
      * 메인 메뉴로 나가기 처리
      */
@@ -698,6 +708,11 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         repaintGamePanel();
     }
     
+    @Override
+    public void setVisionBlockActive(int playerNumber, boolean active) {
+        setVisionBlockActive(active); // 일반 모드는 플레이어 구분 없음
+    }
+    
     /**
      * 시야 제한 효과가 활성화되어 있는지 확인합니다.
      * @return 시야 제한 효과 활성화 상태
@@ -716,6 +731,11 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         cleanupBlinkingActive = true;
     }
     
+    @Override
+    public void startCleanupBlinking(int playerNumber, java.util.Set<java.awt.Point> cells) {
+        startCleanupBlinking(cells);
+    }
+    
     /**
      * LINE_CLEAR 아이템을 위한 줄 블링킹 효과를 시작합니다.
      * @param linesToClear 삭제할 줄 번호들의 리스트
@@ -736,6 +756,11 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
         cleanupBlinkingCells.clear();
     }
     
+    @Override
+    public void stopCleanupBlinking(int playerNumber) {
+        stopCleanupBlinking();
+    }
+    
     /**
      * 청소 블링킹이 활성화되어 있는지 확인합니다.
      * @return 청소 블링킹 활성화 상태
@@ -756,6 +781,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
      * 현재 낙하 속도를 반환합니다 (아이템 효과용).
      * @return 현재 낙하 속도 (밀리초 단위 딜레이)
      */
+    @Override
     public double getFallSpeed() {
         if (timerManager != null) {
             return timerManager.getCurrentDropDelay();
@@ -767,6 +793,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
      * 낙하 속도를 설정합니다 (아이템 효과용).
      * @param speed 새로운 낙하 속도 (밀리초 단위 딜레이)
      */
+    @Override
     public void setFallSpeed(double speed) {
         if (timerManager != null) {
             int delay = Math.max(10, (int) Math.round(speed)); // 최소 10ms로 제한 완화 (매우 빠른 속도 허용)
@@ -779,6 +806,7 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
      * 속도 아이템 효과 활성화 상태를 설정합니다.
      * @param active 활성화 여부
      */
+    @Override
     public void setSpeedItemActive(boolean active) {
         this.speedItemActive = active;
         System.out.println("Speed item active: " + active);
@@ -788,10 +816,43 @@ public class GameScene extends Scene implements InputHandler.InputCallback, Game
      * 속도 아이템 효과가 활성화되어 있는지 확인합니다.
      * @return 속도 아이템 활성화 여부
      */
+    @Override
     public boolean isSpeedItemActive() {
         return speedItemActive;
     }
     
+    /**
+     * 일반 모드에는 상대가 없습니다.
+     */
+    @Override
+    public boolean isBattleMode() {
+        return false;
+    }
+    
+    // 상대에게 적용하는 효과는 대전 모드에서만 호출됨
+    @Override
+    public void applySpeedUpToOpponent(int sourcePlayer) { }
+    
+    @Override
+    public void applySpeedDownToOpponent(int sourcePlayer) { }
+    
+    @Override
+    public void applyVisionBlockToOpponent(int sourcePlayer) { }
+    
+    /**
+     * LINE_CLEAR 아이템 사용 표시 (아이템 모드인 ItemGameScene에서 처리)
+     */
+    @Override
+    public void markItemLineClear(int playerNumber) { }
+    
+    /**
+     * 아이템 효과의 지연 작업을 게임 루프에 예약합니다 (일시정지 중에는 시간이 흐르지 않음).
+     */
+    @Override
+    public void schedule(int delayMillis, Runnable task) {
+        timerManager.getGameLoop().schedule(delayMillis, task);
+    }
+    
     /**
      * TimerManager를 반환합니다 (아이템 효과용).
      * @return TimerManager 인스턴스
@@ -43,6 +43,11 @@ public class ItemGameScene extends GameScene {
         });
     }
     
+    @Override
+    protected String getReplayMode() {
+        return "item";
+    }
+    
     /**
      * 아이템 모드 표시기를 UI에 추가합니다.
      */
@@ -124,6 +129,11 @@ public class ItemGameScene extends GameScene {
         System.out.println("ItemGameScene: Marked next line clearing as item-caused");
     }
     
+    @Override
+    public void markItemLineClear(int playerNumber) {
+        markItemLineClear(); // 일반 모드는 플레이어 구분 없음
+    }
+    
     /**
      * 게임 오버 시 Item 모드 결과를 "item" 카테고리에 저장하도록 오버라이드
      */
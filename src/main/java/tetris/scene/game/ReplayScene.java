@@ -0,0 +1,153 @@
+package tetris.scene.game;
+
+import tetris.Game;
+import tetris.scene.Scene;
+import tetris.scene.game.core.GameEngine;
+import tetris.scene.game.core.GameLoop;
+import tetris.scene.game.core.GameStateManager;
+import tetris.scene.game.core.RenderManager;
+import tetris.scene.game.core.ReplayPlayer;
+import tetris.scene.menu.MainMenuScene;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+
+/**
+ * 녹화된 게임을 보여주는 화면
+ *
+ * ReplayPlayer가 진행한 GameEngine의 보드/블록을 게임 화면과 같은 RenderManager로 그립니다.
+ *
+ * 조작:
+ * - Space: 재생 / 일시정지
+ * - ← / →: 이벤트 하나씩 뒤로 / 앞으로 (일시정지)
+ * - ↑ / ↓: 배속 2배 / 1/2배 (0.25 ~ 16배)
+ * - [ / ]: 10초 뒤로 / 앞으로, Home / End: 처음 / 끝
+ * - Esc: 메인 메뉴
+ */
+public class ReplayScene extends Scene {
+
+    private static final int GAME_WIDTH = 10;
+    private static final int GAME_HEIGHT = 20;
+    private static final int PREVIEW_SIZE = 4;
+    private static final long SEEK_STEP_MILLIS = 10_000;
+
+    private final JFrame frame;
+    private final ReplayPlayer player;
+    private final RenderManager renderManager;
+    private final GameLoop gameLoop = new GameLoop();
+    private final int cellSize;
+
+    public ReplayScene(JFrame frame, ReplayPlayer player) {
+        super(frame);
+        this.frame = frame;
+        this.player = player;
+
+        // 세로 기준으로 보드가 화면에 들어가는 셀 크기 (UIManager와 같은 하한)
+        int height = frame.getContentPane().getHeight() > 0 ? frame.getContentPane().getHeight() : 720;
+        this.cellSize = Math.max(15, height / (GAME_HEIGHT + 4));
+
+        GameEngine engine = player.getEngine();
+        renderManager = new RenderManager(
+            GAME_WIDTH, GAME_HEIGHT, cellSize, PREVIEW_SIZE, cellSize * 2 / 3,
+            engine.getBoardManager(), engine.getBlockManager(), new GameStateManager(null), engine.getScoreManager()
+        );
+
+        setLayout(new BorderLayout());
+        setBackground(Color.BLACK);
+        setFocusable(true);
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                handleKey(e.getKeyCode());
+            }
+        });
+
+        // 게임 시간과 같은 틱 단위로 재생 위치를 진행
+        gameLoop.add(stepMillis -> player.update(stepMillis));
+        gameLoop.setFrameCallback(this::repaint);
+    }
+
+    @Override
+    public void onEnter() {
+        frame.setContentPane(this);
+        frame.revalidate();
+        requestFocusInWindow();
+        player.play();
+        gameLoop.start();
+    }
+
+    @Override
+    public void onExit() {
+        gameLoop.stop();
+    }
+
+    private void handleKey(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_SPACE:
+                if (player.isPlaying()) player.pause();
+                else player.play();
+                break;
+            case KeyEvent.VK_RIGHT:
+                player.stepForward();
+                break;
+            case KeyEvent.VK_LEFT:
+                player.stepBackward();
+                break;
+            case KeyEvent.VK_UP:
+                player.setSpeed(player.getSpeed() * 2);
+                break;
+            case KeyEvent.VK_DOWN:
+                player.setSpeed(player.getSpeed() / 2);
+                break;
+            case KeyEvent.VK_CLOSE_BRACKET:
+                player.seek(player.getPosition() + SEEK_STEP_MILLIS);
+                break;
+            case KeyEvent.VK_OPEN_BRACKET:
+                player.seek(player.getPosition() - SEEK_STEP_MILLIS);
+                break;
+            case KeyEvent.VK_HOME:
+                player.seek(0);
+                break;
+            case KeyEvent.VK_END:
+                player.seek(player.getDurationMillis());
+                break;
+            case KeyEvent.VK_ESCAPE:
+                Game.setScene(new MainMenuScene(frame));
+                return;
+            default:
+                return;
+        }
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g;
+        renderManager.render(g2d, getWidth(), getHeight(), null, null, 0, 0, false, false, null, true);
+        renderStatus(g2d);
+    }
+
+    // 재생 위치, 배속, 상태 표시 (보드 아래)
+    private void renderStatus(Graphics2D g2d) {
+        String state = player.isPlaying() ? "▶" : "❚❚";
+        String status = String.format("%s  %s / %s  x%s  (%d/%d)",
+            state, formatTime(player.getPosition()), formatTime(player.getDurationMillis()),
+            formatSpeed(player.getSpeed()), player.getAppliedEventCount(), player.getReplay().getEventCount());
+
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(new Font("SansSerif", Font.BOLD, Math.max(12, cellSize / 2)));
+        g2d.drawString(status, cellSize, (GAME_HEIGHT + 3) * cellSize);
+    }
+
+    private static String formatTime(long millis) {
+        long seconds = millis / 1000;
+        return String.format("%02d:%02d.%d", seconds / 60, seconds % 60, (millis % 1000) / 100);
+    }
+
+    private static String formatSpeed(double speed) {
+        return speed == Math.rint(speed) ? String.valueOf((int) speed) : String.valueOf(speed);
+    }
+}
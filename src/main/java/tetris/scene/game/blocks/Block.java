@@ -2,21 +2,48 @@ package tetris.scene.game.blocks;
 
 import java.awt.Color;
 
-public abstract class Block {
+public abstract class Block implements Cloneable {
 		
 	protected int[][] shape;//
 	protected Color color;
 	protected int type; // 블록 타입 (0-6: Z, L, O, S, I, J, T)
 	
+	protected RotationTable rotations; // 미리 계산된 회전 상태 테이블
+	protected int rotation; // 현재 회전 상태 인덱스 (0~3)
+	
+	// 기본 모양 (2x2) 회전 상태
+	private static final RotationTable DEFAULT_ROTATIONS = new RotationTable(new int[][]{ 
+			{1, 1}, 
+			{1, 1}
+	});
+	
 	public Block() {
-		shape = new int[][]{ 
-				{1, 1}, 
-				{1, 1}
-		};
+		useRotations(DEFAULT_ROTATIONS);
 		color = Color.YELLOW;
 		type = 0; // 기본값
 	}
 	
+	/**
+	 * 미리 계산된 회전 테이블을 사용하도록 설정합니다 (서브클래스 생성자용).
+	 */
+	protected void useRotations(RotationTable table) {
+		rotations = table;
+		rotation = 0;
+		shape = table.getShape(0);
+	}
+	
+	/**
+	 * 회전 테이블이 현재 shape와 맞는지 확인하고, 다르면 현재 shape 기준으로 새로 만듭니다.
+	 * 서브클래스가 shape를 직접 대입한 경우를 위한 처리입니다.
+	 */
+	private RotationTable table() {
+		if (rotations == null || rotations.getShape(rotation) != shape) {
+			rotations = new RotationTable(shape);
+			rotation = 0;
+		}
+		return rotations;
+	}
+	
 	public int getShape(int x, int y) {
         if (y >= 0 && y < shape.length && x >= 0 && x < shape[y].length) {
             return shape[y][x];
@@ -24,6 +51,54 @@ public abstract class Block {
         return 0; // 범위를 벗어나면 0 반환
     }
 	
+	/**
+	 * 지정된 행의 점유 셀을 비트마스크로 반환합니다 (bit i = i번째 열).
+	 */
+	public int getRowMask(int y) {
+		return table().getRowMask(rotation, y);
+	}
+	
+	/**
+	 * 블록을 구성하는 셀의 개수를 반환합니다.
+	 */
+	public int getCellCount() {
+		return table().getCellCount(rotation);
+	}
+	
+	/**
+	 * index번째 셀의 블록 내부 x 좌표를 반환합니다.
+	 */
+	public int getCellX(int index) {
+		return table().getCellX(rotation, index);
+	}
+	
+	/**
+	 * index번째 셀의 블록 내부 y 좌표를 반환합니다.
+	 */
+	public int getCellY(int index) {
+		return table().getCellY(rotation, index);
+	}
+	
+	/**
+	 * 현재 회전 상태 인덱스를 반환합니다 (0~3).
+	 */
+	public int getRotation() {
+		table();
+		return rotation;
+	}
+	
+	/**
+	 * 같은 종류, 같은 회전 상태의 블록을 만듭니다 (리플레이 키프레임용).
+	 * 회전 테이블과 모양 배열은 바뀌지 않으므로 공유합니다.
+	 */
+	public Block copy() {
+		try {
+			return (Block) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
+		}
+	}
+	
 	public Color getColor() {
 		return color;
 	}
@@ -34,50 +109,21 @@ public abstract class Block {
 	
 	public void rotate() {
 		// Rotate the block 90 deg. clockwise.
-    int rows = shape.length;
-    int cols = shape[0].length;
-    
-    // 새로운 회전된 배열 생성 (행과 열이 바뀜)
-    int[][] rotated = new int[cols][rows];
-    
-    // 시계방향 90도 회전 공식: rotated[j][rows-1-i] = original[i][j]
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            rotated[j][rows - 1 - i] = shape[i][j];
-        }
-    }
-    
-    // 기존 shape를 회전된 배열로 교체
-    shape = rotated;	
+		// 미리 계산된 다음 회전 상태로 교체 (새 배열을 만들지 않음)
+		RotationTable table = table();
+		rotation = RotationTable.next(rotation);
+		shape = table.getShape(rotation);
 	}
 	
 	public int height() {
 		// 실제 블록이 있는 줄까지만 계산
-		for (int row = shape.length - 1; row >= 0; row--) {
-			for (int col = 0; col < shape[row].length; col++) {
-				if (shape[row][col] == 1) {
-					return row + 1;
-				}
-			}
-		}
-		return shape.length; // 모든 줄이 비어있으면 원래 크기 반환
+		return table().getHeight(rotation);
 	}
 	
 	public int width() {
-		if(shape.length > 0) {
-			// 실제 블록이 있는 열까지만 계산
-			int maxWidth = 0;
-			for (int row = 0; row < shape.length; row++) {
-				for (int col = shape[row].length - 1; col >= 0; col--) {
-					if (shape[row][col] == 1) {
-						maxWidth = Math.max(maxWidth, col + 1);
-						break;
-					}
-				}
-			}
-			return maxWidth > 0 ? maxWidth : shape[0].length;
-		}
-		return 0;
+		// 실제 블록이 있는 열까지만 계산
+		if (shape.length == 0) return 0;
+		return table().getWidth(rotation);
 	}
 	
 	/**
@@ -91,51 +137,37 @@ public abstract class Block {
 	 * @return 회전 가능하면 true, 불가능하면 false
 	 */
 	public boolean canRotate(int x, int y, int[][] board, int gameWidth, int gameHeight) {
-		// 임시로 회전해서 검사
-		rotate();
-		boolean canRotate = !hasCollision(x, y, board, gameWidth, gameHeight);
-		rotateBack(); // 원상복구
-		return canRotate;
+		// 실제로 회전하지 않고 다음 회전 상태를 미리 검사
+		RotationTable table = table();
+		return !hasCollision(table, RotationTable.next(rotation), x, y, board, gameWidth, gameHeight);
 	}
 	
 	/**
-	 * 충돌 검사를 수행합니다.
+	 * 지정된 회전 상태로 충돌 검사를 수행합니다.
 	 */
-	private boolean hasCollision(int x, int y, int[][] board, int gameWidth, int gameHeight) {
+	private static boolean hasCollision(RotationTable table, int state, int x, int y, int[][] board, int gameWidth, int gameHeight) {
 		// 1. 경계 체크
-		if (x + width() > gameWidth || y + height() > gameHeight) {
+		if (x + table.getWidth(state) > gameWidth || y + table.getHeight(state) > gameHeight) {
 			return true;
 		}
 		
 		// 2. 기존 고정된 블록들과의 충돌 체크
-		for (int blockRow = 0; blockRow < height(); blockRow++) {
-			for (int blockCol = 0; blockCol < width(); blockCol++) {
-				if (getShape(blockCol, blockRow) == 1) {
-					int boardX = x + blockCol;
-					int boardY = y + blockRow;
-					
-					// 보드 범위 체크
-					if (boardX < 0 || boardX >= gameWidth || boardY < 0 || boardY >= gameHeight) {
-						return true;
-					}
-					
-					// 기존 블록과의 충돌 체크
-					if (board[boardY][boardX] == 1) {
-						return true;
-					}
-				}
+		int cellCount = table.getCellCount(state);
+		for (int i = 0; i < cellCount; i++) {
+			int boardX = x + table.getCellX(state, i);
+			int boardY = y + table.getCellY(state, i);
+			
+			// 보드 범위 체크
+			if (boardX < 0 || boardX >= gameWidth || boardY < 0 || boardY >= gameHeight) {
+				return true;
+			}
+			
+			// 기존 블록과의 충돌 체크
+			if (board[boardY][boardX] == 1) {
+				return true;
 			}
 		}
 		
 		return false;
 	}
-	
-	/**
-	 * 회전을 원상복구합니다 (3번 더 회전하면 360도 = 원래 상태)
-	 */
-	private void rotateBack() {
-		for (int i = 0; i < 3; i++) {
-			rotate();
-		}
-	}
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package tetris.scene.game.blocks;
 
+import tetris.scene.game.core.BoardManager;
+
 /**
  * 블록 하드 드롭 기능을 담당하는 유틸리티 클래스
  * 블록을 즉시 바닥까지 떨어뜨리는 기능을 제공합니다.
  * 고스트 블록은 해당 클래스에서 위치 계산만 수행되며 실제 시각적 표현은 RenderManager에서 처리합니다.
+ * 낙하 위치 계산은 {@link BoardManager#dropY}에 맡기고, 여기서는 보드 배열을 열 마스크로 바꿔 넘기기만 합니다.
  */
 public class BlockHardDrop {
     
@@ -20,44 +23,7 @@ public class BlockHardDrop {
      */
     public static int executeHardDrop(Block curr, int x, int y, int[][] board, int gameWidth, int gameHeight) {
         if (curr == null) return y;
-        
-        int finalY = y;
-        
-        // 블록이 더 이상 아래로 갈 수 없을 때까지 y 좌표를 증가
-        while (canMoveDown(curr, x, finalY, board, gameWidth, gameHeight)) {
-            finalY++;
-        }
-        
-        System.out.println("Hard drop executed! Block moved from y=" + y + " to y=" + finalY);
-        return finalY;
-    }
-    
-    /**
-     * 블록이 아래로 이동할 수 있는지 확인합니다.
-     * 
-     * @param curr 현재 블록
-     * @param x 현재 블록의 x 위치
-     * @param y 현재 블록의 y 위치
-     * @param board 게임 보드 상태 배열
-     * @param gameWidth 게임 보드 너비
-     * @param gameHeight 게임 보드 높이
-     * @return 아래로 이동 가능하면 true, 불가능하면 false
-     */
-    private static boolean canMoveDown(Block curr, int x, int y, int[][] board, int gameWidth, int gameHeight) {
-        if (y + curr.height() >= gameHeight) return false;
-        
-        for (int j = 0; j < curr.height(); j++) {
-            for (int i = 0; i < curr.width(); i++) {
-                if (curr.getShape(i, j) == 1) {
-                    int newY = y + j + 1;
-                    int newX = x + i;
-                    if (newY >= gameHeight || (newY >= 0 && newX >= 0 && newX < gameWidth && board[newY][newX] == 1)) {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
+        return BoardManager.dropY(curr, x, y, BoardManager.columnMasksOf(board), gameWidth, gameHeight);
     }
     
     /**
@@ -106,15 +72,6 @@ public class BlockHardDrop {
      * @return 하드 드롭 시 떨어질 y 위치
      */
     public static int calculateGhostPosition(Block curr, int x, int y, int[][] board, int gameWidth, int gameHeight) {
-        if (curr == null) return y;
-        
-        int ghostY = y;
-        
-        // 블록이 더 이상 아래로 갈 수 없을 때까지 y 좌표를 증가
-        while (canMoveDown(curr, x, ghostY, board, gameWidth, gameHeight)) {
-            ghostY++;
-        }
-        
-        return ghostY;
+        return executeHardDrop(curr, x, y, board, gameWidth, gameHeight);
     }
-}
\ No newline at end of file
+}
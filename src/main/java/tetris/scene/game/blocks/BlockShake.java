@@ -1,11 +1,8 @@
 package tetris.scene.game.blocks;
 
-import javax.swing.Timer;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-
 /**
  * 블록 흔들림 효과를 관리하는 유틸리티 클래스
+ * 게임 루프가 advance()로 경과 시간을 넘겨주면 SHAKE_INTERVAL마다 흔들림을 진행합니다.
  */
 public class BlockShake {
     
@@ -18,7 +15,7 @@ public class BlockShake {
     private boolean isShaking = false;
     private int shakeOffsetX = 0;
     private int shakeOffsetY = 0;
-    private Timer shakeTimer;
+    private int shakeElapsed = 0; // 마지막 흔들림 이후 경과 시간 (ms)
     private int shakeCount = 0;
     private ShakeCallback callback;
     
@@ -46,19 +43,21 @@ public class BlockShake {
         
         isShaking = true;
         shakeCount = 0;
+        shakeElapsed = 0;
+    }
+    
+    /**
+     * 경과 시간만큼 흔들림을 진행합니다 (게임 루프 틱에서 호출).
+     * @param millis 지난 게임 시간 (ms)
+     */
+    public void advance(int millis) {
+        if (!isShaking) return;
         
-        // 기존 흔들림 타이머가 있다면 정지
-        stopShakeTimer();
-        
-        // 흔들림 타이머 생성
-        shakeTimer = new Timer(SHAKE_INTERVAL, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                updateShake();
-            }
-        });
-        
-        shakeTimer.start();
+        shakeElapsed += millis;
+        if (shakeElapsed >= SHAKE_INTERVAL) {
+            shakeElapsed = 0;
+            updateShake();
+        }
     }
     
     /**
@@ -97,8 +96,7 @@ public class BlockShake {
         shakeOffsetX = 0;
         shakeOffsetY = 0;
         shakeCount = 0;
-        
-        stopShakeTimer();
+        shakeElapsed = 0;
         
         // 완료 콜백 호출
         if (callback != null) {
@@ -106,16 +104,6 @@ public class BlockShake {
         }
     }
     
-    /**
-     * 흔들림 타이머를 정지합니다.
-     */
-    private void stopShakeTimer() {
-        if (shakeTimer != null) {
-            shakeTimer.stop();
-            shakeTimer = null;
-        }
-    }
-    
     /**
      * 현재 흔들림 상태를 반환합니다.
      * @return 흔들리고 있으면 true, 아니면 false
@@ -28,9 +28,9 @@ public class ItemBlock extends Block {
     static {
         loadItemImages();
     }
-    private final Block originalBlock; // 원본 블록
+    private Block originalBlock; // 원본 블록 (copy에서만 바꿈)
     private final ItemEffectType itemType; // 아이템 타입
-    private int[][] itemShape; // 아이템 정보 (0: 일반, 1: 아이템) - 회전 시 크기 변경 가능하도록 final 제거
+    private boolean hasItemCell = false; // 아이템 셀이 지정되었는지 여부
     private int itemX, itemY; // 아이템 위치 (회전 시 업데이트 가능하도록 final 제거)
     private int itemCellIndex; // 원본 블록에서 아이템 셀의 인덱스 (0,1,2,3...)
     
@@ -40,17 +40,24 @@ public class ItemBlock extends Block {
      * @param itemType 아이템 효과 타입
      */
     public ItemBlock(Block originalBlock, ItemEffectType itemType) {
+        this(originalBlock, itemType, new java.util.Random());
+    }
+    
+    /**
+     * 아이템 칸 위치를 주어진 난수로 정하는 ItemBlock 생성자 (시드 재현용)
+     * @param originalBlock 원본 블록
+     * @param itemType 아이템 효과 타입
+     * @param random 아이템 칸 위치를 뽑을 난수 생성기
+     */
+    public ItemBlock(Block originalBlock, ItemEffectType itemType, java.util.Random random) {
         this.originalBlock = originalBlock;
         this.itemType = itemType;
         
         // 원본 블록의 모양과 색상을 복사
         copyOriginalBlockProperties();
         
-        // 아이템 모양 배열 초기화
-        this.itemShape = new int[shape.length][shape[0].length];
-        
         // 아이템 위치 설정 (원본 블록의 셀 중 하나를 아이템으로 설정)
-        setRandomItemPosition();
+        setRandomItemPosition(random);
         
         System.out.println("Created ItemBlock with " + itemType.getDisplayName() + 
                           " at position (" + itemX + "," + itemY + ")");
@@ -121,16 +128,10 @@ public class ItemBlock extends Block {
      * 원본 블록의 속성을 복사합니다.
      */
     private void copyOriginalBlockProperties() {
-        // 원본 블록의 모양 복사
-        int height = originalBlock.shape.length; // 실제 배열 크기 사용
-        int width = originalBlock.shape[0].length; // 실제 배열 크기 사용
-        this.shape = new int[height][width];
-        
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                this.shape[i][j] = originalBlock.getShape(j, i);
-            }
-        }
+        // 원본 블록의 회전 테이블과 현재 회전 상태를 공유 (모양 배열 복사 불필요)
+        this.rotation = originalBlock.getRotation();
+        this.rotations = originalBlock.rotations;
+        this.shape = originalBlock.shape;
         
         // 원본 블록의 색상 복사
         this.color = originalBlock.getColor();
@@ -141,9 +142,7 @@ public class ItemBlock extends Block {
     /**
      * 원본 블록의 셀 중 하나를 랜덤하게 아이템 위치로 설정합니다.
      */
-    private void setRandomItemPosition() {
-        java.util.Random random = new java.util.Random();
-        
+    private void setRandomItemPosition(java.util.Random random) {
         // 블록이 있는 셀들의 위치를 찾습니다
         java.util.List<int[]> blockCells = new java.util.ArrayList<>();
         
@@ -161,7 +160,7 @@ public class ItemBlock extends Block {
             int[] itemCell = blockCells.get(itemCellIndex);
             itemY = itemCell[0];
             itemX = itemCell[1];
-            itemShape[itemY][itemX] = 1; // 아이템 표시
+            hasItemCell = true; // 아이템 표시
             
             System.out.println("Item set at position: (" + itemX + ", " + itemY + ") with cell index: " + itemCellIndex);
         }
@@ -174,10 +173,7 @@ public class ItemBlock extends Block {
      * @return 아이템이면 true
      */
     public boolean isItemCell(int x, int y) {
-        if (y >= 0 && y < itemShape.length && x >= 0 && x < itemShape[y].length) {
-            return itemShape[y][x] == 1;
-        }
-        return false;
+        return hasItemCell && x == itemX && y == itemY;
     }
     
     /**
@@ -188,6 +184,18 @@ public class ItemBlock extends Block {
         return itemType;
     }
     
+    /**
+     * 원본 블록까지 복사합니다. 회전 시 원본 블록도 함께 회전하므로 공유하면 사본의 회전 상태가 어긋납니다.
+     */
+    @Override
+    public ItemBlock copy() {
+        ItemBlock copy = (ItemBlock) super.copy();
+        if (originalBlock != null) {
+            copy.originalBlock = originalBlock.copy();
+        }
+        return copy;
+    }
+    
     /**
      * 원본 블록을 반환합니다.
      * @return 원본 Block 객체
@@ -243,6 +251,18 @@ public class ItemBlock extends Block {
      * @return 아이템 이미지 (없으면 null)
      */
     public BufferedImage getItemImage() {
+        return getItemImage(itemType);
+    }
+    
+    /**
+     * 아이템 타입의 이미지를 반환합니다.
+     * @param itemType 아이템 효과 타입
+     * @return 아이템 이미지 (없으면 null)
+     */
+    public static BufferedImage getItemImage(ItemEffectType itemType) {
+        if (itemType == null) {
+            return null;
+        }
         switch (itemType) {
             case LINE_CLEAR:
                 return null; // LINE_CLEAR는 기존 폭탄 이미지나 색상으로 표시
@@ -267,7 +287,19 @@ public class ItemBlock extends Block {
      * @param cellSize 셀 크기 (픽셀)
      */
     public void drawItemCell(Graphics2D g2d, int x, int y, int cellSize) {
-        BufferedImage itemImage = getItemImage();
+        drawItemIcon(g2d, itemType, x, y, cellSize);
+    }
+    
+    /**
+     * 아이템 타입의 셀 모양을 그립니다. 블록 인스턴스 없이도 그릴 수 있어 셀 스프라이트를 미리 만들 때 사용합니다.
+     * @param g2d Graphics2D 객체
+     * @param itemType 아이템 효과 타입
+     * @param x 그릴 x 위치 (픽셀)
+     * @param y 그릴 y 위치 (픽셀)
+     * @param cellSize 셀 크기 (픽셀)
+     */
+    public static void drawItemIcon(Graphics2D g2d, ItemEffectType itemType, int x, int y, int cellSize) {
+        BufferedImage itemImage = getItemImage(itemType);
         
         if (itemImage != null) {
             // 이미지가 있으면 흰색 배경 + 이미지로 그리기
@@ -285,7 +317,7 @@ public class ItemBlock extends Block {
             int fontSize = cellSize / 3 + 5; // 기본 크기보다 5pt 키움
             g2d.setFont(new Font("Arial", Font.BOLD, fontSize));
             FontMetrics fm = g2d.getFontMetrics();
-            String symbol = getItemSymbol();
+            String symbol = itemType != null ? itemType.getSymbol() : "";
             int textX = x + (cellSize - fm.stringWidth(symbol)) / 2;
             int textY = y + (cellSize + fm.getAscent()) / 2;
             g2d.drawString(symbol, textX, textY);
@@ -313,141 +345,20 @@ public class ItemBlock extends Block {
      */
     @Override
     public void rotate() {
-        // 원본 블록 회전
-        originalBlock.rotate();
-        
-        // 회전된 모양 복사
-        copyOriginalShapeOnly();
-        
-        // 동일한 셀 인덱스의 새로운 위치로 아이템 이동
-        updateItemPositionAfterRotation();
-    }
-    
-    /**
-     * 회전 후 동일한 셀 인덱스 위치로 아이템을 이동시킵니다.
-     */
-    private void updateItemPositionAfterRotation() {
-        int oldItemX = itemX;
-        int oldItemY = itemY;
+        int oldRows = shape.length; // 회전 전 배열 행 수
         
-        // 블록 타입별 특별 처리
-        String blockType = originalBlock.getClass().getSimpleName();
-        
-        switch (blockType) {
-            case "OBlock":
-                // O블록: 2x2 사각형이므로 셀 인덱스 매핑이 단순함
-                handleOBlockRotation(oldItemX, oldItemY);
-                break;
-                
-            case "IBlock":
-                // I블록: 특별한 회전 상태 처리
-                handleIBlockRotation(oldItemX, oldItemY);
-                break;
-                
-            default:
-                // J, L, S, Z, T 블록: 기하학적 회전 공식 사용
-                handleGeometricRotation(oldItemX, oldItemY);
-                break;
-        }
-    }
-    
-    /**
-     * 기하학적 회전 공식을 사용하여 아이템 위치를 계산합니다.
-     * Block.java의 rotate() 공식과 동일: rotated[j][rows-1-i] = original[i][j]
-     */
-    private void handleGeometricRotation(int oldItemX, int oldItemY) {
-        // 회전 전 블록 크기 (원본 블록을 한 번 더 회전시켜서 이전 상태 확인)
-        originalBlock.rotate(); originalBlock.rotate(); originalBlock.rotate(); // 3번 더 회전 = 원래 상태로 복귀
-        int oldRows = originalBlock.shape.length; // 실제 배열 크기 사용
-        originalBlock.rotate(); // 다시 현재 상태로
-        
-        // 기하학적 회전 공식 적용: (x,y) -> (oldRows-1-y, x)
-        int newItemX = oldRows - 1 - oldItemY;
-        int newItemY = oldItemX;
-        
-        setItemAtPosition(newItemX, newItemY, oldItemX, oldItemY);
-    }
-    
-    /**
-     * O블록의 회전 처리 (2x2 정사각형)
-     */
-    private void handleOBlockRotation(int oldItemX, int oldItemY) {
-        // O블록은 2x2이므로 회전해도 상대적 위치가 유지됨
-        // 하지만 실제로는 시계방향으로 위치가 바뀜: (0,0)->(0,1)->(1,1)->(1,0)
-        int newItemX, newItemY;
-        
-        if (oldItemX == 0 && oldItemY == 0) {      // 좌상 -> 우상
-            newItemX = 1; newItemY = 0;
-        } else if (oldItemX == 1 && oldItemY == 0) { // 우상 -> 우하  
-            newItemX = 1; newItemY = 1;
-        } else if (oldItemX == 1 && oldItemY == 1) { // 우하 -> 좌하
-            newItemX = 0; newItemY = 1;
-        } else {                                   // 좌하 -> 좌상
-            newItemX = 0; newItemY = 0;
-        }
+        // 원본 블록과 이 블록 모두 미리 계산된 다음 회전 상태로 이동
+        originalBlock.rotate();
+        super.rotate();
         
-        setItemAtPosition(newItemX, newItemY, oldItemX, oldItemY);
-    }
-    
-    /**
-     * I블록의 회전 처리
-     */
-    private void handleIBlockRotation(int oldItemX, int oldItemY) {
-        // I블록이 일반 블록의 회전 공식을 사용하므로 기하학적 회전 적용
-        handleGeometricRotation(oldItemX, oldItemY);
-    }
-    
-    /**
-     * 아이템을 새로운 위치에 설정하고 로그를 출력합니다.
-     */
-    private void setItemAtPosition(int newItemX, int newItemY, int oldItemX, int oldItemY) {
-        // 범위 체크
-        if (newItemY >= 0 && newItemY < itemShape.length && 
-            newItemX >= 0 && newItemX < itemShape[newItemY].length) {
-            
+        // 동일한 셀의 새로운 위치로 아이템 이동
+        // Block.java의 회전 공식과 동일: rotated[j][rows-1-i] = original[i][j]
+        // (O블록도 같은 공식으로 좌상 -> 우상 -> 우하 -> 좌하 순서가 됨)
+        if (hasItemCell) {
+            int newItemX = oldRows - 1 - itemY;
+            int newItemY = itemX;
             itemX = newItemX;
             itemY = newItemY;
-            
-            // itemShape 재초기화
-            clearItemShape();
-            itemShape[itemY][itemX] = 1;
-            
-            System.out.println("Item rotated from (" + oldItemX + ", " + oldItemY + ") to (" + itemX + ", " + itemY + ") [index: " + itemCellIndex + "]");
-        } else {
-            System.out.println("Warning: Item position out of bounds after rotation!");
-        }
-    }
-    
-    /**
-     * 원본 블록의 모양만 복사합니다 (itemShape는 건드리지 않음).
-     */
-    private void copyOriginalShapeOnly() {
-        int height = originalBlock.shape.length; // 실제 배열 크기 사용
-        int width = originalBlock.shape[0].length; // 실제 배열 크기 사용
-        
-        shape = new int[height][width];
-        
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                shape[i][j] = originalBlock.getShape(j, i);
-            }
-        }
-        
-        // itemShape 배열 크기 조정 (기존 데이터는 유지하되 크기만 맞춤)
-        if (itemShape == null || itemShape.length != height || itemShape[0].length != width) {
-            int[][] newItemShape = new int[height][width];
-            itemShape = newItemShape;
-        }
-    }
-    
-    /**
-     * itemShape 배열을 초기화합니다.
-     */
-    private void clearItemShape() {
-        for (int i = 0; i < itemShape.length; i++) {
-            for (int j = 0; j < itemShape[i].length; j++) {
-                itemShape[i][j] = 0;
-            }
         }
     }
     
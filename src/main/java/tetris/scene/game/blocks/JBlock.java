@@ -6,11 +6,14 @@ import java.awt.Color;
 
 public class JBlock extends Block {
 	
+	// 미리 계산된 회전 상태 (모든 인스턴스가 공유)
+	private static final RotationTable ROTATIONS = new RotationTable(new int[][] {
+		{1, 1, 1},
+		{0, 0, 1}
+	});
+	
 	public JBlock() {
-		shape = new int[][] { 
-				{1, 1, 1},
-				{0, 0, 1}
-		};
+		useRotations(ROTATIONS);
 		type = 5; // J 블록 타입
 		// ColorBlindHelper를 사용하여 색맹 모드에 따른 색상 설정
 		int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
@@ -2,15 +2,19 @@ package tetris.scene.game.blocks;
 
 import tetris.ColorBlindHelper;
 import tetris.GameSettings;
+import tetris.util.DebugLog;
 import java.awt.Color;
 
 public class OBlock extends Block {
 
+	// 미리 계산된 회전 상태 (모든 인스턴스가 공유)
+	private static final RotationTable ROTATIONS = new RotationTable(new int[][] {
+		{1, 1},
+		{1, 1}
+	});
+	
 	public OBlock() {
-		shape = new int[][] { 
-			{1, 1}, 
-			{1, 1}
-		};
+		useRotations(ROTATIONS);
 		type = 2; // O 블록 타입
 		// ColorBlindHelper를 사용하여 색맹 모드에 따른 색상 설정
 		int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
@@ -28,6 +32,6 @@ public class OBlock extends Block {
 	public void rotate() {
 		// O-블록도 실제로 회전시킴 (폭탄 위치가 달라져야 하므로)
 		super.rotate();
-		System.out.println("O-Block rotated!");
+		DebugLog.log("O-Block rotated!");
 	}
 }
@@ -0,0 +1,120 @@
+package tetris.scene.game.blocks;
+
+/**
+ * 블록의 회전 상태 4가지를 미리 계산해 두는 불변 테이블
+ * 회전할 때마다 새 배열을 만들지 않고 상태 인덱스만 바꿔서 사용합니다.
+ * 각 상태마다 모양 배열, 너비/높이, 행 비트마스크, 셀 좌표 목록을 보관합니다.
+ *
+ * 반환되는 배열은 여러 블록 인스턴스가 공유하므로 절대 수정하면 안 됩니다.
+ */
+public final class RotationTable {
+    public static final int STATE_COUNT = 4;
+
+    private final int[][][] shapes = new int[STATE_COUNT][][];
+    private final int[] widths = new int[STATE_COUNT];
+    private final int[] heights = new int[STATE_COUNT];
+    private final int[][] rowMasks = new int[STATE_COUNT][];
+    private final int[][] cellXs = new int[STATE_COUNT][];
+    private final int[][] cellYs = new int[STATE_COUNT][];
+
+    /**
+     * 초기 모양으로부터 시계방향 90도 회전 상태들을 계산합니다.
+     * @param initialShape 0번 상태 모양 (그대로 참조하므로 이후 수정하지 말 것)
+     */
+    public RotationTable(int[][] initialShape) {
+        this(initialShape, true);
+    }
+
+    private RotationTable(int[][] initialShape, boolean rotatable) {
+        int[][] current = initialShape;
+        for (int state = 0; state < STATE_COUNT; state++) {
+            setState(state, current);
+            if (rotatable) {
+                current = rotateClockwise(current);
+            }
+        }
+    }
+
+    /**
+     * 회전해도 모양이 바뀌지 않는 테이블을 만듭니다 (무게추 등).
+     */
+    public static RotationTable fixed(int[][] shape) {
+        return new RotationTable(shape, false);
+    }
+
+    private void setState(int state, int[][] shape) {
+        shapes[state] = shape;
+
+        // 실제 블록이 있는 줄/열까지만 계산 (비어있으면 원래 크기)
+        int height = 0;
+        int width = 0;
+        int cellCount = 0;
+        int[] masks = new int[shape.length];
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] == 1) {
+                    masks[row] |= 1 << col;
+                    height = row + 1;
+                    width = Math.max(width, col + 1);
+                    cellCount++;
+                }
+            }
+        }
+        heights[state] = height > 0 ? height : shape.length;
+        widths[state] = width > 0 ? width : (shape.length > 0 ? shape[0].length : 0);
+        rowMasks[state] = masks;
+
+        int[] xs = new int[cellCount];
+        int[] ys = new int[cellCount];
+        int index = 0;
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] == 1) {
+                    xs[index] = col;
+                    ys[index] = row;
+                    index++;
+                }
+            }
+        }
+        cellXs[state] = xs;
+        cellYs[state] = ys;
+    }
+
+    /**
+     * 시계방향 90도 회전 공식: rotated[j][rows-1-i] = original[i][j]
+     */
+    private static int[][] rotateClockwise(int[][] shape) {
+        int rows = shape.length;
+        int cols = shape[0].length;
+        int[][] rotated = new int[cols][rows];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                rotated[j][rows - 1 - i] = shape[i][j];
+            }
+        }
+        return rotated;
+    }
+
+    /**
+     * 다음(시계방향) 회전 상태 인덱스를 반환합니다.
+     */
+    public static int next(int state) {
+        return (state + 1) % STATE_COUNT;
+    }
+
+    public int[][] getShape(int state) { return shapes[state]; }
+    public int getWidth(int state) { return widths[state]; }
+    public int getHeight(int state) { return heights[state]; }
+
+    /**
+     * 지정된 상태의 행 비트마스크를 반환합니다 (bit i = i번째 열).
+     */
+    public int getRowMask(int state, int row) {
+        int[] masks = rowMasks[state];
+        return (row >= 0 && row < masks.length) ? masks[row] : 0;
+    }
+
+    public int getCellCount(int state) { return cellXs[state].length; }
+    public int getCellX(int state, int index) { return cellXs[state][index]; }
+    public int getCellY(int state, int index) { return cellYs[state][index]; }
+}
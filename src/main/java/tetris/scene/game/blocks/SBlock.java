@@ -6,11 +6,14 @@ import java.awt.Color;
 
 public class SBlock extends Block {
 
+	// 미리 계산된 회전 상태 (모든 인스턴스가 공유)
+	private static final RotationTable ROTATIONS = new RotationTable(new int[][] {
+		{0, 1, 1},
+		{1, 1, 0}
+	});
+	
 	public SBlock() {
-		shape = new int[][] { 
-			{0, 1, 1},
-			{1, 1, 0}
-		};
+		useRotations(ROTATIONS);
 		type = 3; // S 블록 타입
 		// ColorBlindHelper를 사용하여 색맹 모드에 따른 색상 설정
 		int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
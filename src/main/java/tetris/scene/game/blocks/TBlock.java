@@ -6,13 +6,16 @@ import tetris.GameSettings;
 
 public class TBlock extends Block {
 	
+	// 미리 계산된 회전 상태 (모든 인스턴스가 공유)
+	private static final RotationTable ROTATIONS = new RotationTable(new int[][] {
+		{0, 1, 0},
+		{1, 1, 1},
+		{0, 0, 0}
+	});
+	
 	public TBlock() {
 		// T블록 초기 모양
-		shape = new int[][] { 
-			{0, 1, 0},
-			{1, 1, 1},
-			{0, 0, 0}
-		};
+		useRotations(ROTATIONS);
 		type = 6; // T 블록 타입
 		// ColorBlindHelper를 사용하여 색맹 모드에 따른 색상 설정
 		int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
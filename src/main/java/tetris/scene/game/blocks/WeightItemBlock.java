@@ -42,13 +42,16 @@ public class WeightItemBlock extends Block {
         }
     }
     
+    // 무게추 모양은 회전하지 않으므로 모든 회전 상태가 동일
+    private static final RotationTable ROTATIONS = RotationTable.fixed(new int[][]{
+        {0, 1, 1, 0}, // 윗줄 (중간 2칸)
+        {1, 1, 1, 1}  // 아랫줄 (전체 4칸)
+    });
+    
     public WeightItemBlock() {
         // 사다리꼴 모양 정의 (너비 4칸)
         // 윗줄: 2칸, 아랫줄: 4칸
-        shape = new int[][]{
-            {0, 1, 1, 0}, // 윗줄 (중간 2칸)
-            {1, 1, 1, 1}  // 아랫줄 (전체 4칸)
-        };
+        useRotations(ROTATIONS);
         
         // 무게추 색상 (회색)
         color = Color.GRAY;
@@ -56,6 +59,22 @@ public class WeightItemBlock extends Block {
         System.out.println("WeightItemBlock created with trapezoid shape");
     }
     
+    /**
+     * 활성화, 점멸, 낙하 타이머 상태까지 복사합니다 (리플레이 키프레임용).
+     */
+    @Override
+    public WeightItemBlock copy() {
+        WeightItemBlock copy = (WeightItemBlock) super.copy();
+        copy.isActivated = isActivated;
+        copy.canMoveHorizontally = canMoveHorizontally;
+        copy.isDestroying = isDestroying;
+        copy.shouldDisappear = shouldDisappear;
+        copy.destroyTimer = destroyTimer;
+        copy.isBlinking = isBlinking;
+        copy.fallTimer = fallTimer;
+        return copy;
+    }
+    
     /**
      * 무게추가 바닥이나 블록에 닿았을 때 호출되는 메서드
      */
@@ -179,13 +198,7 @@ public class WeightItemBlock extends Block {
                 return;
             }
             
-            if (weightImage != null) {
-                // 무게추 이미지가 있으면 이미지를 그립니다
-                g2d.drawImage(weightImage, x, y, cellSize, cellSize, null);
-            } else {
-                // 무게추 이미지가 없으면 회색 사다리꼴로 그립니다
-                drawTrapezoidShape(g2d, x, y, cellSize);
-            }
+            drawWeightShape(g2d, x, y, cellSize);
             
             // 활성화된 상태면 빨간 테두리 추가
             if (isActivated) {
@@ -212,10 +225,24 @@ public class WeightItemBlock extends Block {
         }
     }
     
+    /**
+     * 활성화·파괴 표시를 뺀 무게추 셀의 기본 모양을 그립니다.
+     * 상태와 무관하므로 셀 스프라이트를 미리 만들 때도 사용합니다.
+     */
+    public static void drawWeightShape(Graphics2D g2d, int x, int y, int cellSize) {
+        if (weightImage != null) {
+            // 무게추 이미지가 있으면 이미지를 그립니다
+            g2d.drawImage(weightImage, x, y, cellSize, cellSize, null);
+        } else {
+            // 무게추 이미지가 없으면 회색 사다리꼴로 그립니다
+            drawTrapezoidShape(g2d, x, y, cellSize);
+        }
+    }
+    
     /**
      * 사다리꼴 모양을 그립니다.
      */
-    private void drawTrapezoidShape(Graphics2D g2d, int x, int y, int cellSize) {
+    private static void drawTrapezoidShape(Graphics2D g2d, int x, int y, int cellSize) {
         // 무게추의 메탈릭한 느낌을 위한 그라데이션
         GradientPaint gradient = new GradientPaint(
             x, y, Color.LIGHT_GRAY,
@@ -288,7 +315,7 @@ public class WeightItemBlock extends Block {
     /**
      * 무게추 아래의 모든 블록을 제거합니다.
      * @param board 게임 보드
-     * @param boardColors 게임 보드 색상
+     * @param boardColors 게임 보드 색상 (null이면 boardManager의 색상을 지움)
      * @param weightX 무게추의 X 위치
      * @param weightY 무게추의 Y 위치
      * @param scoreManager 점수 관리자 (셀 제거 시 점수 추가용)
@@ -313,11 +340,16 @@ public class WeightItemBlock extends Block {
                 for (int col = startCol; col <= endCol; col++) {
                     if (board[row][col] == 1) {
                         board[row][col] = 0;
-                        boardColors[row][col] = null;
+                        if (boardColors != null) {
+                            boardColors[row][col] = null;
+                        }
                         clearedCount++;
                         
                         // 🔧 아이템 셀 정보도 함께 삭제 (버그 수정)
                         if (boardManager != null) {
+                            if (boardColors == null) {
+                                boardManager.setBoardColor(col, row, null);
+                            }
                             boardManager.clearItemBlockInfo(col, row);
                             System.out.println("Cleared item info at (" + col + ", " + row + ")");
                         }
@@ -329,6 +361,11 @@ public class WeightItemBlock extends Block {
                     }
                 }
                 System.out.println("WeightItemBlock cleared blocks from row " + row);
+                
+                // board를 직접 수정했으므로 해당 행의 비트마스크 동기화
+                if (boardManager != null) {
+                    boardManager.syncRowMask(row);
+                }
             }
         }
         
@@ -338,65 +375,4 @@ public class WeightItemBlock extends Block {
         System.out.println("WeightItemBlock cleared " + clearedCount + " blocks");
         return clearedCount;
     }
-    
-    /**
-     * 무게추의 고스트 블록 위치를 계산합니다.
-     * 무게추가 활성화되지 않은 상태에서만 고스트 블록을 표시합니다.
-     * 
-     * @param board 게임 보드
-     * @param currentX 현재 X 위치
-     * @param currentY 현재 Y 위치
-     * @return 고스트 블록의 Y 위치 (활성화된 상태면 -1 반환)
-     */
-    public int calculateGhostY(int[][] board, int currentX, int currentY) {
-        // 이미 활성화된 무게추는 고스트 블록을 표시하지 않음
-        if (isActivated) {
-            System.out.println("WeightItemBlock: Ghost disabled (activated)");
-            return -1;
-        }
-        
-        System.out.println("WeightItemBlock: Calculating ghost position from (" + currentX + ", " + currentY + ")");
-        
-        // 무게추가 떨어질 수 있는 최대 Y 위치 계산
-        int ghostY = currentY;
-        
-        // 한 칸씩 아래로 내려가면서 충돌 검사
-        while (ghostY + 1 < board.length) {
-            // 무게추의 다음 위치에서 충돌 검사
-            boolean collision = false;
-            
-            // 무게추 shape의 각 블록에 대해 충돌 검사
-            for (int row = 0; row < shape.length; row++) {
-                for (int col = 0; col < shape[row].length; col++) {
-                    if (shape[row][col] == 1) {
-                        int checkX = currentX + col;
-                        int checkY = ghostY + 1 + row; // 한 칸 아래 위치
-                        
-                        // 보드 경계 검사
-                        if (checkX < 0 || checkX >= board[0].length || 
-                            checkY >= board.length) {
-                            collision = true;
-                            break;
-                        }
-                        
-                        // 기존 블록과의 충돌 검사
-                        if (checkY >= 0 && board[checkY][checkX] == 1) {
-                            collision = true;
-                            break;
-                        }
-                    }
-                }
-                if (collision) break;
-            }
-            
-            if (collision) {
-                break; // 충돌하면 현재 위치가 최종 위치
-            }
-            
-            ghostY++; // 한 칸 더 아래로
-        }
-        
-        System.out.println("WeightItemBlock: Ghost position calculated as y=" + ghostY);
-        return ghostY;
-    }
 }
\ No newline at end of file
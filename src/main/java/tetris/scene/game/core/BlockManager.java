@@ -3,6 +3,7 @@ package tetris.scene.game.core;
 import tetris.scene.game.blocks.*;
 import tetris.scene.game.items.*;
 import tetris.scene.game.items.ItemEffectType;
+import tetris.util.DebugLog;
 import tetris.util.SpeedUp;
 import tetris.GameSettings;
 import java.util.Random;
@@ -32,6 +33,8 @@ public class BlockManager {
     
     // 랜덤 생성기
     private final Random random;
+    private long seed; // 마지막으로 설정된 시드
+    private long randomDraws = 0; // 시드 설정 후 뽑은 블록 수 (상태 복원 시 같은 위치로 되돌리기 위함)
     
     // 의존성
     private final BoardManager boardManager;
@@ -39,6 +42,7 @@ public class BlockManager {
     private ItemManager itemManager; // 아이템 모드용 (옵션)
     private ScoreManager scoreManager; // 점수 관리자
     private Object gameScene; // GameScene 참조 (아이템 효과용)
+    private ItemEffectHost effectHost; // gameScene을 아이템 효과 호출용 타입으로 확인해 둔 것 (아니면 null)
     
     // 속도 증가 관리자
     private SpeedUp speedUp;
@@ -56,12 +60,28 @@ public class BlockManager {
      * @param difficulty 난이도
      */
     public BlockManager(int gameWidth, int gameHeight, BoardManager boardManager, ScoreManager scoreManager, GameSettings.Difficulty difficulty) {
+        this(gameWidth, gameHeight, boardManager, scoreManager, difficulty, System.currentTimeMillis());
+    }
+    
+    /**
+     * 시드를 지정하는 BlockManager 생성자
+     * 같은 시드를 사용하면 같은 블록 순서가 만들어집니다 (시뮬레이션/재현용).
+     * 
+     * @param gameWidth 게임 보드 너비
+     * @param gameHeight 게임 보드 높이
+     * @param boardManager 보드 관리자
+     * @param scoreManager 점수 관리자
+     * @param difficulty 난이도
+     * @param seed 랜덤 블록 생성 시드
+     */
+    public BlockManager(int gameWidth, int gameHeight, BoardManager boardManager, ScoreManager scoreManager, GameSettings.Difficulty difficulty, long seed) {
         this.gameWidth = gameWidth;
         this.gameHeight = gameHeight;
         this.boardManager = boardManager;
         this.scoreManager = scoreManager;
         this.difficulty = difficulty;
-        this.random = new Random(System.currentTimeMillis());
+        this.random = new Random(seed);
+        this.seed = seed;
         this.blockShake = new BlockShake(new BlockShake.ShakeCallback() {
             @Override
             public void onShakeUpdate() {
@@ -75,6 +95,20 @@ public class BlockManager {
         });
     }
     
+    /**
+     * 랜덤 블록 생성 시드를 다시 설정합니다.
+     * 이후 initializeBlocks()를 호출하면 시드에 따른 블록 순서로 시작합니다. (P2P 입력 동기화용)
+     * 아이템 매니저가 있으면 아이템 난수도 같은 시드로 다시 맞춥니다.
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+        this.seed = seed;
+        this.randomDraws = 0;
+        if (itemManager != null) {
+            itemManager.setSeed(seed);
+        }
+    }
+    
     /**
      * 게임 시작 시 초기 블록을 생성합니다.
      */
@@ -105,6 +139,7 @@ public class BlockManager {
         
         // Roulette Wheel Selection 실행
         double randomValue = random.nextDouble() * totalWeight;
+        randomDraws++;
         double cumulativeWeight = 0.0;
         
         Block newBlock = null;
@@ -128,7 +163,7 @@ public class BlockManager {
         
         // 디버그 모드일 때는 무조건 폭탄 블록으로 변환
         if (itemManager != null && itemManager.shouldCreateItemBlock()) {
-            System.out.println("Debug mode: Converting block to bomb block!");
+            DebugLog.log("Debug mode: Converting block to bomb block!");
             return itemManager.createItemBlock(newBlock);
         }
         
@@ -178,6 +213,69 @@ public class BlockManager {
         return weights;
     }
     
+    /**
+     * 블록 상태 사본 (리플레이 키프레임용)
+     */
+    public static final class State {
+        private final Block currentBlock;
+        private final Block nextBlock;
+        private final Block lastPlacedBlock;
+        private final int x, y, lastBlockY;
+        private final int lastPlacedX, lastPlacedY;
+        private final boolean isGameOver;
+        private final long seed;
+        private final long randomDraws;
+
+        private State(BlockManager source) {
+            currentBlock = copyOf(source.currentBlock);
+            nextBlock = copyOf(source.nextBlock);
+            lastPlacedBlock = copyOf(source.lastPlacedBlock);
+            x = source.x;
+            y = source.y;
+            lastBlockY = source.lastBlockY;
+            lastPlacedX = source.lastPlacedX;
+            lastPlacedY = source.lastPlacedY;
+            isGameOver = source.isGameOver;
+            seed = source.seed;
+            randomDraws = source.randomDraws;
+        }
+
+        private static Block copyOf(Block block) {
+            return block != null ? block.copy() : null;
+        }
+    }
+    
+    /**
+     * 현재 블록 상태와 랜덤 생성기 위치를 복사합니다.
+     */
+    public State copyState() {
+        return new State(this);
+    }
+    
+    /**
+     * 복사해 둔 상태로 되돌립니다. 랜덤 생성기는 시드부터 같은 횟수만큼 다시 뽑아 맞춥니다.
+     */
+    public void restoreState(State state) {
+        markPieceDirty();
+        currentBlock = State.copyOf(state.currentBlock);
+        nextBlock = State.copyOf(state.nextBlock);
+        lastPlacedBlock = State.copyOf(state.lastPlacedBlock);
+        x = state.x;
+        y = state.y;
+        lastBlockY = state.lastBlockY;
+        lastPlacedX = state.lastPlacedX;
+        lastPlacedY = state.lastPlacedY;
+        isGameOver = state.isGameOver;
+        
+        random.setSeed(state.seed);
+        seed = state.seed;
+        for (long i = 0; i < state.randomDraws; i++) {
+            random.nextDouble();
+        }
+        randomDraws = state.randomDraws;
+        markPieceDirty();
+    }
+    
     /**
      * 인덱스에 따라 블록을 생성합니다.
      * 인덱스: 0=I, 1=J, 2=L, 3=Z, 4=S, 5=T, 6=O
@@ -207,7 +305,9 @@ public class BlockManager {
         if (currentBlock == null || isGameOver) return false;
         
         if (canMoveDown()) {
+            markPieceDirty();
             y++;
+            markPieceDirty();
             // 블록이 1칸 떨어질 때마다 점수 획득 (자동/수동 무관)
             if (scoreManager != null) {
                 scoreManager.addBlockFallScore();
@@ -220,11 +320,11 @@ public class BlockManager {
                 if (!weightBlock.isActivated()) {
                     // 첫 번째로 블록에 닿은 경우 활성화
                     weightBlock.activate();
-                    System.out.println("WeightItemBlock activated at position (" + x + ", " + y + ")");
+                    DebugLog.log("WeightItemBlock activated at position (" + x + ", " + y + ")");
                     return false; // 아직 고정하지 않음, 자동 낙하 시작
                 } else {
                     // 이미 활성화된 상태에서는 자동 낙하만 처리하므로 moveDown에서는 아무것도 하지 않음
-                    System.out.println("WeightItemBlock is already activated, automatic fall will be handled by updateWeightBlock()");
+                    DebugLog.log("WeightItemBlock is already activated, automatic fall will be handled by updateWeightBlock()");
                     return false; // 자동 낙하는 updateWeightBlock()에서 처리
                 }
             } else {
@@ -245,13 +345,15 @@ public class BlockManager {
         if (currentBlock instanceof WeightItemBlock) {
             WeightItemBlock weightBlock = (WeightItemBlock) currentBlock;
             if (!weightBlock.canMoveHorizontally()) {
-                System.out.println("WeightItemBlock cannot move horizontally (activated)");
+                DebugLog.log("WeightItemBlock cannot move horizontally (activated)");
                 return;
             }
         }
         
         if (canMoveLeft()) {
+            markPieceDirty();
             x--;
+            markPieceDirty();
         }
     }
     
@@ -265,13 +367,15 @@ public class BlockManager {
         if (currentBlock instanceof WeightItemBlock) {
             WeightItemBlock weightBlock = (WeightItemBlock) currentBlock;
             if (!weightBlock.canMoveHorizontally()) {
-                System.out.println("WeightItemBlock cannot move horizontally (activated)");
+                DebugLog.log("WeightItemBlock cannot move horizontally (activated)");
                 return;
             }
         }
         
         if (canMoveRight()) {
+            markPieceDirty();
             x++;
+            markPieceDirty();
         }
     }
     
@@ -282,11 +386,13 @@ public class BlockManager {
         if (currentBlock == null || isGameOver) return;
         
         if (canRotate()) {
+            markPieceDirty();
             currentBlock.rotate();
+            markPieceDirty();
         } else {
             // 회전할 수 없을 때 blockshake 시작
             blockShake.startShake();
-            System.out.println("Cannot rotate block! Starting shake effect");
+            DebugLog.log("Cannot rotate block! Starting shake effect");
         }
     }
     
@@ -299,14 +405,14 @@ public class BlockManager {
         if (currentBlock == null || isGameOver) return false;
         
         int originalY = y; // 하드드롭 전 원래 Y 위치 저장
+        markPieceDirty(); // 원래 위치부터 바닥까지 (고스트 포함)
         
         // 무게추 블록의 경우 특별 처리
         if (currentBlock instanceof WeightItemBlock) {
             WeightItemBlock weightBlock = (WeightItemBlock) currentBlock;
             
-            // BlockHardDrop 클래스를 사용하여 하드 드롭 실행
-            int newY = BlockHardDrop.executeHardDrop(currentBlock, x, y, 
-                                                    boardManager.getBoard(), gameWidth, gameHeight);
+            // 열 높이 인덱스로 하드 드롭 위치 계산
+            int newY = boardManager.getDropY(currentBlock, x, y);
             
             // 하드드롭 점수 계산 및 추가
             int dropHeight = newY - originalY;
@@ -319,15 +425,14 @@ public class BlockManager {
             // 무게추는 하드드롭 후 활성화되고 자동 낙하 시작
             if (!weightBlock.isActivated()) {
                 weightBlock.activate();
-                System.out.println("WeightItemBlock activated after hard drop at position (" + x + ", " + y + ")");
+                DebugLog.log("WeightItemBlock activated after hard drop at position (" + x + ", " + y + ")");
             }
             
             return false; // 무게추는 고정되지 않고 자동 낙하 시작
         } else {
             // 일반 블록의 경우 기존 로직 유지
-            // BlockHardDrop 클래스를 사용하여 하드 드롭 실행
-            int newY = BlockHardDrop.executeHardDrop(currentBlock, x, y, 
-                                                    boardManager.getBoard(), gameWidth, gameHeight);
+            // 열 높이 인덱스로 하드 드롭 위치 계산
+            int newY = boardManager.getDropY(currentBlock, x, y);
             
             // 하드드롭 점수 계산 및 추가
             int dropHeight = newY - originalY;
@@ -350,7 +455,7 @@ public class BlockManager {
      * 현재 블록을 보드에 영구적으로 고정합니다.
      */
     private void placeBlockPermanently() {
-        System.out.println("Placing block permanently at x=" + x + ", y=" + y);
+        DebugLog.log("Placing block permanently at x=" + x + ", y=" + y);
         
         // 아이템 블록인 경우 시각적 효과는 배치 전에 활성화 (배틀/일반 모드 구분)
         if (currentBlock instanceof ItemBlock) {
@@ -392,10 +497,25 @@ public class BlockManager {
      * 다음 블록을 현재 블록으로 만들고 새로운 다음 블록을 생성합니다.
      */
     public void generateNextBlock() {
+        markPieceDirty();
         currentBlock = nextBlock;
         nextBlock = createNextBlock();
         x = 3;
         y = 0;
+        markPieceDirty();
+    }
+    
+    /**
+     * 현재 블록이 차지하는 열들의 블록 위치부터 바닥까지를 다시 그릴 영역으로 표시합니다.
+     * 고스트 블록은 같은 열의 아래쪽에 그려지므로 함께 포함됩니다.
+     * 회전하면 가로/세로가 바뀌므로 긴 쪽 길이만큼 표시합니다.
+     */
+    private void markPieceDirty() {
+        DirtyRegion dirty = boardManager.getDirtyRegion();
+        if (dirty == null || currentBlock == null) return;
+        
+        int size = Math.max(currentBlock.width(), currentBlock.height());
+        dirty.markCells(x, y, size, gameHeight - y);
     }
     
     /**
@@ -406,7 +526,7 @@ public class BlockManager {
         
         // 아이템 매니저가 있고 폭탄 블록을 생성해야 하는 경우
         if (itemManager != null && itemManager.shouldCreateItemBlock()) {
-            System.out.println("Creating item block as next block! (Total lines: " + itemManager.getTotalLinesCleared() + ")");
+            DebugLog.log("Creating item block as next block! (Total lines: " + itemManager.getTotalLinesCleared() + ")");
             return itemManager.createItemBlock(normalBlock);
         }
         
@@ -418,6 +538,9 @@ public class BlockManager {
      */
     public void setItemManager(ItemManager itemManager) {
         this.itemManager = itemManager;
+        if (itemManager != null) {
+            itemManager.setSeed(seed); // 아이템도 블록과 같은 시드로 재현
+        }
     }
     
     /**
@@ -425,6 +548,7 @@ public class BlockManager {
      */
     public void setGameScene(Object gameScene) {
         this.gameScene = gameScene;
+        this.effectHost = (gameScene instanceof ItemEffectHost) ? (ItemEffectHost) gameScene : null;
     }
     
     /**
@@ -433,7 +557,7 @@ public class BlockManager {
      */
     public void forceCreateItemBlock() {
         if (itemManager != null && itemManager.shouldCreateItemBlock()) {
-            System.out.println("Force creating item block as next block! (Total lines: " + itemManager.getTotalLinesCleared() + ")");
+            DebugLog.log("Force creating item block as next block! (Total lines: " + itemManager.getTotalLinesCleared() + ")");
             // 현재 미리보기에 표시된 nextBlock을 폭탄 블록으로 변환
             nextBlock = itemManager.createItemBlock(nextBlock);
         }
@@ -587,13 +711,14 @@ public class BlockManager {
                     // 무게추의 맨 아래(y+1)가 게임보드 경계(19)를 넘지 않도록 함
                     if (y + 1 < 19) { // 무게추 맨 아래가 바닥(19)에 닿지 않음
                         // 한 칸 아래로 이동
+                        markPieceDirty();
                         y++;
-                        System.out.println("WeightItemBlock moved down to y=" + y);
+                        DebugLog.log("WeightItemBlock moved down to y=" + y);
                         
                         // 현재 위치에서 아래의 모든 블록 제거
                         int clearedCount = weightBlock.clearBlocksBelow(
                             boardManager.getBoard(), 
-                            boardManager.getBoardColors(), 
+                            null, // 색상은 BoardManager를 통해 지움
                             x, 
                             y,
                             scoreManager,
@@ -601,14 +726,14 @@ public class BlockManager {
                         );
                         
                         if (clearedCount > 0) {
-                            System.out.println("WeightItemBlock cleared " + clearedCount + " blocks below at y=" + y);
+                            DebugLog.log("WeightItemBlock cleared " + clearedCount + " blocks below at y=" + y);
                         }
                         
                         return false; // 계속 떨어지는 중
                     } else {
                         // 게임보드 바닥에 도달했으면 파괴 모드로 전환
                         weightBlock.startDestroying();
-                        System.out.println("WeightItemBlock reached game board bottom at y=" + y + ", starting destruction");
+                        DebugLog.log("WeightItemBlock reached game board bottom at y=" + y + ", starting destruction");
                         return false;
                     }
                 }
@@ -616,10 +741,11 @@ public class BlockManager {
             
             // 파괴 중이라면 파괴 타이머 업데이트
             if (weightBlock.isDestroying()) {
+                markPieceDirty(); // 파괴 애니메이션
                 if (weightBlock.updateDestroy()) {
                     // 무게추가 완전히 사라짐
                     currentBlock = null;
-                    System.out.println("WeightItemBlock completely destroyed, generating next block");
+                    DebugLog.log("WeightItemBlock completely destroyed, generating next block");
                     return true; // 다음 블록 생성 필요
                 }
             }
@@ -637,34 +763,13 @@ public class BlockManager {
     public int getGhostY() {
         if (currentBlock == null) return -1;
         
-        // 무게추 블록의 경우 특별 처리
-        if (currentBlock instanceof WeightItemBlock) {
-            WeightItemBlock weightBlock = (WeightItemBlock) currentBlock;
-            return weightBlock.calculateGhostY(boardManager.getBoard(), x, y);
+        // 이미 활성화된 무게추는 고스트 블록을 표시하지 않음
+        if (currentBlock instanceof WeightItemBlock && ((WeightItemBlock) currentBlock).isActivated()) {
+            return -1;
         }
         
-        // 일반 블록의 경우 직접 계산
-        int ghostY = y;
-        while (canMoveToPosition(ghostY + 1)) {
-            ghostY++;
-        }
-        
-        return ghostY;
-    }
-    
-    /**
-     * 지정된 Y 위치로 블록이 이동할 수 있는지 확인합니다.
-     */
-    private boolean canMoveToPosition(int newY) {
-        if (currentBlock == null) return false;
-        
-        // BoardManager의 canMoveDown 메소드를 활용하여 임시 Y 위치 확인
-        int originalY = y;
-        y = newY - 1; // 목표 위치 -1로 설정
-        boolean canMove = boardManager.canMoveDown(currentBlock, x, y);
-        y = originalY; // 원래 위치로 복원
-        
-        return canMove;
+        // 매 프레임 호출되므로 한 줄씩 내려 보지 않고 열 높이 인덱스로 계산
+        return boardManager.getDropY(currentBlock, x, y);
     }
     
     /**
@@ -678,7 +783,7 @@ public class BlockManager {
         }
         
         // 배틀 모드 여부 확인
-        boolean isBattleMode = (gameScene != null && gameScene.getClass().getSimpleName().equals("BattleScene"));
+        boolean isBattleMode = (effectHost != null && effectHost.isBattleMode());
         
         // 바닥 착지 시에 처리하는 아이템 타입들
         ItemEffectType itemType = itemBlock.getItemType();
@@ -696,7 +801,7 @@ public class BlockManager {
         }
         
         if (shouldActivateImmediately) {
-            System.out.println("🎯 Activating Visual ItemBlock with " + itemBlock.getItemType().getDisplayName() + 
+            DebugLog.log("🎯 Activating Visual ItemBlock with " + itemBlock.getItemType().getDisplayName() + 
                              " (mode: " + (isBattleMode ? "BATTLE" : "NORMAL") + ", immediate activation)");
             
             // 아이템 효과 생성
@@ -724,12 +829,12 @@ public class BlockManager {
                 // 아이템 효과 활성화
                 itemManager.activateItemEffect(effect, context);
                 
-                System.out.println("✅ Visual ItemBlock effect activated successfully!");
+                DebugLog.log("✅ Visual ItemBlock effect activated successfully!");
             } else {
-                System.out.println("❌ Failed to create visual item effect for " + itemBlock.getItemType());
+                DebugLog.log("❌ Failed to create visual item effect for " + itemBlock.getItemType());
             }
         } else {
-            System.out.println("⏳ Visual ItemBlock with " + itemBlock.getItemType().getDisplayName() + 
+            DebugLog.log("⏳ Visual ItemBlock with " + itemBlock.getItemType().getDisplayName() + 
                              " will activate on line clear (mode: " + (isBattleMode ? "BATTLE" : "NORMAL") + ")");
         }
     }
@@ -748,7 +853,7 @@ public class BlockManager {
         if (itemType == ItemEffectType.LINE_CLEAR || 
             itemType == ItemEffectType.CLEANUP) {
             
-            System.out.println("🎯 Activating Board Manipulation ItemBlock with " + itemBlock.getItemType().getDisplayName() + " (after placement)");
+            DebugLog.log("🎯 Activating Board Manipulation ItemBlock with " + itemBlock.getItemType().getDisplayName() + " (after placement)");
             
             // 아이템 효과 생성
             ItemEffect effect = ItemEffectFactory.createEffect(itemBlock.getItemType());
@@ -775,9 +880,9 @@ public class BlockManager {
                 // 아이템 효과 활성화
                 itemManager.activateItemEffect(effect, context);
                 
-                System.out.println("✅ Board Manipulation ItemBlock effect activated successfully!");
+                DebugLog.log("✅ Board Manipulation ItemBlock effect activated successfully!");
             } else {
-                System.out.println("❌ Failed to create board manipulation item effect for " + itemBlock.getItemType());
+                DebugLog.log("❌ Failed to create board manipulation item effect for " + itemBlock.getItemType());
             }
         }
     }
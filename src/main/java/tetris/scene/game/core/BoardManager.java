@@ -5,7 +5,10 @@ import tetris.scene.game.blocks.ItemBlock;
 import tetris.scene.game.items.ItemEffect;
 import tetris.scene.game.items.ItemEffectContext;
 import tetris.scene.game.items.ItemEffectFactory;
+import tetris.scene.game.items.ItemEffectHost;
 import tetris.scene.game.items.ItemEffectType;
+import tetris.util.CellPalette;
+import tetris.util.DebugLog;
 import java.awt.Color;
 
 /**
@@ -15,17 +18,23 @@ import java.awt.Color;
 public class BoardManager {
     private static final int GAME_HEIGHT = 20;
     private static final int GAME_WIDTH = 10;
+    private static final int FULL_ROW_MASK = (1 << GAME_WIDTH) - 1; // 0x3FF: 한 줄이 모두 채워진 상태
     
     private int[][] board; // 게임 보드 상태 (0: 빈칸, 1: 블록 있음)
-    private Color[][] boardColors; // 각 셀의 색상 정보
+    private int[] rowMasks; // board의 각 행을 비트로 압축한 값 (bit i = i번째 열, 충돌/줄 완성 검사용)
+    private int[] columnMasks; // rowMasks를 열 기준으로 뒤집은 값 (bit r = r번째 행, 열 높이/구멍/낙하 위치 계산용)
+    private byte[][] boardColors; // 각 셀의 색상 (CellPalette 인덱스, 0: 빈칸)
     private int[][] boardTypes; // 각 셀의 블록 타입 정보 (패턴 그리기용)
     private boolean[][] bombCells; // 폭탄 셀 정보 (아이템 모드용)
     private boolean[][] itemCells; // 아이템 셀 정보 (ItemBlock용)
     private ItemBlock[][] itemBlockInfo; // 아이템 블록 정보 저장 (이미지 렌더링용)
     private ItemManager itemManager; // 아이템 모드 관리자 (null이면 일반 모드)
     private Object gameScene; // GameScene 참조 (아이템 효과용)
+    private ItemEffectHost effectHost; // gameScene을 아이템 효과 호출용 타입으로 확인해 둔 것 (아니면 null)
     private Object blockManager; // BlockManager 참조 (아이템 효과용)
     private int playerNumber = 1; // 플레이어 번호 (BattleScene에서 설정, 기본값은 1)
+    private DirtyRegion dirtyRegion; // 다시 그릴 셀 영역 (화면에 그리는 경우에만 생성, null이면 추적 안 함)
+    private long version; // 고정된 블록이 바뀔 때마다 증가 (RenderManager 레이어 캐시 무효화용)
     
     public BoardManager() {
         initializeBoard();
@@ -36,23 +45,65 @@ public class BoardManager {
      */
     private void initializeBoard() {
         board = new int[GAME_HEIGHT][GAME_WIDTH];
-        boardColors = new Color[GAME_HEIGHT][GAME_WIDTH];
+        boardColors = new byte[GAME_HEIGHT][GAME_WIDTH];
         boardTypes = new int[GAME_HEIGHT][GAME_WIDTH];
         bombCells = new boolean[GAME_HEIGHT][GAME_WIDTH];
         itemCells = new boolean[GAME_HEIGHT][GAME_WIDTH];
         itemBlockInfo = new ItemBlock[GAME_HEIGHT][GAME_WIDTH];
+        rowMasks = new int[GAME_HEIGHT];
+        columnMasks = new int[GAME_WIDTH];
         
         // 보드를 빈 상태로 초기화
         for (int i = 0; i < GAME_HEIGHT; i++) {
             for (int j = 0; j < GAME_WIDTH; j++) {
                 board[i][j] = 0;
-                boardColors[i][j] = null;
+                boardColors[i][j] = CellPalette.EMPTY;
                 boardTypes[i][j] = -1; // -1은 빈 셀을 의미
                 bombCells[i][j] = false;
                 itemCells[i][j] = false;
                 itemBlockInfo[i][j] = null;
             }
         }
+        markAllDirty();
+    }
+    
+    /**
+     * 다시 그릴 영역 추적을 켭니다 (RenderManager가 호출).
+     * 화면 없이 돌아가는 시뮬레이션에서는 켜지 않으므로 비용이 들지 않습니다.
+     * @return 보드 변경이 기록되는 DirtyRegion
+     */
+    public DirtyRegion enableDirtyTracking() {
+        if (dirtyRegion == null) {
+            dirtyRegion = new DirtyRegion(GAME_WIDTH, GAME_HEIGHT);
+        }
+        return dirtyRegion;
+    }
+    
+    /**
+     * 다시 그릴 영역을 반환합니다.
+     * @return 추적이 켜져 있지 않으면 null
+     */
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+    
+    /**
+     * 고정된 블록 상태의 버전을 반환합니다.
+     * 블록 고정, 줄 삭제, 셀 설정 등으로 보드가 바뀔 때마다 증가하므로
+     * 값이 같으면 이전에 그려둔 고정 블록 이미지를 그대로 쓸 수 있습니다.
+     */
+    public long getVersion() {
+        return version;
+    }
+    
+    private void markDirty(int x, int y, int width, int height) {
+        version++;
+        if (dirtyRegion != null) dirtyRegion.markCells(x, y, width, height);
+    }
+    
+    private void markAllDirty() {
+        version++;
+        if (dirtyRegion != null) dirtyRegion.markAll();
     }
     
     /**
@@ -68,33 +119,215 @@ public class BoardManager {
     public boolean canPlaceBlock(Block block, int x, int y) {
         if (block == null) return false;
         
-        for (int j = 0; j < block.height(); j++) {
-            for (int i = 0; i < block.width(); i++) {
-                if (block.getShape(i, j) == 1) {
-                    int newX = x + i;
-                    int newY = y + j;
-                    
-                    // 경계 검사
-                    if (newX < 0 || newX >= GAME_WIDTH || newY >= GAME_HEIGHT) {
-                        return false;
-                    }
-                    
-                    // 이미 블록이 있는 위치인지 확인
-                    if (newY >= 0 && board[newY][newX] == 1) {
-                        return false;
-                    }
-                }
+        int height = block.height();
+        for (int j = 0; j < height; j++) {
+            int bits = block.getRowMask(j);
+            if (bits == 0) continue;
+            
+            int newY = y + j;
+            // 아래쪽 경계 검사
+            if (newY >= GAME_HEIGHT) {
+                return false;
+            }
+            
+            // 좌우 경계 검사 (보드 밖으로 밀려나는 비트가 있으면 배치 불가)
+            int rowBits = shiftRowMask(bits, x);
+            if (rowBits < 0) {
+                return false;
+            }
+            
+            // 이미 블록이 있는 위치인지 확인
+            if (newY >= 0 && (rowMasks[newY] & rowBits) != 0) {
+                return false;
             }
         }
         return true;
     }
     
+    /**
+     * 블록 행 마스크를 보드 x 위치로 이동시킵니다.
+     * @return 이동된 마스크, 보드 좌우 경계를 벗어나는 셀이 있으면 -1
+     */
+    private static int shiftRowMask(int bits, int x) {
+        int shifted;
+        if (x <= -GAME_WIDTH) return -1;
+        if (x < 0) {
+            if ((bits & ((1 << -x) - 1)) != 0) return -1;
+            shifted = bits >>> -x;
+        } else {
+            if (x >= GAME_WIDTH) return -1;
+            shifted = bits << x;
+        }
+        return (shifted & ~FULL_ROW_MASK) != 0 ? -1 : shifted;
+    }
+    
+    /**
+     * board 배열로부터 모든 행의 비트마스크를 다시 계산합니다.
+     * getBoard()로 얻은 배열을 외부에서 직접 수정한 경우 호출해야 합니다.
+     */
+    public void syncRowMasks() {
+        for (int row = 0; row < GAME_HEIGHT; row++) {
+            rowMasks[row] = computeRowMask(row);
+        }
+        rebuildColumnMasks();
+        markAllDirty(); // 어느 셀이 바뀌었는지 알 수 없으므로 전체를 다시 그림
+    }
+    
+    /**
+     * board 배열로부터 특정 행의 비트마스크를 다시 계산합니다.
+     */
+    public void syncRowMask(int row) {
+        if (row < 0 || row >= GAME_HEIGHT) return;
+        
+        int bits = computeRowMask(row);
+        // 값이 바뀐 열만 열 마스크에 반영
+        int changed = rowMasks[row] ^ bits;
+        while (changed != 0) {
+            int col = Integer.numberOfTrailingZeros(changed);
+            columnMasks[col] ^= 1 << row;
+            changed &= changed - 1;
+        }
+        rowMasks[row] = bits;
+        markDirty(0, row, GAME_WIDTH, 1);
+    }
+    
+    private int computeRowMask(int row) {
+        int bits = 0;
+        for (int col = 0; col < GAME_WIDTH; col++) {
+            if (board[row][col] == 1) {
+                bits |= 1 << col;
+            }
+        }
+        return bits;
+    }
+    
+    /**
+     * 행 마스크 전체로부터 열 마스크를 다시 만듭니다.
+     */
+    private void rebuildColumnMasks() {
+        java.util.Arrays.fill(columnMasks, 0);
+        for (int row = 0; row < GAME_HEIGHT; row++) {
+            int bits = rowMasks[row];
+            while (bits != 0) {
+                int col = Integer.numberOfTrailingZeros(bits);
+                columnMasks[col] |= 1 << row;
+                bits &= bits - 1;
+            }
+        }
+    }
+    
+    /**
+     * 열 마스크에서 지정된 행들을 빼고 그 위의 칸들을 한 칸씩 내립니다 (줄 삭제와 같은 이동).
+     * 위쪽 행부터 처리해야 아직 처리하지 않은 아래쪽 행 번호가 바뀌지 않습니다.
+     */
+    private void removeRowsFromColumns(boolean[] removedRows) {
+        for (int row = 0; row < GAME_HEIGHT; row++) {
+            if (!removedRows[row]) continue;
+            int above = (1 << row) - 1;
+            int keepBelow = ~(above | (1 << row));
+            for (int col = 0; col < GAME_WIDTH; col++) {
+                int bits = columnMasks[col];
+                columnMasks[col] = (bits & keepBelow) | ((bits & above) << 1);
+            }
+        }
+    }
+    
+    /**
+     * 열의 높이를 반환합니다 (바닥부터 가장 위 블록까지의 칸 수, 빈 열이면 0).
+     */
+    public int getColumnHeight(int col) {
+        if (col < 0 || col >= GAME_WIDTH) return 0;
+        int bits = columnMasks[col];
+        return bits == 0 ? 0 : GAME_HEIGHT - Integer.numberOfTrailingZeros(bits);
+    }
+    
+    /**
+     * 열의 구멍 수를 반환합니다 (가장 위 블록보다 아래에 있는 빈칸 수).
+     */
+    public int getColumnHoles(int col) {
+        if (col < 0 || col >= GAME_WIDTH) return 0;
+        return getColumnHeight(col) - Integer.bitCount(columnMasks[col]);
+    }
+    
+    /**
+     * 보드 전체의 구멍 수를 반환합니다.
+     */
+    public int getTotalHoles() {
+        int holes = 0;
+        for (int col = 0; col < GAME_WIDTH; col++) {
+            holes += getColumnHoles(col);
+        }
+        return holes;
+    }
+    
+    /**
+     * 블록을 (x, y)에서 그대로 떨어뜨렸을 때 멈추는 y 위치를 반환합니다 (고스트 블록, 하드 드롭용).
+     * 블록의 각 열에서 가장 아래 셀 밑으로 처음 채워진 칸을 열 마스크에서 바로 찾으므로
+     * 한 줄씩 내려 보며 충돌을 검사하지 않습니다. 바닥 판정은 canMoveDown과 같이 블록 높이 기준입니다.
+     */
+    public int getDropY(Block block, int x, int y) {
+        return dropY(block, x, y, columnMasks, GAME_WIDTH, GAME_HEIGHT);
+    }
+    
+    /**
+     * 열 마스크(bit r = r번째 행이 채워짐)만으로 낙하 위치를 계산합니다.
+     * BoardManager 밖의 보드 배열은 {@link #columnMasksOf(int[][])}로 마스크를 만들어 넘깁니다.
+     */
+    public static int dropY(Block block, int x, int y, int[] columnMasks, int width, int height) {
+        if (block == null) return y;
+        
+        int blockWidth = block.width();
+        int blockHeight = block.height();
+        int distance = Math.max(0, height - blockHeight - y);
+        for (int i = 0; i < blockWidth && distance > 0; i++) {
+            int col = x + i;
+            if (col < 0 || col >= width) continue;
+            
+            int bottom = blockHeight - 1;
+            while (bottom >= 0 && block.getShape(i, bottom) != 1) bottom--;
+            if (bottom < 0) continue;
+            
+            // 가장 아래 셀 바로 밑부터 처음 채워진 칸까지의 거리
+            int start = y + bottom + 1;
+            long below = start >= 0 ? (long) columnMasks[col] >>> start : (long) columnMasks[col] << -start;
+            if (below != 0) {
+                distance = Math.min(distance, Long.numberOfTrailingZeros(below));
+            }
+        }
+        return y + distance;
+    }
+    
+    /**
+     * 보드 배열(board[row][col], 0이 아니면 채워짐)의 열 마스크를 만듭니다.
+     */
+    public static int[] columnMasksOf(int[][] board) {
+        int width = board.length > 0 ? board[0].length : 0;
+        int[] masks = new int[width];
+        for (int row = 0; row < board.length && row < Integer.SIZE; row++) {
+            for (int col = 0; col < width; col++) {
+                if (board[row][col] != 0) masks[col] |= 1 << row;
+            }
+        }
+        return masks;
+    }
+    
+    /**
+     * 특정 행의 비트마스크를 반환합니다 (bit i = i번째 열).
+     */
+    public int getRowMask(int row) {
+        if (row < 0 || row >= GAME_HEIGHT) return 0;
+        return rowMasks[row];
+    }
+    
     /**
      * 블록을 보드에 영구적으로 배치합니다.
      */
     public void placeBlock(Block block, int x, int y) {
         if (block == null) return;
         
+        CellPalette palette = CellPalette.current();
+        byte blockColor = palette.indexOf(block.getColor(), block.getType());
+        
         for (int j = 0; j < block.height(); j++) {
             for (int i = 0; i < block.width(); i++) {
                 if (block.getShape(i, j) == 1) {
@@ -104,6 +337,8 @@ public class BoardManager {
                     if (boardY >= 0 && boardY < GAME_HEIGHT && 
                         boardX >= 0 && boardX < GAME_WIDTH) {
                         board[boardY][boardX] = 1;
+                        rowMasks[boardY] |= 1 << boardX;
+                        columnMasks[boardX] |= 1 << boardY;
                         
                         // 블록 타입 저장 (패턴 그리기용)
                         boardTypes[boardY][boardX] = block.getType();
@@ -111,21 +346,24 @@ public class BoardManager {
                         // 아이템 블록인 경우 특별 처리
                         if (block instanceof ItemBlock) {
                             ItemBlock itemBlock = (ItemBlock) block;
-                            boardColors[boardY][boardX] = itemBlock.getCellColor(i, j);
+                            boardColors[boardY][boardX] = blockColor;
                             // 아이템 셀인 경우 아이템 정보 저장 (렌더링용)
                             if (itemBlock.isItemCell(i, j)) {
+                                boardColors[boardY][boardX] = CellPalette.fixedIndex(itemBlock.getItemColor());
                                 itemCells[boardY][boardX] = true;
                                 itemBlockInfo[boardY][boardX] = itemBlock;
-                                System.out.println("ItemBlock cell placed at board position: (" + boardX + ", " + boardY + ") with " + itemBlock.getItemType().getDisplayName());
+                                DebugLog.log("ItemBlock cell placed at board position: (" + boardX + ", " + boardY + ") with " + itemBlock.getItemType().getDisplayName());
                             }
                         } else {
-                            boardColors[boardY][boardX] = block.getColor();
+                            boardColors[boardY][boardX] = blockColor;
                         }
                     }
                 }
             }
         }
         
+        markDirty(x, y, block.width(), block.height());
+        
         // 폭탄 폭발 처리는 줄 삭제 검사 이후에 별도로 처리
     }
     
@@ -135,12 +373,8 @@ public class BoardManager {
     public boolean isLineFull(int row) {
         if (row < 0 || row >= GAME_HEIGHT) return false;
         
-        for (int col = 0; col < GAME_WIDTH; col++) {
-            if (board[row][col] == 0) {
-                return false; // 빈 칸이 하나라도 있으면 완성되지 않음
-            }
-        }
-        return true; // 모든 칸이 채워져 있음
+        // 모든 칸이 채워져 있으면 마스크가 0x3FF와 같음
+        return rowMasks[row] == FULL_ROW_MASK;
     }
     
     /**
@@ -181,7 +415,7 @@ public class BoardManager {
             for (int col = 0; col < GAME_WIDTH; col++) {
                 if (bombCells[row][col]) {
                     linesToExplode.add(row);
-                    System.out.println("Bomb explosion detected at line: " + row);
+                    DebugLog.log("Bomb explosion detected at line: " + row);
                 }
             }
         }
@@ -197,7 +431,7 @@ public class BoardManager {
      */
     private void explodeLines(java.util.Set<Integer> linesToExplode) {
         int linesExploded = linesToExplode.size();
-        System.out.println("Exploding " + linesExploded + " lines due to bomb(s)!");
+        DebugLog.log("Exploding " + linesExploded + " lines due to bomb(s)!");
         
         // 삭제될 줄들을 표시
         boolean[] lineToDelete = new boolean[GAME_HEIGHT];
@@ -205,33 +439,9 @@ public class BoardManager {
             lineToDelete[line] = true;
         }
         
-        // 줄 삭제 및 재배치 (clearCompletedLines와 유사한 로직)
-        int writeRow = GAME_HEIGHT - 1;
-        for (int readRow = GAME_HEIGHT - 1; readRow >= 0; readRow--) {
-            if (!lineToDelete[readRow]) {
-                // 삭제되지 않은 줄이면 아래쪽으로 이동
-                if (writeRow != readRow) {
-                    for (int col = 0; col < GAME_WIDTH; col++) {
-                        board[writeRow][col] = board[readRow][col];
-                        boardColors[writeRow][col] = boardColors[readRow][col];
-                        boardTypes[writeRow][col] = boardTypes[readRow][col];
-                        bombCells[writeRow][col] = bombCells[readRow][col];
-                    }
-                }
-                writeRow--;
-            }
-        }
-        
-        // 위쪽의 남은 줄들은 빈 줄로 설정
-        while (writeRow >= 0) {
-            for (int col = 0; col < GAME_WIDTH; col++) {
-                board[writeRow][col] = 0;
-                boardColors[writeRow][col] = null;
-                boardTypes[writeRow][col] = -1;
-                bombCells[writeRow][col] = false;
-            }
-            writeRow--;
-        }
+        // 줄 삭제 및 재배치 (행 참조만 이동)
+        removeRows(lineToDelete);
+        markAllDirty();
     }
     
     
@@ -245,6 +455,9 @@ public class BoardManager {
         int completedLines = 0;
         int bombLines = 0;
         
+        // 아이템 효과 등으로 board가 직접 수정되었을 수 있으므로 마스크를 먼저 동기화
+        syncRowMasks();
+        
         // 1단계: 완성된 줄 찾기 (LINE_CLEAR 아이템이 있는 줄도 포함)
         for (int row = 0; row < GAME_HEIGHT; row++) {
             if (isLineFull(row)) {
@@ -264,9 +477,9 @@ public class BoardManager {
                 linesToClear[row] = true;
                 completedLines++;
                 if (hasLineClearItem) {
-                    System.out.println("Line " + row + " is complete with LINE_CLEAR item and will be cleared.");
+                    DebugLog.log("Line " + row + " is complete with LINE_CLEAR item and will be cleared.");
                 } else {
-                    System.out.println("Line " + row + " is complete and will be cleared.");
+                    DebugLog.log("Line " + row + " is complete and will be cleared.");
                 }
             }
         }
@@ -277,7 +490,7 @@ public class BoardManager {
                 if (bombCells[row][col] && !linesToClear[row]) {
                     linesToClear[row] = true;
                     bombLines++;
-                    System.out.println("Line " + row + " has bomb and will be cleared.");
+                    DebugLog.log("Line " + row + " has bomb and will be cleared.");
                     break; // 해당 줄에서 폭탄을 찾았으면 다음 줄로
                 }
             }
@@ -287,7 +500,7 @@ public class BoardManager {
         int totalLinesCleared = completedLines + bombLines;
         if (totalLinesCleared > 0) {
             clearLines(linesToClear);
-            System.out.println("Cleared " + completedLines + " completed lines and " + bombLines + " bomb lines!");
+            DebugLog.log("Cleared " + completedLines + " completed lines and " + bombLines + " bomb lines!");
         }
         
         return new int[]{completedLines, bombLines};
@@ -300,53 +513,117 @@ public class BoardManager {
         // 1단계: 삭제될 줄의 아이템 효과들을 먼저 활성화
         activateItemEffectsInClearedLines(linesToClear);
         
-        int writeRow = GAME_HEIGHT - 1; // 새로 배치할 위치
+        // 2단계: 삭제되지 않은 줄들을 아래로 내림 (행 참조만 이동)
+        removeRows(linesToClear);
+        markAllDirty();
+    }
+    
+    /**
+     * 지정된 행들을 지우고 그 위의 행들을 아래로 내립니다 (줄 삭제, 폭발 공통).
+     * 셀을 하나씩 복사하지 않고 여섯 보드 배열의 행 참조만 옮기며,
+     * 지운 행 배열은 비운 뒤 맨 위의 빈 줄로 다시 사용합니다.
+     */
+    private void removeRows(boolean[] removedRows) {
+        int removed = removeRows(board, removedRows);
+        removeRows(boardColors, removedRows);
+        removeRows(boardTypes, removedRows);
+        removeRows(bombCells, removedRows);
+        removeRows(itemCells, removedRows);
+        removeRows(itemBlockInfo, removedRows);
         
-        // 아래에서 위로 올라가면서 삭제되지 않은 줄들만 복사
+        int writeRow = GAME_HEIGHT - 1;
         for (int readRow = GAME_HEIGHT - 1; readRow >= 0; readRow--) {
-            if (!linesToClear[readRow]) {
-                // 삭제되지 않은 줄이면 아래쪽으로 이동
-                if (writeRow != readRow) {
-                    System.out.println("Moving line " + readRow + " to line " + writeRow);
-                }
-                for (int col = 0; col < GAME_WIDTH; col++) {
-                    board[writeRow][col] = board[readRow][col];
-                    boardColors[writeRow][col] = boardColors[readRow][col];
-                    boardTypes[writeRow][col] = boardTypes[readRow][col];
-                    bombCells[writeRow][col] = bombCells[readRow][col];
-                    itemCells[writeRow][col] = itemCells[readRow][col];
-                    itemBlockInfo[writeRow][col] = itemBlockInfo[readRow][col];
-                }
-                writeRow--;
+            if (!removedRows[readRow]) {
+                rowMasks[writeRow--] = rowMasks[readRow];
+            }
+        }
+        for (int row = 0; row < removed; row++) {
+            clearRow(row);
+            rowMasks[row] = 0;
+        }
+        removeRowsFromColumns(removedRows);
+    }
+    
+    /**
+     * 행 배열 참조를 옮겨 지정된 행들을 빼고, 빠진 행 배열들을 맨 위로 올립니다.
+     * @return 뺀 행 수
+     */
+    private static int removeRows(Object[] rows, boolean[] removedRows) {
+        Object[] removed = new Object[GAME_HEIGHT];
+        int removedCount = 0;
+        int writeRow = GAME_HEIGHT - 1;
+        for (int readRow = GAME_HEIGHT - 1; readRow >= 0; readRow--) {
+            if (removedRows[readRow]) {
+                removed[removedCount++] = rows[readRow];
             } else {
-                System.out.println("Skipping deleted line " + readRow);
+                rows[writeRow--] = rows[readRow];
             }
         }
+        for (int i = 0; writeRow >= 0; i++) {
+            rows[writeRow--] = removed[i];
+        }
+        return removedCount;
+    }
+    
+    /**
+     * 모든 행 참조를 한 칸씩 위로 옮기고, 밀려난 맨 위 행 배열을 맨 아래에 둡니다.
+     */
+    private static void rotateRowsUp(Object[] rows) {
+        Object top = rows[0];
+        System.arraycopy(rows, 1, rows, 0, GAME_HEIGHT - 1);
+        rows[GAME_HEIGHT - 1] = top;
+    }
+    
+    /**
+     * 한 행을 빈 줄로 만듭니다 (행 마스크는 호출하는 쪽에서 처리).
+     */
+    private void clearRow(int row) {
+        java.util.Arrays.fill(board[row], 0);
+        java.util.Arrays.fill(boardColors[row], CellPalette.EMPTY);
+        java.util.Arrays.fill(boardTypes[row], -1);
+        java.util.Arrays.fill(bombCells[row], false);
+        java.util.Arrays.fill(itemCells[row], false);
+        java.util.Arrays.fill(itemBlockInfo[row], null);
+    }
+    
+    /**
+     * 모든 줄을 한 칸씩 위로 올리고 맨 아래 줄에 새 줄을 넣습니다 (대전 모드 공격 줄).
+     * 맨 위 줄은 보드 밖으로 밀려나며, 새 줄은 아이템/폭탄 셀이 아닙니다.
+     * @param rowMask 새 줄에서 블록이 있는 열 (bit i = i번째 열)
+     * @param colors 새 줄의 열별 색상
+     * @param types 새 줄의 열별 블록 타입
+     */
+    public void insertBottomRow(int rowMask, Color[] colors, int[] types) {
+        int bottom = GAME_HEIGHT - 1;
+        // 밀려난 맨 위 행 배열을 맨 아래 줄로 다시 사용
+        rotateRowsUp(board);
+        rotateRowsUp(boardColors);
+        rotateRowsUp(boardTypes);
+        rotateRowsUp(bombCells);
+        rotateRowsUp(itemCells);
+        rotateRowsUp(itemBlockInfo);
+        System.arraycopy(rowMasks, 1, rowMasks, 0, bottom);
         
-        // 위쪽의 남은 줄들은 빈 줄로 설정
-        while (writeRow >= 0) {
-            for (int col = 0; col < GAME_WIDTH; col++) {
-                board[writeRow][col] = 0;
-                boardColors[writeRow][col] = null;
-                boardTypes[writeRow][col] = -1;
-                bombCells[writeRow][col] = false;
-                itemCells[writeRow][col] = false;
-                itemBlockInfo[writeRow][col] = null;
-            }
-            writeRow--;
+        CellPalette palette = CellPalette.current();
+        for (int col = 0; col < GAME_WIDTH; col++) {
+            boolean filled = (rowMask & (1 << col)) != 0;
+            board[bottom][col] = filled ? 1 : 0;
+            boardColors[bottom][col] = palette.indexOf(colors[col]);
+            boardTypes[bottom][col] = types[col];
+            bombCells[bottom][col] = false;
+            itemCells[bottom][col] = false;
+            itemBlockInfo[bottom][col] = null;
+            columnMasks[col] = (columnMasks[col] >>> 1) | (filled ? 1 << bottom : 0);
         }
+        rowMasks[bottom] = rowMask & FULL_ROW_MASK;
+        markAllDirty();
     }
     
     /**
      * 게임 오버 상태인지 확인합니다 (맨 위 줄에 블록이 있는지).
      */
     public boolean isGameOver() {
-        for (int col = 0; col < GAME_WIDTH; col++) {
-            if (board[0][col] == 1) {
-                return true;
-            }
-        }
-        return false;
+        return rowMasks[0] != 0;
     }
     
     /**
@@ -356,63 +633,96 @@ public class BoardManager {
         if (block == null) return false;
         if (y + block.height() >= GAME_HEIGHT) return false;
         
-        for (int j = 0; j < block.height(); j++) {
-            for (int i = 0; i < block.width(); i++) {
-                if (block.getShape(i, j) == 1) {
-                    int newY = y + j + 1;
-                    int newX = x + i;
-                    if (newY >= GAME_HEIGHT || (newY >= 0 && board[newY][newX] == 1)) {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
+        return canPlaceBlock(block, x, y + 1);
     }
     
     /**
      * 블록이 왼쪽으로 이동할 수 있는지 확인합니다.
      */
     public boolean canMoveLeft(Block block, int x, int y) {
-        if (block == null) return false;
-        
-        for (int j = 0; j < block.height(); j++) {
-            for (int i = 0; i < block.width(); i++) {
-                if (block.getShape(i, j) == 1) {
-                    int newX = x + i - 1;
-                    int newY = y + j;
-                    if (newX < 0 || (newY >= 0 && newY < GAME_HEIGHT && board[newY][newX] == 1)) {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
+        return canPlaceBlock(block, x - 1, y);
     }
     
     /**
      * 블록이 오른쪽으로 이동할 수 있는지 확인합니다.
      */
     public boolean canMoveRight(Block block, int x, int y) {
-        if (block == null) return false;
-        
-        for (int j = 0; j < block.height(); j++) {
-            for (int i = 0; i < block.width(); i++) {
-                if (block.getShape(i, j) == 1) {
-                    int newX = x + i + 1;
-                    int newY = y + j;
-                    if (newX >= GAME_WIDTH || (newY >= 0 && newY < GAME_HEIGHT && board[newY][newX] == 1)) {
-                        return false;
-                    }
-                }
-            }
+        return canPlaceBlock(block, x + 1, y);
+    }
+    
+    /**
+     * 보드 상태 사본 (리플레이 키프레임용)
+     */
+    public static final class State {
+        private final int[][] board;
+        private final byte[][] boardColors;
+        private final int[][] boardTypes;
+        private final boolean[][] bombCells;
+        private final boolean[][] itemCells;
+        private final ItemBlock[][] itemBlockInfo;
+
+        private State(BoardManager source) {
+            board = copyOf(source.board);
+            boardColors = copyOf(source.boardColors);
+            boardTypes = copyOf(source.boardTypes);
+            bombCells = copyOf(source.bombCells);
+            itemCells = copyOf(source.itemCells);
+            itemBlockInfo = copyOf(source.itemBlockInfo);
         }
-        return true;
+    }
+    
+    /**
+     * 현재 보드 상태를 복사합니다.
+     */
+    public State copyState() {
+        return new State(this);
+    }
+    
+    /**
+     * 복사해 둔 보드 상태로 되돌립니다. 배열은 그대로 두고 내용만 덮어씁니다.
+     */
+    public void restoreState(State state) {
+        for (int row = 0; row < GAME_HEIGHT; row++) {
+            System.arraycopy(state.board[row], 0, board[row], 0, GAME_WIDTH);
+            System.arraycopy(state.boardColors[row], 0, boardColors[row], 0, GAME_WIDTH);
+            System.arraycopy(state.boardTypes[row], 0, boardTypes[row], 0, GAME_WIDTH);
+            System.arraycopy(state.bombCells[row], 0, bombCells[row], 0, GAME_WIDTH);
+            System.arraycopy(state.itemCells[row], 0, itemCells[row], 0, GAME_WIDTH);
+            System.arraycopy(state.itemBlockInfo[row], 0, itemBlockInfo[row], 0, GAME_WIDTH);
+        }
+        syncRowMasks();
+    }
+    
+    private static int[][] copyOf(int[][] source) {
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) copy[i] = source[i].clone();
+        return copy;
+    }
+    
+    private static byte[][] copyOf(byte[][] source) {
+        byte[][] copy = new byte[source.length][];
+        for (int i = 0; i < source.length; i++) copy[i] = source[i].clone();
+        return copy;
+    }
+    
+    private static boolean[][] copyOf(boolean[][] source) {
+        boolean[][] copy = new boolean[source.length][];
+        for (int i = 0; i < source.length; i++) copy[i] = source[i].clone();
+        return copy;
+    }
+    
+    private static <T> T[][] copyOf(T[][] source) {
+        T[][] copy = source.clone();
+        for (int i = 0; i < source.length; i++) copy[i] = source[i].clone();
+        return copy;
     }
     
     // Getter 메서드들
     public int[][] getBoard() { return board; }
-    public Color[][] getBoardColors() { return boardColors; }
+    /**
+     * 셀 색상 인덱스 배열을 반환합니다 (CellPalette.color로 Color를 얻음).
+     */
+    public byte[][] getBoardColorIndices() { return boardColors; }
     public int[][] getBoardTypes() { return boardTypes; }
     public boolean[][] getBombCells() { return bombCells; }
     public int getWidth() { return GAME_WIDTH; }
@@ -421,21 +731,27 @@ public class BoardManager {
     // Setter 메서드들
     public void setBoardTypes(int[][] boardTypes) {
         this.boardTypes = boardTypes;
+        markAllDirty();
     }
     public void setBoard(int[][] board) {
         this.board = board;
+        syncRowMasks();
     }
     public void setBombCells(boolean[][] bombCells) {
         this.bombCells = bombCells;
+        markAllDirty();
     }
     public void setItemCells(boolean[][] itemCells) {
         this.itemCells = itemCells;
+        markAllDirty();
     }
     public void setItemBlockInfo(ItemBlock[][] itemBlockInfo) {
         this.itemBlockInfo = itemBlockInfo;
+        markAllDirty();
     }
-    public void setBoardColors(Color[][] boardColors) {
+    public void setBoardColorIndices(byte[][] boardColors) {
         this.boardColors = boardColors;
+        markAllDirty();
     }
     
     /**
@@ -463,9 +779,10 @@ public class BoardManager {
     }
     
     /**
-     * 디버깅용 보드 상태 출력
+     * 디버깅용 보드 상태 출력 (DebugLog가 켜져 있을 때만)
      */
     public void printBoard() {
+        if (!DebugLog.ENABLED) return;
         System.out.println("Current board state:");
         for (int i = 0; i < GAME_HEIGHT; i++) {
             for (int j = 0; j < GAME_WIDTH; j++) {
@@ -481,7 +798,7 @@ public class BoardManager {
      */
     public void setItemManager(ItemManager itemManager) {
         this.itemManager = itemManager;
-        System.out.println("ItemManager set in BoardManager: " + (itemManager != null));
+        DebugLog.log("ItemManager set in BoardManager: " + (itemManager != null));
     }
     
     /**
@@ -489,7 +806,8 @@ public class BoardManager {
      */
     public void setGameScene(Object gameScene) {
         this.gameScene = gameScene;
-        System.out.println("GameScene set in BoardManager: " + (gameScene != null));
+        this.effectHost = (gameScene instanceof ItemEffectHost) ? (ItemEffectHost) gameScene : null;
+        DebugLog.log("GameScene set in BoardManager: " + (gameScene != null));
     }
     
     /**
@@ -497,7 +815,7 @@ public class BoardManager {
      */
     public void setBlockManager(Object blockManager) {
         this.blockManager = blockManager;
-        System.out.println("BlockManager set in BoardManager: " + (blockManager != null));
+        DebugLog.log("BlockManager set in BoardManager: " + (blockManager != null));
     }
     
     /**
@@ -544,20 +862,20 @@ public class BoardManager {
                         if (itemBlock.getItemType() == ItemEffectType.LINE_CLEAR ||
                             itemBlock.getItemType() == ItemEffectType.SPEED_UP ||
                             itemBlock.getItemType() == ItemEffectType.SPEED_DOWN) {
-                            System.out.println("🎯 Activating " + itemBlock.getItemType().getDisplayName() + " item effect in cleared line at (" + col + "," + row + ")");
+                            DebugLog.log("🎯 Activating " + itemBlock.getItemType().getDisplayName() + " item effect in cleared line at (" + col + "," + row + ")");
                             
                             // 배틀 모드 체크
                             boolean isBattle = isBattleMode();
                             boolean isOpponentItem = isOpponentTargetItem(itemBlock.getItemType());
-                            System.out.println("🔍 Battle mode: " + isBattle + ", Opponent target item: " + isOpponentItem);
+                            DebugLog.log("🔍 Battle mode: " + isBattle + ", Opponent target item: " + isOpponentItem);
                             
                             // 배틀 모드에서 상대방 효과 아이템인지 확인
                             if (isBattle && isOpponentItem) {
-                                System.out.println("⚔️ Applying effect to opponent!");
+                                DebugLog.log("⚔️ Applying effect to opponent!");
                                 // 상대방에게 효과 적용
                                 applyItemEffectToOpponent(itemBlock, col, row);
                             } else {
-                                System.out.println("🔄 Applying normal item effect to self");
+                                DebugLog.log("🔄 Applying normal item effect to self");
                                 // 일반 아이템 효과 생성 및 활성화
                                 ItemEffect effect = ItemEffectFactory.createEffect(itemBlock.getItemType());
                                 if (effect != null) {
@@ -574,7 +892,7 @@ public class BoardManager {
                                 }
                             }
                         } else {
-                            System.out.println("⏭️ Skipping " + itemBlock.getItemType().getDisplayName() + 
+                            DebugLog.log("⏭️ Skipping " + itemBlock.getItemType().getDisplayName() + 
                                              " item in cleared line (only activates on landing)");
                         }
                     }
@@ -587,9 +905,7 @@ public class BoardManager {
      * 배틀 모드인지 확인
      */
     private boolean isBattleMode() {
-        boolean result = gameScene != null && gameScene.getClass().getSimpleName().equals("BattleScene");
-        System.out.println("🔍 isBattleMode check: gameScene=" + (gameScene != null ? gameScene.getClass().getSimpleName() : "null") + ", result=" + result);
-        return result;
+        return effectHost != null && effectHost.isBattleMode();
     }
     
     /**
@@ -602,58 +918,23 @@ public class BoardManager {
     
     /**
      * 배틀 모드에서 상대방에게 아이템 효과 적용
+     * 이 보드의 플레이어 번호(BattleScene에서 설정)가 효과를 발동한 플레이어입니다.
      */
     private void applyItemEffectToOpponent(ItemBlock itemBlock, int col, int row) {
-        System.out.println("🎯 applyItemEffectToOpponent called for " + itemBlock.getItemType().getDisplayName());
+        DebugLog.log("🎯 Player " + playerNumber + " using " + itemBlock.getItemType().getDisplayName() + " → affects opponent");
         
-        try {
-            // 현재 플레이어 번호 확인 (1 또는 2)
-            int currentPlayer = determinePlayerNumber();
-            
-            System.out.println("🎯 Player " + currentPlayer + " using " + itemBlock.getItemType().getDisplayName() + " → affects opponent");
-            
-            // BattleScene의 상대방 효과 메서드 호출
-            switch (itemBlock.getItemType()) {
-                case SPEED_UP:
-                    System.out.println("🚀 Calling applySpeedUpToOpponent");
-                    gameScene.getClass()
-                        .getMethod("applySpeedUpToOpponent", int.class)
-                        .invoke(gameScene, currentPlayer);
-                    break;
-                    
-                case SPEED_DOWN:
-                    System.out.println("🐌 Calling applySpeedDownToOpponent");
-                    gameScene.getClass()
-                        .getMethod("applySpeedDownToOpponent", int.class)
-                        .invoke(gameScene, currentPlayer);
-                    break;
-                    
-                default:
-                    System.out.println("⚠️ Unknown opponent target item: " + itemBlock.getItemType());
-                    break;
-            }
-            
-        } catch (Exception e) {
-            System.err.println("❌ Failed to apply opponent effect: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * 현재 플레이어 번호 확인 (1 또는 2)
-     */
-    private int determinePlayerNumber() {
-        // BattleScene에서 boardManager1이면 1, boardManager2이면 2
-        try {
-            Object boardManager1 = gameScene.getClass().getField("boardManager1").get(gameScene);
-            if (boardManager1 == this) {
-                return 1;
-            } else {
-                return 2;
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to determine player number: " + e.getMessage());
-            return 1; // 기본값
+        switch (itemBlock.getItemType()) {
+            case SPEED_UP:
+                effectHost.applySpeedUpToOpponent(playerNumber);
+                break;
+                
+            case SPEED_DOWN:
+                effectHost.applySpeedDownToOpponent(playerNumber);
+                break;
+                
+            default:
+                DebugLog.log("⚠️ Unknown opponent target item: " + itemBlock.getItemType());
+                break;
         }
     }
     
@@ -663,11 +944,11 @@ public class BoardManager {
      */
     public void forceClearLine(int lineIndex) {
         if (lineIndex < 0 || lineIndex >= GAME_HEIGHT) {
-            System.out.println("Invalid line index for force clear: " + lineIndex);
+            DebugLog.log("Invalid line index for force clear: " + lineIndex);
             return;
         }
         
-        System.out.println("Force clearing line " + lineIndex + " with blink effect");
+        DebugLog.log("Force clearing line " + lineIndex + " with blink effect");
         
         // 해당 줄을 완성된 줄로 표시하여 블링킹 효과 적용
         java.util.List<Integer> linesToBlink = new java.util.ArrayList<>();
@@ -684,7 +965,7 @@ public class BoardManager {
     public void triggerLineCheck() {
         // GameScene이나 다른 컴포넌트에서 줄 체크 로직을 실행하도록 알림
         // 실제로는 GameScene의 checkLines() 메서드를 호출해야 함
-        System.out.println("Triggering line check for blink effect integration");
+        DebugLog.log("Triggering line check for blink effect integration");
         
         // 현재는 직접 줄 체크를 수행 (추후 GameScene 연동으로 개선)
         checkAndHandleCompletedLines();
@@ -695,12 +976,13 @@ public class BoardManager {
      */
     private void checkAndHandleCompletedLines() {
         java.util.List<Integer> completedLines = new java.util.ArrayList<>();
+        syncRowMasks();
         
         // 완성된 줄 찾기
         for (int row = 0; row < GAME_HEIGHT; row++) {
             if (isLineFull(row)) {
                 completedLines.add(row);
-                System.out.println("Found completed line: " + row);
+                DebugLog.log("Found completed line: " + row);
             }
         }
         
@@ -716,7 +998,7 @@ public class BoardManager {
     private void notifyLineBlinkStart(java.util.List<Integer> lines) {
         // GameScene 참조가 필요하지만, 지금은 간단히 즉시 삭제로 처리
         // 실제로는 GameScene의 블링킹 시스템을 사용해야 함
-        System.out.println("Starting blink effect for lines: " + lines);
+        DebugLog.log("Starting blink effect for lines: " + lines);
         
         // 임시: 블링킹 없이 즉시 삭제 (추후 개선 필요)
         for (int lineIndex : lines) {
@@ -728,31 +1010,15 @@ public class BoardManager {
      * 즉시 줄을 삭제합니다 (내부 사용)
      */
     private void forceClearLineImmediate(int lineIndex) {
-        System.out.println("Force clearing line " + lineIndex);
+        DebugLog.log("Force clearing line " + lineIndex);
         
-        // 해당 줄 위의 모든 줄들을 한 칸씩 아래로 이동
-        for (int row = lineIndex; row > 0; row--) {
-            for (int col = 0; col < GAME_WIDTH; col++) {
-                board[row][col] = board[row - 1][col];
-                boardColors[row][col] = boardColors[row - 1][col];
-                boardTypes[row][col] = boardTypes[row - 1][col];
-                bombCells[row][col] = bombCells[row - 1][col];
-                itemCells[row][col] = itemCells[row - 1][col];
-                itemBlockInfo[row][col] = itemBlockInfo[row - 1][col];
-            }
-        }
+        // 해당 줄 위의 모든 줄들을 한 칸씩 아래로 이동 (맨 위 줄은 비워짐)
+        boolean[] removedRows = new boolean[GAME_HEIGHT];
+        removedRows[lineIndex] = true;
+        removeRows(removedRows);
+        markDirty(0, 0, GAME_WIDTH, lineIndex + 1);
         
-        // 맨 위 줄은 비워둠
-        for (int col = 0; col < GAME_WIDTH; col++) {
-            board[0][col] = 0;
-            boardColors[0][col] = null;
-            boardTypes[0][col] = -1;
-            bombCells[0][col] = false;
-            itemCells[0][col] = false;
-            itemBlockInfo[0][col] = null;
-        }
-        
-        System.out.println("Force clear completed for line " + lineIndex);
+        DebugLog.log("Force clear completed for line " + lineIndex);
     }
     
     /**
@@ -767,9 +1033,10 @@ public class BoardManager {
             if (!isItem) {
                 itemBlockInfo[y][x] = null; // 아이템 정보도 제거
             }
-            System.out.println("Set item cell at (" + x + ", " + y + ") to " + isItem);
+            markDirty(x, y, 1, 1);
+            DebugLog.log("Set item cell at (" + x + ", " + y + ") to " + isItem);
         } else {
-            System.out.println("Invalid coordinates for setItemCell: (" + x + ", " + y + ")");
+            DebugLog.log("Invalid coordinates for setItemCell: (" + x + ", " + y + ")");
         }
     }
     
@@ -781,10 +1048,11 @@ public class BoardManager {
      */
     public void setBoardColor(int x, int y, Color color) {
         if (y >= 0 && y < GAME_HEIGHT && x >= 0 && x < GAME_WIDTH) {
-            boardColors[y][x] = color;
-            System.out.println("Set board color at (" + x + ", " + y + ") to " + color);
+            boardColors[y][x] = CellPalette.current().indexOf(color);
+            markDirty(x, y, 1, 1);
+            DebugLog.log("Set board color at (" + x + ", " + y + ") to " + color);
         } else {
-            System.out.println("Invalid coordinates for setBoardColor: (" + x + ", " + y + ")");
+            DebugLog.log("Invalid coordinates for setBoardColor: (" + x + ", " + y + ")");
         }
     }
     
@@ -798,13 +1066,14 @@ public class BoardManager {
         if (y >= 0 && y < GAME_HEIGHT && x >= 0 && x < GAME_WIDTH) {
             itemBlockInfo[y][x] = itemBlock;
             itemCells[y][x] = (itemBlock != null);
+            markDirty(x, y, 1, 1);
             if (itemBlock != null) {
-                System.out.println("Set item block info at (" + x + ", " + y + ") with " + itemBlock.getItemType().getDisplayName());
+                DebugLog.log("Set item block info at (" + x + ", " + y + ") with " + itemBlock.getItemType().getDisplayName());
             } else {
-                System.out.println("Cleared item block info at (" + x + ", " + y + ")");
+                DebugLog.log("Cleared item block info at (" + x + ", " + y + ")");
             }
         } else {
-            System.out.println("Invalid coordinates for setItemBlockInfo: (" + x + ", " + y + ")");
+            DebugLog.log("Invalid coordinates for setItemBlockInfo: (" + x + ", " + y + ")");
         }
     }
     
@@ -817,9 +1086,10 @@ public class BoardManager {
         if (y >= 0 && y < GAME_HEIGHT && x >= 0 && x < GAME_WIDTH) {
             itemBlockInfo[y][x] = null;
             itemCells[y][x] = false;
-            System.out.println("Cleared item block info at (" + x + ", " + y + ")");
+            markDirty(x, y, 1, 1);
+            DebugLog.log("Cleared item block info at (" + x + ", " + y + ")");
         } else {
-            System.out.println("Invalid coordinates for clearItemBlockInfo: (" + x + ", " + y + ")");
+            DebugLog.log("Invalid coordinates for clearItemBlockInfo: (" + x + ", " + y + ")");
         }
     }
     
@@ -831,7 +1101,7 @@ public class BoardManager {
      */
     public Color getBoardColor(int x, int y) {
         if (y >= 0 && y < GAME_HEIGHT && x >= 0 && x < GAME_WIDTH) {
-            return boardColors[y][x];
+            return CellPalette.current().color(boardColors[y][x]);
         }
         return null;
     }
@@ -846,7 +1116,7 @@ public class BoardManager {
      * @param maxY 영향받는 영역의 최대 Y 좌표
      */
     public void compactColumns(int minX, int maxX, int minY, int maxY) {
-        System.out.println("Compacting columns in area: (" + minX + "," + minY + ") to (" + maxX + "," + maxY + ")");
+        DebugLog.log("Compacting columns in area: (" + minX + "," + minY + ") to (" + maxX + "," + maxY + ")");
         
         // 각 열별로 중력 적용
         for (int col = minX; col <= maxX; col++) {
@@ -859,7 +1129,7 @@ public class BoardManager {
                 if (board[readRow][col] != 0) {
                     // 블록이 있으면 writeRow 위치로 이동
                     if (writeRow != readRow) {
-                        System.out.println("Moving block from (" + col + "," + readRow + ") to (" + col + "," + writeRow + ")");
+                        DebugLog.log("Moving block from (" + col + "," + readRow + ") to (" + col + "," + writeRow + ")");
                         
                         // 블록 데이터 이동
                         board[writeRow][col] = board[readRow][col];
@@ -871,7 +1141,7 @@ public class BoardManager {
                         
                         // 원래 위치는 비우기
                         board[readRow][col] = 0;
-                        boardColors[readRow][col] = null;
+                        boardColors[readRow][col] = CellPalette.EMPTY;
                         boardTypes[readRow][col] = -1;
                         bombCells[readRow][col] = false;
                         itemCells[readRow][col] = false;
@@ -885,7 +1155,7 @@ public class BoardManager {
             for (int row = writeRow; row >= 0; row--) {
                 if (board[row][col] != 0) {
                     board[row][col] = 0;
-                    boardColors[row][col] = null;
+                    boardColors[row][col] = CellPalette.EMPTY;
                     boardTypes[row][col] = -1;
                     bombCells[row][col] = false;
                     itemCells[row][col] = false;
@@ -894,7 +1164,10 @@ public class BoardManager {
             }
         }
         
-        System.out.println("Column compaction completed");
+        // 호출 전에 외부에서 지운 셀까지 반영하여 마스크 재계산
+        syncRowMasks();
+        
+        DebugLog.log("Column compaction completed");
     }
 
 }
\ No newline at end of file
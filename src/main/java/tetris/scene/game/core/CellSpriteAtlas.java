@@ -0,0 +1,176 @@
+package tetris.scene.game.core;
+
+import tetris.ColorBlindHelper;
+import tetris.scene.game.blocks.ItemBlock;
+import tetris.scene.game.blocks.WeightItemBlock;
+import tetris.scene.game.items.ItemEffectType;
+import tetris.util.CellPalette;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 미리 그려둔 셀 스프라이트 모음
+ *
+ * 셀 하나를 그릴 때마다 채우기, 색맹 패턴(선 여러 개), 테두리, 아이템 아이콘을 다시 그리는 대신
+ * (셀 크기, 색맹 모드)마다 스프라이트를 한 번만 만들어 두고 drawImage로 찍습니다.
+ * 블록 색 7개와 아이템 아이콘, 무게추는 만들 때 모두 그리고, 그 밖의 고정 색(공격 줄, 사용자 색 등)은
+ * 처음 쓰일 때 그립니다.
+ *
+ * 스프라이트는 테두리 선이 셀 밖으로 1픽셀 나가는 것까지 담도록 여백을 두며, draw* 메서드가 이를 보정합니다.
+ * 렌더링 스레드(EDT)에서만 사용합니다.
+ */
+public final class CellSpriteAtlas {
+
+    private static final int MARGIN = 1;
+    private static final int COLORS = 128;   // CellPalette 인덱스 범위
+    private static final int PATTERNS = CellPalette.BLOCK_COUNT + 1; // 패턴 없음 + 블록 타입 0~6
+    private static final BasicStroke THIN_STROKE = new BasicStroke(1);
+
+    // (셀 크기, 색맹 모드)별 아틀라스
+    private static final Map<Integer, CellSpriteAtlas> ATLASES = new HashMap<>();
+
+    private final int cellSize;
+    private final int colorBlindMode;
+    private final CellPalette palette;
+
+    // [테두리 여부][색 인덱스][패턴] - 고정 색은 처음 쓰일 때 채움
+    private final BufferedImage[][][] cells = new BufferedImage[2][COLORS][PATTERNS];
+    private final BufferedImage[][] items = new BufferedImage[2][ItemEffectType.values().length];
+    private final BufferedImage weight;
+
+    private CellSpriteAtlas(int cellSize, int colorBlindMode) {
+        this.cellSize = cellSize;
+        this.colorBlindMode = colorBlindMode;
+        this.palette = CellPalette.forMode(colorBlindMode);
+
+        for (int type = 0; type < CellPalette.BLOCK_COUNT; type++) {
+            byte index = CellPalette.blockIndex(type);
+            for (int outlined = 0; outlined < 2; outlined++) {
+                cells[outlined][index][0] = renderCell(index, -1, outlined == 1);
+                if (colorBlindMode > 0) {
+                    cells[outlined][index][type + 1] = renderCell(index, type, outlined == 1);
+                }
+            }
+        }
+        for (ItemEffectType itemType : ItemEffectType.values()) {
+            for (int outlined = 0; outlined < 2; outlined++) {
+                items[outlined][itemType.ordinal()] = renderItem(itemType, outlined == 1);
+            }
+        }
+        weight = renderWeight();
+    }
+
+    /**
+     * 셀 크기와 색맹 모드에 맞는 아틀라스를 반환합니다 (조합마다 한 번만 만듦).
+     * @param cellSize 셀 안쪽 크기 (테두리 사각형의 한 변, 픽셀)
+     */
+    public static synchronized CellSpriteAtlas forSize(int cellSize, int colorBlindMode) {
+        int mode = (colorBlindMode >= 0 && colorBlindMode < 3) ? colorBlindMode : 0;
+        int size = Math.max(1, cellSize);
+        int key = size * 4 + mode;
+        CellSpriteAtlas atlas = ATLASES.get(key);
+        if (atlas == null) {
+            atlas = new CellSpriteAtlas(size, mode);
+            ATLASES.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    public int getColorBlindMode() {
+        return colorBlindMode;
+    }
+
+    /**
+     * 색 인덱스의 셀을 그립니다.
+     * @param colorIndex CellPalette 색 인덱스 (빈칸이면 테두리만)
+     * @param blockType 색맹 패턴을 고를 블록 타입 (-1이면 패턴 없음)
+     * @param outlined 검은 테두리까지 그릴지 여부
+     */
+    public void drawCell(Graphics2D g2d, int x, int y, byte colorIndex, int blockType, boolean outlined) {
+        int index = colorIndex < 0 ? 0 : colorIndex;
+        int pattern = (colorBlindMode > 0 && blockType >= 0 && index != CellPalette.EMPTY)
+            ? blockType % CellPalette.BLOCK_COUNT + 1 : 0;
+        int o = outlined ? 1 : 0;
+        BufferedImage sprite = cells[o][index][pattern];
+        if (sprite == null) {
+            sprite = renderCell((byte) index, pattern - 1, outlined);
+            cells[o][index][pattern] = sprite;
+        }
+        g2d.drawImage(sprite, x - MARGIN, y - MARGIN, null);
+    }
+
+    /**
+     * 아이템 셀(아이콘 또는 심볼)을 그립니다.
+     */
+    public void drawItem(Graphics2D g2d, int x, int y, ItemEffectType itemType, boolean outlined) {
+        g2d.drawImage(items[outlined ? 1 : 0][itemType.ordinal()], x - MARGIN, y - MARGIN, null);
+    }
+
+    /**
+     * 활성화·파괴 표시가 없는 무게추 셀을 그립니다.
+     */
+    public void drawWeight(Graphics2D g2d, int x, int y) {
+        g2d.drawImage(weight, x - MARGIN, y - MARGIN, null);
+    }
+
+    private BufferedImage renderCell(byte colorIndex, int blockType, boolean outlined) {
+        BufferedImage sprite = createSprite();
+        Graphics2D g = createGraphics(sprite);
+        Color color = palette.color(colorIndex);
+        if (color != null) {
+            g.setColor(color);
+            g.fillRect(MARGIN, MARGIN, cellSize, cellSize);
+            if (blockType >= 0) {
+                ColorBlindHelper.drawBlockPattern(g, blockType, MARGIN, MARGIN, cellSize, colorBlindMode, color);
+            }
+        }
+        if (outlined) {
+            drawOutline(g);
+        }
+        g.dispose();
+        return sprite;
+    }
+
+    private BufferedImage renderItem(ItemEffectType itemType, boolean outlined) {
+        BufferedImage sprite = createSprite();
+        Graphics2D g = createGraphics(sprite);
+        ItemBlock.drawItemIcon(g, itemType, MARGIN, MARGIN, cellSize);
+        if (outlined) {
+            drawOutline(g);
+        }
+        g.dispose();
+        return sprite;
+    }
+
+    private BufferedImage renderWeight() {
+        BufferedImage sprite = createSprite();
+        Graphics2D g = createGraphics(sprite);
+        WeightItemBlock.drawWeightShape(g, MARGIN, MARGIN, cellSize);
+        g.dispose();
+        return sprite;
+    }
+
+    private void drawOutline(Graphics2D g) {
+        g.setColor(Color.BLACK);
+        g.setStroke(THIN_STROKE);
+        g.drawRect(MARGIN, MARGIN, cellSize, cellSize);
+    }
+
+    private BufferedImage createSprite() {
+        int size = cellSize + 2 * MARGIN + 1;
+        return new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static Graphics2D createGraphics(BufferedImage sprite) {
+        Graphics2D g = sprite.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g;
+    }
+}
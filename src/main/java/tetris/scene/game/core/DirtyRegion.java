@@ -0,0 +1,102 @@
+package tetris.scene.game.core;
+
+/**
+ * 다시 그려야 하는 보드 영역(셀 좌표)을 모아두는 클래스
+ *
+ * BlockManager(블록 이동/회전)와 BoardManager(블록 고정, 줄 삭제 등)가 바뀐 셀을 표시하고,
+ * RenderManager가 화면 갱신 요청 시 픽셀 사각형으로 변환해 가져갑니다.
+ * 여러 번 표시된 영역은 하나의 외곽 사각형으로 합쳐집니다.
+ */
+public class DirtyRegion {
+
+    private final int width;
+    private final int height;
+
+    private int minCol;
+    private int minRow;
+    private int maxCol;
+    private int maxRow;
+    private boolean full;
+
+    public DirtyRegion(int width, int height) {
+        this.width = width;
+        this.height = height;
+        markAll(); // 처음에는 전체를 그려야 함
+    }
+
+    /**
+     * 지정한 셀 영역을 표시합니다 (보드 밖은 잘라냄).
+     */
+    public synchronized void markCells(int col, int row, int cols, int rows) {
+        if (full || cols <= 0 || rows <= 0) return;
+
+        int fromCol = Math.max(0, col);
+        int fromRow = Math.max(0, row);
+        int toCol = Math.min(width - 1, col + cols - 1);
+        int toRow = Math.min(height - 1, row + rows - 1);
+        if (fromCol > toCol || fromRow > toRow) return;
+
+        if (isEmptyUnsafe()) {
+            minCol = fromCol;
+            minRow = fromRow;
+            maxCol = toCol;
+            maxRow = toRow;
+        } else {
+            minCol = Math.min(minCol, fromCol);
+            minRow = Math.min(minRow, fromRow);
+            maxCol = Math.max(maxCol, toCol);
+            maxRow = Math.max(maxRow, toRow);
+        }
+    }
+
+    /**
+     * 지정한 줄 범위 전체를 표시합니다.
+     */
+    public void markRows(int fromRow, int toRow) {
+        markCells(0, fromRow, width, toRow - fromRow + 1);
+    }
+
+    /**
+     * 보드 전체를 표시합니다 (줄 삭제처럼 여러 줄이 한꺼번에 바뀐 경우).
+     */
+    public synchronized void markAll() {
+        full = true;
+    }
+
+    public synchronized boolean isFull() {
+        return full;
+    }
+
+    public synchronized boolean isEmpty() {
+        return !full && isEmptyUnsafe();
+    }
+
+    private boolean isEmptyUnsafe() {
+        return maxCol < minCol || maxRow < minRow;
+    }
+
+    /**
+     * 표시된 영역을 {minCol, minRow, maxCol, maxRow}로 가져오고 초기화합니다.
+     * @return 전체가 표시되었으면 보드 전체 범위, 표시된 영역이 없으면 null
+     */
+    public synchronized int[] take() {
+        int[] bounds;
+        if (full) {
+            bounds = new int[] { 0, 0, width - 1, height - 1 };
+        } else if (isEmptyUnsafe()) {
+            bounds = null;
+        } else {
+            bounds = new int[] { minCol, minRow, maxCol, maxRow };
+        }
+        clear();
+        return bounds;
+    }
+
+    public synchronized void clear() {
+        full = false;
+        minCol = 0;
+        minRow = 0;
+        maxCol = -1;
+        maxRow = -1;
+    }
+}
@@ -0,0 +1,379 @@
+package tetris.scene.game.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import tetris.GameSettings;
+import tetris.util.SpeedUp;
+
+/**
+ * 화면 없이 동작하는 헤드리스 게임 엔진
+ * Swing Timer나 AWT 없이 고정 길이 틱 단위로 게임을 진행합니다.
+ * BoardManager/BlockManager/ScoreManager/SpeedUp을 GameScene과 동일한 규칙으로 사용하므로
+ * AI 학습, 밸런스 테스트, 대량 시뮬레이션에 사용할 수 있습니다.
+ *
+ * 블록 고정 후의 규칙 순서(게임 오버 확인 → 지울 줄 찾기 → 줄 삭제와 점수/속도 반영 → 다음 블록 생성)는
+ * lockPiece/clearPendingLines/spawnNextBlock에 있으며 GameScene도 같은 메서드로 진행합니다.
+ * 기본적으로 점멸 연출 없이 고정 즉시 줄을 삭제하고, setDeferLineClear(true)면 GameScene처럼
+ * applyLinesCleared가 호출될 때까지 줄 삭제를 미루고 그동안 블록 조작과 자동 낙하를 막습니다 (리플레이 재현용).
+ */
+public class GameEngine {
+
+    /**
+     * 엔진 이벤트 콜백 인터페이스 (필요한 것만 사용)
+     */
+    public interface EngineListener {
+        default void onBlockPlaced(int x, int y) {}
+        default void onLinesCleared(int completedLines, int bombLines) {}
+        default void onGameOver(int finalScore) {}
+    }
+
+    public static final int DEFAULT_TICK_MILLIS = 10; // 기본 틱 길이 (ms)
+
+    private static final int GAME_WIDTH = 10;
+    private static final int GAME_HEIGHT = 20;
+
+    private final GameSettings.Difficulty difficulty;
+    private final long seed;
+    private final int tickMillis;
+
+    private final BoardManager boardManager;
+    private final ScoreManager scoreManager;
+    private final BlockManager blockManager;
+    private final SpeedUp speedUp;
+
+    private EngineListener listener;
+
+    // 진행 상태
+    private long tickCount = 0;
+    private int gravityAccumulator = 0; // 마지막 자동 낙하 이후 누적 시간 (ms)
+    private int blocksPlaced = 0;
+    private boolean paused = false;
+    private boolean gameOver = false;
+    private boolean deferLineClear = false;
+    private boolean linesPending = false; // 고정 후 줄 삭제 대기 중 (점멸 연출 구간)
+
+    /**
+     * 기본 틱 길이로 엔진을 생성합니다.
+     *
+     * @param difficulty 난이도
+     * @param seed 블록 생성 시드
+     */
+    public GameEngine(GameSettings.Difficulty difficulty, long seed) {
+        this(difficulty, seed, DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * 엔진을 생성합니다.
+     *
+     * @param difficulty 난이도
+     * @param seed 블록 생성 시드 (같은 시드와 입력이면 같은 결과)
+     * @param tickMillis 틱 하나가 나타내는 게임 시간 (ms)
+     */
+    public GameEngine(GameSettings.Difficulty difficulty, long seed, int tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.tickMillis = tickMillis;
+
+        this.boardManager = new BoardManager();
+        this.scoreManager = new ScoreManager(difficulty);
+        this.blockManager = new BlockManager(GAME_WIDTH, GAME_HEIGHT, boardManager, scoreManager, difficulty, seed);
+
+        // 타이머 없이 간격만 관리 (속도 증가 시 점수 배율도 함께 증가)
+        this.speedUp = new SpeedUp(null, scoreManager::onSpeedIncrease, difficulty, null);
+        blockManager.setSpeedUp(speedUp);
+        boardManager.setBlockManager(blockManager);
+
+        startGame();
+    }
+
+    /**
+     * 화면이 가진 관리자로 규칙만 진행하는 엔진을 만듭니다 (GameScene용).
+     * 블록 생성은 하지 않으므로 준비가 끝나면 startGame()을 호출합니다.
+     *
+     * @param speedUp 속도 관리자 (null 불가)
+     */
+    public GameEngine(GameSettings.Difficulty difficulty, long seed, BoardManager boardManager,
+                      BlockManager blockManager, ScoreManager scoreManager, SpeedUp speedUp) {
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.tickMillis = DEFAULT_TICK_MILLIS;
+        this.boardManager = boardManager;
+        this.scoreManager = scoreManager;
+        this.blockManager = blockManager;
+        this.speedUp = Objects.requireNonNull(speedUp, "speedUp");
+    }
+
+    /**
+     * 첫 두 블록을 만들고 점수와 속도 카운터를 초기화합니다.
+     * 속도 카운터를 블록 생성 뒤에 초기화해야 첫 두 블록이 속도 증가 카운트에 들어가지 않습니다.
+     */
+    public void startGame() {
+        blockManager.initializeBlocks();
+        scoreManager.reset();
+        speedUp.reset();
+    }
+
+    /**
+     * 엔진 상태 사본 (리플레이 키프레임용)
+     */
+    public static final class Snapshot {
+        private final BoardManager.State board;
+        private final BlockManager.State blocks;
+        private final int score;
+        private final int linesCleared;
+        private final double speedMultiplier;
+        private final int blocksGenerated;
+        private final int speedLinesCleared;
+        private final int interval;
+        private final long tickCount;
+        private final int gravityAccumulator;
+        private final int blocksPlaced;
+        private final boolean paused;
+        private final boolean gameOver;
+        private final boolean linesPending;
+
+        private Snapshot(GameEngine engine) {
+            board = engine.boardManager.copyState();
+            blocks = engine.blockManager.copyState();
+            score = engine.scoreManager.getScore();
+            linesCleared = engine.scoreManager.getLinesCleared();
+            speedMultiplier = engine.scoreManager.getSpeedMultiplier();
+            blocksGenerated = engine.speedUp.getBlocksGenerated();
+            speedLinesCleared = engine.speedUp.getTotalLinesCleared();
+            interval = engine.speedUp.getCurrentInterval();
+            tickCount = engine.tickCount;
+            gravityAccumulator = engine.gravityAccumulator;
+            blocksPlaced = engine.blocksPlaced;
+            paused = engine.paused;
+            gameOver = engine.gameOver;
+            linesPending = engine.linesPending;
+        }
+    }
+
+    /**
+     * 현재 상태를 복사합니다.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * 복사해 둔 상태로 되돌립니다 (같은 엔진에서 만든 사본만 사용).
+     */
+    public void restore(Snapshot snapshot) {
+        boardManager.restoreState(snapshot.board);
+        blockManager.restoreState(snapshot.blocks);
+        scoreManager.setScore(snapshot.score);
+        scoreManager.setLinesCleared(snapshot.linesCleared);
+        scoreManager.setSpeedMultiplier(snapshot.speedMultiplier);
+        speedUp.restore(snapshot.blocksGenerated, snapshot.speedLinesCleared, snapshot.interval);
+        tickCount = snapshot.tickCount;
+        gravityAccumulator = snapshot.gravityAccumulator;
+        blocksPlaced = snapshot.blocksPlaced;
+        paused = snapshot.paused;
+        gameOver = snapshot.gameOver;
+        linesPending = snapshot.linesPending;
+    }
+
+    /**
+     * 엔진 이벤트 리스너를 설정합니다.
+     */
+    public void setListener(EngineListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 줄 삭제를 applyLinesCleared 호출 시점까지 미룰지 설정합니다 (기본값 false: 즉시 삭제).
+     */
+    public void setDeferLineClear(boolean deferLineClear) {
+        this.deferLineClear = deferLineClear;
+    }
+
+    /**
+     * 입력을 즉시 처리합니다. GameScene.onGameAction과 같은 규칙을 따릅니다.
+     * EXIT_TO_MENU는 헤드리스 환경에서 의미가 없으므로 무시합니다.
+     *
+     * @param action 게임 동작
+     */
+    public void applyAction(InputHandler.GameAction action) {
+        if (action == InputHandler.GameAction.PAUSE) {
+            paused = !paused;
+            return;
+        }
+        if (gameOver || paused || linesPending) return;
+
+        switch (action) {
+            case MOVE_LEFT:
+                blockManager.moveLeft();
+                break;
+            case MOVE_RIGHT:
+                blockManager.moveRight();
+                break;
+            case MOVE_DOWN:
+                if (blockManager.moveDown()) {
+                    handleBlockPlaced();
+                }
+                break;
+            case ROTATE:
+                blockManager.rotateBlock();
+                break;
+            case HARD_DROP:
+                if (blockManager.executeHardDrop()) {
+                    handleBlockPlaced();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * 한 틱만큼 게임 시간을 진행합니다.
+     * 누적 시간이 현재 낙하 간격을 넘으면 블록을 한 칸 떨어뜨립니다.
+     */
+    public void tick() {
+        if (gameOver || paused || linesPending) return;
+
+        tickCount++;
+        gravityAccumulator += tickMillis;
+
+        // 틱이 간격보다 길면 한 틱에 여러 번 낙하할 수 있음
+        while (!gameOver && !linesPending && gravityAccumulator >= speedUp.getCurrentInterval()) {
+            gravityAccumulator -= speedUp.getCurrentInterval();
+            if (blockManager.moveDown()) {
+                handleBlockPlaced();
+            }
+        }
+    }
+
+    /**
+     * 지정된 틱 수만큼 진행합니다 (게임 오버 시 중단).
+     *
+     * @param ticks 진행할 틱 수
+     * @return 실제로 진행한 틱 수
+     */
+    public int step(int ticks) {
+        int executed = 0;
+        while (executed < ticks && !gameOver && !paused) {
+            tick();
+            executed++;
+        }
+        return executed;
+    }
+
+    /**
+     * 미뤄 둔 줄 삭제를 진행합니다 (GameScene의 점멸 연출이 끝난 시점).
+     */
+    public void applyLinesCleared() {
+        if (!linesPending) return;
+        linesPending = false;
+        clearPendingLines();
+        spawnNextBlock();
+    }
+
+    private void handleBlockPlaced() {
+        if (lockPiece().isEmpty() || gameOver) return;
+        if (deferLineClear) {
+            linesPending = true;
+            return;
+        }
+        clearPendingLines();
+        spawnNextBlock();
+    }
+
+    /**
+     * 블록이 고정된 직후의 처리입니다.
+     * 게임 오버면 게임을 끝내고, 지울 줄이 없으면 바로 다음 블록을 생성합니다.
+     *
+     * @return 지울 줄 번호 (오름차순, 완성된 줄과 폭탄 줄). 비어 있으면 줄 삭제 단계가 없음
+     */
+    public List<Integer> lockPiece() {
+        blocksPlaced++;
+        if (listener != null) {
+            listener.onBlockPlaced(blockManager.getLastPlacedX(), blockManager.getLastPlacedY());
+        }
+
+        List<Integer> lines = new ArrayList<>();
+        if (blockManager.isGameOver()) {
+            finishGame();
+            return lines;
+        }
+
+        List<Integer> bombLines = boardManager.getBombLines();
+        for (int row = 0; row < boardManager.getHeight(); row++) {
+            if (boardManager.isLineFull(row) || bombLines.contains(row)) {
+                lines.add(row);
+            }
+        }
+        if (lines.isEmpty()) {
+            spawnNextBlock();
+        }
+        return lines;
+    }
+
+    /**
+     * 완성된 줄과 폭탄 줄을 지우고 점수와 속도 규칙을 적용합니다. 다음 블록은 만들지 않습니다.
+     * 완성된 줄만 줄 수와 속도 증가에 들어가고, 폭탄 줄은 줄마다 1줄 점수만 받습니다.
+     *
+     * @return [완성된 줄 수, 폭탄 줄 수]
+     */
+    public int[] clearPendingLines() {
+        int[] lineResults = boardManager.clearCompletedAndBombLinesSeparately(); // [완성된 줄 수, 폭탄 줄 수]
+        int completedLines = lineResults[0];
+        int bombLines = lineResults[1];
+
+        if (completedLines > 0) {
+            scoreManager.addScore(completedLines);
+            speedUp.onLinesCleared(completedLines);
+        }
+        for (int i = 0; i < bombLines; i++) {
+            scoreManager.addScore(1);
+        }
+        if ((completedLines > 0 || bombLines > 0) && listener != null) {
+            listener.onLinesCleared(completedLines, bombLines);
+        }
+        return lineResults;
+    }
+
+    /**
+     * 게임이 끝나지 않았으면 다음 블록을 생성합니다.
+     */
+    public void spawnNextBlock() {
+        if (!blockManager.isGameOver()) {
+            blockManager.generateNextBlock();
+        }
+    }
+
+    private void finishGame() {
+        gameOver = true;
+        if (listener != null) {
+            listener.onGameOver(scoreManager.getScore());
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 상태 조회
+    // ═══════════════════════════════════════════════════════════════
+
+    public boolean isGameOver() { return gameOver; }
+    public boolean isPaused() { return paused; }
+    public boolean isLinesPending() { return linesPending; }
+    public long getTickCount() { return tickCount; }
+    public long getElapsedMillis() { return tickCount * tickMillis; }
+    public int getTickMillis() { return tickMillis; }
+    public int getBlocksPlaced() { return blocksPlaced; }
+    public int getScore() { return scoreManager.getScore(); }
+    public int getLinesCleared() { return scoreManager.getLinesCleared(); }
+    public long getSeed() { return seed; }
+    public GameSettings.Difficulty getDifficulty() { return difficulty; }
+
+    public BoardManager getBoardManager() { return boardManager; }
+    public BlockManager getBlockManager() { return blockManager; }
+    public ScoreManager getScoreManager() { return scoreManager; }
+    public SpeedUp getSpeedUp() { return speedUp; }
+}
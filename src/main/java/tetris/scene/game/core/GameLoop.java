@@ -0,0 +1,228 @@
+package tetris.scene.game.core;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 고정 길이 틱으로 게임 시간을 진행하는 게임 루프
+ *
+ * 낙하/점멸/시간제한/아이템 복구마다 따로 돌던 Swing Timer 대신, 하나의 루프가
+ * System.nanoTime 기준으로 흐른 시간을 누적해 고정 길이(STEP_MILLIS) 틱을 필요한 만큼 실행합니다.
+ * 한 프레임의 틱들은 EDT에서 한 번에 실행되고, 화면 갱신 요청도 프레임당 한 번으로 합쳐집니다.
+ *
+ * 루프 스레드는 프레임 시각마다 EDT에 작업 하나만 올리며, 이전 프레임이 아직 처리되지 않았으면
+ * 새로 올리지 않습니다 (EDT가 밀리면 다음 프레임에서 누적된 시간만큼 틱을 몰아서 실행).
+ */
+public class GameLoop {
+
+    /**
+     * 루프가 틱마다 진행시키는 대상
+     */
+    public interface Tickable {
+        /**
+         * 게임 시간을 한 틱만큼 진행합니다 (EDT에서 호출).
+         * @param stepMillis 틱 길이 (ms)
+         * @return 화면을 다시 그려야 하면 true
+         */
+        boolean tick(int stepMillis);
+    }
+
+    public static final int STEP_MILLIS = 10; // 틱 하나의 게임 시간 (ms)
+    public static final int FRAME_MILLIS = 20; // 루프가 EDT를 깨우는 주기 (ms)
+    private static final int MAX_STEPS_PER_FRAME = 25; // 한 프레임에 따라잡을 최대 틱 수 (그 이상 밀린 시간은 버림)
+
+    private static final long STEP_NANOS = STEP_MILLIS * 1_000_000L;
+    private static final long FRAME_NANOS = FRAME_MILLIS * 1_000_000L;
+
+    private final List<Tickable> tickables = new CopyOnWriteArrayList<>();
+    private final List<ScheduledTask> scheduledTasks = new ArrayList<>();
+    private Runnable frameCallback; // 틱 진행 후 화면 갱신 (프레임당 한 번)
+    private BooleanSupplier pauseCondition; // 참인 동안 예약 작업의 게임 시간이 흐르지 않음
+
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+    private final Runnable frameTask = this::runFrame;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    // EDT에서만 접근
+    private long lastFrameNanos = -1;
+    private long accumulatorNanos = 0;
+    private long tickCount = 0;
+    private long scheduleTicks = 0; // 일시정지를 뺀 틱 수 (예약 작업 기준)
+
+    /**
+     * 게임 시간 기준 일회성 작업
+     */
+    private static class ScheduledTask {
+        final long dueTick;
+        final Runnable task;
+
+        ScheduledTask(long dueTick, Runnable task) {
+            this.dueTick = dueTick;
+            this.task = task;
+        }
+    }
+
+    /**
+     * 틱마다 진행할 대상을 추가합니다.
+     */
+    public void add(Tickable tickable) {
+        tickables.add(tickable);
+    }
+
+    public void remove(Tickable tickable) {
+        tickables.remove(tickable);
+    }
+
+    /**
+     * 틱 진행 후 화면 갱신이 필요할 때 호출할 작업을 설정합니다.
+     */
+    public void setFrameCallback(Runnable frameCallback) {
+        this.frameCallback = frameCallback;
+    }
+
+    /**
+     * 일시정지 여부를 알려 줄 조건을 설정합니다.
+     * 조건이 참인 틱은 예약 작업의 대기 시간에 포함되지 않습니다.
+     */
+    public void setPauseCondition(BooleanSupplier pauseCondition) {
+        this.pauseCondition = pauseCondition;
+    }
+
+    /**
+     * 게임 시간으로 delayMillis 뒤에 작업을 EDT에서 한 번 실행합니다 (아이템 효과 복구 등).
+     * 루프가 정지해 있거나 일시정지 조건이 참인 동안에는 시간이 흐르지 않습니다.
+     */
+    public void schedule(int delayMillis, Runnable task) {
+        long ticks = Math.max(1, (delayMillis + STEP_MILLIS - 1) / STEP_MILLIS);
+        scheduledTasks.add(new ScheduledTask(scheduleTicks + ticks, task));
+    }
+
+    /**
+     * 루프를 시작합니다. 이미 실행 중이면 무시합니다.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        lastFrameNanos = -1; // 정지해 있던 시간은 누적하지 않음
+        accumulatorNanos = 0;
+
+        thread = new Thread(this::runHeartbeat, "GameLoop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 루프를 정지합니다. 예약된 작업은 유지되며 다시 시작하면 이어서 진행됩니다.
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 지금까지 실행된 틱 수
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * 프레임 주기마다 EDT에 프레임 작업을 올립니다.
+     */
+    private void runHeartbeat() {
+        long nextFrame = System.nanoTime();
+        while (running) {
+            nextFrame += FRAME_NANOS;
+            long wait = nextFrame - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                if (System.nanoTime() < nextFrame) continue; // stop()으로 깨어남
+            } else if (wait < -FRAME_NANOS) {
+                nextFrame = System.nanoTime(); // 크게 밀렸으면 기준 시각을 다시 잡음
+            }
+
+            if (running && framePending.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(frameTask);
+            }
+        }
+    }
+
+    private void runFrame() {
+        framePending.set(false);
+        if (!running) return;
+        advance(System.nanoTime());
+    }
+
+    /**
+     * 주어진 시각까지 흐른 시간만큼 틱을 실행하고, 필요하면 화면 갱신을 한 번 요청합니다.
+     * (EDT에서 호출, 테스트에서는 시각을 직접 넘겨 사용)
+     *
+     * @param nowNanos System.nanoTime 기준 현재 시각
+     * @return 실행한 틱 수
+     */
+    public int advance(long nowNanos) {
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = nowNanos;
+            return 0;
+        }
+        accumulatorNanos += nowNanos - lastFrameNanos;
+        lastFrameNanos = nowNanos;
+
+        int steps = 0;
+        boolean needsRepaint = false;
+        while (accumulatorNanos >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+            needsRepaint |= step();
+            accumulatorNanos -= STEP_NANOS;
+            steps++;
+        }
+        if (accumulatorNanos >= STEP_NANOS) {
+            accumulatorNanos %= STEP_NANOS; // 너무 밀린 시간은 버림 (한꺼번에 몰아서 떨어지지 않도록)
+        }
+
+        if (needsRepaint && frameCallback != null) {
+            frameCallback.run();
+        }
+        return steps;
+    }
+
+    /**
+     * 틱 하나를 실행합니다.
+     * @return 화면을 다시 그려야 하면 true
+     */
+    private boolean step() {
+        tickCount++;
+        boolean needsRepaint = false;
+        for (Tickable tickable : tickables) {
+            needsRepaint |= tickable.tick(STEP_MILLIS);
+        }
+
+        if (pauseCondition == null || !pauseCondition.getAsBoolean()) {
+            scheduleTicks++;
+        }
+        if (!scheduledTasks.isEmpty()) {
+            List<ScheduledTask> due = new ArrayList<>();
+            for (ScheduledTask task : scheduledTasks) {
+                if (task.dueTick <= scheduleTicks) due.add(task);
+            }
+            scheduledTasks.removeAll(due);
+            for (ScheduledTask task : due) {
+                task.task.run(); // 작업 안에서 새 작업을 예약해도 안전
+            }
+            needsRepaint |= !due.isEmpty();
+        }
+        return needsRepaint;
+    }
+}
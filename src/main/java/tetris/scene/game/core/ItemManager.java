@@ -11,6 +11,7 @@ import java.util.ArrayList;
  * 객체지향적 설계를 통해 아이템 효과를 관리합니다.
  */
 public class ItemManager {
+    private static final long SEED_MIX = 0x5DEECE66DL; // 블록 순서와 같은 수열이 되지 않도록 시드를 섞음
     private static final int LINES_FOR_ITEM = 10; // 아이템 등장을 위한 줄 삭제 수 (누적) - 빠른 테스트를 위해 10 → 1줄로 변경 - 시현을 위한 재 변경
     
     private int totalLinesCleared = 0; // 총 삭제된 줄 수 (누적)
@@ -23,6 +24,14 @@ public class ItemManager {
         this.activeEffects = new ArrayList<>();
     }
     
+    /**
+     * 아이템 종류와 아이템 칸 위치를 뽑는 난수의 시드를 설정합니다.
+     * BlockManager가 자신의 시드로 호출하므로 같은 시드면 같은 아이템이 나옵니다.
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed ^ SEED_MIX);
+    }
+    
     /**
      * 줄이 삭제되었을 때 호출되는 메서드
      * @param linesCleared 이번에 삭제된 줄 수
@@ -79,7 +88,7 @@ public class ItemManager {
                 System.out.println("Created WeightItemBlock (independent item)");
             } else {
                 // 새로운 아이템 블록 생성
-                itemBlock = new ItemBlock(originalBlock, randomType);
+                itemBlock = new ItemBlock(originalBlock, randomType, random);
                 System.out.println("Created ItemBlock with " + randomType.getDisplayName() + 
                                  " from " + originalBlock.getClass().getSimpleName());
             }
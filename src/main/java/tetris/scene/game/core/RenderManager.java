@@ -4,8 +4,9 @@ import tetris.scene.game.blocks.Block;
 import tetris.scene.game.blocks.BlockShake;
 import tetris.scene.game.blocks.ItemBlock;
 import tetris.scene.game.blocks.WeightItemBlock;
+import tetris.scene.game.items.ItemEffectType;
+import tetris.util.CellPalette;
 import tetris.util.LineBlinkEffect;
-import tetris.ColorBlindHelper;
 import tetris.GameSettings;
 
 import java.awt.*;
@@ -30,6 +31,10 @@ public class RenderManager {
     private final int PREVIEW_SIZE;
     private final int PREVIEW_CELL_SIZE;
     
+    // 선 두께 (BasicStroke는 불변이므로 매 프레임 새로 만들지 않고 공유)
+    private static final BasicStroke THIN_STROKE = new BasicStroke(1);
+    private static final BasicStroke THICK_STROKE = new BasicStroke(2);
+    
     // 의존성
     private final BoardManager boardManager;
     private final BlockManager blockManager;
@@ -39,6 +44,24 @@ public class RenderManager {
     // 이미지 캐시
     private final Map<String, BufferedImage> imageCache = new HashMap<>();
     
+    // 부분 갱신용: 마지막으로 다시 그리도록 요청한 사이드 패널 상태
+    private Block lastPreviewBlock;
+    private int lastScore = -1;
+    private int lastLinesCleared = -1;
+    private double lastSpeedMultiplier = -1;
+    private int lastElapsedSeconds = -1;
+    private boolean lastPaused;
+    
+    // 레이어 캐시: 테두리/배경/그리드(정적)와 고정 블록(보드가 바뀔 때만 다시 그림)
+    private BufferedImage staticLayer;
+    private BufferedImage lockedLayer;
+    private long lockedLayerVersion = -1;
+    private int lockedLayerColorBlindMode = -1;
+    
+    // 미리 그려둔 셀 스프라이트 (보드 셀, 미리보기 셀), 색맹 모드가 바뀌면 다시 가져옴
+    private CellSpriteAtlas cellSprites;
+    private CellSpriteAtlas previewSprites;
+    
     /**
      * RenderManager 생성자
      */
@@ -56,8 +79,99 @@ public class RenderManager {
         this.scoreManager = scoreManager;
     }
     
+    /**
+     * 마지막 호출 이후 바뀐 화면 영역을 픽셀 사각형으로 반환합니다.
+     * 보드 셀은 BoardManager/BlockManager가 표시한 DirtyRegion에서, 미리보기와 점수판은
+     * 다음 블록/점수/시간 값을 비교해서 구합니다.
+     * 처음 호출하면 영역 추적을 켜고 전체 갱신(null)을 요청합니다.
+     * 
+     * @return 전체를 다시 그려야 하면 null, 바뀐 것이 없으면 빈 사각형
+     */
+    public Rectangle collectDirtyRegion() {
+        DirtyRegion dirty = boardManager.getDirtyRegion();
+        if (dirty == null) {
+            boardManager.enableDirtyTracking().clear();
+            rememberSidePanelState();
+            return null;
+        }
+        
+        // 일시정지 오버레이는 보드 전체를 덮으므로 전체 갱신
+        boolean paused = gameStateManager.isPaused();
+        if (paused != lastPaused) {
+            lastPaused = paused;
+            dirty.clear();
+            rememberSidePanelState();
+            return null;
+        }
+        
+        Rectangle region = null;
+        int[] cells = dirty.take();
+        if (cells != null) {
+            // 현재 블록 테두리(두께 2)가 셀 밖으로 1px 나가므로 여유를 둠
+            region = new Rectangle(
+                (cells[0] + 1) * CELL_SIZE - 2,
+                (cells[1] + 1) * CELL_SIZE - 2,
+                (cells[2] - cells[0] + 1) * CELL_SIZE + 4,
+                (cells[3] - cells[1] + 1) * CELL_SIZE + 4);
+        }
+        
+        Block nextBlock = blockManager.getNextBlock();
+        if (nextBlock != lastPreviewBlock) {
+            lastPreviewBlock = nextBlock;
+            region = union(region, getPreviewBounds());
+        }
+        
+        int score = scoreManager.getScore();
+        int lines = scoreManager.getLinesCleared();
+        double speed = scoreManager.getSpeedMultiplier();
+        int elapsed = gameStateManager.getElapsedTimeInSeconds();
+        if (score != lastScore || lines != lastLinesCleared || speed != lastSpeedMultiplier || elapsed != lastElapsedSeconds) {
+            lastScore = score;
+            lastLinesCleared = lines;
+            lastSpeedMultiplier = speed;
+            lastElapsedSeconds = elapsed;
+            region = union(region, getScoreBoardBounds());
+        }
+        
+        return region != null ? region : new Rectangle();
+    }
+    
+    private void rememberSidePanelState() {
+        lastPreviewBlock = blockManager.getNextBlock();
+        lastScore = scoreManager.getScore();
+        lastLinesCleared = scoreManager.getLinesCleared();
+        lastSpeedMultiplier = scoreManager.getSpeedMultiplier();
+        lastElapsedSeconds = gameStateManager.getElapsedTimeInSeconds();
+        lastPaused = gameStateManager.isPaused();
+    }
+    
+    private static Rectangle union(Rectangle region, Rectangle other) {
+        return region == null ? other : region.union(other);
+    }
+    
+    /**
+     * 미리보기 영역("NEXT" 라벨과 테두리 포함)의 픽셀 범위
+     */
+    private Rectangle getPreviewBounds() {
+        int previewX = (GAME_WIDTH + 2) * CELL_SIZE + 20;
+        int previewY = CELL_SIZE + 20;
+        int previewAreaSize = PREVIEW_SIZE * PREVIEW_CELL_SIZE;
+        return new Rectangle(previewX - 2, previewY - 20, previewAreaSize + 4, previewAreaSize + 22);
+    }
+    
+    /**
+     * 점수판과 시간 보드(테두리 포함)의 픽셀 범위
+     */
+    private Rectangle getScoreBoardBounds() {
+        int previewX = (GAME_WIDTH + 2) * CELL_SIZE + 20;
+        int previewAreaSize = PREVIEW_SIZE * PREVIEW_CELL_SIZE;
+        int scoreBoardY = CELL_SIZE + 20 + previewAreaSize + 10;
+        return new Rectangle(previewX - 2, scoreBoardY - 2, previewAreaSize + 4, 120 + 10 + 50 + 4);
+    }
+    
     /**
      * 전체 게임 화면을 렌더링합니다.
+     * 부분 갱신(repaint(Rectangle))으로 클립이 설정된 경우 클립 안의 셀과 패널만 그립니다.
      */
     public void render(Graphics2D g2d, int panelWidth, int panelHeight, 
                       LineBlinkEffect lineBlinkEffect, Block lastBlock, int lastBlockX, int lastBlockY, boolean visionBlockActive,
@@ -65,14 +179,22 @@ public class RenderManager {
         // 안티알리아싱 설정
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
+        updateSprites();
+        
         // 배경 렌더링
         renderBackground(g2d, panelWidth, panelHeight);
         
-        // 게임 보드 경계 및 그리드 렌더링
-        renderGameBoardFrame(g2d);
+        // 게임 보드 경계 및 그리드 렌더링 (캐시된 이미지)
+        g2d.drawImage(getStaticLayer(g2d), 0, 0, null);
         
-        // 고정된 블록들 렌더링 (점멸 중인 셀들은 제외)
-        renderFixedBlocks(g2d, lineBlinkEffect, cleanupBlinkingActive, cleanupBlinkingCells);
+        // 고정된 블록들 렌더링
+        // 점멸 중에는 점멸하는 셀을 빼고 그려야 하므로 캐시를 쓰지 않고 직접 그림
+        boolean blinking = (lineBlinkEffect != null && lineBlinkEffect.isActive()) || cleanupBlinkingActive;
+        if (blinking) {
+            renderFixedBlocks(g2d, lineBlinkEffect, cleanupBlinkingActive, cleanupBlinkingCells);
+        } else {
+            g2d.drawImage(getLockedLayer(g2d), 0, 0, null);
+        }
         
         // 줄 점멸 효과 렌더링
         renderLineBlinkEffect(g2d, lineBlinkEffect);
@@ -87,11 +209,17 @@ public class RenderManager {
             renderCurrentBlock(g2d, lastBlock, lastBlockX, lastBlockY);
         }
         
+        Rectangle clip = g2d.getClipBounds();
+        
         // 다음 블록 미리보기 렌더링
-        renderNextBlockPreview(g2d);
+        if (clip == null || clip.intersects(getPreviewBounds())) {
+            renderNextBlockPreview(g2d);
+        }
         
         // 점수판 렌더링
-        renderScoreBoard(g2d, skipTimeBoard);
+        if (clip == null || clip.intersects(getScoreBoardBounds())) {
+            renderScoreBoard(g2d, skipTimeBoard);
+        }
         
         // 일시정지 오버레이 렌더링
         if (gameStateManager.isPaused()) {
@@ -109,6 +237,17 @@ public class RenderManager {
         }
     }
     
+    /**
+     * 현재 색맹 모드에 맞는 셀 스프라이트 아틀라스를 준비합니다.
+     */
+    private void updateSprites() {
+        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
+        if (cellSprites == null || cellSprites.getColorBlindMode() != colorBlindMode) {
+            cellSprites = CellSpriteAtlas.forSize(CELL_SIZE - 2, colorBlindMode);
+            previewSprites = CellSpriteAtlas.forSize(PREVIEW_CELL_SIZE - 4, colorBlindMode);
+        }
+    }
+    
     /**
      * 배경을 렌더링합니다.
      */
@@ -118,6 +257,61 @@ public class RenderManager {
         g2d.fillRect(0, 0, panelWidth, panelHeight);
     }
     
+    /**
+     * 테두리, 게임 영역 배경, 그리드를 그려둔 이미지를 반환합니다.
+     * 셀 크기가 고정이므로 처음 한 번만 그립니다.
+     */
+    private BufferedImage getStaticLayer(Graphics2D g2d) {
+        if (staticLayer == null) {
+            staticLayer = createLayerImage(g2d, Transparency.OPAQUE);
+            Graphics2D g = staticLayer.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            renderGameBoardFrame(g);
+            g.dispose();
+        }
+        return staticLayer;
+    }
+    
+    /**
+     * 고정된 블록들을 그려둔 이미지를 반환합니다.
+     * BoardManager 버전(블록 고정, 줄 삭제 등)이나 색맹 모드가 바뀐 경우에만 다시 그립니다.
+     */
+    private BufferedImage getLockedLayer(Graphics2D g2d) {
+        long version = boardManager.getVersion();
+        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
+        if (lockedLayer == null) {
+            lockedLayer = createLayerImage(g2d, Transparency.TRANSLUCENT);
+            lockedLayerVersion = -1;
+        }
+        if (version != lockedLayerVersion || colorBlindMode != lockedLayerColorBlindMode) {
+            updateSprites();
+            Graphics2D g = lockedLayer.createGraphics();
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, lockedLayer.getWidth(), lockedLayer.getHeight());
+            g.setComposite(AlphaComposite.SrcOver);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            renderFixedBlocks(g, null, false, null);
+            g.dispose();
+            lockedLayerVersion = version;
+            lockedLayerColorBlindMode = colorBlindMode;
+        }
+        return lockedLayer;
+    }
+    
+    /**
+     * 게임 보드 전체(테두리 포함) 크기의 레이어 이미지를 화면과 호환되는 형식으로 만듭니다.
+     */
+    private BufferedImage createLayerImage(Graphics2D g2d, int transparency) {
+        int width = (GAME_WIDTH + 2) * CELL_SIZE;
+        int height = (GAME_HEIGHT + 2) * CELL_SIZE;
+        GraphicsConfiguration gc = g2d.getDeviceConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height,
+            transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+    
     /**
      * 게임 보드의 경계와 그리드를 렌더링합니다.
      */
@@ -139,7 +333,7 @@ public class RenderManager {
 
         // 게임 영역 경계선 (흰색 테두리)
         g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(THICK_STROKE);
         g2d.drawRect(CELL_SIZE - 1, CELL_SIZE - 1, GAME_WIDTH * CELL_SIZE + 1, GAME_HEIGHT * CELL_SIZE + 1);
 
         // 그리드 라인 그리기 (얇은 회색 선)
@@ -151,7 +345,7 @@ public class RenderManager {
      */
     private void renderGridLines(Graphics2D g2d) {
         g2d.setColor(Color.LIGHT_GRAY);
-        g2d.setStroke(new BasicStroke(1));
+        g2d.setStroke(THIN_STROKE);
         
         // 세로 그리드 라인
         for (int i = 1; i < GAME_WIDTH; i++) {
@@ -172,15 +366,26 @@ public class RenderManager {
     private void renderFixedBlocks(Graphics2D g2d, LineBlinkEffect lineBlinkEffect, 
                                   boolean cleanupBlinkingActive, java.util.Set<java.awt.Point> cleanupBlinkingCells) {
         int[][] board = boardManager.getBoard();
-        Color[][] boardColors = boardManager.getBoardColors();
+        byte[][] boardColors = boardManager.getBoardColorIndices();
+        int[][] boardTypes = boardManager.getBoardTypes();
+        
+        // 클립 영역에 걸치는 셀만 순회
+        int fromRow = 0, toRow = GAME_HEIGHT - 1, fromCol = 0, toCol = GAME_WIDTH - 1;
+        Rectangle clip = g2d.getClipBounds();
+        if (clip != null) {
+            fromCol = Math.max(0, clip.x / CELL_SIZE - 1);
+            fromRow = Math.max(0, clip.y / CELL_SIZE - 1);
+            toCol = Math.min(GAME_WIDTH - 1, (clip.x + clip.width) / CELL_SIZE - 1);
+            toRow = Math.min(GAME_HEIGHT - 1, (clip.y + clip.height) / CELL_SIZE - 1);
+        }
         
-        for (int row = 0; row < GAME_HEIGHT; row++) {
+        for (int row = fromRow; row <= toRow; row++) {
             // 점멸 중인 줄은 LineBlinkEffect에서 처리하므로 건너뜁니다
             if (lineBlinkEffect != null && lineBlinkEffect.isActive() && lineBlinkEffect.isLineBlinking(row)) {
                 continue;
             }
             
-            for (int col = 0; col < GAME_WIDTH; col++) {
+            for (int col = fromCol; col <= toCol; col++) {
                 // 청소 점멸 중인 셀은 renderCleanupBlinkingEffect에서 처리하므로 건너뜁니다
                 if (cleanupBlinkingActive && cleanupBlinkingCells != null && 
                     cleanupBlinkingCells.contains(new java.awt.Point(col, row))) {
@@ -192,71 +397,19 @@ public class RenderManager {
                     int drawY = (row + 1) * CELL_SIZE + 1;
                     
                     // 아이템 셀인지 확인
-                    if (boardManager.isItemCell(col, row)) {
-                        // 아이템 셀 렌더링
-                        ItemBlock itemBlockInfo = boardManager.getItemBlockInfo(col, row);
-                        if (itemBlockInfo != null) {
-                            // 시각제한 아이템의 경우 특별 처리: 아이템 효과가 활성화되었으면 일반 블록으로 렌더링
-                            boolean isVisionBlockItem = false;
-                            try {
-                                Object itemType = itemBlockInfo.getClass().getMethod("getItemType").invoke(itemBlockInfo);
-                                if (itemType != null && itemType.toString().contains("VISION_BLOCK")) {
-                                    isVisionBlockItem = true;
-                                }
-                            } catch (Exception e) {
-                                // 타입 확인 실패 시 일반 처리
-                            }
-                            
-                            if (isVisionBlockItem && gameStateManager != null) {
-                                // 시각제한 효과가 활성화된 경우 일반 블록으로 렌더링
-                                try {
-                                    // GameScene에서 시야 차단 활성화 상태 확인
-                                    boolean visionActive = false;
-                                    // GameScene 접근을 위해 임시로 일반 블록으로 렌더링
-                                    Color blockColor = boardColors[row][col];
-                                    if (blockColor != null) {
-                                        g2d.setColor(blockColor);
-                                        g2d.fillRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
-                                    }
-                                } catch (Exception e) {
-                                    // 일반 아이템 렌더링으로 폴백
-                                    itemBlockInfo.drawItemCell((Graphics2D) g2d.create(), drawX, drawY, CELL_SIZE - 2);
-                                }
-                            } else {
-                                // 일반 아이템은 아이템 이미지로 그리기
-                                itemBlockInfo.drawItemCell((Graphics2D) g2d.create(), drawX, drawY, CELL_SIZE - 2);
-                            }
-                        } else {
-                            // 아이템 정보가 없으면 일반 색상으로 처리
-                            Color blockColor = boardColors[row][col];
-                            if (blockColor != null) {
-                                g2d.setColor(blockColor);
-                                g2d.fillRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
-                            }
-                        }
+                    boolean itemCell = boardManager.isItemCell(col, row);
+                    ItemBlock itemBlockInfo = itemCell ? boardManager.getItemBlockInfo(col, row) : null;
+                    ItemEffectType itemType = itemBlockInfo != null ? itemBlockInfo.getItemType() : null;
+                    if (itemType != null && itemType != ItemEffectType.VISION_BLOCK) {
+                        // 일반 아이템은 아이템 이미지로 그리기
+                        cellSprites.drawItem(g2d, drawX, drawY, itemType, true);
+                    } else if (itemCell) {
+                        // 시각제한 아이템이거나 아이템 정보가 없으면 패턴 없는 일반 색상으로 처리
+                        cellSprites.drawCell(g2d, drawX, drawY, boardColors[row][col], -1, true);
                     } else {
-                        // 일반 셀 렌더링
-                        Color blockColor = boardColors[row][col];
-                        if (blockColor != null) {
-                            g2d.setColor(blockColor);
-                            g2d.fillRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
-                            
-                            // 색맹 모드에서 패턴 추가
-                            int colorBlindMode = tetris.GameSettings.getInstance().getColorBlindMode();
-                            if (colorBlindMode > 0) {
-                                int[][] boardTypes = boardManager.getBoardTypes();
-                                int blockType = boardTypes[row][col];
-                                if (blockType >= 0) {
-                                    tetris.ColorBlindHelper.drawBlockPattern(g2d, blockType, drawX, drawY, CELL_SIZE - 2, colorBlindMode, blockColor);
-                                }
-                            }
-                        }
+                        // 일반 셀 렌더링 (색맹 모드에서는 블록 타입별 패턴 포함)
+                        cellSprites.drawCell(g2d, drawX, drawY, boardColors[row][col], boardTypes[row][col], true);
                     }
-                    
-                    // 블록 테두리
-                    g2d.setColor(Color.BLACK);
-                    g2d.setStroke(new BasicStroke(1));
-                    g2d.drawRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
                 }
             }
         }
@@ -267,7 +420,7 @@ public class RenderManager {
      */
     private void renderLineBlinkEffect(Graphics2D g2d, LineBlinkEffect lineBlinkEffect) {
         if (lineBlinkEffect != null && lineBlinkEffect.isActive()) {
-            lineBlinkEffect.draw(g2d, CELL_SIZE, GAME_WIDTH, boardManager.getBoard(), boardManager.getBoardColors());
+            lineBlinkEffect.draw(g2d, CELL_SIZE, GAME_WIDTH, boardManager.getBoard(), boardManager.getBoardColorIndices(), CellPalette.current());
         }
     }
     
@@ -295,7 +448,11 @@ public class RenderManager {
                                 // 투명한 무게추 고스트 블록 그리기
                                 Graphics2D ghostG2d = (Graphics2D) g2d.create();
                                 ghostG2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-                                weightBlock.drawWeightCell(ghostG2d, drawX, drawY, CELL_SIZE - 2);
+                                if (weightBlock.isActivated() || weightBlock.isDestroying()) {
+                                    weightBlock.drawWeightCell(ghostG2d, drawX, drawY, CELL_SIZE - 2);
+                                } else {
+                                    cellSprites.drawWeight(ghostG2d, drawX, drawY);
+                                }
                                 ghostG2d.dispose();
                             } else {
                                 // 일반 블록의 경우 반투명한 색상으로 고스트 블록 그리기
@@ -304,7 +461,7 @@ public class RenderManager {
                                 g2d.setColor(ghostColor);
                                 
                                 // 고스트 블록은 외곽선만 그리기
-                                g2d.setStroke(new BasicStroke(2));
+                                g2d.setStroke(THICK_STROKE);
                                 g2d.drawRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
                             }
                         }
@@ -331,6 +488,7 @@ public class RenderManager {
         }
         
         if (blockToDraw != null) {
+            CellPalette palette = CellPalette.current();
             for (int blockRow = 0; blockRow < blockToDraw.height(); blockRow++) {
                 for (int blockCol = 0; blockCol < blockToDraw.width(); blockCol++) {
                     if (blockToDraw.getShape(blockCol, blockRow) == 1) {
@@ -348,35 +506,31 @@ public class RenderManager {
                         if (blockToDraw instanceof WeightItemBlock) {
                             // WeightItemBlock인 경우 무게추 셀 처리
                             WeightItemBlock weightBlock = (WeightItemBlock) blockToDraw;
-                            weightBlock.drawWeightCell((Graphics2D) g2d.create(), drawX, drawY, CELL_SIZE - 2);
+                            if (weightBlock.isActivated() || weightBlock.isDestroying()) {
+                                weightBlock.drawWeightCell((Graphics2D) g2d.create(), drawX, drawY, CELL_SIZE - 2);
+                            } else {
+                                cellSprites.drawWeight(g2d, drawX, drawY);
+                            }
                         } else if (blockToDraw instanceof ItemBlock) {
                             // ItemBlock인 경우 아이템 셀 처리
                             ItemBlock itemBlock = (ItemBlock) blockToDraw;
                             if (itemBlock.isItemCell(blockCol, blockRow)) {
                                 // 아이템 셀 그리기
-                                itemBlock.drawItemCell((Graphics2D) g2d.create(), drawX, drawY, CELL_SIZE - 2);
+                                cellSprites.drawItem(g2d, drawX, drawY, itemBlock.getItemType(), false);
                             } else {
                                 // 일반 셀 그리기
-                                g2d.setColor(itemBlock.getCellColor(blockCol, blockRow));
-                                g2d.fillRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
+                                byte colorIndex = palette.indexOf(itemBlock.getCellColor(blockCol, blockRow));
+                                cellSprites.drawCell(g2d, drawX, drawY, colorIndex, -1, false);
                             }
                         } else {
-                            // 일반 블록 그리기
-                            Color blockColor = blockToDraw.getColor();
-                            g2d.setColor(blockColor);
-                            g2d.fillRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
-                            
-                            // 색맹 모드에서 패턴 추가
-                            int colorBlindMode = tetris.GameSettings.getInstance().getColorBlindMode();
-                            if (colorBlindMode > 0) {
-                                int blockType = blockToDraw.getType();
-                                tetris.ColorBlindHelper.drawBlockPattern(g2d, blockType, drawX, drawY, CELL_SIZE - 2, colorBlindMode, blockColor);
-                            }
+                            // 일반 블록 그리기 (색맹 모드에서는 패턴 포함)
+                            byte colorIndex = palette.indexOf(blockToDraw.getColor(), blockToDraw.getType());
+                            cellSprites.drawCell(g2d, drawX, drawY, colorIndex, blockToDraw.getType(), false);
                         }
                         
                         // 현재 블록 테두리
                         g2d.setColor(Color.WHITE);
-                        g2d.setStroke(new BasicStroke(2));
+                        g2d.setStroke(THICK_STROKE);
                         g2d.drawRect(drawX, drawY, CELL_SIZE - 2, CELL_SIZE - 2);
                     }
                 }
@@ -402,7 +556,7 @@ public class RenderManager {
 
         // 미리보기 영역 테두리
         g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(THICK_STROKE);
         g2d.drawRect(previewX, previewY, previewAreaSize, previewAreaSize);
 
         // "NEXT" 라벨
@@ -440,21 +594,9 @@ public class RenderManager {
                     
                     // 아이템 이미지가 렌더링되지 않은 셀은 일반 블록으로 렌더링
                     if (!itemRenderedForThisCell) {
-                        Color blockColor = nextBlock.getColor();
-                        g2d.setColor(blockColor);
-                        g2d.fillRect(drawX, drawY, PREVIEW_CELL_SIZE - 4, PREVIEW_CELL_SIZE - 4);
-                        
-                        // 색맹 모드에서 패턴 추가
-                        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-                        if (colorBlindMode > 0) {
-                            int blockType = nextBlock.getType();
-                            ColorBlindHelper.drawBlockPattern(g2d, blockType, drawX, drawY, PREVIEW_CELL_SIZE - 4, colorBlindMode, blockColor);
-                        }
-                        
-                        // 블록 테두리
-                        g2d.setColor(Color.BLACK);
-                        g2d.setStroke(new BasicStroke(1));
-                        g2d.drawRect(drawX, drawY, PREVIEW_CELL_SIZE - 4, PREVIEW_CELL_SIZE - 4);
+                        // 블록 색 + 색맹 패턴 + 테두리
+                        byte colorIndex = CellPalette.current().indexOf(nextBlock.getColor(), nextBlock.getType());
+                        previewSprites.drawCell(g2d, drawX, drawY, colorIndex, nextBlock.getType(), true);
                     }
                 }
             }
@@ -467,47 +609,43 @@ public class RenderManager {
      */
     private boolean renderItemImageInPreview(Graphics2D g2d, Block block, int x, int y, int cellSize) {
         // ItemBlock인지 확인
-        if (!block.getClass().getSimpleName().equals("ItemBlock")) {
+        if (!(block instanceof ItemBlock)) {
             return false;
         }
         
         try {
-            // ItemBlock의 getItemType 메서드 호출
-            Object itemType = block.getClass().getMethod("getItemType").invoke(block);
+            ItemEffectType itemType = ((ItemBlock) block).getItemType();
             if (itemType == null) {
                 return false;
             }
             
-            // ItemEffectType별로 처리
-            String itemTypeName = itemType.toString();
-            
             // 각 아이템 타입별로 처리
-            switch (itemTypeName) {
-                case "SPEED_UP":
+            switch (itemType) {
+                case SPEED_UP:
                     // 흰색 배경 그리기 (이미지 가시성을 위해)
                     g2d.setColor(Color.WHITE);
                     g2d.fillRect(x, y, cellSize, cellSize);
                     renderItemImage(g2d, "running.png", x, y, cellSize);
                     return true;
-                case "SPEED_DOWN":
+                case SPEED_DOWN:
                     // 흰색 배경 그리기 (이미지 가시성을 위해)
                     g2d.setColor(Color.WHITE);
                     g2d.fillRect(x, y, cellSize, cellSize);
                     renderItemImage(g2d, "snail.png", x, y, cellSize);
                     return true;
-                case "VISION_BLOCK":
+                case VISION_BLOCK:
                     // 흰색 배경 그리기 (이미지 가시성을 위해)
                     g2d.setColor(Color.WHITE);
                     g2d.fillRect(x, y, cellSize, cellSize);
                     renderItemImage(g2d, "visionblock.png", x, y, cellSize);
                     return true;
-                case "CLEANUP":
+                case CLEANUP:
                     // 흰색 배경 그리기 (이미지 가시성을 위해)
                     g2d.setColor(Color.WHITE);
                     g2d.fillRect(x, y, cellSize, cellSize);
                     renderItemImage(g2d, "broom.png", x, y, cellSize);
                     return true;
-                case "LINE_CLEAR":
+                case LINE_CLEAR:
                     // 줄 삭제는 검정 배경에 흰색 'L' 글자 사용
                     g2d.setColor(Color.BLACK);
                     g2d.fillRect(x, y, cellSize, cellSize);
@@ -602,7 +740,7 @@ public class RenderManager {
 
         // 시간 보드 테두리
         g2d.setColor(Color.WHITE);
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(THICK_STROKE);
         g2d.drawRect(x, y, width, height);
 
         // "TIME" 라벨
@@ -698,7 +836,7 @@ public class RenderManager {
         
         // 시야 차단 효과 경계선
         g2d.setColor(new Color(255, 0, 0, 100)); // 반투명 빨강 경계선
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(THICK_STROKE);
         g2d.drawRect(coverX, coverY, coverWidth, coverHeight);
     }
     
@@ -744,7 +882,7 @@ public class RenderManager {
                     // LineBlinkEffect와 동일한 희미한 테두리
                     Color dimBorderColor = new Color(0, 0, 0, 128);
                     g2d.setColor(dimBorderColor);
-                    g2d.setStroke(new BasicStroke(1));
+                    g2d.setStroke(THIN_STROKE);
                     g2d.drawRect(cellX + 1, cellY + 1, CELL_SIZE - 2, CELL_SIZE - 2);
                 }
             }
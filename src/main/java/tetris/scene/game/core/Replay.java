@@ -0,0 +1,202 @@
+package tetris.scene.game.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import tetris.GameSettings;
+
+/**
+ * 녹화된 게임 한 판 (ReplayRecorder가 쓴 파일을 읽은 결과)
+ *
+ * 보드 상태 대신 블록 시드와 시간순 이벤트(입력, 자동 낙하, 줄 삭제 완료)만 저장하므로
+ * 같은 규칙으로 다시 시뮬레이션하면 원래 게임이 재현됩니다.
+ *
+ * 파일 구조 (빅 엔디언):
+ *   헤더: [magic:4 "TRP1"][version:1][players:1][difficulty:1][modeLength:2][mode:UTF-8][startedAt:8][seed:8 x players]
+ *   이벤트: [code:1][delta:varint] (code 상위 4비트 = 플레이어, 하위 4비트 = 종류, delta = 이전 이벤트와의 게임 시간 차이 ms)
+ *     - TYPE_SEED 뒤에는 [seed:8]
+ *     - TYPE_END 뒤에는 플레이어마다 [score:varint][lines:varint]
+ * 이벤트 하나는 보통 2바이트이므로 몇 분짜리 게임은 수 KB입니다.
+ */
+public class Replay {
+
+    public static final int MAGIC = 0x54525031; // "TRP1"
+    public static final int VERSION = 1;
+
+    // 이벤트 종류 (0 ~ 6은 InputHandler.GameAction의 ordinal)
+    public static final int TYPE_GRAVITY = 7;       // 자동 낙하 한 칸
+    public static final int TYPE_LINES_CLEARED = 8; // 줄 삭제 연출이 끝나 실제로 줄을 삭제함
+    public static final int TYPE_SEED = 9;          // 블록 시드 변경 후 블록을 다시 생성 (P2P 시드 교환)
+    public static final int TYPE_END = 15;          // 게임 종료 (최종 점수 포함)
+
+    private static final InputHandler.GameAction[] ACTIONS = InputHandler.GameAction.values();
+
+    private final String gameMode;
+    private final GameSettings.Difficulty difficulty;
+    private final long startedAt;
+    private final long[] seeds;
+
+    // 이벤트 (0 ~ eventCount-1만 유효)
+    private int eventCount = 0;
+    private long[] times = new long[256];  // 게임 시작 후 게임 시간 (ms)
+    private byte[] players = new byte[256]; // 0 = 1P
+    private byte[] types = new byte[256];
+    private long[] seedArgs = new long[256]; // TYPE_SEED일 때만 사용
+
+    // 종료 정보 (TYPE_END가 없으면 중간에 끊긴 녹화)
+    private boolean complete = false;
+    private long endTime = 0;
+    private int[] finalScores;
+    private int[] finalLines;
+
+    Replay(String gameMode, GameSettings.Difficulty difficulty, long startedAt, long[] seeds) {
+        this.gameMode = gameMode;
+        this.difficulty = difficulty;
+        this.startedAt = startedAt;
+        this.seeds = seeds.clone();
+        this.finalScores = new int[seeds.length];
+        this.finalLines = new int[seeds.length];
+    }
+
+    /**
+     * 녹화 파일을 읽습니다. 마지막 이벤트가 잘려 있으면 그 앞까지만 읽습니다.
+     * @throws IOException 파일을 읽을 수 없거나 리플레이 파일이 아닌 경우
+     */
+    public static Replay read(Path file) throws IOException {
+        return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    public static Replay read(ByteBuffer in) throws IOException {
+        Replay replay;
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("Not a replay file");
+            int version = in.get();
+            if (version != VERSION) throw new IOException("Unsupported replay version: " + version);
+
+            int playerCount = in.get();
+            GameSettings.Difficulty difficulty = GameSettings.Difficulty.values()[in.get()];
+            byte[] mode = new byte[in.getShort()];
+            in.get(mode);
+            long startedAt = in.getLong();
+            long[] seeds = new long[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                seeds[i] = in.getLong();
+            }
+            replay = new Replay(new String(mode, StandardCharsets.UTF_8), difficulty, startedAt, seeds);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Invalid replay header", e);
+        }
+
+        long time = 0;
+        try {
+            while (in.hasRemaining()) {
+                int code = in.get() & 0xFF;
+                int player = code >>> 4;
+                int type = code & 0x0F;
+                time += readVarint(in);
+
+                if (type == TYPE_END) {
+                    for (int i = 0; i < replay.seeds.length; i++) {
+                        replay.finalScores[i] = (int) readVarint(in);
+                        replay.finalLines[i] = (int) readVarint(in);
+                    }
+                    replay.endTime = time;
+                    replay.complete = true;
+                    break;
+                }
+                long seedArg = (type == TYPE_SEED) ? in.getLong() : 0L;
+                if (player >= replay.seeds.length || (type > TYPE_SEED)) {
+                    throw new IOException("Invalid replay event: " + code);
+                }
+                replay.addEvent(time, player, type, seedArg);
+            }
+        } catch (BufferUnderflowException e) {
+            // 녹화 도중 종료되어 마지막 이벤트가 잘림 → 앞부분만 사용
+        }
+        if (!replay.complete) {
+            replay.endTime = time;
+        }
+        return replay;
+    }
+
+    static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private void addEvent(long time, int player, int type, long seedArg) {
+        if (eventCount == times.length) {
+            int capacity = eventCount * 2;
+            times = Arrays.copyOf(times, capacity);
+            players = Arrays.copyOf(players, capacity);
+            types = Arrays.copyOf(types, capacity);
+            seedArgs = Arrays.copyOf(seedArgs, capacity);
+        }
+        times[eventCount] = time;
+        players[eventCount] = (byte) player;
+        types[eventCount] = (byte) type;
+        seedArgs[eventCount] = seedArg;
+        eventCount++;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 헤더
+    // ═══════════════════════════════════════════════════════════════
+
+    public String getGameMode() { return gameMode; }
+    public GameSettings.Difficulty getDifficulty() { return difficulty; }
+    public long getStartedAt() { return startedAt; }
+    public int getPlayerCount() { return seeds.length; }
+
+    /**
+     * 게임 시작 시 블록 시드 (이후 TYPE_SEED 이벤트로 바뀔 수 있음)
+     */
+    public long getSeed(int player) { return seeds[player]; }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 이벤트
+    // ═══════════════════════════════════════════════════════════════
+
+    public int getEventCount() { return eventCount; }
+    public long getTime(int index) { return times[index]; }
+    public int getPlayer(int index) { return players[index]; }
+    public int getType(int index) { return types[index]; }
+    public long getSeedArg(int index) { return seedArgs[index]; }
+
+    /**
+     * 입력 이벤트의 동작 (입력 이벤트가 아니면 null)
+     */
+    public InputHandler.GameAction getAction(int index) {
+        int type = types[index];
+        return type < ACTIONS.length ? ACTIONS[type] : null;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 종료 정보
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * 게임 종료까지 녹화되었는지 여부
+     */
+    public boolean isComplete() { return complete; }
+
+    /**
+     * 마지막 이벤트의 게임 시간 (ms)
+     */
+    public long getDurationMillis() { return endTime; }
+
+    public int getFinalScore(int player) { return finalScores[player]; }
+    public int getFinalLines(int player) { return finalLines[player]; }
+}
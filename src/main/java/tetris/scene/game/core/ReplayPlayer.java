@@ -0,0 +1,309 @@
+package tetris.scene.game.core;
+
+import java.util.Arrays;
+
+/**
+ * 녹화된 게임을 GameEngine(BoardManager/BlockManager)으로 다시 진행하는 재생기
+ *
+ * 처음 만들 때 전체 이벤트를 한 번 시뮬레이션하면서 KEYFRAME_INTERVAL_MILLIS마다 엔진 상태를 저장해 둡니다.
+ * 임의 시점으로 이동할 때는 그 앞의 가장 가까운 키프레임을 복원한 뒤 남은 이벤트(최대 몇 초 분량)만 적용하므로
+ * 긴 게임에서도 처음부터 다시 시뮬레이션하지 않습니다.
+ *
+ * 재생 위치는 녹화 당시의 게임 시간(ms)이며, 배속(0.25 ~ 16배)에 따라 실제 시간보다 빠르거나 느리게 진행합니다.
+ * 대전(2인) 녹화는 공격 규칙이 BattleScene 안에 있으므로 아직 지원하지 않습니다.
+ */
+public class ReplayPlayer {
+
+    public static final double MIN_SPEED = 0.25;
+    public static final double MAX_SPEED = 16.0;
+    public static final long KEYFRAME_INTERVAL_MILLIS = 5000;
+
+    /**
+     * 검증 결과 (녹화된 최종 점수와 다시 시뮬레이션한 점수 비교)
+     */
+    public static class Verification {
+        public final int expectedScore;
+        public final int actualScore;
+        public final int expectedLines;
+        public final int actualLines;
+        public final boolean complete; // 녹화에 최종 점수가 있는지
+
+        Verification(Replay replay, GameEngine engine) {
+            this.expectedScore = replay.getFinalScore(0);
+            this.expectedLines = replay.getFinalLines(0);
+            this.actualScore = engine.getScore();
+            this.actualLines = engine.getLinesCleared();
+            this.complete = replay.isComplete();
+        }
+
+        public boolean matches() {
+            return complete && expectedScore == actualScore && expectedLines == actualLines;
+        }
+
+        @Override
+        public String toString() {
+            if (!complete) return "미완성 녹화 (최종 점수 없음), 재현 점수 " + actualScore;
+            return (matches() ? "일치" : "불일치") + ": 녹화 " + expectedScore + "점/" + expectedLines
+                + "줄, 재현 " + actualScore + "점/" + actualLines + "줄";
+        }
+    }
+
+    private final Replay replay;
+    private final GameEngine engine;
+
+    // 키프레임 색인 (시간순): keyTimes[i] 시점에 keyEvents[i]개의 이벤트를 적용한 상태
+    private long[] keyTimes = new long[16];
+    private int[] keyEvents = new int[16];
+    private GameEngine.Snapshot[] keySnapshots = new GameEngine.Snapshot[16];
+    private int keyCount = 0;
+
+    // 재생 상태
+    private int nextEvent = 0;     // 다음에 적용할 이벤트
+    private long position = 0;     // 현재 재생 위치 (게임 시간 ms)
+    private double fraction = 0;   // 배속 적용 후 남은 1ms 미만 시간
+    private double speed = 1.0;
+    private boolean playing = false;
+
+    /**
+     * 재생기를 만들고 키프레임 색인을 만듭니다.
+     * @throws IllegalArgumentException 1인 녹화가 아니거나 아이템 모드 녹화인 경우
+     */
+    public ReplayPlayer(Replay replay) {
+        checkSupported(replay);
+        this.replay = replay;
+        this.engine = newEngine(replay);
+        buildIndex();
+    }
+
+    /**
+     * 전체를 한 번 시뮬레이션하며 일정 간격마다 상태를 저장하고, 처음 위치로 돌아갑니다.
+     */
+    private void buildIndex() {
+        addKeyframe(0, 0);
+        long nextKeyTime = KEYFRAME_INTERVAL_MILLIS;
+        for (int i = 0; i < replay.getEventCount(); i++) {
+            long time = replay.getTime(i);
+            while (time >= nextKeyTime) {
+                // 이 시점 직전까지의 상태 (앞 키프레임 이후 이벤트가 없었으면 앞 키프레임으로 충분)
+                if (keyEvents[keyCount - 1] != i) {
+                    addKeyframe(nextKeyTime, i);
+                }
+                nextKeyTime += KEYFRAME_INTERVAL_MILLIS;
+            }
+            applyEvent(i);
+        }
+        nextEvent = replay.getEventCount();
+        restoreKeyframe(0);
+    }
+
+    private void addKeyframe(long time, int eventIndex) {
+        if (keyCount == keyTimes.length) {
+            int capacity = keyCount * 2;
+            keyTimes = Arrays.copyOf(keyTimes, capacity);
+            keyEvents = Arrays.copyOf(keyEvents, capacity);
+            keySnapshots = Arrays.copyOf(keySnapshots, capacity);
+        }
+        keyTimes[keyCount] = time;
+        keyEvents[keyCount] = eventIndex;
+        keySnapshots[keyCount] = engine.snapshot();
+        keyCount++;
+    }
+
+    private void restoreKeyframe(int key) {
+        engine.restore(keySnapshots[key]);
+        nextEvent = keyEvents[key];
+        position = keyTimes[key];
+    }
+
+    private void applyEvent(int index) {
+        applyEvent(engine, replay, index);
+    }
+
+    /**
+     * GameEngine이 다시 시뮬레이션할 수 있는 녹화인지 확인합니다.
+     * GameEngine에는 아이템 규칙(아이템 블록 생성, 효과 발동)이 없으므로 아이템 모드 녹화는 재생할 수 없습니다.
+     */
+    private static void checkSupported(Replay replay) {
+        if (replay.getPlayerCount() != 1) {
+            throw new IllegalArgumentException("Only single-player replays are supported: " + replay.getPlayerCount() + " players");
+        }
+        if ("item".equals(replay.getGameMode())) {
+            throw new IllegalArgumentException("Item mode replays are not supported");
+        }
+    }
+
+    /**
+     * GameScene처럼 줄 삭제를 녹화된 TYPE_LINES_CLEARED 시점까지 미루는 엔진을 만듭니다.
+     */
+    private static GameEngine newEngine(Replay replay) {
+        GameEngine engine = new GameEngine(replay.getDifficulty(), replay.getSeed(0));
+        engine.setDeferLineClear(true);
+        return engine;
+    }
+
+    /**
+     * 이벤트 하나를 엔진에 적용합니다. GameScene이 녹화한 순서와 같은 규칙을 따릅니다.
+     */
+    private static void applyEvent(GameEngine engine, Replay replay, int index) {
+        InputHandler.GameAction action = replay.getAction(index);
+        if (action != null) {
+            engine.applyAction(action);
+            return;
+        }
+        switch (replay.getType(index)) {
+            case Replay.TYPE_GRAVITY:
+                // 자동 낙하와 아래 이동은 같은 처리 (GameScene.moveBlockDown)
+                engine.applyAction(InputHandler.GameAction.MOVE_DOWN);
+                break;
+            case Replay.TYPE_SEED:
+                engine.getBlockManager().setSeed(replay.getSeedArg(index));
+                engine.getBlockManager().initializeBlocks();
+                break;
+            case Replay.TYPE_LINES_CLEARED:
+                // GameScene의 줄 점멸 연출이 끝난 시점
+                engine.applyLinesCleared();
+                break;
+            default:
+                break;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 재생 제어
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * 지정한 게임 시간으로 이동합니다. 그 시각까지의 이벤트가 모두 적용된 상태가 됩니다.
+     */
+    public void seek(long millis) {
+        long target = Math.max(0, Math.min(millis, getDurationMillis()));
+        int key = findKeyframe(target);
+
+        // 앞으로 가는데 중간에 키프레임이 없으면 현재 상태에서 이어서 진행
+        boolean continueFromHere = target >= position && keyTimes[key] <= position;
+        if (!continueFromHere) {
+            restoreKeyframe(key);
+        }
+        advanceTo(target);
+        fraction = 0;
+    }
+
+    // target 이하인 마지막 키프레임
+    private int findKeyframe(long target) {
+        int index = Arrays.binarySearch(keyTimes, 0, keyCount, target);
+        if (index < 0) index = -index - 2;
+        return Math.max(0, index);
+    }
+
+    private void advanceTo(long target) {
+        while (nextEvent < replay.getEventCount() && replay.getTime(nextEvent) <= target) {
+            applyEvent(nextEvent++);
+        }
+        position = target;
+        if (position >= getDurationMillis()) {
+            playing = false;
+        }
+    }
+
+    /**
+     * 실제로 흐른 시간만큼 재생을 진행합니다 (재생 중일 때만, 배속 적용).
+     * @param realMillis 마지막 호출 이후 흐른 실제 시간 (ms)
+     * @return 상태가 바뀌었으면 true
+     */
+    public boolean update(long realMillis) {
+        if (!playing) return false;
+        double advance = realMillis * speed + fraction;
+        long whole = (long) advance;
+        fraction = advance - whole;
+
+        int before = nextEvent;
+        advanceTo(Math.min(position + whole, getDurationMillis()));
+        return nextEvent != before || !playing;
+    }
+
+    /**
+     * 다음 이벤트 하나만 적용합니다 (프레임 단위 진행, 재생은 멈춤).
+     * @return 적용할 이벤트가 있었으면 true
+     */
+    public boolean stepForward() {
+        playing = false;
+        if (nextEvent >= replay.getEventCount()) return false;
+        position = replay.getTime(nextEvent);
+        applyEvent(nextEvent++);
+        fraction = 0;
+        return true;
+    }
+
+    /**
+     * 마지막으로 적용한 이벤트 하나를 되돌립니다 (재생은 멈춤).
+     * @return 되돌릴 이벤트가 있었으면 true
+     */
+    public boolean stepBackward() {
+        playing = false;
+        if (nextEvent == 0) return false;
+        int target = nextEvent - 1; // 이만큼의 이벤트가 적용된 상태로 되돌림
+
+        int key = keyCount - 1;
+        while (key > 0 && keyEvents[key] > target) key--;
+        restoreKeyframe(key);
+        while (nextEvent < target) {
+            applyEvent(nextEvent++);
+        }
+        position = (target > 0) ? replay.getTime(target - 1) : 0;
+        fraction = 0;
+        return true;
+    }
+
+    public void play() {
+        if (position >= getDurationMillis()) seek(0);
+        playing = true;
+    }
+
+    public void pause() {
+        playing = false;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * 배속을 설정합니다 (MIN_SPEED ~ MAX_SPEED로 제한).
+     */
+    public void setSpeed(double speed) {
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed));
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 상태 조회
+    // ═══════════════════════════════════════════════════════════════
+
+    public Replay getReplay() { return replay; }
+    public GameEngine getEngine() { return engine; }
+    public long getPosition() { return position; }
+    public long getDurationMillis() { return replay.getDurationMillis(); }
+    public int getAppliedEventCount() { return nextEvent; }
+    public int getKeyframeCount() { return keyCount; }
+
+    // ═══════════════════════════════════════════════════════════════
+    // 헤드리스 검증
+    // ═══════════════════════════════════════════════════════════════
+
+    /**
+     * 화면 없이 처음부터 끝까지 다시 시뮬레이션해 녹화된 최종 점수와 비교합니다.
+     * 키프레임을 만들지 않으므로 대량 검증에 사용합니다.
+     * @throws IllegalArgumentException 1인 녹화가 아니거나 아이템 모드 녹화인 경우
+     */
+    public static Verification verify(Replay replay) {
+        checkSupported(replay);
+        GameEngine engine = newEngine(replay);
+        for (int i = 0; i < replay.getEventCount(); i++) {
+            applyEvent(engine, replay, i);
+        }
+        return new Verification(replay, engine);
+    }
+}
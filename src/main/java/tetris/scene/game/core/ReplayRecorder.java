@@ -0,0 +1,226 @@
+package tetris.scene.game.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import tetris.GameSettings;
+import tetris.util.DataPathManager;
+
+/**
+ * 게임 한 판을 입력 로그로 녹화합니다 (파일 형식은 Replay 참고).
+ *
+ * 이벤트는 고정 크기 버퍼에 몇 바이트씩 쌓기만 하고, 버퍼가 찼을 때와 게임이 끝났을 때만 파일에 씁니다.
+ * 8KB 버퍼 하나에 수천 개의 이벤트가 들어가므로 게임 중 파일 쓰기는 거의 일어나지 않습니다.
+ * 쓰기에 실패하면 녹화만 중단하고 게임은 계속 진행됩니다.
+ *
+ * 모든 메서드는 게임 로직과 같은 스레드(EDT)에서 호출합니다.
+ */
+public class ReplayRecorder {
+
+    public static final String FILE_EXTENSION = ".trp";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_EVENT_BYTES = 1 + 10 + 8; // code + varint(long) + seed
+
+    private final Path file;
+    private final int playerCount;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private long lastTime = 0;
+    private int eventCount = 0;
+    private long bytesWritten = 0;
+    private boolean closed = false;
+
+    /**
+     * 녹화 파일을 만들고 헤더를 씁니다.
+     *
+     * @param file 저장할 파일 (이미 있으면 덮어씀)
+     * @param gameMode 게임 모드 이름 (재생 시 규칙 선택용)
+     * @param difficulty 난이도
+     * @param seeds 플레이어별 블록 시드 (1P부터)
+     */
+    public ReplayRecorder(Path file, String gameMode, GameSettings.Difficulty difficulty, long... seeds) throws IOException {
+        if (seeds.length == 0 || seeds.length > 15) {
+            throw new IllegalArgumentException("Invalid player count: " + seeds.length);
+        }
+        this.file = file;
+        this.playerCount = seeds.length;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        byte[] mode = gameMode.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(Replay.MAGIC);
+        buffer.put((byte) Replay.VERSION);
+        buffer.put((byte) playerCount);
+        buffer.put((byte) difficulty.ordinal());
+        buffer.putShort((short) mode.length);
+        buffer.put(mode);
+        buffer.putLong(System.currentTimeMillis());
+        for (long seed : seeds) {
+            buffer.putLong(seed);
+        }
+    }
+
+    /**
+     * 데이터 디렉토리의 replays 폴더에 새 녹화를 시작합니다.
+     * @return 파일을 만들 수 없으면 null (녹화 없이 진행)
+     */
+    public static ReplayRecorder start(String gameMode, GameSettings.Difficulty difficulty, long... seeds) {
+        try {
+            Path directory = DataPathManager.getInstance().getReplayDirectory();
+            String name = "replay-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date())
+                + "-" + gameMode.replaceAll("[^A-Za-z0-9_]", "") + FILE_EXTENSION;
+            return new ReplayRecorder(directory.resolve(name), gameMode, difficulty, seeds);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("리플레이 녹화 시작 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 실제로 적용된 입력을 기록합니다.
+     * @param player 플레이어 (0 = 1P)
+     * @param gameMillis 게임 시작 후 게임 시간 (ms)
+     */
+    public void recordAction(int player, InputHandler.GameAction action, long gameMillis) {
+        writeEvent(player, action.ordinal(), gameMillis);
+    }
+
+    /**
+     * 자동 낙하 한 번을 기록합니다.
+     */
+    public void recordGravity(int player, long gameMillis) {
+        writeEvent(player, Replay.TYPE_GRAVITY, gameMillis);
+    }
+
+    /**
+     * 줄 삭제 연출이 끝나 실제로 줄을 삭제한 시점을 기록합니다.
+     */
+    public void recordLinesCleared(int player, long gameMillis) {
+        writeEvent(player, Replay.TYPE_LINES_CLEARED, gameMillis);
+    }
+
+    /**
+     * 블록 시드가 바뀐 것을 기록합니다 (이후 블록 순서는 새 시드 기준).
+     */
+    public void recordSeed(int player, long seed, long gameMillis) {
+        if (writeEvent(player, Replay.TYPE_SEED, gameMillis)) {
+            buffer.putLong(seed);
+        }
+    }
+
+    private boolean writeEvent(int player, int type, long gameMillis) {
+        if (closed || player < 0 || player >= playerCount) return false;
+        if (buffer.remaining() < MAX_EVENT_BYTES && !flush()) return false;
+
+        long delta = Math.max(0, gameMillis - lastTime);
+        lastTime += delta;
+        buffer.put((byte) ((player << 4) | type));
+        writeVarint(delta);
+        eventCount++;
+        return true;
+    }
+
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // 버퍼 내용을 파일에 씀. 실패하면 녹화를 중단
+    private boolean flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+            buffer.clear();
+            return true;
+        } catch (IOException e) {
+            System.err.println("리플레이 저장 실패 (녹화 중단): " + e.getMessage());
+            abort();
+            return false;
+        }
+    }
+
+    /**
+     * 게임 종료를 기록하고 파일을 닫습니다. 이미 닫혔으면 무시합니다.
+     * @param scores 플레이어별 최종 점수
+     * @param lines 플레이어별 삭제한 줄 수
+     */
+    public void finish(long gameMillis, int[] scores, int[] lines) {
+        if (closed) return;
+        if (buffer.remaining() < MAX_EVENT_BYTES + playerCount * 10 && !flush()) return;
+
+        long delta = Math.max(0, gameMillis - lastTime);
+        lastTime += delta;
+        buffer.put((byte) Replay.TYPE_END);
+        writeVarint(delta);
+        for (int i = 0; i < playerCount; i++) {
+            writeVarint(Math.max(0, scores[i]));
+            writeVarint(Math.max(0, lines[i]));
+        }
+        if (!flush()) return;
+
+        try {
+            channel.force(false);
+            channel.close();
+            System.out.println("리플레이 저장: " + file.getFileName() + " (" + eventCount + "개 이벤트, " + bytesWritten + " bytes)");
+        } catch (IOException e) {
+            System.err.println("리플레이 저장 실패: " + e.getMessage());
+        }
+        closed = true;
+    }
+
+    /**
+     * 종료 기록 없이 지금까지의 이벤트만 저장하고 닫습니다.
+     */
+    public void close() {
+        if (closed) return;
+        if (flush()) abort();
+    }
+
+    private void abort() {
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // 이미 닫힌 경우 무시
+        }
+    }
+
+    public boolean isClosed() { return closed; }
+    public int getEventCount() { return eventCount; }
+    public long getBytesWritten() { return bytesWritten; }
+    public Path getFile() { return file; }
+
+    /**
+     * 게임 루프가 진행한 게임 시간 (ms)
+     */
+    public static long gameMillis(GameLoop gameLoop) {
+        return gameLoop != null ? gameLoop.getTickCount() * GameLoop.STEP_MILLIS : 0L;
+    }
+
+    /**
+     * 녹화 파일 목록 (최근 것부터)
+     */
+    public static Path[] listReplays() throws IOException {
+        Path directory = DataPathManager.getInstance().getReplayDirectory();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(FILE_EXTENSION))
+                .sorted(Comparator.reverseOrder())
+                .toArray(Path[]::new);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package tetris.scene.game.core;
 
 import java.awt.*;
 import tetris.GameSettings;
+import tetris.util.DebugLog;
 
 /**
  * 테트리스 게임의 점수 계산 및 표시를 담당하는 클래스
@@ -68,7 +69,7 @@ public class ScoreManager {
             int bonusScore = (int) Math.round(baseScore * totalMultiplier);
             score += bonusScore;
             
-            System.out.println("Cleared " + linesClearedCount + " lines! Base: " + baseScore + 
+            DebugLog.log("Cleared " + linesClearedCount + " lines! Base: " + baseScore + 
                              ", Speed Multiplier: " + String.format("%.1f", speedMultiplier) + 
                              "x, Difficulty Multiplier: " + String.format("%.1f", difficultyMultiplier) + 
                              "x, Total Multiplier: " + String.format("%.1f", totalMultiplier) + 
@@ -83,7 +84,7 @@ public class ScoreManager {
         int baseDropScore = 100;
         int adjustedDropScore = (int) Math.round(baseDropScore * difficultyMultiplier);
         score += adjustedDropScore;
-        System.out.println("Block dropped! Added " + adjustedDropScore + " points (base: " + baseDropScore + 
+        DebugLog.log("Block dropped! Added " + adjustedDropScore + " points (base: " + baseDropScore + 
                          ", difficulty multiplier: " + String.format("%.1f", difficultyMultiplier) + 
                          "). Total score: " + score);
     }
@@ -96,7 +97,7 @@ public class ScoreManager {
         int baseCellScore = 50;
         int adjustedCellScore = (int) Math.round(baseCellScore * difficultyMultiplier);
         score += adjustedCellScore;
-        System.out.println("Weight item cleared cell! Added " + adjustedCellScore + " points (base: " + baseCellScore + 
+        DebugLog.log("Weight item cleared cell! Added " + adjustedCellScore + " points (base: " + baseCellScore + 
                          ", difficulty multiplier: " + String.format("%.1f", difficultyMultiplier) + 
                          "). Total score: " + score);
     }
@@ -122,7 +123,7 @@ public class ScoreManager {
         if (dropHeight > 0) {
             int hardDropScore = dropHeight * 10; // 1칸당 10점
             score += hardDropScore;
-            System.out.println("Hard drop " + dropHeight + " cells! Added " + hardDropScore + " points. Total score: " + score);
+            DebugLog.log("Hard drop " + dropHeight + " cells! Added " + hardDropScore + " points. Total score: " + score);
         }
     }
     
@@ -155,9 +156,9 @@ public class ScoreManager {
             if (speedMultiplier > MAX_SPEED_MULTIPLIER) {
                 speedMultiplier = MAX_SPEED_MULTIPLIER;
             }
-            System.out.println("Speed increased! Score multiplier is now: " + String.format("%.1f", speedMultiplier) + "x");
+            DebugLog.log("Speed increased! Score multiplier is now: " + String.format("%.1f", speedMultiplier) + "x");
         } else {
-            System.out.println("Speed increased! Score multiplier is already at maximum: " + String.format("%.1f", speedMultiplier) + "x");
+            DebugLog.log("Speed increased! Score multiplier is already at maximum: " + String.format("%.1f", speedMultiplier) + "x");
         }
     }
     
@@ -186,6 +187,9 @@ public class ScoreManager {
         return POINTS_PER_LINE;
     }
 
+    public void setLinesCleared(int linesCleared) {
+        this.linesCleared = linesCleared;
+    }
     public void setScore(int score) {
         this.score = score;
     }
@@ -0,0 +1,117 @@
+package tetris.scene.game.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import tetris.GameSettings;
+
+/**
+ * 여러 GameEngine을 병렬로 실행하는 시뮬레이션 실행기
+ * 엔진 인스턴스끼리는 상태를 공유하지 않으므로 게임 하나를 작업 하나로 나눠 코어 수만큼 동시에 실행합니다.
+ */
+public class SimulationRunner {
+
+    /**
+     * 매 틱마다 다음 입력을 결정하는 정책 (null을 반환하면 입력 없음)
+     * 여러 스레드에서 동시에 호출되므로 상태를 가지면 안 됩니다.
+     */
+    public interface InputPolicy {
+        InputHandler.GameAction nextAction(GameEngine engine);
+    }
+
+    /**
+     * 게임 한 판의 결과
+     */
+    public static class Result {
+        public final long seed;
+        public final int score;
+        public final int linesCleared;
+        public final int blocksPlaced;
+        public final long ticks;
+        public final boolean gameOver;
+
+        Result(GameEngine engine) {
+            this.seed = engine.getSeed();
+            this.score = engine.getScore();
+            this.linesCleared = engine.getLinesCleared();
+            this.blocksPlaced = engine.getBlocksPlaced();
+            this.ticks = engine.getTickCount();
+            this.gameOver = engine.isGameOver();
+        }
+    }
+
+    private final GameSettings.Difficulty difficulty;
+    private final int threads;
+
+    /**
+     * 사용 가능한 코어 수만큼 스레드를 사용하는 실행기를 만듭니다.
+     */
+    public SimulationRunner(GameSettings.Difficulty difficulty) {
+        this(difficulty, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SimulationRunner(GameSettings.Difficulty difficulty, int threads) {
+        this.difficulty = difficulty;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * 게임 한 판을 현재 스레드에서 끝까지 (또는 최대 틱까지) 실행합니다.
+     *
+     * @param seed 블록 생성 시드
+     * @param policy 입력 정책 (null이면 자동 낙하만)
+     * @param maxTicks 최대 틱 수
+     * @return 게임 결과
+     */
+    public Result runGame(long seed, InputPolicy policy, long maxTicks) {
+        GameEngine engine = new GameEngine(difficulty, seed);
+        while (!engine.isGameOver() && engine.getTickCount() < maxTicks) {
+            if (policy != null) {
+                InputHandler.GameAction action = policy.nextAction(engine);
+                if (action != null) {
+                    engine.applyAction(action);
+                }
+            }
+            engine.tick();
+        }
+        return new Result(engine);
+    }
+
+    /**
+     * 시드 baseSeed, baseSeed+1, ... 로 여러 판을 병렬 실행합니다.
+     * 결과는 시드 순서대로 반환됩니다.
+     *
+     * @param gameCount 실행할 게임 수
+     * @param baseSeed 첫 게임 시드
+     * @param policy 입력 정책
+     * @param maxTicks 게임당 최대 틱 수
+     * @return 게임 결과 목록
+     */
+    public List<Result> runGames(int gameCount, long baseSeed, InputPolicy policy, long maxTicks) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result>> futures = new ArrayList<>(gameCount);
+            for (int i = 0; i < gameCount; i++) {
+                final long seed = baseSeed + i;
+                futures.add(executor.submit(() -> runGame(seed, policy, maxTicks)));
+            }
+
+            List<Result> results = new ArrayList<>(gameCount);
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
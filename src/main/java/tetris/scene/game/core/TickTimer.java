@@ -0,0 +1,86 @@
+package tetris.scene.game.core;
+
+/**
+ * 게임 시간으로 진행되는 타이머
+ *
+ * javax.swing.Timer처럼 start/stop/setDelay로 사용하지만 스스로 이벤트를 만들지 않고,
+ * GameLoop의 틱에서 advance()로 경과 시간을 넘겨받아 만료 여부만 알려줍니다.
+ * 한 번의 advance에서 여러 주기가 지나도 Swing Timer의 이벤트 병합처럼 한 번만 만료됩니다.
+ */
+public class TickTimer {
+
+    private int delay;
+    private int elapsed = 0;
+    private boolean running = false;
+    private boolean repeats = true;
+
+    /**
+     * @param delay 만료 주기 (게임 시간 ms)
+     */
+    public TickTimer(int delay) {
+        this.delay = Math.max(1, delay);
+    }
+
+    /**
+     * 타이머를 시작합니다. 이미 실행 중이면 진행 시간을 유지합니다.
+     */
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 타이머를 정지합니다. 다시 시작하면 한 주기를 처음부터 기다립니다.
+     */
+    public void stop() {
+        running = false;
+        elapsed = 0;
+    }
+
+    /**
+     * 진행 시간을 초기화하고 다시 시작합니다.
+     */
+    public void restart() {
+        elapsed = 0;
+        running = true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getDelay() {
+        return delay;
+    }
+
+    /**
+     * 주기를 바꿉니다. 이미 지난 시간은 새 주기에 그대로 반영됩니다.
+     */
+    public void setDelay(int delay) {
+        this.delay = Math.max(1, delay);
+    }
+
+    /**
+     * false로 설정하면 한 번 만료된 뒤 자동으로 정지합니다.
+     */
+    public void setRepeats(boolean repeats) {
+        this.repeats = repeats;
+    }
+
+    /**
+     * 경과 시간만큼 타이머를 진행합니다.
+     * @param millis 지난 게임 시간 (ms)
+     * @return 이번 진행에서 주기가 만료되었으면 true
+     */
+    public boolean advance(int millis) {
+        if (!running) return false;
+
+        elapsed += millis;
+        if (elapsed < delay) return false;
+
+        elapsed %= delay; // 밀린 주기는 한 번으로 합침
+        if (!repeats) {
+            stop();
+        }
+        return true;
+    }
+}
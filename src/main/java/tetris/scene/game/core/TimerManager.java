@@ -4,22 +4,22 @@ import tetris.util.LineBlinkEffect;
 import tetris.util.SpeedUp;
 import tetris.GameSettings;
 
-import javax.swing.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
-
 /**
  * 게임의 모든 타이머를 관리하는 클래스
  * - 블록 드롭 타이머 (게임 진행)
  * - 점멸 효과 타이머 (시각적 업데이트)
+ *
+ * 두 타이머 모두 하나의 GameLoop 틱에서 게임 시간으로 진행되며,
+ * 화면 갱신은 GameLoop의 프레임 콜백에서 프레임당 한 번만 요청됩니다.
  */
 public class TimerManager {
     private static final int INIT_INTERVAL_MS = 1000; // 블록 드롭 초기 속도 (밀리초)
     private static final int BLINK_INTERVAL_MS = 50; // 점멸 효과 업데이트 주기 (밀리초)
     
     // 타이머들
-    private Timer dropTimer; // 블록 드롭 타이머
-    private Timer blinkTimer; // 점멸 효과 전용 타이머
+    private GameLoop gameLoop; // 게임 루프 (모든 타이머를 진행)
+    private TickTimer dropTimer; // 블록 드롭 타이머
+    private TickTimer blinkTimer; // 점멸 효과 전용 타이머
     
     // 의존성들
     private final GameStateManager gameStateManager;
@@ -53,47 +53,43 @@ public class TimerManager {
      */
     public void initialize(TimerCallback callback) {
         this.timerCallback = callback;
-        createDropTimer();
-        createBlinkTimer();
+        if (gameLoop != null) gameLoop.stop();
+        
+        gameLoop = new GameLoop();
+        dropTimer = new TickTimer(INIT_INTERVAL_MS);
+        blinkTimer = new TickTimer(BLINK_INTERVAL_MS);
+        gameLoop.add(this::tick);
     }
     
     /**
-     * 블록 드롭 타이머를 생성합니다.
+     * 게임 루프 틱마다 드롭/점멸 타이머를 진행합니다.
+     * @return 화면을 다시 그려야 하면 true
      */
-    private void createDropTimer() {
-        if (dropTimer != null) dropTimer.stop();
+    private boolean tick(int stepMillis) {
+        boolean needsRepaint = false;
         
-        dropTimer = new Timer(INIT_INTERVAL_MS, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                // 점멸 연출 중이 아니고, 일시정지나 게임 종료 상태가 아닐 때만 블록 이동
-                boolean isBlinking = (lineBlinkEffect != null && lineBlinkEffect.isActive());
-                if (gameStateManager.isPlaying() && !isBlinking) {
-                    timerCallback.onDropTick();
-                }
+        if (dropTimer.advance(stepMillis)) {
+            // 점멸 연출 중이 아니고, 일시정지나 게임 종료 상태가 아닐 때만 블록 이동
+            boolean isBlinking = (lineBlinkEffect != null && lineBlinkEffect.isActive());
+            if (gameStateManager.isPlaying() && !isBlinking) {
+                timerCallback.onDropTick();
+                needsRepaint = true;
             }
-        });
-    }
-    
-    /**
-     * 점멸 효과 타이머를 생성합니다.
-     */
-    private void createBlinkTimer() {
-        if (blinkTimer != null) blinkTimer.stop();
+        }
         
-        blinkTimer = new Timer(BLINK_INTERVAL_MS, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                // 게임오버 상태가 아닐 때만 점멸 업데이트 및 화면 갱신
-                if (!gameStateManager.isGameOver()) {
-                    // 줄 점멸 연출 업데이트
-                    if (lineBlinkEffect != null) {
-                        lineBlinkEffect.update();
-                    }
-                    timerCallback.onBlinkTick();
+        if (blinkTimer.advance(stepMillis)) {
+            // 게임오버 상태가 아닐 때만 점멸 업데이트 및 화면 갱신
+            if (!gameStateManager.isGameOver()) {
+                // 줄 점멸 연출 업데이트
+                if (lineBlinkEffect != null) {
+                    lineBlinkEffect.update();
                 }
+                timerCallback.onBlinkTick();
+                needsRepaint = true;
             }
-        });
+        }
+        
+        return needsRepaint;
     }
     
     /**
@@ -108,13 +104,14 @@ public class TimerManager {
      * SpeedUp 관리자를 설정합니다.
      */
     public void setupSpeedUp() {
-        speedUp = new SpeedUp(dropTimer, new SpeedUp.SpeedIncreaseCallback() {
+        speedUp = new SpeedUp(null, new SpeedUp.SpeedIncreaseCallback() {
             @Override
             public void onSpeedIncrease() {
                 // 속도가 증가할 때마다 점수 배율도 증가
                 scoreManager.onSpeedIncrease();
             }
         }, difficulty, gameScene);
+        speedUp.setIntervalListener(this::setDropDelay);
     }
     
     /**
@@ -146,6 +143,9 @@ public class TimerManager {
         if (blinkTimer != null && !blinkTimer.isRunning()) {
             blinkTimer.start();
         }
+        if (gameLoop != null) {
+            gameLoop.start();
+        }
     }
     
     /**
@@ -158,6 +158,9 @@ public class TimerManager {
         if (blinkTimer != null) {
             blinkTimer.stop();
         }
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
     }
     
     /**
@@ -204,10 +207,17 @@ public class TimerManager {
         return lineBlinkEffect;
     }
     
+    /**
+     * 게임 루프를 반환합니다 (다른 틱 대상과 화면 갱신 콜백 등록용).
+     */
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+    
     /**
      * 드롭 타이머를 반환합니다 (아이템 효과용).
      */
-    public Timer getDropTimer() {
+    public TickTimer getDropTimer() {
         return dropTimer;
     }
     
@@ -249,6 +259,7 @@ public class TimerManager {
         if (speedUp != null) {
             speedUp.reset();
         }
+        gameLoop = null;
         dropTimer = null;
         blinkTimer = null;
         speedUp = null;
@@ -251,7 +251,9 @@ public class UIManager {
         if (wrapperPanel != null) {
             wrapperPanel.revalidate();
             SwingUtilities.invokeLater(() -> {
+                int oldCellSize = cellSize;
                 calculateDynamicSizes();
+                prepareCellSprites(oldCellSize);
                 
                 // 게임 패널 크기 업데이트
                 if (gamePanel != null) {
@@ -268,7 +270,9 @@ public class UIManager {
             });
         } else {
             // wrapperPanel이 없으면 바로 계산
+            int oldCellSize = cellSize;
             calculateDynamicSizes();
+            prepareCellSprites(oldCellSize);
             if (gamePanel != null) {
                 Dimension newSize = calculateGamePanelSize();
                 gamePanel.setPreferredSize(newSize);
@@ -277,6 +281,19 @@ public class UIManager {
         }
     }
     
+    /**
+     * 셀 크기가 바뀌었으면 새 크기의 셀 스프라이트를 미리 만들어 둡니다.
+     * 같은 크기의 아틀라스는 재사용되므로 크기가 그대로면 아무것도 하지 않습니다.
+     */
+    private void prepareCellSprites(int oldCellSize) {
+        if (cellSize == oldCellSize) {
+            return;
+        }
+        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
+        CellSpriteAtlas.forSize(cellSize - 2, colorBlindMode);
+        CellSpriteAtlas.forSize(previewCellSize - 4, colorBlindMode);
+    }
+    
     /**
      * 동적 셀 크기를 반환합니다.
      */
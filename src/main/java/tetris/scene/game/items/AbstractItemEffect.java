@@ -31,7 +31,7 @@ public abstract class AbstractItemEffect implements ItemEffect {
         
         // 지속 시간이 있는 경우 타이머 설정
         if (duration > 0) {
-            scheduleDeactivation();
+            scheduleDeactivation(context.getHost());
         } else {
             // 즉시 효과인 경우 바로 비활성화
             isActive = false;
@@ -81,18 +81,14 @@ public abstract class AbstractItemEffect implements ItemEffect {
     
     /**
      * 지속 시간 후 자동 비활성화를 위한 스케줄링
+     * 씬의 게임 루프에 맡기므로 일시정지 중에는 시간이 흐르지 않고, 해제도 EDT에서 실행됩니다.
+     * 씬이 없으면 적용한 효과도 없으므로 예약하지 않습니다.
      */
-    private void scheduleDeactivation() {
-        // 간단한 타이머 구현 (실제로는 게임 엔진의 타이머 시스템 사용 권장)
-        new Thread(() -> {
-            try {
-                Thread.sleep(duration);
-                deactivate();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                deactivate();
-            }
-        }).start();
+    private void scheduleDeactivation(ItemEffectHost host) {
+        if (host == null) {
+            return;
+        }
+        host.schedule((int) duration, this::deactivate);
     }
     
     /**
@@ -1,7 +1,12 @@
 package tetris.scene.game.items;
 
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.ScoreManager;
+
 /**
  * 아이템 효과 실행에 필요한 컨텍스트 정보를 담는 클래스
+ * 씬과 매니저는 설정할 때 한 번 타입을 확인해 두므로, 효과는 getHost()/getTypedBoardManager() 등으로
+ * 리플렉션 없이 바로 호출할 수 있습니다.
  */
 public class ItemEffectContext {
     private int[][] board;
@@ -13,6 +18,11 @@ public class ItemEffectContext {
     private Object scoreManager;
     private int playerNumber = 1; // 기본값은 1 (일반 게임에서는 항상 1)
     
+    // 설정 시점에 확인한 타입 (해당 타입이 아니면 null)
+    private ItemEffectHost host;
+    private BoardManager typedBoardManager;
+    private ScoreManager typedScoreManager;
+    
     public ItemEffectContext(int[][] board, int itemX, int itemY) {
         this.board = board;
         this.itemX = itemX;
@@ -49,6 +59,15 @@ public class ItemEffectContext {
     
     public void setGameScene(Object gameScene) {
         this.gameScene = gameScene;
+        this.host = (gameScene instanceof ItemEffectHost) ? (ItemEffectHost) gameScene : null;
+    }
+    
+    /**
+     * 아이템 효과를 받는 씬을 반환합니다.
+     * @return 씬이 없거나 ItemEffectHost가 아니면 null
+     */
+    public ItemEffectHost getHost() {
+        return host;
     }
     
     public Object getBlockManager() {
@@ -65,6 +84,14 @@ public class ItemEffectContext {
     
     public void setBoardManager(Object boardManager) {
         this.boardManager = boardManager;
+        this.typedBoardManager = (boardManager instanceof BoardManager) ? (BoardManager) boardManager : null;
+    }
+    
+    /**
+     * @return BoardManager가 설정되지 않았으면 null
+     */
+    public BoardManager getTypedBoardManager() {
+        return typedBoardManager;
     }
     
     public Object getScoreManager() {
@@ -73,6 +100,14 @@ public class ItemEffectContext {
     
     public void setScoreManager(Object scoreManager) {
         this.scoreManager = scoreManager;
+        this.typedScoreManager = (scoreManager instanceof ScoreManager) ? (ScoreManager) scoreManager : null;
+    }
+    
+    /**
+     * @return ScoreManager가 설정되지 않았으면 null
+     */
+    public ScoreManager getTypedScoreManager() {
+        return typedScoreManager;
     }
     
     public int getPlayerNumber() {
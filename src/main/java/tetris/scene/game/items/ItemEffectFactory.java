@@ -8,13 +8,13 @@ import java.util.Random;
  * 객체지향 디자인 패턴 중 Factory Pattern을 적용
  */
 public class ItemEffectFactory {
-    private static final Random random = new Random();
     
     /**
      * 랜덤한 아이템 효과를 생성합니다.
+     * @param random 플레이어별 난수 생성기 (리플레이/대전 재현을 위해 호출 측 시드 사용)
      * @return 생성된 아이템 효과
      */
-    public static ItemEffect createRandomEffect() {
+    public static ItemEffect createRandomEffect(Random random) {
         ItemEffectType[] types = ItemEffectType.values();
         ItemEffectType randomType = types[random.nextInt(types.length)];
         return createEffect(randomType);
@@ -44,9 +44,10 @@ public class ItemEffectFactory {
     
     /**
      * 특정 확률에 따라 아이템 효과를 생성합니다.
+     * @param random 플레이어별 난수 생성기
      * @return 생성된 아이템 효과 (확률에 따라 다른 타입)
      */
-    public static ItemEffect createWeightedRandomEffect() {
+    public static ItemEffect createWeightedRandomEffect(Random random) {
         int rand = random.nextInt(100);
         
         // 확률 분배 (총 100%)
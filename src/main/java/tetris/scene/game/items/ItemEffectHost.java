@@ -0,0 +1,95 @@
+package tetris.scene.game.items;
+
+import java.awt.Point;
+import java.util.Set;
+
+/**
+ * 아이템 효과가 게임 화면(씬)에 요청하는 동작들
+ *
+ * GameScene(일반/아이템 모드), BattleScene, P2PBattleScene이 구현하며,
+ * 아이템 효과와 BoardManager/BlockManager는 씬을 이 타입으로 한 번만 받아 두고 직접 호출합니다
+ * (리플렉션이나 클래스 이름 비교 없이).
+ *
+ * playerNumber 인자는 대전 모드에서만 의미가 있으며(1 또는 2), 일반 모드 씬은 무시합니다.
+ */
+public interface ItemEffectHost {
+
+    /**
+     * 상대가 있는 대전 모드인지 여부
+     * true이면 속도/시야 아이템은 자신이 아니라 상대에게 적용됩니다.
+     */
+    boolean isBattleMode();
+
+    // ───────── 일반 모드 (자신에게 적용) ─────────
+
+    /**
+     * 현재 낙하 속도 (밀리초 단위 딜레이)
+     */
+    double getFallSpeed();
+
+    /**
+     * 낙하 속도를 설정합니다 (밀리초 단위 딜레이).
+     */
+    void setFallSpeed(double speed);
+
+    /**
+     * 속도 아이템 효과 활성화 상태를 설정합니다 (SpeedUp의 자동 가속을 멈추는 용도).
+     */
+    void setSpeedItemActive(boolean active);
+
+    boolean isSpeedItemActive();
+
+    // ───────── 대전 모드 (상대에게 적용) ─────────
+
+    /**
+     * sourcePlayer의 상대에게 낙하 속도 증가를 적용합니다.
+     */
+    void applySpeedUpToOpponent(int sourcePlayer);
+
+    /**
+     * sourcePlayer의 상대에게 낙하 속도 감소를 적용합니다.
+     */
+    void applySpeedDownToOpponent(int sourcePlayer);
+
+    /**
+     * sourcePlayer의 상대에게 시야 제한을 적용합니다.
+     */
+    void applyVisionBlockToOpponent(int sourcePlayer);
+
+    // ───────── 공통 ─────────
+
+    /**
+     * 시야 제한 효과를 켜거나 끕니다.
+     * @param playerNumber 효과를 받는 플레이어
+     */
+    void setVisionBlockActive(int playerNumber, boolean active);
+
+    /**
+     * 다음 줄 삭제가 LINE_CLEAR 아이템으로 인한 것임을 표시합니다.
+     * @param playerNumber 아이템을 사용한 플레이어
+     */
+    void markItemLineClear(int playerNumber);
+
+    /**
+     * 청소 아이템의 셀 점멸을 시작합니다.
+     * @param playerNumber 아이템을 사용한 플레이어
+     */
+    void startCleanupBlinking(int playerNumber, Set<Point> cells);
+
+    /**
+     * 청소 아이템의 셀 점멸을 중지합니다.
+     * @param playerNumber 아이템을 사용한 플레이어
+     */
+    void stopCleanupBlinking(int playerNumber);
+
+    /**
+     * 게임 시간으로 delayMillis 뒤에 작업을 EDT에서 한 번 실행합니다 (효과 해제, 청소 후 처리 등).
+     * 일시정지 중에는 시간이 흐르지 않습니다.
+     */
+    void schedule(int delayMillis, Runnable task);
+
+    /**
+     * 화면을 다시 그립니다.
+     */
+    void repaint();
+}
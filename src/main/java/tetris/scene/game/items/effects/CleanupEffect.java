@@ -1,5 +1,7 @@
 package tetris.scene.game.items.effects;
 
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.ScoreManager;
 import tetris.scene.game.items.*;
 
 /**
@@ -7,6 +9,7 @@ import tetris.scene.game.items.*;
  * 아이템을 중심으로 3x3 영역의 블록을 모두 제거합니다.
  */
 public class CleanupEffect extends AbstractItemEffect {
+    private static final int CLEANUP_BLINK_MILLIS = 900; // 줄 삭제 점멸과 같은 길이
     
     public CleanupEffect() {
         super(ItemEffectType.CLEANUP, 0); // 즉시 효과
@@ -27,176 +30,66 @@ public class CleanupEffect extends AbstractItemEffect {
      * BoardManager를 통해 3x3 영역의 아이템 셀 정보를 정리합니다.
      */
     private void cleanupItemCells(ItemEffectContext context, int centerX, int centerY) {
-        Object boardManager = context.getBoardManager();
+        BoardManager boardManager = context.getTypedBoardManager();
         if (boardManager == null) {
             return;
         }
         
-        try {
-            // 3x3 영역의 아이템 셀 정보 제거
-            for (int dy = -1; dy <= 1; dy++) {
-                for (int dx = -1; dx <= 1; dx++) {
-                    int targetX = centerX + dx;
-                    int targetY = centerY + dy;
-                    
-                    // BoardManager의 setItemCell 메서드 호출하여 아이템 셀 정보 제거
-                    boardManager.getClass()
-                        .getMethod("setItemCell", int.class, int.class, boolean.class)
-                        .invoke(boardManager, targetX, targetY, false);
-                }
+        // 3x3 영역의 아이템 셀 정보 제거
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                boardManager.setItemCell(centerX + dx, centerY + dy, false);
             }
-            System.out.println("Cleaned up item cell information in 3x3 area");
-        } catch (Exception e) {
-            System.out.println("Failed to cleanup item cells: " + e.getMessage());
         }
+        System.out.println("Cleaned up item cell information in 3x3 area");
     }
     
     /**
      * 점멸 효과를 시작하고, 완료 후 콜백으로 블록 삭제 및 중력 적용을 수행합니다.
      */
     private void addBlinkingEffectWithCallback(ItemEffectContext context, int centerX, int centerY) {
-        Object gameScene = context.getGameScene();
-        if (gameScene == null) {
+        ItemEffectHost host = context.getHost();
+        if (host == null) {
             // GameScene이 없으면 즉시 블록 처리 수행
             performBlockCleanup(context, centerX, centerY);
             return;
         }
         
-        try {
-            // 3x3 영역에서 실제로 블록이 있는 셀들만 개별적으로 점멸 (줄 전체가 아닌 해당 셀만)
-            int[][] board = context.getBoard();
-            java.util.Set<java.awt.Point> blinkCells = new java.util.HashSet<>();
-            
-            for (int dy = -1; dy <= 1; dy++) {
-                for (int dx = -1; dx <= 1; dx++) {
-                    int targetX = centerX + dx;
-                    int targetY = centerY + dy;
-                    
-                    // 게임 보드 범위 내에 있고, 실제 블록이 있는 셀만 추가
-                    if (targetX >= 0 && targetX < 10 && targetY >= 0 && targetY < 20) {
-                        if (isValidPosition(board, targetX, targetY) && board[targetY][targetX] != 0) {
-                            blinkCells.add(new java.awt.Point(targetX, targetY));
-                        }
-                    }
-                }
-            }
-            
-            // GameScene의 청소 블링킷 시작 (개별 셀 점멸, 줄 삭제와 동일한 900ms 지속시간)
-            if (!blinkCells.isEmpty()) {
-                // BattleScene 또는 P2PBattleScene인지 확인하고 플레이어별 메서드 호출
-                String gameSceneType = gameScene.getClass().getSimpleName();
-                if ("BattleScene".equals(gameSceneType) || "P2PBattleScene".equals(gameSceneType)) {
-                    // BattleScene에서는 플레이어를 구분해야 함
-                    int playerNumber = determinePlayerNumber(context);
-                    if (playerNumber == 1) {
-                        gameScene.getClass()
-                            .getMethod("startCleanupBlinking1", java.util.Set.class)
-                            .invoke(gameScene, blinkCells);
-                        System.out.println("Started Player 1 cleanup blinking effect for " + blinkCells.size() + " cells");
-                    } else if (playerNumber == 2) {
-                        gameScene.getClass()
-                            .getMethod("startCleanupBlinking2", java.util.Set.class)
-                            .invoke(gameScene, blinkCells);
-                        System.out.println("Started Player 2 cleanup blinking effect for " + blinkCells.size() + " cells");
-                    } else {
-                        // 플레이어 구분 실패시 기본적으로 Player 1 사용
-                        gameScene.getClass()
-                            .getMethod("startCleanupBlinking1", java.util.Set.class)
-                            .invoke(gameScene, blinkCells);
-                        System.out.println("⚠️ Player determination failed, using Player 1 for cleanup blinking");
-                    }
-                } else {
-                    // GeneralScene 등 다른 씬에서는 기존 메서드 사용
-                    gameScene.getClass()
-                        .getMethod("startCleanupBlinking", java.util.Set.class)
-                        .invoke(gameScene, blinkCells);
-                    System.out.println("Started cleanup blinking effect for " + blinkCells.size() + " cells");
-                }
-                
-                // 900ms 후에 블록 처리 수행 (줄 삭제와 동일한 타이밍)
-                java.util.Timer timer = new java.util.Timer();
-                timer.schedule(new java.util.TimerTask() {
-                    @Override
-                    public void run() {
-                        try {
-                            // BattleScene 또는 P2PBattleScene인지 확인하고 플레이어별 중지 메서드 호출
-                            if ("BattleScene".equals(gameSceneType) || "P2PBattleScene".equals(gameSceneType)) {
-                                int playerNumber = determinePlayerNumber(context);
-                                if (playerNumber == 1) {
-                                    gameScene.getClass()
-                                        .getMethod("stopCleanupBlinking1")
-                                        .invoke(gameScene);
-                                    System.out.println("Stopped Player 1 cleanup blinking effect");
-                                } else if (playerNumber == 2) {
-                                    gameScene.getClass()
-                                        .getMethod("stopCleanupBlinking2")
-                                        .invoke(gameScene);
-                                    System.out.println("Stopped Player 2 cleanup blinking effect");
-                                } else {
-                                    // 플레이어 구분 실패시 기본적으로 Player 1 사용
-                                    gameScene.getClass()
-                                        .getMethod("stopCleanupBlinking1")
-                                        .invoke(gameScene);
-                                    System.out.println("⚠️ Player determination failed, stopped Player 1 cleanup blinking");
-                                }
-                            } else {
-                                // GeneralScene 등 다른 씬에서는 기존 메서드 사용
-                                gameScene.getClass()
-                                    .getMethod("stopCleanupBlinking")
-                                    .invoke(gameScene);
-                                System.out.println("Stopped cleanup blinking effect");
-                            }
-                            
-                            // 점멸 완료 후 블록 삭제 및 중력 적용
-                            performBlockCleanup(context, centerX, centerY);
-                        } catch (Exception e) {
-                            System.out.println("Failed to stop cleanup blinking: " + e.getMessage());
-                            // 에러가 발생해도 블록 처리는 수행
-                            performBlockCleanup(context, centerX, centerY);
-                        }
-                    }
-                }, 900);
-            } else {
-                // 삭제할 블록이 없으면 즉시 완료
-                performBlockCleanup(context, centerX, centerY);
-            }
-        } catch (Exception e) {
-            System.out.println("Failed to add cleanup blinking effect: " + e.getMessage());
-            // 에러가 발생하면 즉시 블록 처리 수행
-            performBlockCleanup(context, centerX, centerY);
-        }
-    }
-    
-    /**
-     * ItemEffectContext에서 플레이어 번호를 가져옵니다.
-     * @param context ItemEffectContext
-     * @return 1 (Player 1) 또는 2 (Player 2)
-     */
-    private int determinePlayerNumber(ItemEffectContext context) {
-        int playerNumber = context.getPlayerNumber();
-        
-        // 추가 디버그 정보
-        Object boardManager = context.getBoardManager();
-        Object gameScene = context.getGameScene();
-        
-        System.out.println("🔍 DEBUG CleanupEffect player determination:");
-        System.out.println("   - ItemEffectContext playerNumber: " + playerNumber);
+        // 3x3 영역에서 실제로 블록이 있는 셀들만 개별적으로 점멸 (줄 전체가 아닌 해당 셀만)
+        int[][] board = context.getBoard();
+        java.util.Set<java.awt.Point> blinkCells = new java.util.HashSet<>();
         
-        if (boardManager != null) {
-            try {
-                int bmPlayerNumber = (Integer) boardManager.getClass().getMethod("getPlayerNumber").invoke(boardManager);
-                System.out.println("   - BoardManager playerNumber: " + bmPlayerNumber);
-            } catch (Exception e) {
-                System.out.println("   - Failed to get BoardManager playerNumber: " + e.getMessage());
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                int targetX = centerX + dx;
+                int targetY = centerY + dy;
+                
+                // 게임 보드 범위 내에 있고, 실제 블록이 있는 셀만 추가
+                if (isValidPosition(board, targetX, targetY) && board[targetY][targetX] != 0) {
+                    blinkCells.add(new java.awt.Point(targetX, targetY));
+                }
             }
         }
         
-        if (gameScene != null) {
-            System.out.println("   - GameScene type: " + gameScene.getClass().getSimpleName());
+        if (blinkCells.isEmpty()) {
+            // 삭제할 블록이 없으면 즉시 완료
+            performBlockCleanup(context, centerX, centerY);
+            return;
         }
         
-        System.out.println("✅ Player number from ItemEffectContext: " + playerNumber);
-        return playerNumber;
+        // 청소 점멸 시작 (개별 셀 점멸, 줄 삭제와 동일한 900ms 지속시간)
+        // 대전 모드에서는 플레이어 번호로 어느 쪽 보드인지 구분
+        int playerNumber = context.getPlayerNumber();
+        host.startCleanupBlinking(playerNumber, blinkCells);
+        System.out.println("Started cleanup blinking effect for " + blinkCells.size() + " cells (Player " + playerNumber + ")");
+        
+        // 게임 시간 900ms 후에 블록 처리 수행 (줄 삭제와 동일한 타이밍, EDT에서 실행)
+        host.schedule(CLEANUP_BLINK_MILLIS, () -> {
+            host.stopCleanupBlinking(playerNumber);
+            System.out.println("Stopped cleanup blinking effect (Player " + playerNumber + ")");
+            // 점멸 완료 후 블록 삭제 및 중력 적용
+            performBlockCleanup(context, centerX, centerY);
+        });
     }
     
     /**
@@ -239,20 +132,13 @@ public class CleanupEffect extends AbstractItemEffect {
         cleanupItemCells(context, centerX, centerY);
         
         // 정리된 블록 수에 비례한 점수 추가
-        if (context.getScoreManager() != null && cleanedBlocks > 0) {
-            try {
-                // 블록당 10점씩 추가
-                int bonusScore = cleanedBlocks * 10;
-                // addBlockFallScore를 여러 번 호출하거나 별도 메서드 사용
-                for (int i = 0; i < cleanedBlocks; i++) {
-                    context.getScoreManager().getClass()
-                        .getMethod("addBlockFallScore")
-                        .invoke(context.getScoreManager());
-                }
-                System.out.println("Added " + bonusScore + " points for cleanup effect");
-            } catch (Exception e) {
-                System.out.println("Failed to add score for cleanup: " + e.getMessage());
+        ScoreManager scoreManager = context.getTypedScoreManager();
+        if (scoreManager != null && cleanedBlocks > 0) {
+            // 블록당 addBlockFallScore 한 번씩 추가
+            for (int i = 0; i < cleanedBlocks; i++) {
+                scoreManager.addBlockFallScore();
             }
+            System.out.println("Added score for " + cleanedBlocks + " cleaned blocks");
         }
     }
     
@@ -261,26 +147,20 @@ public class CleanupEffect extends AbstractItemEffect {
      * 각 열별로 중력을 적용하여 빈 공간을 채웁니다.
      */
     private void applyGravityToColumns(ItemEffectContext context, int minX, int maxX, int minY, int maxY) {
-        try {
-            Object boardManager = context.getBoardManager();
-            if (boardManager != null) {
-                // BoardManager의 compactColumns 메서드 호출
-                boardManager.getClass()
-                    .getMethod("compactColumns", int.class, int.class, int.class, int.class)
-                    .invoke(boardManager, minX, maxX, minY, maxY);
-                System.out.println("Successfully applied gravity to columns");
-            } else {
-                System.out.println("BoardManager is null, cannot apply gravity");
-            }
-        } catch (Exception e) {
-            System.out.println("Failed to apply gravity to columns: " + e.getMessage());
-            // 직접 중력 적용 (fallback)
+        BoardManager boardManager = context.getTypedBoardManager();
+        if (boardManager != null) {
+            boardManager.compactColumns(minX, maxX, minY, maxY);
+            System.out.println("Successfully applied gravity to columns");
+        } else if (context.getBoardManager() != null) {
+            // BoardManager가 아닌 객체가 설정된 경우 보드 배열에 직접 중력 적용
             applyGravityDirectly(context, minX, maxX, maxY);
+        } else {
+            System.out.println("BoardManager is null, cannot apply gravity");
         }
     }
     
     /**
-     * BoardManager 메서드 호출이 실패할 경우 직접 중력을 적용합니다.
+     * BoardManager의 compactColumns를 쓸 수 없는 경우 보드 배열에 직접 중력을 적용합니다.
      */
     private void applyGravityDirectly(ItemEffectContext context, int minX, int maxX, int maxY) {
         int[][] board = context.getBoard();
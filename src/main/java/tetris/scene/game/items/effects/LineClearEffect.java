@@ -1,5 +1,6 @@
 package tetris.scene.game.items.effects;
 
+import tetris.scene.game.core.BoardManager;
 import tetris.scene.game.items.*;
 
 /**
@@ -19,21 +20,11 @@ public class LineClearEffect extends AbstractItemEffect {
         System.out.println("Line clear effect activated at row " + itemY);
         
         // ItemGameScene/BattleScene에 아이템으로 인한 줄 삭제임을 알림
-        Object gameScene = context.getGameScene();
-        if (gameScene != null) {
-            try {
-                // 플레이어 번호가 있으면 특정 플레이어를 마킹, 없으면 일반 마킹
-                int playerNumber = context.getPlayerNumber();
-                if (playerNumber > 0) {
-                    gameScene.getClass().getMethod("markItemLineClear", int.class).invoke(gameScene, playerNumber);
-                    System.out.println("LINE_CLEAR item: Marked as item-caused line clearing for Player " + playerNumber);
-                } else {
-                    gameScene.getClass().getMethod("markItemLineClear").invoke(gameScene);
-                    System.out.println("LINE_CLEAR item: Marked as item-caused line clearing (no player specified)");
-                }
-            } catch (Exception e) {
-                System.out.println("LINE_CLEAR item: Failed to mark item line clear: " + e.getMessage());
-            }
+        ItemEffectHost host = context.getHost();
+        if (host != null) {
+            int playerNumber = context.getPlayerNumber();
+            host.markItemLineClear(playerNumber);
+            System.out.println("LINE_CLEAR item: Marked as item-caused line clearing for Player " + playerNumber);
         }
         
         // 즉시 줄 삭제 수행 (블링킹은 기존 시스템이 처리)
@@ -69,6 +60,12 @@ public class LineClearEffect extends AbstractItemEffect {
                 }
             }
             System.out.println("LINE_CLEAR item: Filled empty cells in line " + itemY + " to make it complete");
+            
+            // board를 직접 수정했으므로 BoardManager의 비트마스크 동기화
+            BoardManager boardManager = context.getTypedBoardManager();
+            if (boardManager != null) {
+                boardManager.syncRowMask(itemY);
+            }
         }
     }
     
@@ -8,7 +8,7 @@ import tetris.scene.game.items.*;
  */
 public class SpeedDownEffect extends AbstractItemEffect {
     private static final long EFFECT_DURATION = 5000; // 5초
-    private Object gameScene;
+    private ItemEffectHost host;
     private double originalSpeed = 1.0;
     private int playerNumber = 0; // 배틀 모드에서 아이템을 발동한 플레이어 번호
     private int targetPlayerNumber = 0; // 배틀 모드에서 실제 효과를 받는 플레이어 번호
@@ -19,99 +19,56 @@ public class SpeedDownEffect extends AbstractItemEffect {
     
     @Override
     protected void doActivate(ItemEffectContext context) {
-        this.gameScene = context.getGameScene();
+        this.host = context.getHost();
         this.playerNumber = context.getPlayerNumber(); // 플레이어 번호 저장
         
-        System.out.println("🔍 [SpeedDownEffect] doActivate called - playerNumber: " + playerNumber + ", gameScene: " + (gameScene != null ? gameScene.getClass().getSimpleName() : "null"));
-        
-        if (gameScene == null) {
+        if (host == null) {
             System.out.println("Speed down effect: GameScene is null");
             return;
         }
         
-        try {
-            // BattleScene인지 확인하여 플레이어별로 처리
-            String gameSceneClass = gameScene.getClass().getSimpleName();
-            boolean isBattleMode = gameSceneClass.equals("BattleScene") || gameSceneClass.equals("P2PBattleScene");
+        if (host.isBattleMode() && playerNumber > 0) {
+            // 배틀 모드: 상대방에게 속도 감소 적용 (1P가 발동시 2P에게, 2P가 발동시 1P에게)
+            this.targetPlayerNumber = (playerNumber == 1) ? 2 : 1;
+            
+            // BattleScene의 applySpeedDownToOpponent 메서드 호출 (네트워크 동기화 포함)
+            host.applySpeedDownToOpponent(playerNumber);
+            
+            System.out.println("🐌 Speed down effect activated by Player " + playerNumber + " → affecting Player " + targetPlayerNumber + " for " + (EFFECT_DURATION / 1000) + " seconds");
+        } else {
+            // 일반 모드: 자신에게 속도 감소 적용 (기존 방식)
+            this.targetPlayerNumber = 0; // 일반 모드에서는 플레이어 구분 없음
             
-            System.out.println("🔍 [SpeedDownEffect] gameSceneClass: " + gameSceneClass + ", isBattleMode: " + isBattleMode);
+            // 속도 아이템 활성화 상태 설정
+            host.setSpeedItemActive(true);
             
-            if (isBattleMode && playerNumber > 0) {
-                // 배틀 모드: 상대방에게 속도 감소 적용 (1P가 발동시 2P에게, 2P가 발동시 1P에게)
-                this.targetPlayerNumber = (playerNumber == 1) ? 2 : 1;
-                
-                // BattleScene의 applySpeedDownToOpponent 메서드 호출 (네트워크 동기화 포함)
-                gameScene.getClass()
-                    .getMethod("applySpeedDownToOpponent", int.class)
-                    .invoke(gameScene, playerNumber);
-                
-                System.out.println("⚡ Speed down effect activated by Player " + playerNumber + " → affecting Player " + targetPlayerNumber + " in " + gameSceneClass + " for " + (EFFECT_DURATION / 1000) + " seconds");
-            } else {
-                // 일반 모드: 자신에게 속도 감소 적용 (기존 방식)
-                this.targetPlayerNumber = 0; // 일반 모드에서는 플레이어 구분 없음
-                
-                // 속도 아이템 활성화 상태 설정
-                gameScene.getClass()
-                    .getMethod("setSpeedItemActive", boolean.class)
-                    .invoke(gameScene, true);
-                
-                // 현재 속도 저장
-                Object fallSpeed = gameScene.getClass()
-                    .getMethod("getFallSpeed")
-                    .invoke(gameScene);
-                
-                if (fallSpeed instanceof Number) {
-                    originalSpeed = ((Number) fallSpeed).doubleValue();
-                }
-                
-                // 속도를 느리게 설정 (1500ms)
-                double newSpeed = 1500.0;
-                gameScene.getClass()
-                    .getMethod("setFallSpeed", double.class)
-                    .invoke(gameScene, newSpeed);
-                
-                System.out.println("Speed down effect activated in " + gameSceneClass + ": " + originalSpeed + "ms -> " + newSpeed + "ms delay (매우 느림) for " + (EFFECT_DURATION / 1000) + " seconds");
-            }
-                             
-        } catch (Exception e) {
-            System.out.println("Failed to apply speed down effect: " + e.getMessage());
-            e.printStackTrace();
-            // 효과 적용 실패 시 즉시 비활성화
-            isActive = false;
+            // 현재 속도 저장
+            originalSpeed = host.getFallSpeed();
+            
+            // 속도를 느리게 설정 (1500ms)
+            double newSpeed = 1500.0;
+            host.setFallSpeed(newSpeed);
+            
+            System.out.println("Speed down effect activated: " + originalSpeed + "ms -> " + newSpeed + "ms delay (매우 느림) for " + (EFFECT_DURATION / 1000) + " seconds");
         }
     }
     
     @Override
     protected void doDeactivate() {
-        if (gameScene == null) {
+        if (host == null) {
             return;
         }
         
-        try {
-            // BattleScene인지 확인하여 플레이어별로 처리
-            String gameSceneClass = gameScene.getClass().getSimpleName();
-            boolean isBattleMode = gameSceneClass.equals("BattleScene") || gameSceneClass.equals("P2PBattleScene");
-            
-            if (isBattleMode && targetPlayerNumber > 0) {
-                // 배틀 모드: BattleScene.applySpeedDownToOpponent 내부의 타이머가 자동 복원
-                // 여기서는 아무것도 하지 않음 (중복 복원 방지)
-                System.out.println("Speed down effect ended for Player " + targetPlayerNumber + " in " + gameSceneClass + " (timer auto-restore)");
-            } else {
-                // 일반 모드: 기존 방식 사용
-                gameScene.getClass()
-                    .getMethod("setSpeedItemActive", boolean.class)
-                    .invoke(gameScene, false);
-                
-                // 원래 속도로 복원
-                gameScene.getClass()
-                    .getMethod("setFallSpeed", double.class)
-                    .invoke(gameScene, originalSpeed);
-                
-                System.out.println("Speed down effect ended in " + gameSceneClass + ": restored to " + originalSpeed);
-            }
+        if (host.isBattleMode() && targetPlayerNumber > 0) {
+            // 배틀 모드: BattleScene.applySpeedDownToOpponent 내부의 타이머가 자동 복원
+            // 여기서는 아무것도 하지 않음 (중복 복원 방지)
+            System.out.println("Speed down effect ended for Player " + targetPlayerNumber + " (timer auto-restore)");
+        } else {
+            // 일반 모드: 속도 아이템 상태 해제 후 원래 속도로 복원
+            host.setSpeedItemActive(false);
+            host.setFallSpeed(originalSpeed);
             
-        } catch (Exception e) {
-            System.out.println("Failed to restore original speed: " + e.getMessage());
+            System.out.println("Speed down effect ended: restored to " + originalSpeed);
         }
     }
-}
\ No newline at end of file
+}
@@ -789,7 +789,7 @@ public class MainMenuScene extends Scene implements KeyListener {
         int screenHeight = resolution[1];
         
         int dialogWidth = Math.max(350, Math.min(450, screenWidth / 2));
-        int dialogHeight = Math.max(280, Math.min(380, screenHeight / 2));
+        int dialogHeight = Math.max(330, Math.min(440, screenHeight / 2)); // 버튼 5개
         
         // 다이얼로그 생성
         JDialog battleModeDialog = createBaseDialog(dialogWidth, dialogHeight);
@@ -800,7 +800,7 @@ public class MainMenuScene extends Scene implements KeyListener {
         titleLabel.setFont(new Font("Malgun Gothic", Font.BOLD, Math.max(18, screenWidth / 45)));
         
         // 설명 라벨
-        JLabel descLabel = new JLabel("<html><center>한 PC에서 2명이 대전합니다 (1P vs 2P)<br>게임 모드를 선택해주세요</center></html>", SwingConstants.CENTER);
+        JLabel descLabel = new JLabel("<html><center>한 PC에서 2명이 대전합니다 (1P vs 2P)<br>게임 모드를 선택하거나 CPU와 대전하세요</center></html>", SwingConstants.CENTER);
         descLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
         descLabel.setForeground(getTextColor());
         descLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 20, 0));
@@ -814,7 +814,7 @@ public class MainMenuScene extends Scene implements KeyListener {
         // 버튼 패널
         JPanel buttonPanel = new JPanel();
         buttonPanel.setOpaque(false);
-        buttonPanel.setLayout(new GridLayout(4, 1, 0, 12));
+        buttonPanel.setLayout(new GridLayout(5, 1, 0, 12));
         
         // 일반 모드 버튼
         JButton normalModeButton = createDialogButton("일반 모드");
@@ -846,16 +846,27 @@ public class MainMenuScene extends Scene implements KeyListener {
             });
         });
         
+        // CPU 대전 버튼 (2P를 CPU가 조작, CPU 실력은 설정의 난이도를 따름)
+        JButton cpuButton = createDialogButton("CPU 대전");
+        cpuButton.setToolTipText("혼자서 CPU와 일반 모드로 대전합니다");
+        cpuButton.addActionListener(e -> {
+            SwingUtilities.invokeLater(() -> {
+                startCpuBattleGame("normal");
+                battleModeDialog.dispose();
+            });
+        });
+        
         // 취소 버튼
         JButton cancelButton = createCancelButton(battleModeDialog);
         
         buttonPanel.add(normalModeButton);
         buttonPanel.add(itemModeButton);
         buttonPanel.add(timeLimitButton);
+        buttonPanel.add(cpuButton);
         buttonPanel.add(cancelButton);
         
         // 버튼 배열 (키보드 네비게이션용)
-        JButton[] buttons = {normalModeButton, itemModeButton, timeLimitButton, cancelButton};
+        JButton[] buttons = {normalModeButton, itemModeButton, timeLimitButton, cpuButton, cancelButton};
         
         // 컴포넌트 배치
         dialogPanel.add(topPanel, BorderLayout.NORTH);
@@ -915,6 +926,29 @@ public class MainMenuScene extends Scene implements KeyListener {
         }
     }
 
+    /**
+     * CPU와 대전하는 로컬 배틀 게임을 시작합니다.
+     */
+    private void startCpuBattleGame(String gameMode) {
+        tetris.scene.battle.CpuPlayer.Level level;
+        switch (gameSettings.getDifficulty()) {
+            case EASY: level = tetris.scene.battle.CpuPlayer.Level.EASY; break;
+            case HARD: level = tetris.scene.battle.CpuPlayer.Level.HARD; break;
+            default: level = tetris.scene.battle.CpuPlayer.Level.NORMAL; break;
+        }
+        
+        try {
+            tetris.Game.setScene(new tetris.scene.battle.CpuBattleScene(frame, gameMode, level));
+        } catch (Exception e) {
+            System.err.println("CPU 대전 화면 로딩 실패: " + e.getMessage());
+            e.printStackTrace();
+            JOptionPane.showMessageDialog(frame, 
+                "게임 화면을 로딩하는 중 오류가 발생했습니다.\n\n오류: " + e.getMessage(), 
+                "로딩 오류", 
+                JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     //==============
     // P2P 모드 관련 
     //==============
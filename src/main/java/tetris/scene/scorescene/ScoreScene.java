@@ -38,7 +38,8 @@ public class ScoreScene extends Scene {
     Sound bgm;
     Sound effect;
     
-    HighScore highScore;
+    HighScore highScore; // 백그라운드 읽기가 끝나기 전까지 null
+    long animStartNanos;
 
     EscapeHandler escHandler;
     KeyEventDispatcher tabDispatcher;
@@ -85,7 +86,6 @@ public class ScoreScene extends Scene {
 
         // DataPathManager를 통한 파일 경로 관리
         String tableFile = DataPathManager.getInstance().getHighScoreV2File().getAbsolutePath();
-        this.highScore = new HighScore(tableFile);
 
         this.bgm = new Sound(BGM_FILE);
         this.effect = new Sound(EFFECT_FILE);
@@ -180,6 +180,9 @@ public class ScoreScene extends Scene {
         KeyboardFocusManager.getCurrentKeyboardFocusManager()
                 .addKeyEventDispatcher(tabDispatcher);
 
+        // 기록 파일은 EDT 밖에서 읽고, 다 읽으면 표를 채움
+        HighScore.loadAsync(tableFile).thenAccept(
+            loaded -> SwingUtilities.invokeLater(() -> onHighScoreLoaded(loaded)));
 
 
     }
@@ -317,7 +320,7 @@ public class ScoreScene extends Scene {
                 this.cells[i][j].setText("");
             
         
-        List<List<String>> scores = highScore.get(mode);
+        List<List<String>> scores = scores();
         for(int i = 0; i < scores.size(); i++) {
             List<String> items = scores.get(i);
             for(int j = 0; j < items.size(); j++) {
@@ -451,8 +454,21 @@ public class ScoreScene extends Scene {
                     () -> target.popOut(BUTTON_ANIM_DURATION)
                 );
             }
+            this.animStartNanos = System.nanoTime();
         }
 
+        if(highScore == null) {
+            // 기록을 다 읽으면 onHighScoreLoaded에서 행과 푸터 애니메이션을 시작
+            for(Animation row : this.rowAnims) row.setVisible(false);
+            this.footerAnim.setVisible(false);
+            return;
+        }
+        float rowAnimStartAt = bReload ? 0f :
+            HEADER_ANIM_DURATION + BUTTON_TEXT.length * BUTTON_ANIM_DURATION;
+        setRowAnimRuns(rowAnimStartAt, !bReload);
+    }
+
+    void setRowAnimRuns(float rowAnimStartAt, boolean bWithFooter) {
         for(int i = 0; i < ROW_COUNT; i++) {
             if(rowRuns[i] != null){
                 rowRuns[i].release();
@@ -461,9 +477,7 @@ public class ScoreScene extends Scene {
         }
         if(highlightedRow != null) highlightedRow.stop();
 
-        float rowAnimStartAt = bReload ? 0f :
-            HEADER_ANIM_DURATION + BUTTON_TEXT.length * BUTTON_ANIM_DURATION;
-        int validRowCount = highScore.get(mode).size();
+        int validRowCount = scores().size();
         for(int i = 0; i < validRowCount + 1; i++) {
             final Animation target = this.rowAnims[i];
             target.setVisible(false);
@@ -484,7 +498,7 @@ public class ScoreScene extends Scene {
                 }
             );
         }
-        if(!bReload) {
+        if(bWithFooter) {
             float footerAnimStartAt = rowAnimStartAt + (validRowCount+1) * ROW_ANIM_DURATION;
             this.footerAnim.setVisible(false);
             this.footerRun = new RunLater(
@@ -506,6 +520,23 @@ public class ScoreScene extends Scene {
     }
 
 
+    List<List<String>> scores() {
+        if(highScore == null) return List.of();
+        return highScore.get(mode);
+    }
+
+    void onHighScoreLoaded(HighScore loaded) {
+        if(this.escHandler == null) return; // 이미 다른 화면으로 나감
+
+        this.highScore = loaded;
+        setText();
+
+        // 헤더와 버튼 애니메이션이 끝나는 시점에 맞춰 행을 보여줌 (이미 지났으면 바로)
+        float elapsed = (System.nanoTime() - this.animStartNanos) / 1_000_000_000f;
+        float rowAnimStartAt = HEADER_ANIM_DURATION + BUTTON_TEXT.length * BUTTON_ANIM_DURATION;
+        setRowAnimRuns(Math.max(0f, rowAnimStartAt - elapsed), true);
+    }
+
     void onButtonClick(String _mode) {
         this.mode = _mode;
         
@@ -3,13 +3,11 @@ package tetris.util;
 import java.awt.*;
 import javax.swing.*;
 
-import java.util.List;
-import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
-
-
+/**
+ * 투명도/크기/위치/색상 애니메이션을 지원하는 패널
+ * 모든 애니메이션은 공유 AnimationClock의 트윈으로 등록되어 한 번에 갱신됩니다.
+ */
 public class Animation extends JPanel {
-    final int delay = 16;
     
     public float alpha = 0.f;
 
@@ -30,58 +28,24 @@ public class Animation extends JPanel {
 
     public Animation() { 
         setOpaque(false);
-        counter.add(this);
     }
 
     public void release() {
-        if(animTimers != null) {
-            for(AnimTimer animTimer: animTimers) {
-                animTimer.timer.stop();
-                animTimer.timer = null;
-            }
-            animTimers.clear();
-            animTimers = null;
-        }
-        counter.remove(this);
+        stop();
     }
 
     static public void clear() {
-        System.out.println("미해제 Animation 객체 " + counter.size() + "개 해제");
-        if (counter.isEmpty()) return;
-        for(Animation anim : counter) {
-            anim.release();
-        }
-        counter.clear();
+        AnimationClock clock = AnimationClock.getInstance();
+        System.out.println("미해제 Animation 객체 " + clock.ownerCount() + "개 해제");
+        clock.cancelAll();
     }
-    static List<Animation> counter = new CopyOnWriteArrayList<>();
 
-    class AnimTimer {
-        Timer timer;
-        long startTime = -1L;
-        long getElapsedNanos() {
-            return System.nanoTime() - startTime;
-        }
-    }
-    List<AnimTimer> animTimers = new ArrayList<>();
-    AnimTimer addAnimTimer() {
-        AnimTimer animTimer = new AnimTimer();
-        animTimers.add(animTimer);
-        return animTimer;
-    }
-    void deleteAnimTimer(AnimTimer animTimer) {
-        animTimer.timer.stop();
-        animTimers.remove(animTimer);
+    public void stop() {
+        AnimationClock.getInstance().cancel(this);
     }
 
-    public void stop() {
-        if(animTimers != null) {
-            for(AnimTimer animTimer: animTimers) {
-                animTimer.timer.stop();
-                animTimer.timer = null;
-            }
-            animTimers.clear();
-            //animTimers = null;
-        }
+    private void addTween(AnimationClock.Tween tween) {
+        AnimationClock.getInstance().add(this, tween);
     }
 
     public void hueBackground(float duration, boolean bLoop) {
@@ -95,20 +59,13 @@ public class Animation extends JPanel {
 
         final long durationNanos = secToNanos(duration);
 
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
-        animTimer.timer = new Timer(delay, e -> {
-            long elapsed = animTimer.getElapsedNanos();
+        addTween(elapsed -> {
             float tp = getTimeProgress(elapsed, durationNanos);
 
             backgroundHSB[0] = tp % 1f;
 
-            if(!bLoop && tp >= 1f) {
-                ((Timer)e.getSource()).stop();
-            }
-            repaint();
+            return !bLoop && tp >= 1f;
         });
-        animTimer.timer.start();
     }
 
 
@@ -122,22 +79,13 @@ public class Animation extends JPanel {
         borderHSB[2] = .8f;
 
         final long durationNanos = secToNanos(duration);
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
-        animTimer.timer = new Timer(delay, e -> {
-
-            long elapsed = animTimer.getElapsedNanos();
+        addTween(elapsed -> {
             float tp = getTimeProgress(elapsed, durationNanos);
 
             borderHSB[0] = tp % 1f;
 
-            if(!bLoop && tp >= 1f) {
-                ((Timer)e.getSource()).stop();
-            }
-
-            repaint();
+            return !bLoop && tp >= 1f;
         });
-        animTimer.timer.start();
     }
 
     public void saturateBorder(float duration, boolean bLoop) {
@@ -147,26 +95,17 @@ public class Animation extends JPanel {
         scaleY = 1f;
     
         final long durationNanos = secToNanos(duration);
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
-        animTimer.timer = new Timer(delay, e -> {
-    
-            long elapsed = animTimer.getElapsedNanos();
+        addTween(elapsed -> {
             float tp = getTimeProgress(elapsed, durationNanos);
     
             if (bLoop) {
                 // 순환: 0 -> 1 -> 0 -> 1 반복
                 borderHSB[1] = 0.5f + 0.5f * (float)Math.sin(tp * Math.PI * 2);
-            } else {
-                borderHSB[1] = tp;
-                if (tp >= 1f) {
-                    ((Timer)e.getSource()).stop();
-                }
+                return false;
             }
-    
-            repaint();
+            borderHSB[1] = tp;
+            return tp >= 1f;
         });
-        animTimer.timer.start();
     }
     
 
@@ -178,15 +117,11 @@ public class Animation extends JPanel {
         alpha = 1f;
         scaleX = 1f;
         scaleY = 1f;
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
-        animTimer.timer = new Timer(delay, e -> {
-            long elapsed = animTimer.getElapsedNanos();
+        addTween(elapsed -> {
             long phase   = elapsed % durationNanos;
             bVisible = phase < visNanos;
-            repaint();
+            return false; // 계속 반복
         });
-        animTimer.timer.start();
     }
 
     public void popIn(float duration) {
@@ -198,12 +133,8 @@ public class Animation extends JPanel {
         final long durationNanos = secToNanos(duration);
         final float overshoot = 2.0f;
 
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
-        animTimer.timer = new Timer(delay, e -> {
-            long now = System.nanoTime();
-            if (animTimer.startTime < 0) animTimer.startTime = now;
-            float t = Math.min(1f, (now - animTimer.startTime) / (float) durationNanos);
+        addTween(elapsed -> {
+            float t = Math.min(1f, elapsed / (float) durationNanos);
 
             float ease = 1 - (float)Math.pow(1 - t, 5); // 감속 곡선 (easeOutCubic)
 
@@ -212,10 +143,8 @@ public class Animation extends JPanel {
             scaleY = 1.0f + overshoot * (1 - ease);
 
             alpha = (float) Math.pow(t, 0.6);
-            repaint();
-            if (t >= 1f) ((Timer) e.getSource()).stop();
+            return t >= 1f;
         });
-        animTimer.timer.start();
     }
 
 
@@ -232,13 +161,8 @@ public class Animation extends JPanel {
 
         final long durationNanos = secToNanos(duration);
 
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
-
-
-        animTimer.timer = new Timer(delay, e -> {
-            long now = System.nanoTime();
-            float t = Math.min(1f, (now - animTimer.startTime) / (float) durationNanos);
+        addTween(elapsed -> {
+            float t = Math.min(1f, elapsed / (float) durationNanos);
 
             float s = overshoot; // overshoot 강도
             float tp = t - 1f;
@@ -249,13 +173,8 @@ public class Animation extends JPanel {
             scaleX = startScaleX + (1f - startScaleX) * backOut;
             scaleY = startScaleY + (1f - startScaleY) * backOut;
 
-            repaint();
-
-            if (t >= 1f) {
-                ((Timer) e.getSource()).stop();
-            }
+            return t >= 1f;
         });
-        animTimer.timer.start();
     }
 
     public void move(float duration, int startX, int startY) {
@@ -266,28 +185,23 @@ public class Animation extends JPanel {
         scaleX  = 1f;
         scaleY  = 1f;
         final long  durationNanos = secToNanos(duration);
-        AnimTimer animTimer = addAnimTimer();
-        animTimer.startTime = System.nanoTime();
 
-        animTimer.timer = new Timer(delay, e -> {
+        addTween(elapsed -> {
             bVisible = true;
 
-            long elapsed = animTimer.getElapsedNanos();
             float t = getTimeProgress(elapsed, durationNanos);
 
             // 위치 보간
             offsetX = interpolate(startX, endX, overshoot, t % 1f);
             offsetY = interpolate(startY, endY, overshoot, t % 1f);
 
-            repaint();
-
             if(t >= 1f) {
-                ((Timer)e.getSource()).stop();
                 offsetX = endX;
                 offsetY = endY;
+                return true;
             }
+            return false;
         });
-        animTimer.timer.start();
     }
 
     /** 0..1로 클램프 */
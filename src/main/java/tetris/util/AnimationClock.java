@@ -0,0 +1,179 @@
+package tetris.util;
+
+import java.awt.Frame;
+import java.awt.KeyboardFocusManager;
+import java.util.Arrays;
+import javax.swing.Timer;
+
+/**
+ * 모든 Animation이 공유하는 애니메이션 시계
+ *
+ * Animation마다 Swing Timer를 만들던 방식 대신, 하나의 Timer가 등록된 트윈 전체를 한 번에 갱신합니다.
+ * 트윈은 배열에 연속으로 저장되며, 갱신 중 끝난 트윈은 같은 순회에서 앞으로 당겨 제거합니다.
+ * 진행 중인 트윈이 없으면 Timer를 멈추고, 창이 최소화되었거나 포커스를 잃으면 갱신 주기를 늘립니다.
+ */
+public class AnimationClock {
+
+    /**
+     * 시간에 따라 값을 바꾸는 애니메이션 하나
+     */
+    public interface Tween {
+        /**
+         * @param elapsedNanos 트윈 시작 후 지난 시간 (ns)
+         * @return 끝났으면 true (이후 제거됨)
+         */
+        boolean update(long elapsedNanos);
+    }
+
+    public static final int ACTIVE_DELAY_MS = 16;     // 포커스가 있을 때 (약 60fps)
+    public static final int UNFOCUSED_DELAY_MS = 100; // 다른 창을 보고 있을 때
+    public static final int MINIMIZED_DELAY_MS = 500; // 모든 창이 최소화되었을 때
+
+    private static final AnimationClock INSTANCE = new AnimationClock();
+
+    // 트윈 배열 (0 ~ size-1만 유효)
+    private Animation[] owners = new Animation[16];
+    private Tween[] tweens = new Tween[16];
+    private long[] startTimes = new long[16];
+    private int size = 0;
+
+    private final Timer timer;
+
+    public AnimationClock() {
+        timer = new Timer(ACTIVE_DELAY_MS, e -> tick(System.nanoTime()));
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * 공유 시계를 반환합니다.
+     */
+    public static AnimationClock getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 트윈을 등록합니다. 첫 갱신은 다음 틱에서 이루어집니다.
+     * @param owner 갱신 후 다시 그릴 컴포넌트
+     */
+    public void add(Animation owner, Tween tween) {
+        if (size == tweens.length) {
+            int capacity = size * 2;
+            owners = Arrays.copyOf(owners, capacity);
+            tweens = Arrays.copyOf(tweens, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+        }
+        owners[size] = owner;
+        tweens[size] = tween;
+        startTimes[size] = System.nanoTime();
+        size++;
+
+        if (!timer.isRunning()) {
+            timer.setDelay(ACTIVE_DELAY_MS);
+            timer.start();
+        }
+    }
+
+    /**
+     * owner의 트윈을 모두 제거합니다.
+     */
+    public void cancel(Animation owner) {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (owners[read] != owner) {
+                move(read, write++);
+            }
+        }
+        truncate(write);
+    }
+
+    /**
+     * 모든 트윈을 제거하고 시계를 멈춥니다.
+     */
+    public void cancelAll() {
+        truncate(0);
+    }
+
+    /**
+     * 진행 중인 트윈 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 진행 중인 트윈이 있는 Animation 수
+     */
+    public int ownerCount() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            boolean seen = false;
+            for (int j = 0; j < i && !seen; j++) {
+                seen = owners[j] == owners[i];
+            }
+            if (!seen) count++;
+        }
+        return count;
+    }
+
+    /**
+     * 모든 트윈을 한 번 갱신합니다 (EDT에서 호출, 테스트에서는 시각을 직접 넘겨 사용).
+     * @param nowNanos System.nanoTime 기준 현재 시각
+     */
+    public void tick(long nowNanos) {
+        int write = 0;
+        Animation lastRepainted = null;
+        for (int read = 0; read < size; read++) {
+            Animation owner = owners[read];
+            boolean finished = tweens[read].update(nowNanos - startTimes[read]);
+
+            // 같은 컴포넌트의 트윈이 이어지면 한 번만 다시 그림
+            if (owner != null && owner != lastRepainted) {
+                owner.repaint();
+                lastRepainted = owner;
+            }
+            if (!finished) {
+                move(read, write++);
+            }
+        }
+        truncate(write);
+
+        if (size > 0) {
+            int delay = currentDelay();
+            if (timer.getDelay() != delay) {
+                timer.setDelay(delay);
+            }
+        }
+    }
+
+    /**
+     * 창 상태에 따른 갱신 주기
+     */
+    private static int currentDelay() {
+        if (KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow() != null) {
+            return ACTIVE_DELAY_MS;
+        }
+        for (Frame frame : Frame.getFrames()) {
+            if (frame.isVisible() && (frame.getExtendedState() & Frame.ICONIFIED) == 0) {
+                return UNFOCUSED_DELAY_MS;
+            }
+        }
+        return MINIMIZED_DELAY_MS;
+    }
+
+    private void move(int from, int to) {
+        if (from == to) return;
+        owners[to] = owners[from];
+        tweens[to] = tweens[from];
+        startTimes[to] = startTimes[from];
+    }
+
+    // 뒤쪽 참조를 비워 GC가 회수할 수 있게 하고, 남은 트윈이 없으면 시계를 멈춤
+    private void truncate(int newSize) {
+        Arrays.fill(owners, newSize, size, null);
+        Arrays.fill(tweens, newSize, size, null);
+        size = newSize;
+        if (size == 0) {
+            timer.stop();
+        }
+    }
+}
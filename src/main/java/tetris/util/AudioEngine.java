@@ -0,0 +1,331 @@
+package tetris.util;
+
+import tetris.GameSettings;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사운드 믹서
+ *
+ * 각 MP3는 처음 요청될 때 한 번만 PCM으로 디코딩해 캐시하고, 재생 중인 모든 소리(보이스)를
+ * 하나의 오디오 스레드에서 합쳐 계속 열려 있는 SourceDataLine 하나로 출력합니다.
+ * 음량과 음소거는 GameSettings에서 버퍼마다 읽으므로 설정을 바꾸면 재생 중인 소리에도 바로 반영됩니다.
+ *
+ * 출력 장치를 열 수 없는 환경(헤드리스, 사운드 카드 없음)에서는 재생 요청을 무시합니다.
+ */
+public class AudioEngine {
+
+    public static final int SAMPLE_RATE = 44100;
+    private static final int CHUNK_FRAMES = 512;        // 한 번에 섞는 프레임 수 (약 11.6ms)
+    private static final int LINE_BUFFER_FRAMES = 2048; // 출력 장치 버퍼 (약 46ms)
+    private static final int BYTES_PER_FRAME = 4;      // 16bit × 2채널
+
+    private static AudioEngine instance;
+
+    /**
+     * 재생 중인 소리 하나
+     */
+    public static class Voice {
+        private final CompletableFuture<PcmClip> clip;
+        private final boolean loop;
+        private int position = 0; // 다음에 섞을 프레임 (오디오 스레드만 접근)
+        private volatile boolean stopped = false;
+
+        Voice(CompletableFuture<PcmClip> clip, boolean loop) {
+            this.clip = clip;
+            this.loop = loop;
+        }
+
+        /**
+         * 재생을 멈춥니다. 다음 버퍼부터 섞이지 않습니다.
+         */
+        public void stop() {
+            stopped = true;
+        }
+
+        public boolean isStopped() {
+            return stopped;
+        }
+    }
+
+    private final Map<String, CompletableFuture<PcmClip>> clipCache = new ConcurrentHashMap<>();
+    private final ExecutorService decoder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "audio-decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 새 보이스는 큐로 넘기고, 오디오 스레드가 자기 목록으로 옮겨 관리
+    private final ConcurrentLinkedQueue<Voice> pendingVoices = new ConcurrentLinkedQueue<>();
+    private final List<Voice> voices = new ArrayList<>();
+    private final Object wakeLock = new Object();
+    private int[] accumulator = new int[0]; // 믹싱용 버퍼 (오디오 스레드만 접근)
+
+    private final SourceDataLine line; // null이면 출력 불가
+    private volatile long underrunCount = 0;
+    private volatile long mixedChunks = 0;
+
+    /**
+     * 믹서를 생성합니다. line이 null이면 출력 없이 mix()를 직접 호출해 사용합니다 (테스트용).
+     */
+    public AudioEngine(SourceDataLine line) {
+        this.line = line;
+    }
+
+    /**
+     * 공유 오디오 엔진을 반환합니다. 처음 호출 시 출력 장치를 열고 오디오 스레드를 시작합니다.
+     */
+    public static synchronized AudioEngine getInstance() {
+        if (instance == null) {
+            instance = new AudioEngine(openLine());
+            instance.startMixer();
+        }
+        return instance;
+    }
+
+    private static SourceDataLine openLine() {
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(format);
+            line.open(format, LINE_BUFFER_FRAMES * BYTES_PER_FRAME);
+            line.start();
+            return line;
+        } catch (Exception | LinkageError e) {
+            System.err.println("오디오 출력 장치를 열 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void startMixer() {
+        if (line == null) return;
+        Thread thread = new Thread(this::runMixer, "audio-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    public boolean isAvailable() {
+        return line != null;
+    }
+
+    /**
+     * 클래스패스의 MP3를 미리 디코딩해 둡니다 (이미 캐시되어 있으면 무시).
+     */
+    public CompletableFuture<PcmClip> preload(String resource) {
+        return clipCache.computeIfAbsent(resource,
+            r -> CompletableFuture.supplyAsync(() -> loadClip(r), decoder));
+    }
+
+    private static PcmClip loadClip(String resource) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) loader = AudioEngine.class.getClassLoader();
+        try (InputStream in = loader.getResourceAsStream(resource)) {
+            if (in == null) {
+                System.err.println("리소스 로드 실패: " + resource);
+                return null;
+            }
+            long start = System.nanoTime();
+            PcmClip clip = PcmClip.decodeMp3(in);
+            System.out.println("사운드 디코딩: " + resource + " (" + clip.getDurationMillis() + "ms, "
+                + (System.nanoTime() - start) / 1_000_000 + "ms 소요)");
+            return clip;
+        } catch (Exception e) {
+            System.err.println("사운드 디코딩 실패: " + resource + " - " + e);
+            return null;
+        }
+    }
+
+    /**
+     * 사운드를 재생합니다. 디코딩이 끝나지 않았으면 끝나는 대로 재생을 시작합니다.
+     * @param resource 클래스패스의 MP3 경로
+     * @param loop 반복 재생 여부
+     */
+    public Voice play(String resource, boolean loop) {
+        if (line == null) {
+            Voice voice = new Voice(CompletableFuture.completedFuture(null), loop);
+            voice.stop();
+            return voice;
+        }
+        return play(preload(resource), loop);
+    }
+
+    /**
+     * 이미 준비된(또는 준비 중인) PCM 데이터를 재생합니다.
+     */
+    public Voice play(CompletableFuture<PcmClip> clip, boolean loop) {
+        Voice voice = new Voice(clip, loop);
+        pendingVoices.add(voice);
+        synchronized (wakeLock) {
+            wakeLock.notifyAll();
+        }
+        return voice;
+    }
+
+    /**
+     * 모든 소리를 멈춥니다.
+     */
+    public void stopAll() {
+        for (Voice voice : pendingVoices) voice.stop();
+        synchronized (voices) {
+            for (Voice voice : voices) voice.stop();
+        }
+    }
+
+    private void runMixer() {
+        short[] mixed = new short[CHUNK_FRAMES * 2];
+        byte[] bytes = new byte[CHUNK_FRAMES * BYTES_PER_FRAME];
+        boolean wasIdle = true;
+
+        while (true) {
+            if (!hasVoices()) {
+                // 재생할 소리가 없으면 새 보이스가 올 때까지 대기 (무음을 계속 쓰지 않음)
+                synchronized (wakeLock) {
+                    while (pendingVoices.isEmpty()) {
+                        try {
+                            wakeLock.wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+                wasIdle = true;
+            }
+
+            int active = mix(mixed, CHUNK_FRAMES, masterGain());
+            for (int i = 0; i < mixed.length; i++) {
+                bytes[i * 2] = (byte) mixed[i];
+                bytes[i * 2 + 1] = (byte) (mixed[i] >> 8);
+            }
+
+            // 쓰기 직전에 장치 버퍼가 비어 있으면 소리가 끊긴 것 (대기 직후는 제외)
+            if (!wasIdle && line.available() >= line.getBufferSize()) {
+                underrunCount++;
+            }
+            wasIdle = active == 0;
+            line.write(bytes, 0, bytes.length); // 장치 버퍼에 자리가 날 때까지 블록 → 재생 속도에 맞춰짐
+        }
+    }
+
+    private boolean hasVoices() {
+        synchronized (voices) {
+            return !voices.isEmpty() || !pendingVoices.isEmpty();
+        }
+    }
+
+    /**
+     * 재생 중인 보이스를 frames만큼 섞습니다 (오디오 스레드에서 호출).
+     * @param out 좌우 교차 저장할 출력 버퍼 (frames × 2 이상)
+     * @param gain 전체 음량 (0 ~ 1)
+     * @return 이번에 소리를 낸 보이스 수
+     */
+    public int mix(short[] out, int frames, float gain) {
+        Voice pending;
+        synchronized (voices) {
+            while ((pending = pendingVoices.poll()) != null) {
+                voices.add(pending);
+            }
+        }
+
+        int samples = frames * 2;
+        if (accumulator.length < samples) {
+            accumulator = new int[samples];
+        } else {
+            Arrays.fill(accumulator, 0, samples, 0);
+        }
+        int active = 0;
+
+        synchronized (voices) {
+            for (int v = voices.size() - 1; v >= 0; v--) {
+                Voice voice = voices.get(v);
+                if (voice.stopped) {
+                    voices.remove(v);
+                    continue;
+                }
+                if (!voice.clip.isDone()) continue; // 디코딩 중 → 다음 버퍼에서 다시 확인
+
+                PcmClip clip = voice.clip.getNow(null);
+                if (clip == null || clip.getFrames() == 0) {
+                    voice.stop();
+                    voices.remove(v);
+                    continue;
+                }
+
+                short[] data = clip.getSamples();
+                int written = 0;
+                while (written < frames) {
+                    int count = Math.min(frames - written, clip.getFrames() - voice.position);
+                    int src = voice.position * 2;
+                    int dst = written * 2;
+                    for (int i = 0; i < count * 2; i++) {
+                        accumulator[dst + i] += data[src + i];
+                    }
+                    written += count;
+                    voice.position += count;
+
+                    if (voice.position >= clip.getFrames()) {
+                        if (!voice.loop) {
+                            voice.stop();
+                            break;
+                        }
+                        voice.position = 0;
+                    }
+                }
+                active++;
+                if (voice.stopped) voices.remove(v);
+            }
+        }
+
+        int gainQ = Math.round(gain * 256);
+        for (int i = 0; i < samples; i++) {
+            int value = (accumulator[i] * gainQ) >> 8;
+            if (value > Short.MAX_VALUE) value = Short.MAX_VALUE;
+            else if (value < Short.MIN_VALUE) value = Short.MIN_VALUE;
+            out[i] = (short) value;
+        }
+        mixedChunks++;
+        return active;
+    }
+
+    // GameSettings의 음량(0~100)과 음소거
+    private static float masterGain() {
+        GameSettings settings = GameSettings.getInstance();
+        if (settings.isMuted()) return 0f;
+        return Math.max(0f, Math.min(1f, settings.getVolume() / 100f));
+    }
+
+    /**
+     * 출력 장치 버퍼가 비어 소리가 끊긴 횟수
+     */
+    public long getUnderrunCount() {
+        return underrunCount;
+    }
+
+    /**
+     * 섞은 소리가 스피커에 도달하기까지의 최대 지연 (장치 버퍼 + 믹싱 단위, 밀리초)
+     */
+    public double getLatencyMillis() {
+        int bufferFrames = (line != null) ? line.getBufferSize() / BYTES_PER_FRAME : LINE_BUFFER_FRAMES;
+        return (bufferFrames + CHUNK_FRAMES) * 1000.0 / SAMPLE_RATE;
+    }
+
+    /**
+     * 상태 요약 (로그용)
+     */
+    public String summary() {
+        if (line == null) return "오디오 출력 없음";
+        return String.format("오디오 지연 %.1fms · 언더런 %d회 · 캐시 %d개 · 믹싱 %d회",
+            getLatencyMillis(), underrunCount, clipCache.size(), mixedChunks);
+    }
+}
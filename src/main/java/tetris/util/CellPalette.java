@@ -0,0 +1,122 @@
+package tetris.util;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.Map;
+
+import tetris.ColorBlindHelper;
+import tetris.GameSettings;
+
+/**
+ * 보드 셀 색상 팔레트
+ *
+ * BoardManager는 셀 색상을 Color 참조 대신 byte 인덱스로 저장하고, 그릴 때만 이 팔레트로 Color를 얻습니다.
+ * 0은 빈칸, 1~7은 블록 타입 0~6(Z, L, O, S, I, J, T)의 색으로 색맹 모드마다 팔레트가 다르므로
+ * 모드를 바꾸면 보드를 고치지 않아도 새 색으로 그려집니다.
+ * 그 밖의 색(아이템, 방해 블록, 무게추 등)은 처음 쓰일 때 고정 색으로 등록되며 모든 팔레트에서 같습니다.
+ */
+public final class CellPalette {
+
+    public static final byte EMPTY = 0;
+    public static final int BLOCK_COUNT = 7;
+    public static final byte BLACK = 8;  // 공격 줄의 빈칸
+    public static final byte GRAY = 9;   // 방해 블록, 무게추
+    private static final int FIRST_CUSTOM = 10;
+    private static final int SIZE = 128; // byte 양수 범위
+
+    // 고정 색 (모든 팔레트 공통, 처음 쓰일 때 등록)
+    private static final Color[] FIXED = new Color[SIZE];
+    private static final Map<Integer, Byte> FIXED_INDEX = new HashMap<>();
+    private static int fixedCount = FIRST_CUSTOM;
+
+    private static final CellPalette[] BY_MODE = new CellPalette[3];
+
+    static {
+        FIXED[BLACK] = Color.BLACK;
+        FIXED[GRAY] = Color.GRAY;
+        FIXED_INDEX.put(Color.BLACK.getRGB(), BLACK);
+        FIXED_INDEX.put(Color.GRAY.getRGB(), GRAY);
+    }
+
+    private final Color[] blockColors = new Color[BLOCK_COUNT];
+
+    private CellPalette(int colorBlindMode) {
+        for (int type = 0; type < BLOCK_COUNT; type++) {
+            blockColors[type] = ColorBlindHelper.getBlockColor(type, colorBlindMode);
+        }
+    }
+
+    /**
+     * 색맹 모드별 팔레트를 반환합니다 (모드마다 한 번만 만듦).
+     */
+    public static synchronized CellPalette forMode(int colorBlindMode) {
+        int mode = (colorBlindMode >= 0 && colorBlindMode < BY_MODE.length) ? colorBlindMode : 0;
+        if (BY_MODE[mode] == null) {
+            BY_MODE[mode] = new CellPalette(mode);
+        }
+        return BY_MODE[mode];
+    }
+
+    /**
+     * 현재 설정된 색맹 모드의 팔레트를 반환합니다.
+     */
+    public static CellPalette current() {
+        return forMode(GameSettings.getInstance().getColorBlindMode());
+    }
+
+    /**
+     * 블록 타입(0~6)의 색 인덱스
+     */
+    public static byte blockIndex(int blockType) {
+        return (byte) (1 + blockType);
+    }
+
+    /**
+     * 인덱스의 색을 반환합니다.
+     * @return 빈칸이면 null
+     */
+    public Color color(byte index) {
+        if (index <= EMPTY) return null;
+        if (index <= BLOCK_COUNT) return blockColors[index - 1];
+        return FIXED[index];
+    }
+
+    /**
+     * 색의 인덱스를 반환합니다. 이 팔레트의 블록 색이면 블록 인덱스, 아니면 고정 색 인덱스입니다.
+     */
+    public byte indexOf(Color color) {
+        if (color == null) return EMPTY;
+        for (int type = 0; type < BLOCK_COUNT; type++) {
+            if (blockColors[type].equals(color)) return blockIndex(type);
+        }
+        return fixedIndex(color);
+    }
+
+    /**
+     * 블록 타입을 아는 셀의 색 인덱스를 반환합니다.
+     * 그 타입의 블록 색일 때만 블록 인덱스를 쓰므로, 우연히 블록 색과 같은 아이템 색은 고정 색으로 남습니다.
+     */
+    public byte indexOf(Color color, int blockType) {
+        if (color == null) return EMPTY;
+        if (blockType >= 0 && blockType < BLOCK_COUNT && blockColors[blockType].equals(color)) {
+            return blockIndex(blockType);
+        }
+        return fixedIndex(color);
+    }
+
+    /**
+     * 고정 색의 인덱스를 반환합니다. 처음 보는 색이면 등록합니다.
+     * 등록할 자리가 없으면 회색을 씁니다.
+     */
+    public static synchronized byte fixedIndex(Color color) {
+        if (color == null) return EMPTY;
+        Byte index = FIXED_INDEX.get(color.getRGB());
+        if (index != null) return index;
+        if (fixedCount >= SIZE) return GRAY;
+
+        byte added = (byte) fixedCount++;
+        FIXED[added] = color;
+        FIXED_INDEX.put(color.getRGB(), added);
+        return added;
+    }
+}
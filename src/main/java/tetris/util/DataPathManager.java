@@ -178,6 +178,13 @@ public class DataPathManager {
         return getDataFile("highscore_v2.txt");
     }
     
+    /**
+     * 리플레이 저장 디렉토리 (없으면 생성)
+     */
+    public Path getReplayDirectory() throws IOException {
+        return Files.createDirectories(dataDirectory.resolve("replays"));
+    }
+    
     /**
      * 데이터 디렉토리 전체 경로 반환
      */
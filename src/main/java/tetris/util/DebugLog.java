@@ -0,0 +1,20 @@
+package tetris.util;
+
+/**
+ * 블록 고정, 줄 삭제, 속도 변경처럼 매 블록마다 지나가는 경로의 디버그 출력 스위치
+ *
+ * 기본값은 꺼짐이며 {@code -Dtetris.debug=true}로 실행하면 켜집니다.
+ * 상수이므로 호출 측에서 {@code if (DebugLog.ENABLED)}로 감싸면 꺼져 있을 때 문자열도 만들지 않습니다.
+ */
+public final class DebugLog {
+
+    public static final boolean ENABLED = Boolean.getBoolean("tetris.debug");
+
+    private DebugLog() {}
+
+    public static void log(String message) {
+        if (ENABLED) {
+            System.out.println(message);
+        }
+    }
+}
@@ -1,75 +1,202 @@
 package tetris.util;
 
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 
 
+/**
+ * 모드별 최고 점수 기록
+ *
+ * 파일은 스냅샷(#모드, 이름,점수,줄,시간) 뒤에 추가 전용 저널 레코드가 이어지는 형식입니다.
+ *  - +모드,점수,줄,시간;체크섬        점수 추가
+ *  - =모드,순위,점수,줄,시간,이름;체크섬   해당 순위의 기록에 이름 지정
+ * save()는 마지막 저장 이후의 레코드만 파일 끝에 덧붙이고 디스크에 기록하므로 파일 전체를 다시 쓰지 않으며,
+ * 기록 도중 종료되어 잘린 레코드는 체크섬으로 걸러집니다.
+ * 저널이 길어지면 백그라운드 스레드가 스냅샷만 남도록 파일을 새로 써서 원자적으로 교체합니다.
+ *
+ * 모드별 순위는 항상 정렬된 상위 maxCount개만 메모리에 유지되며, 삽입 위치는 이진 탐색으로 찾습니다.
+ */
 public class HighScore extends HashMap<String, ArrayList<ScoreEntry>> {
+    static final int COMPACT_THRESHOLD = 32; // 저널 레코드가 이보다 많으면 압축
+
+    // 같은 파일에 대한 덧붙이기와 압축을 직렬화 (GameOver와 ScoreScene이 각자 HighScore를 만듦)
+    private static final Map<String, Object> FILE_LOCKS = new ConcurrentHashMap<>();
+    // 화면용 비동기 읽기와 저널 압축을 처리하는 백그라운드 스레드
+    private static final ExecutorService BACKGROUND = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "highscore-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public HighScore(String path) {
         super();
         this.orgin = path;
 
-        List<String> lines = new ArrayList<>();
+        int journalRecords;
+        synchronized (fileLock()) {
+            journalRecords = load(readLines(), this);
+        }
+        if (journalRecords > COMPACT_THRESHOLD) {
+            compactAsync();
+        }
+    }
+
+    /**
+     * 백그라운드 스레드에서 파일을 읽어 HighScore를 만듭니다.
+     * 화면을 만드는 EDT가 파일 읽기를 기다리지 않도록 ScoreScene에서 사용합니다.
+     */
+    public static CompletableFuture<HighScore> loadAsync(String path) {
+        return CompletableFuture.supplyAsync(() -> new HighScore(path), BACKGROUND);
+    }
+
+    private Object fileLock() {
+        return FILE_LOCKS.computeIfAbsent(Paths.get(orgin).toAbsolutePath().normalize().toString(), k -> new Object());
+    }
+
+    private List<String> readLines() {
         try{
-            lines = Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8);
+            return Files.readAllLines(Paths.get(orgin), StandardCharsets.UTF_8);
         } catch (IOException e) {
-            // 적절한 예외 처리 필요
-            lines = new ArrayList<>();
+            // 파일이 없으면 빈 기록으로 시작
+            return new ArrayList<>();
         } catch (SecurityException e) {
             // 적절한 예외 처리 필요
-            lines = new ArrayList<>();
+            return new ArrayList<>();
         }
+    }
 
+    /**
+     * 스냅샷과 저널을 읽어 target에 반영합니다.
+     * @return 적용한 저널 레코드 수
+     */
+    private static int load(List<String> lines, HighScore target) {
         final String matchInt = "\\s*\\d+\\s*";  // 정수 형식 매칭
         final String matchStr = "[^,]*"; // 문자열 형식 매칭
         final String matchEntry = "^" + matchStr + "," + matchInt + "," + matchInt + "," + matchInt + "$";
 
         String curKey = null;
+        int journalRecords = 0;
         for(String line : lines){
             String trimmed = line.strip();
             if(trimmed.isEmpty()) {
 
             } else if(trimmed.startsWith("//")) {
 
+            } else if(trimmed.startsWith("+") || trimmed.startsWith("=")) {
+                if(target.applyRecord(trimmed)) journalRecords++;
             } else if(trimmed.startsWith("#")){
                 curKey = line.substring(1).strip().toLowerCase();
-                super.put(curKey, new ArrayList<ScoreEntry>());
+                target.putIfAbsent(curKey, new ArrayList<ScoreEntry>());
             } else if(trimmed.matches(matchEntry)) {
-                if(!super.containsKey(curKey)) throw new IllegalArgumentException("Mode is not set: " + line);
-                super.get(curKey).add(new ScoreEntry(line));
+                if(!target.containsKey(curKey)) throw new IllegalArgumentException("Mode is not set: " + line);
+                target.insert(curKey, new ScoreEntry(line));
             } else {
 
             }
         }
+        return journalRecords;
     }
 
-    public int add(String mode, int score, int removedLines, int timeSeconds){
-        // 1) 키 값 mode에 해당하는 순위 리스트 반환 (없다면 생성한다)
-        ArrayList<ScoreEntry> list = this.computeIfAbsent(mode.toLowerCase(), k -> new ArrayList<ScoreEntry>());
+    /**
+     * 저널 레코드 한 줄을 적용합니다. 체크섬이 맞지 않으면(기록 중 잘린 줄) 무시합니다.
+     */
+    private boolean applyRecord(String record) {
+        int sep = record.lastIndexOf(';');
+        if(sep < 0 || !record.substring(sep + 1).equals(checksum(record.substring(0, sep)))) {
+            System.err.println("손상된 점수 기록 무시: " + record);
+            return false;
+        }
+        boolean add = record.charAt(0) == '+';
+        String[] parts = record.substring(1, sep).split(",", add ? 4 : 6);
+        try {
+            String mode = parts[0];
+            if(add) {
+                insert(mode, new ScoreEntry(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), Integer.parseInt(parts[3])));
+            } else {
+                int rank = Integer.parseInt(parts[1]);
+                ScoreEntry entry = new ScoreEntry(Integer.parseInt(parts[2]), Integer.parseInt(parts[3]), Integer.parseInt(parts[4]));
+                ArrayList<ScoreEntry> list = super.get(mode);
+                if(list == null) return true;
+                ScoreEntry target = null;
+                if(rank < list.size() && isUnnamed(list.get(rank)) && list.get(rank).compareTo(entry) == 0) {
+                    target = list.get(rank);
+                } else {
+                    // 다른 HighScore가 그 사이에 기록을 덧붙여 순위가 밀린 경우: 같은 기록 중 이름 없는 첫 번째
+                    for(ScoreEntry e : list) {
+                        if(isUnnamed(e) && e.compareTo(entry) == 0) {
+                            target = e;
+                            break;
+                        }
+                    }
+                }
+                if(target != null) target.userName = parts[5];
+            }
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("잘못된 점수 기록 무시: " + record);
+            return false;
+        }
+    }
 
-        // 2) 새 점수 엔트리 생성
-        ScoreEntry entry = new ScoreEntry(score, removedLines, timeSeconds);
+    // 스냅샷에서는 이름 없는 기록이 "null"로 저장됨 (압축 후에 이름이 지정된 경우)
+    private static boolean isUnnamed(ScoreEntry entry) {
+        return entry.userName == null || entry.userName.equals("null");
+    }
 
-        // 3) 새 점수가 삽입될 인덱스 계산
+    private static String checksum(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String record(char type, String body) {
+        String line = type + body;
+        return line + ";" + checksum(line);
+    }
+
+    // 정렬 순서를 유지하며 삽입하고 상위 maxCount개만 남김
+    private int insert(String mode, ScoreEntry entry) {
+        ArrayList<ScoreEntry> list = this.computeIfAbsent(mode, k -> new ArrayList<ScoreEntry>());
         int idx = Collections.binarySearch(list, entry);
-        final int insertPos = idx >= 0 ? idx : -idx - 1;
+        int insertPos = idx >= 0 ? idx : -idx - 1;
+        // 같은 기록이 이미 있으면 그 뒤에 삽입 (먼저 세운 기록이 앞 순위)
+        while(insertPos < list.size() && list.get(insertPos).compareTo(entry) == 0) insertPos++;
 
-        // 4) 새 점수 삽입
         list.add(insertPos, entry);
-
-        // 5) 최대 개수 초과 시 마지막 점수 제거
         if(list.size() > maxCount) list.remove(maxCount);
-
         return insertPos;
+    }
 
+    public int add(String mode, int score, int removedLines, int timeSeconds){
+        // 1) 새 점수 엔트리 생성 후 정렬 위치에 삽입 (없는 모드는 생성)
+        String key = mode.toLowerCase();
+        ScoreEntry entry = new ScoreEntry(score, removedLines, timeSeconds);
+        int insertPos = insert(key, entry);
+
+        // 2) 순위 안에 들었으면 다음 save()에서 저널에 덧붙임
+        if(insertPos < maxCount) {
+            pendingRecords.add(record('+', key + "," + score + "," + removedLines + "," + timeSeconds));
+        }
+        return insertPos;
     }
 
     public void updateUserName(String mode, int idx, String userName){
@@ -81,29 +208,100 @@ public class HighScore extends HashMap<String, ArrayList<ScoreEntry>> {
         if(idx >= list.size() || idx < 0) throw new IllegalArgumentException("Invalid index: " + idx);
 
         // 3) 이미 이름이 있는데 수정하는 상황은 허용하지 않음
-        String prevUserName = list.get(idx).userName;
+        ScoreEntry entry = list.get(idx);
+        String prevUserName = entry.userName;
         if(prevUserName != null) throw new IllegalArgumentException("User name exists. Cannot overwrite: " + idx);
 
-        list.get(idx).userName = userName;
+        entry.userName = userName;
+        pendingRecords.add(record('=', mode.toLowerCase() + "," + idx + "," + entry.score + "," + entry.removedLines + "," + entry.timeSeconds + "," + userName));
     }
 
+    /**
+     * 마지막 저장 이후의 변경만 파일 끝에 덧붙이고 디스크에 기록합니다.
+     */
     public void save() {
-        for(ArrayList<ScoreEntry> list : super.values()){
-            Collections.sort(list);
+        if(pendingRecords.isEmpty()) return;
+
+        StringBuilder output = new StringBuilder();
+        for(String record : pendingRecords) output.append(record).append('\n');
+
+        synchronized (fileLock()) {
+            Path file = Paths.get(orgin);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                // 이전 기록이 줄바꿈 없이 끝났으면 줄을 바꿔서 덧붙임
+                if(channel.size() > 0 && !endsWithNewline(file, channel.size())) output.insert(0, '\n');
+                ByteBuffer buffer = ByteBuffer.wrap(output.toString().getBytes(StandardCharsets.UTF_8));
+                while(buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+                journalRecords += pendingRecords.size();
+                pendingRecords.clear();
+            } catch (IOException e) {
+                System.err.println("점수 저장 실패: " + e.getMessage());
+                return;
+            }
+        }
+        if(journalRecords > COMPACT_THRESHOLD) {
+            journalRecords = 0;
+            compactAsync();
+        }
+    }
+
+    private static boolean endsWithNewline(Path file, long size) throws IOException {
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            reader.read(last, size - 1);
+            return last.get(0) == '\n';
+        }
+    }
+
+    /**
+     * 저널을 스냅샷에 합쳐 파일을 새로 씁니다 (백그라운드).
+     */
+    private void compactAsync() {
+        final String path = this.orgin;
+        BACKGROUND.execute(() -> compact(path));
+    }
+
+    /**
+     * 파일을 다시 읽어 스냅샷만 남도록 임시 파일에 쓰고 원자적으로 교체합니다.
+     * 디스크의 내용만 사용하므로 다른 HighScore가 아직 저장하지 않은 변경에는 영향을 주지 않습니다.
+     */
+    public static void compact(String path) {
+        HighScore reader = new HighScore(path, true);
+        synchronized (reader.fileLock()) {
+            int journalRecords = load(reader.readLines(), reader);
+            if(journalRecords == 0) return;
+            try {
+                reader.writeSnapshot();
+                System.out.println("점수 기록 압축 완료: 저널 " + journalRecords + "개 병합");
+            } catch (IOException e) {
+                System.err.println("점수 기록 압축 실패: " + e.getMessage());
+            }
         }
+    }
+
+    // 압축용: 파일을 읽지 않고 빈 상태로 생성
+    private HighScore(String path, boolean empty) {
+        super();
+        this.orgin = path;
+    }
+
+    // 현재 메모리 상태를 스냅샷 형식으로 임시 파일에 쓰고 원래 파일과 교체 (fileLock 안에서 호출)
+    private void writeSnapshot() throws IOException {
         List<String> output = new ArrayList<>();
         for(String mode : super.keySet()){
-            ArrayList<ScoreEntry> list = super.get(mode);
             output.add("#" + mode);
-            for(ScoreEntry entry : list){
-                String entryLine = entry.userName + "," + entry.score + "," + entry.removedLines + "," + entry.timeSeconds;
-                output.add(entryLine);
+            for(ScoreEntry entry : super.get(mode)){
+                output.add(entry.userName + "," + entry.score + "," + entry.removedLines + "," + entry.timeSeconds);
             }
         }
+        Path file = Paths.get(orgin).toAbsolutePath();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, output, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
         try {
-            Files.write(Paths.get(orgin), output, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
-        } catch (IOException e) {
-            // 적절한 예외 처리 필요
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
@@ -125,29 +323,31 @@ public class HighScore extends HashMap<String, ArrayList<ScoreEntry>> {
         return output;   
     }
 
+    /**
+     * 모든 기록을 지우고 빈 파일로 저장합니다.
+     */
     public void clear(){
-        for(ArrayList<ScoreEntry> list : super.values()){
-            for(ScoreEntry entry : list){
-                entry = null;
+        super.clear();
+        pendingRecords.clear();
+        journalRecords = 0;
+        synchronized (fileLock()) {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                // 적절한 예외 처리 필요
             }
-            list = null;
         }
-        super.clear();
-        this.save();
     }
 
     public void release() {
-        for(ArrayList<ScoreEntry> list : super.values()){
-            for(ScoreEntry entry : list){
-                entry = null;
-            }
-            list = null;
-        }
         super.clear();
+        pendingRecords.clear();
     }
 
     final int maxCount = 10;
     String orgin = null;
+    private final List<String> pendingRecords = new ArrayList<>(); // 아직 저장하지 않은 저널 레코드
+    private int journalRecords = 0; // 이 객체가 덧붙인 저널 레코드 수
 }
 
 
@@ -40,7 +40,7 @@ public class LineBlinkEffect {
         this.effectStartTime = System.currentTimeMillis();
         this.isActive = true;
         
-        System.out.println("Line blink effect started for lines: " + lineNumbers);
+        DebugLog.log("Line blink effect started for lines: " + lineNumbers);
     }
     
     /**
@@ -59,12 +59,12 @@ public class LineBlinkEffect {
         // 연출 완료 체크
         if (elapsed >= EFFECT_DURATION) {
             isActive = false;
-            System.out.println("=== LINE BLINK EFFECT COMPLETED ===");
+            DebugLog.log("=== LINE BLINK EFFECT COMPLETED ===");
             if (callback != null) {
-                System.out.println("Calling onBlinkComplete callback...");
+                DebugLog.log("Calling onBlinkComplete callback...");
                 callback.onBlinkComplete();
             }
-            System.out.println("Line blink effect completed");
+            DebugLog.log("Line blink effect completed");
         }
     }
     
@@ -91,7 +91,7 @@ public class LineBlinkEffect {
             shouldBlink = false;
         }
         
-        System.out.println("Elapsed: " + elapsed + "ms, Cycle: " + cycle + ", Blink: " + shouldBlink);
+        DebugLog.log("Elapsed: " + elapsed + "ms, Cycle: " + cycle + ", Blink: " + shouldBlink);
         
         return shouldBlink;
     }
@@ -102,9 +102,10 @@ public class LineBlinkEffect {
      * @param cellSize 셀 크기
      * @param gameWidth 게임 보드 너비
      * @param board 게임 보드 배열
-     * @param boardColors 게임 보드 색상 배열
+     * @param boardColors 게임 보드 색상 인덱스 배열
+     * @param palette 색상 인덱스를 Color로 바꿀 팔레트
      */
-    public void draw(Graphics2D g2d, int cellSize, int gameWidth, int[][] board, Color[][] boardColors) {
+    public void draw(Graphics2D g2d, int cellSize, int gameWidth, int[][] board, byte[][] boardColors, CellPalette palette) {
         if (!isActive) return;
         
         boolean blinkState = shouldBlink();
@@ -114,7 +115,7 @@ public class LineBlinkEffect {
             for (int lineNumber : blinkingLines) {
                 for (int col = 0; col < gameWidth; col++) {
                     if (board[lineNumber][col] == 1) {
-                        Color originalColor = boardColors[lineNumber][col];
+                        Color originalColor = palette.color(boardColors[lineNumber][col]);
                         if (originalColor != null) {
                             // 원래 색상을 30% 투명도로 희미하게 만들기
                             Color dimColor = new Color(
@@ -0,0 +1,120 @@
+package tetris.util;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.JavaLayerException;
+import javazoom.jl.decoder.SampleBuffer;
+
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 미리 디코딩된 PCM 사운드 데이터
+ * AudioEngine의 출력 형식(44.1kHz, 16bit, 스테레오, 좌우 교차 저장)으로 변환해 보관합니다.
+ */
+public class PcmClip {
+
+    private final short[] samples; // L, R, L, R, ...
+    private final int frames;
+
+    public PcmClip(short[] stereoSamples) {
+        this.samples = stereoSamples;
+        this.frames = stereoSamples.length / 2;
+    }
+
+    public short[] getSamples() {
+        return samples;
+    }
+
+    /**
+     * 프레임 수 (좌우 한 쌍이 한 프레임)
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * 재생 시간 (밀리초)
+     */
+    public long getDurationMillis() {
+        return frames * 1000L / AudioEngine.SAMPLE_RATE;
+    }
+
+    /**
+     * MP3 스트림 전체를 디코딩합니다 (JLayer 디코더 사용).
+     * @throws JavaLayerException 디코딩 실패 시
+     */
+    public static PcmClip decodeMp3(InputStream in) throws JavaLayerException {
+        Bitstream bitstream = new Bitstream(in);
+        Decoder decoder = new Decoder();
+
+        short[] buffer = new short[64 * 1024];
+        int length = 0;
+        int sampleRate = AudioEngine.SAMPLE_RATE;
+        int channels = 2;
+        try {
+            Header header;
+            while ((header = bitstream.readFrame()) != null) {
+                SampleBuffer output = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+                sampleRate = decoder.getOutputFrequency();
+                channels = decoder.getOutputChannels();
+
+                int count = output.getBufferLength();
+                if (length + count > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+                }
+                System.arraycopy(output.getBuffer(), 0, buffer, length, count);
+                length += count;
+                bitstream.closeFrame();
+            }
+        } finally {
+            bitstream.close();
+        }
+        return fromPcm(Arrays.copyOf(buffer, length), channels, sampleRate);
+    }
+
+    /**
+     * 임의의 채널 수/샘플링 주파수의 PCM을 출력 형식으로 변환합니다.
+     * @param pcm 채널 교차 저장된 16bit 샘플
+     * @param channels 채널 수 (1 또는 2)
+     * @param sampleRate 샘플링 주파수 (Hz)
+     */
+    public static PcmClip fromPcm(short[] pcm, int channels, int sampleRate) {
+        int sourceFrames = pcm.length / channels;
+        short[] stereo;
+        if (channels == 2) {
+            stereo = pcm.length % 2 == 0 ? pcm : Arrays.copyOf(pcm, sourceFrames * 2);
+        } else {
+            // 모노는 좌우에 같은 값을 넣음
+            stereo = new short[sourceFrames * 2];
+            for (int i = 0; i < sourceFrames; i++) {
+                stereo[i * 2] = pcm[i * channels];
+                stereo[i * 2 + 1] = pcm[i * channels];
+            }
+        }
+
+        if (sampleRate == AudioEngine.SAMPLE_RATE || sourceFrames < 2) {
+            return new PcmClip(stereo);
+        }
+        return new PcmClip(resample(stereo, sourceFrames, sampleRate));
+    }
+
+    // 선형 보간으로 출력 주파수에 맞춤 (디코딩 시 한 번만 수행)
+    private static short[] resample(short[] stereo, int sourceFrames, int sourceRate) {
+        int targetFrames = (int) ((long) sourceFrames * AudioEngine.SAMPLE_RATE / sourceRate);
+        short[] out = new short[targetFrames * 2];
+        double step = (double) sourceRate / AudioEngine.SAMPLE_RATE;
+        for (int i = 0; i < targetFrames; i++) {
+            double position = i * step;
+            int index = Math.min((int) position, sourceFrames - 2);
+            double fraction = position - index;
+            for (int ch = 0; ch < 2; ch++) {
+                int a = stereo[index * 2 + ch];
+                int b = stereo[(index + 1) * 2 + ch];
+                out[i * 2 + ch] = (short) Math.round(a + (b - a) * fraction);
+            }
+        }
+        return out;
+    }
+}
@@ -2,6 +2,7 @@ package tetris.util;
 
 import javax.swing.Timer;
 import tetris.GameSettings;
+import tetris.scene.game.items.ItemEffectHost;
 
 /**
  * 게임 속도 조정을 위한 유틸리티 클래스
@@ -16,11 +17,19 @@ public class SpeedUp {
         void onSpeedIncrease();
     }
     
+    /**
+     * 낙하 간격이 바뀔 때 호출되는 리스너 (Swing Timer 대신 게임 루프 타이머를 쓰는 경우)
+     */
+    public interface IntervalListener {
+        void onIntervalChanged(int interval);
+    }
+    
     // 상수들
     private static final int BLOCKS_THRESHOLD = 40;     // 속도 증가를 위한 블록 생성 임계값
     private static final int LINES_THRESHOLD = 10;      // 속도 증가를 위한 줄 삭제 임계값
     private static final int BASE_INTERVAL_DECREASE = 200;   // 기본 속도 증가 시 감소할 딜레이 시간 (ms)
     private static final int MIN_INTERVAL = 400;        // 최소 딜레이 시간 (최대 속도)
+    private static final int INITIAL_INTERVAL = 1000;   // 시작 딜레이 시간
     
     private final GameSettings.Difficulty difficulty; // 난이도
     private final int intervalDecrease; // 난이도에 따른 속도 증가량
@@ -32,11 +41,12 @@ public class SpeedUp {
     
     private Timer timer; // 게임 타이머 참조 (나중에 설정)
     private SpeedIncreaseCallback callback; // 속도 증가 콜백
-    private Object gameScene; // GameScene 참조 (속도 아이템 상태 확인용)
+    private IntervalListener intervalListener; // 낙하 간격 변경 리스너
+    private final ItemEffectHost effectHost; // 속도 아이템 상태 확인용 (생성 시 한 번만 타입 확인, 아니면 null)
     
     /**
      * SpeedUp 객체를 생성합니다.
-     * @param timer 게임 타이머
+     * @param timer 게임 타이머 (헤드리스 시뮬레이션에서는 null 가능)
      * @param callback 속도 증가 시 호출될 콜백
      * @param difficulty 난이도
      * @param gameScene GameScene 인스턴스 (속도 아이템 상태 확인용)
@@ -45,7 +55,7 @@ public class SpeedUp {
         this.timer = timer;
         this.callback = callback;
         this.difficulty = difficulty;
-        this.gameScene = gameScene;
+        this.effectHost = (gameScene instanceof ItemEffectHost) ? (ItemEffectHost) gameScene : null;
         
         // 난이도에 따른 속도 증가량 설정
         switch (difficulty) {
@@ -63,7 +73,7 @@ public class SpeedUp {
         
         this.blocksGenerated = 0;
         this.totalLinesCleared = 0;
-        this.currentInterval = 1000; // 실제 타이머 딜레이로 초기화
+        this.currentInterval = INITIAL_INTERVAL; // 실제 타이머 딜레이로 초기화
     }
     
     /**
@@ -73,6 +83,13 @@ public class SpeedUp {
         this.timer = timer;
     }
     
+    /**
+     * 낙하 간격 변경 리스너를 설정합니다.
+     */
+    public void setIntervalListener(IntervalListener intervalListener) {
+        this.intervalListener = intervalListener;
+    }
+    
     /**
      * 콜백을 설정합니다.
      */
@@ -86,7 +103,22 @@ public class SpeedUp {
     public void reset() {
         blocksGenerated = 0;
         totalLinesCleared = 0;
-        currentInterval = timer.getDelay();
+        currentInterval = (timer != null) ? timer.getDelay() : INITIAL_INTERVAL;
+    }
+    
+    /**
+     * 저장해 둔 카운터와 간격으로 되돌립니다 (리플레이 키프레임 복원용).
+     */
+    public void restore(int blocksGenerated, int totalLinesCleared, int currentInterval) {
+        this.blocksGenerated = blocksGenerated;
+        this.totalLinesCleared = totalLinesCleared;
+        this.currentInterval = currentInterval;
+        if (timer != null) {
+            timer.setDelay(currentInterval);
+        }
+        if (intervalListener != null) {
+            intervalListener.onIntervalChanged(currentInterval);
+        }
     }
     
     /**
@@ -118,7 +150,7 @@ public class SpeedUp {
     private void checkSpeedIncrease() {
         // 속도 아이템이 활성화된 경우 자동 속도 증가 방지
         if (isSpeedItemActive()) {
-            System.out.println("Speed item is active, skipping automatic speed increase");
+            DebugLog.log("Speed item is active, skipping automatic speed increase");
             return;
         }
         
@@ -126,11 +158,16 @@ public class SpeedUp {
             // 현재 딜레이를 감소시켜 속도 증가
             currentInterval = Math.max(MIN_INTERVAL, currentInterval - intervalDecrease);
             
-            // 타이머의 딜레이 업데이트
-            timer.setDelay(currentInterval);
+            // 타이머의 딜레이 업데이트 (타이머 없이 간격만 사용하는 경우 생략)
+            if (timer != null) {
+                timer.setDelay(currentInterval);
+            }
+            if (intervalListener != null) {
+                intervalListener.onIntervalChanged(currentInterval);
+            }
             
-            System.out.println("Speed increased! New interval: " + currentInterval + "ms");
-            System.out.println("Blocks generated: " + blocksGenerated + ", Lines cleared: " + totalLinesCleared);
+            DebugLog.log("Speed increased! New interval: " + currentInterval + "ms");
+            DebugLog.log("Blocks generated: " + blocksGenerated + ", Lines cleared: " + totalLinesCleared);
             
             // 속도 증가 콜백 호출
             if (callback != null) {
@@ -147,15 +184,7 @@ public class SpeedUp {
      * 속도 아이템이 활성화되어 있는지 확인합니다.
      */
     private boolean isSpeedItemActive() {
-        if (gameScene != null) {
-            try {
-                return (Boolean) gameScene.getClass().getMethod("isSpeedItemActive").invoke(gameScene);
-            } catch (Exception e) {
-                System.out.println("Failed to check speed item status: " + e.getMessage());
-                return false;
-            }
-        }
-        return false;
+        return effectHost != null && effectHost.isSpeedItemActive();
     }
     
     /**
@@ -3,14 +3,22 @@ package tetris.util;
 import java.awt.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import tetris.ColorBlindHelper;
 import tetris.GameSettings;
 
 import javax.swing.JFrame;
 
+/**
+ * 화면 색상과 폰트 테마
+ *
+ * 색상과 폰트는 색맹 모드·화면 크기마다 한 번만 만든 불변 스냅샷에서 꺼내므로
+ * paint 경로에서 호출해도 Color/Font를 새로 만들지 않습니다.
+ */
 public final class Theme {
-    private static JFrame currentFrame = null;
+    private static volatile JFrame currentFrame = null;
+    private static volatile Snapshot snapshot;
     
     public static void setCurrentFrame(JFrame frame) {
         currentFrame = frame;
@@ -21,64 +29,33 @@ public final class Theme {
     private Theme(){}
 
     public static Color BG() {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        if(colorBlindMode == 0) return new Color(0x00,0x00,0x00);
-        return ColorBlindHelper.getBackgroundColor(colorBlindMode);
+        return current().bg;
     }
 
     public static Color Border() {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        return ColorBlindHelper.getBorderColor(colorBlindMode);
+        return current().border;
     }
 
     // 메뉴용 색상 메서드들 (색맹 모드에 따라 변경)
     public static Color MenuBG() {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        if(colorBlindMode == 0) return new Color(20, 20, 40);  // 일반 모드 - 원래 색상
-        return ColorBlindHelper.getBackgroundColor(colorBlindMode);
+        return current().menuBG;
     }
     
     public static Color MenuTitle() {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        if(colorBlindMode == 0) return new Color(255, 255, 100);  // 일반 모드 - 원래 색상
-        return Block(ColorType.YELLOW);
+        return current().menuTitle;
     }
     
     public static Color MenuButton() {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        if(colorBlindMode == 0) return new Color(70, 70, 120);  // 일반 모드 - 원래 색상
-        return Border();
+        return current().menuButton;
     }
 
     public static Color MenuButton(boolean hover) {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        if(hover) {
-            switch (colorBlindMode) {
-                case 0:
-                    return new Color(120, 120, 200);
-                case 1:
-                    return new Color(150, 100, 255);
-                default:
-                    return new Color(255, 150, 80);
-            }
-        } 
-        else {
-            if(colorBlindMode == 0) 
-                return new Color(70, 70, 120);  
-            else return Border();
-        }
+        Snapshot theme = current();
+        return hover ? theme.menuButtonHover : theme.menuButton;
     }
     
     public static Color MenuPanel() {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        if(colorBlindMode == 0) return new Color(40, 40, 70);  // 일반 모드 - 원래 색상
-        // 색약 모드에서는 배경색보다 조금 밝은 색상 사용
-        Color bg = ColorBlindHelper.getBackgroundColor(colorBlindMode);
-        return new Color(
-            Math.min(255, bg.getRed() + 30),
-            Math.min(255, bg.getGreen() + 30),
-            Math.min(255, bg.getBlue() + 30)
-        );
+        return current().menuPanel;
     }
 
     public static Color getCustomeBlock(int i) {
@@ -93,7 +70,6 @@ public final class Theme {
     }
 
     public static Color Block(char blockType) {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
         int blockId;
         if(blockType == 'Z') blockId = 0;
         else if(blockType == 'L') blockId = 1;
@@ -104,27 +80,14 @@ public final class Theme {
         else if(blockType == 'T') blockId = 6;
         else blockId = 0;
 
-        return ColorBlindHelper.getBlockColor(blockId, colorBlindMode);
+        return current().blocks[blockId];
     }
 
     public static Color Block(ColorType blockType) {
-        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
-        int blockId;
-        switch(blockType) {
-            case RED:       blockId = 0; break;
-            case ORANGE:    blockId = 1; break;
-            case YELLOW:    blockId = 2; break;
-            case GREEN:     blockId = 3; break;
-            case CYAN:      blockId = 4; break;
-            case BLUE:      blockId = 5; break;
-            case PURPLE:    blockId = 6; break;
-            default:        blockId = 0; break;
-        }
-        if(colorBlindMode == 0) return getCustomeBlock(blockId);
-        return ColorBlindHelper.getBlockColor(blockId, colorBlindMode);
+        // ColorType 순서(RED~PURPLE)가 블록 번호 0~6과 같음
+        return current().customBlocks[blockType.ordinal()];
     }
 
-
     public static final Color LIGHT_GRAY  = Color.LIGHT_GRAY;
     public static final Color DARK_GRAY   = Color.DARK_GRAY;
     public static final Color WHITE   = Color.WHITE;
@@ -137,37 +100,48 @@ public final class Theme {
     public static final Font GIANTS_REGULAR = loadFont("Giants-Regular.ttf");
 
     public static Font GIANTS_INLINE(float sizeRatio) {
-        float sizeRatioF = (float)sizeRatio / 100.0f;
-        int[] screenSize = getActualScreenSize();
-        return GIANTS_INLINE.deriveFont(sizeRatioF * screenSize[0]);
+        return current().inline.derive(sizeRatio);
     }
 
     public static Font GIANTS_BOLD(float sizeRatio) {
-        float sizeRatioF = (float)sizeRatio / 100.0f;
-        int[] screenSize = getActualScreenSize();
-        return GIANTS_BOLD.deriveFont(sizeRatioF * screenSize[0]);
+        return current().bold.derive(sizeRatio);
     }
 
     public static Font GIANTS_REGULAR(float sizeRatio) {
-        float sizeRatioF = (float)sizeRatio / 100.0f;
-        int[] screenSize = getActualScreenSize();
-        return GIANTS_REGULAR.deriveFont(sizeRatioF * screenSize[0]);
+        return current().regular.derive(sizeRatio);
     }
 
     public static int getPixelWidth(float sizeRatio) {
-        int[] screenSize = getActualScreenSize();
-        return (int)(sizeRatio * screenSize[0]);
+        return (int)(sizeRatio * current().screenWidth);
     }
     
     public static int getPixelHeight(float sizeRatio) {
-        int[] screenSize = getActualScreenSize();
-        return (int)(sizeRatio * screenSize[1]);
+        return (int)(sizeRatio * current().screenHeight);
+    }
+
+    /**
+     * 현재 색맹 모드와 화면 크기에 맞는 테마 스냅샷을 반환합니다.
+     * 모드나 창 크기가 바뀌었으면 새 스냅샷을 만들어 한 번에 교체합니다.
+     */
+    public static Snapshot current() {
+        Snapshot theme = snapshot;
+        int colorBlindMode = GameSettings.getInstance().getColorBlindMode();
+        JFrame frame = currentFrame;
+        if (theme != null && theme.colorBlindMode == colorBlindMode && theme.frame == frame
+                && (frame != null
+                    ? theme.screenWidth == frame.getWidth() && theme.screenHeight == frame.getHeight()
+                    : theme.resolution == GameSettings.getInstance().getResolution())) {
+            return theme;
+        }
+        theme = new Snapshot(colorBlindMode, frame);
+        snapshot = theme;
+        return theme;
     }
     
     // 실제 창 크기 또는 설정된 해상도를 반환하는 메서드
-    private static int[] getActualScreenSize() {
-        if (currentFrame != null) {
-            Dimension size = currentFrame.getSize();
+    private static int[] getActualScreenSize(JFrame frame) {
+        if (frame != null) {
+            Dimension size = frame.getSize();
             return new int[]{size.width, size.height};
         }
         // 폴백: GameSettings의 해상도 사용
@@ -185,4 +159,125 @@ public final class Theme {
         }
     }
 
+    /**
+     * 색맹 모드와 화면 크기에 대해 미리 계산한 테마 값
+     * 만든 뒤에는 바뀌지 않으며, 폰트는 크기 비율별로 처음 요청될 때 만들어 캐시합니다.
+     */
+    public static final class Snapshot {
+        private final int colorBlindMode;
+        private final JFrame frame;
+        private final int resolution;
+        private final int screenWidth;
+        private final int screenHeight;
+
+        private final Color bg;
+        private final Color border;
+        private final Color menuBG;
+        private final Color menuTitle;
+        private final Color menuButton;
+        private final Color menuButtonHover;
+        private final Color menuPanel;
+        private final Color[] blocks = new Color[7];
+        private final Color[] customBlocks = new Color[7];
+
+        private final FontCache inline;
+        private final FontCache bold;
+        private final FontCache regular;
+
+        private Snapshot(int colorBlindMode, JFrame frame) {
+            this.colorBlindMode = colorBlindMode;
+            this.frame = frame;
+            this.resolution = GameSettings.getInstance().getResolution();
+            int[] screenSize = getActualScreenSize(frame);
+            this.screenWidth = screenSize[0];
+            this.screenHeight = screenSize[1];
+
+            for (int i = 0; i < blocks.length; i++) {
+                blocks[i] = ColorBlindHelper.getBlockColor(i, colorBlindMode);
+                customBlocks[i] = colorBlindMode == 0 ? getCustomeBlock(i) : blocks[i];
+            }
+
+            border = ColorBlindHelper.getBorderColor(colorBlindMode);
+            if (colorBlindMode == 0) {
+                bg = new Color(0x00, 0x00, 0x00);
+                menuBG = new Color(20, 20, 40);        // 일반 모드 - 원래 색상
+                menuTitle = new Color(255, 255, 100);  // 일반 모드 - 원래 색상
+                menuButton = new Color(70, 70, 120);   // 일반 모드 - 원래 색상
+                menuButtonHover = new Color(120, 120, 200);
+                menuPanel = new Color(40, 40, 70);     // 일반 모드 - 원래 색상
+            } else {
+                bg = ColorBlindHelper.getBackgroundColor(colorBlindMode);
+                menuBG = bg;
+                menuTitle = customBlocks[ColorType.YELLOW.ordinal()];
+                menuButton = border;
+                menuButtonHover = colorBlindMode == 1 ? new Color(150, 100, 255) : new Color(255, 150, 80);
+                // 색약 모드에서는 배경색보다 조금 밝은 색상 사용
+                menuPanel = new Color(
+                    Math.min(255, bg.getRed() + 30),
+                    Math.min(255, bg.getGreen() + 30),
+                    Math.min(255, bg.getBlue() + 30)
+                );
+            }
+
+            inline = new FontCache(GIANTS_INLINE, screenWidth);
+            bold = new FontCache(GIANTS_BOLD, screenWidth);
+            regular = new FontCache(GIANTS_REGULAR, screenWidth);
+        }
+
+        public int getColorBlindMode() {
+            return colorBlindMode;
+        }
+
+        public int getScreenWidth() {
+            return screenWidth;
+        }
+
+        public int getScreenHeight() {
+            return screenHeight;
+        }
+    }
+
+    /**
+     * 화면 너비 대비 크기 비율(%)별로 파생 폰트를 캐시합니다.
+     * 쓰이는 비율이 몇 개뿐이므로 배열을 순서대로 찾고, 없을 때만 복사해 추가합니다.
+     */
+    private static final class FontCache {
+        private final Font base;
+        private final int screenWidth;
+        private volatile Entry[] entries = new Entry[0];
+
+        FontCache(Font base, int screenWidth) {
+            this.base = base;
+            this.screenWidth = screenWidth;
+        }
+
+        Font derive(float sizeRatio) {
+            for (Entry entry : entries) {
+                if (entry.sizeRatio == sizeRatio) return entry.font;
+            }
+            return add(sizeRatio);
+        }
+
+        private synchronized Font add(float sizeRatio) {
+            for (Entry entry : entries) {
+                if (entry.sizeRatio == sizeRatio) return entry.font;
+            }
+            Font font = base.deriveFont(sizeRatio / 100.0f * screenWidth);
+            Entry[] grown = Arrays.copyOf(entries, entries.length + 1);
+            grown[entries.length] = new Entry(sizeRatio, font);
+            entries = grown;
+            return font;
+        }
+
+        private static final class Entry {
+            final float sizeRatio;
+            final Font font;
+
+            Entry(float sizeRatio, Font font) {
+                this.sizeRatio = sizeRatio;
+                this.font = font;
+            }
+        }
+    }
+
 }
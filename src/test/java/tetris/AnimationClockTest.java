@@ -0,0 +1,72 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import tetris.util.Animation;
+import tetris.util.AnimationClock;
+
+/**
+ * 공유 애니메이션 시계 테스트
+ */
+@DisplayName("애니메이션 시계 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AnimationClockTest {
+
+    private AnimationClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AnimationClock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.cancelAll();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 한 번의 틱에서 모든 트윈 갱신, 끝난 트윈은 제거")
+    void testTickUpdatesAndCulls() {
+        List<String> updated = new ArrayList<>();
+        long[] endAt = { Long.MAX_VALUE, 0L, Long.MAX_VALUE }; // 두 번째 트윈은 첫 틱에 끝남
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            clock.add(null, elapsed -> {
+                updated.add("t" + index);
+                return elapsed >= endAt[index];
+            });
+        }
+        assertEquals(3, clock.size());
+
+        clock.tick(System.nanoTime());
+        assertEquals(List.of("t0", "t1", "t2"), updated, "등록 순서대로 한 번씩 갱신되어야 합니다.");
+        assertEquals(2, clock.size(), "끝난 트윈은 제거되어야 합니다.");
+
+        updated.clear();
+        clock.tick(System.nanoTime());
+        assertEquals(List.of("t0", "t2"), updated, "남은 트윈의 순서는 유지되어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 컴포넌트별 취소와 배열 확장")
+    void testCancelAndGrow() {
+        Animation first = new Animation();
+        Animation second = new Animation();
+        for (int i = 0; i < 20; i++) {
+            clock.add(i % 2 == 0 ? first : second, elapsed -> false);
+        }
+        assertEquals(20, clock.size(), "초기 용량보다 많이 등록할 수 있어야 합니다.");
+        assertEquals(2, clock.ownerCount());
+
+        clock.cancel(first);
+        assertEquals(10, clock.size(), "해당 컴포넌트의 트윈만 제거되어야 합니다.");
+        assertEquals(1, clock.ownerCount());
+
+        clock.cancelAll();
+        assertEquals(0, clock.size());
+    }
+}
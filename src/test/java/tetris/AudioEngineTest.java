@@ -0,0 +1,74 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.CompletableFuture;
+import tetris.util.AudioEngine;
+import tetris.util.PcmClip;
+
+/**
+ * 오디오 믹서와 PCM 변환 테스트 (출력 장치 없이 mix()만 사용)
+ */
+@DisplayName("오디오 믹서 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AudioEngineTest {
+
+    private static CompletableFuture<PcmClip> clipOf(short... stereo) {
+        return CompletableFuture.completedFuture(new PcmClip(stereo));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 여러 보이스 합산, 음량 적용, 범위 제한")
+    void testMixVoices() {
+        AudioEngine engine = new AudioEngine(null);
+        engine.play(clipOf((short) 1000, (short) -1000, (short) 30000, (short) -30000), false);
+        engine.play(clipOf((short) 500, (short) 500, (short) 10000, (short) -10000), false);
+
+        short[] out = new short[4];
+        assertEquals(2, engine.mix(out, 2, 1f), "두 보이스가 모두 섞여야 합니다.");
+        assertArrayEquals(new short[] { 1500, -500, Short.MAX_VALUE, Short.MIN_VALUE }, out, "합산 후 16bit 범위로 잘려야 합니다.");
+
+        assertEquals(0, engine.mix(out, 2, 1f), "한 번 재생한 보이스는 제거되어야 합니다.");
+        assertArrayEquals(new short[] { 0, 0, 0, 0 }, out, "재생할 소리가 없으면 무음이어야 합니다.");
+
+        engine.play(clipOf((short) 1000, (short) 1000), false);
+        engine.mix(out, 1, 0.5f);
+        assertEquals(500, out[0], "음량이 적용되어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 반복 재생, 정지, 디코딩 대기")
+    void testLoopStopAndPending() {
+        AudioEngine engine = new AudioEngine(null);
+        AudioEngine.Voice loop = engine.play(clipOf((short) 1, (short) 1, (short) 2, (short) 2), true);
+        CompletableFuture<PcmClip> decoding = new CompletableFuture<>();
+        AudioEngine.Voice pending = engine.play(decoding, false);
+
+        short[] out = new short[6];
+        assertEquals(1, engine.mix(out, 3, 1f), "디코딩 중인 보이스는 건너뛰어야 합니다.");
+        assertArrayEquals(new short[] { 1, 1, 2, 2, 1, 1 }, out, "반복 재생은 처음으로 돌아가야 합니다.");
+
+        decoding.complete(new PcmClip(new short[] { 10, 10 }));
+        engine.mix(out, 1, 1f);
+        assertEquals(12, out[0], "디코딩이 끝나면 이어서 섞여야 합니다.");
+        assertTrue(pending.isStopped(), "끝까지 재생한 보이스는 정지 상태여야 합니다.");
+
+        loop.stop();
+        assertEquals(0, engine.mix(out, 1, 1f), "정지한 보이스는 섞이지 않아야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 모노/다른 주파수 PCM 변환")
+    void testPcmConversion() {
+        PcmClip mono = PcmClip.fromPcm(new short[] { 100, 200, 300 }, 1, AudioEngine.SAMPLE_RATE);
+        assertArrayEquals(new short[] { 100, 100, 200, 200, 300, 300 }, mono.getSamples(), "모노는 좌우에 복사되어야 합니다.");
+
+        short[] source = new short[22050 * 2];
+        PcmClip resampled = PcmClip.fromPcm(source, 2, 22050);
+        assertEquals(AudioEngine.SAMPLE_RATE, resampled.getFrames(), "1초 분량은 출력 주파수 기준 1초여야 합니다.");
+        assertEquals(1000, resampled.getDurationMillis());
+    }
+}
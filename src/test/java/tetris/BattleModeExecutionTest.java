@@ -7,6 +7,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
 import tetris.scene.battle.BattleScene;
+import tetris.scene.game.core.TickTimer;
 
 /**
  * BattleModeExecutionTest - 배틀 모드 실행 과정 테스트
@@ -49,11 +50,11 @@ public class BattleModeExecutionTest {
             // 리플렉션으로 타이머 필드 접근
             Field fallTimer1Field = BattleScene.class.getDeclaredField("fallTimer1");
             fallTimer1Field.setAccessible(true);
-            Timer fallTimer1 = (Timer) fallTimer1Field.get(battleScene);
+            TickTimer fallTimer1 = (TickTimer) fallTimer1Field.get(battleScene);
             
             Field fallTimer2Field = BattleScene.class.getDeclaredField("fallTimer2");
             fallTimer2Field.setAccessible(true);
-            Timer fallTimer2 = (Timer) fallTimer2Field.get(battleScene);
+            TickTimer fallTimer2 = (TickTimer) fallTimer2Field.get(battleScene);
             
             assertNotNull(fallTimer1, "Player 1 타이머가 초기화되어야 합니다");
             assertNotNull(fallTimer2, "Player 2 타이머가 초기화되어야 합니다");
@@ -109,7 +110,7 @@ public class BattleModeExecutionTest {
             // 시간 제한 타이머 필드 접근
             Field timeLimitTimerField = BattleScene.class.getDeclaredField("timeLimitTimer");
             timeLimitTimerField.setAccessible(true);
-            Timer timeLimitTimer = (Timer) timeLimitTimerField.get(battleScene);
+            TickTimer timeLimitTimer = (TickTimer) timeLimitTimerField.get(battleScene);
             
             assertNotNull(timeLimitTimer, "시간 제한 타이머가 초기화되어야 합니다");
             
@@ -174,7 +175,7 @@ public class BattleModeExecutionTest {
             // blinkTimer 필드 접근
             Field blinkTimerField = BattleScene.class.getDeclaredField("blinkTimer");
             blinkTimerField.setAccessible(true);
-            Timer blinkTimer = (Timer) blinkTimerField.get(battleScene);
+            TickTimer blinkTimer = (TickTimer) blinkTimerField.get(battleScene);
             
             assertNotNull(blinkTimer, "점멸 효과 타이머가 초기화되어야 합니다");
             
@@ -328,7 +329,7 @@ public class BattleModeExecutionTest {
             
             Field fallTimer1Field = BattleScene.class.getDeclaredField("fallTimer1");
             fallTimer1Field.setAccessible(true);
-            Timer fallTimer1 = (Timer) fallTimer1Field.get(battleScene);
+            TickTimer fallTimer1 = (TickTimer) fallTimer1Field.get(battleScene);
             
             // onEnter - 타이머 시작
             assertFalse(fallTimer1.isRunning(), "onEnter 전에는 타이머가 정지되어 있어야 합니다");
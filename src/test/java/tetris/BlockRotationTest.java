@@ -0,0 +1,134 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import tetris.scene.game.blocks.Block;
+import tetris.scene.game.blocks.IBlock;
+import tetris.scene.game.blocks.ItemBlock;
+import tetris.scene.game.blocks.OBlock;
+import tetris.scene.game.blocks.TBlock;
+import tetris.scene.game.blocks.WeightItemBlock;
+import tetris.scene.game.items.ItemEffectType;
+
+/**
+ * 미리 계산된 회전 테이블 기반 Block 회전 테스트
+ */
+@DisplayName("블록 회전 테이블 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BlockRotationTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 회전 시 너비/높이 갱신")
+    void testRotationDimensions() {
+        Block block = new IBlock();
+        assertEquals(4, block.width(), "가로 I블록의 너비는 4여야 합니다.");
+        assertEquals(1, block.height(), "가로 I블록의 높이는 1이어야 합니다.");
+
+        block.rotate();
+        assertEquals(2, block.width(), "세로 I블록의 너비는 2여야 합니다 (왼쪽 빈 열 포함).");
+        assertEquals(4, block.height(), "세로 I블록의 높이는 4여야 합니다.");
+        assertEquals(1, block.getShape(1, 3), "세로 I블록의 1열이 채워져야 합니다.");
+        assertEquals(0, block.getShape(0, 0), "세로 I블록의 0열은 비어있어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 4번 회전하면 원래 상태로 복귀")
+    void testFullRotationReturnsToStart() {
+        Block block = new TBlock();
+        int[] startMasks = { block.getRowMask(0), block.getRowMask(1) };
+
+        for (int i = 0; i < 4; i++) {
+            block.rotate();
+        }
+
+        assertEquals(0, block.getRotation(), "회전 상태가 0으로 돌아와야 합니다.");
+        assertEquals(startMasks[0], block.getRowMask(0), "0번 행 마스크가 원래와 같아야 합니다.");
+        assertEquals(startMasks[1], block.getRowMask(1), "1번 행 마스크가 원래와 같아야 합니다.");
+        assertEquals(4, block.getCellCount(), "T블록은 4개의 셀로 구성되어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. canRotate는 블록 상태를 바꾸지 않음")
+    void testCanRotateDoesNotMutate() {
+        Block block = new IBlock();
+        int[][] board = new int[20][10];
+
+        assertTrue(block.canRotate(3, 0, board, 10, 20), "빈 보드에서는 회전할 수 있어야 합니다.");
+        assertEquals(0, block.getRotation(), "검사 후에도 회전 상태가 유지되어야 합니다.");
+
+        assertFalse(block.canRotate(3, 17, board, 10, 20), "바닥 근처에서 세로로 회전하면 경계를 벗어나야 합니다.");
+
+        board[2][4] = 1;
+        assertFalse(block.canRotate(3, 0, board, 10, 20), "회전 후 위치에 블록이 있으면 회전할 수 없어야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 아이템 블록 회전 시 아이템 위치 이동")
+    void testItemBlockRotation() {
+        ItemBlock itemBlock = new ItemBlock(new OBlock(), ItemEffectType.LINE_CLEAR);
+        int[] start = itemBlock.getItemPosition();
+
+        itemBlock.rotate();
+        int[] rotated = itemBlock.getItemPosition();
+        assertEquals(1 - start[1], rotated[0], "아이템 x 위치가 회전 공식에 따라 이동해야 합니다.");
+        assertEquals(start[0], rotated[1], "아이템 y 위치가 회전 공식에 따라 이동해야 합니다.");
+        assertTrue(itemBlock.isItemCell(rotated[0], rotated[1]), "이동한 위치가 아이템 셀이어야 합니다.");
+        assertEquals(1, itemBlock.getShape(rotated[0], rotated[1]), "아이템 셀은 블록 셀 위에 있어야 합니다.");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. 무게추 블록은 회전해도 모양 유지")
+    void testWeightBlockDoesNotRotate() {
+        WeightItemBlock weight = new WeightItemBlock();
+        int topMask = weight.getRowMask(0);
+
+        weight.rotate();
+        assertEquals(topMask, weight.getRowMask(0), "무게추 모양이 바뀌지 않아야 합니다.");
+        assertEquals(4, weight.width(), "무게추 너비는 4여야 합니다.");
+        assertEquals(2, weight.height(), "무게추 높이는 2여야 합니다.");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. 아이템 블록 사본은 원본 블록 회전을 공유하지 않음")
+    void testItemBlockCopyKeepsOriginalRotation() {
+        ItemBlock live = new ItemBlock(new IBlock(), ItemEffectType.LINE_CLEAR);
+        Block snapshot = live.copy(); // 키프레임 저장
+
+        live.rotate();
+        ItemBlock restored = (ItemBlock) snapshot.copy(); // 키프레임 복원
+        assertEquals(0, restored.getRotation(), "복원한 블록은 저장 시점의 회전 상태여야 합니다.");
+        assertEquals(0, restored.getOriginalBlock().getRotation(), "원본 블록도 저장 시점의 회전 상태여야 합니다.");
+        assertEquals(4, restored.width(), "가로 I블록 모양이어야 합니다.");
+        assertEquals(1, restored.height(), "가로 I블록 모양이어야 합니다.");
+
+        ItemBlock fresh = new ItemBlock(new IBlock(), ItemEffectType.LINE_CLEAR);
+        int[][] board = new int[20][10];
+        board[3][5] = 1;
+        board[10][2] = 1;
+        for (int y = 0; y < 20; y++) {
+            for (int x = 0; x < 10; x++) {
+                assertEquals(fresh.canRotate(board, x, y), restored.canRotate(board, x, y),
+                    "(" + x + ", " + y + ")에서 회전 가능 여부가 새 블록과 같아야 합니다.");
+            }
+        }
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. 무게추 블록 사본은 활성화 상태를 따로 가짐")
+    void testWeightBlockCopyKeepsState() {
+        WeightItemBlock live = new WeightItemBlock();
+        live.activate();
+        WeightItemBlock snapshot = live.copy();
+
+        live.startDestroying();
+        assertTrue(snapshot.isActivated(), "사본은 복사 시점의 활성화 상태여야 합니다.");
+        assertFalse(snapshot.isDestroying(), "원본의 파괴 시작이 사본에 영향을 주지 않아야 합니다.");
+    }
+}
\ No newline at end of file
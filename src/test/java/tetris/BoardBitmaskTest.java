@@ -0,0 +1,237 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Random;
+import tetris.scene.game.blocks.Block;
+import tetris.scene.game.blocks.IBlock;
+import tetris.scene.game.blocks.JBlock;
+import tetris.scene.game.blocks.LBlock;
+import tetris.scene.game.blocks.OBlock;
+import tetris.scene.game.blocks.SBlock;
+import tetris.scene.game.blocks.TBlock;
+import tetris.scene.game.blocks.ZBlock;
+import tetris.scene.game.core.BoardManager;
+
+/**
+ * BoardManager의 행 비트마스크 기반 충돌/줄 완성 검사와 열 높이/구멍 인덱스 테스트
+ */
+@DisplayName("BoardManager 비트마스크 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BoardBitmaskTest {
+
+    private BoardManager boardManager;
+
+    @BeforeEach
+    void setUp() {
+        boardManager = new BoardManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardManager = null;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 블록 배치 시 행 마스크 갱신")
+    void testPlaceBlockUpdatesRowMask() {
+        Block block = new OBlock();
+        boardManager.placeBlock(block, 3, 18);
+
+        assertEquals(0b0000011000, boardManager.getRowMask(18), "18번 줄의 3,4열이 채워져야 합니다.");
+        assertEquals(0b0000011000, boardManager.getRowMask(19), "19번 줄의 3,4열이 채워져야 합니다.");
+        assertEquals(0, boardManager.getRowMask(17), "17번 줄은 비어있어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 경계 및 충돌 검사")
+    void testCollisionChecks() {
+        Block block = new IBlock();
+
+        assertTrue(boardManager.canPlaceBlock(block, 0, 0), "왼쪽 끝 배치가 가능해야 합니다.");
+        assertTrue(boardManager.canPlaceBlock(block, 6, 0), "오른쪽 끝 배치가 가능해야 합니다.");
+        assertFalse(boardManager.canPlaceBlock(block, -1, 0), "왼쪽 경계를 벗어나면 배치할 수 없어야 합니다.");
+        assertFalse(boardManager.canPlaceBlock(block, 7, 0), "오른쪽 경계를 벗어나면 배치할 수 없어야 합니다.");
+        assertFalse(boardManager.canPlaceBlock(block, 0, 20), "바닥 아래에는 배치할 수 없어야 합니다.");
+
+        boardManager.placeBlock(new OBlock(), 4, 18);
+        assertFalse(boardManager.canPlaceBlock(block, 2, 18), "기존 블록과 겹치면 배치할 수 없어야 합니다.");
+        assertFalse(boardManager.canMoveDown(block, 2, 17), "아래 블록이 있으면 내려갈 수 없어야 합니다.");
+        assertTrue(boardManager.canMoveDown(block, 0, 16), "빈 공간으로는 내려갈 수 있어야 합니다.");
+
+        Block tBlock = new TBlock();
+        assertFalse(boardManager.canMoveLeft(tBlock, 0, 5), "왼쪽 벽에서는 왼쪽으로 이동할 수 없어야 합니다.");
+        assertFalse(boardManager.canMoveRight(tBlock, 7, 5), "오른쪽 벽에서는 오른쪽으로 이동할 수 없어야 합니다.");
+        assertFalse(boardManager.canMoveRight(tBlock, 1, 17), "오른쪽 블록과 겹치면 이동할 수 없어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 외부에서 직접 수정한 보드 동기화")
+    void testSyncAfterDirectBoardWrite() {
+        int[][] board = boardManager.getBoard();
+        for (int col = 0; col < 10; col++) {
+            board[19][col] = 1;
+        }
+        assertFalse(boardManager.isLineFull(19), "동기화 전에는 마스크에 반영되지 않습니다.");
+
+        boardManager.syncRowMask(19);
+        assertTrue(boardManager.isLineFull(19), "동기화 후 줄 완성으로 인식되어야 합니다.");
+
+        int[] result = boardManager.clearCompletedAndBombLinesSeparately();
+        assertEquals(1, result[0], "완성된 줄 1개가 삭제되어야 합니다.");
+        assertEquals(0, boardManager.getRowMask(19), "삭제 후 19번 줄 마스크가 비어야 합니다.");
+        assertFalse(boardManager.isGameOver(), "빈 보드는 게임 오버가 아니어야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 줄 삭제 후 상위 줄 마스크 이동")
+    void testRowMaskShiftAfterClear() {
+        boardManager.placeBlock(new OBlock(), 0, 16);
+        int[][] board = boardManager.getBoard();
+        for (int col = 0; col < 10; col++) {
+            board[18][col] = 1;
+            board[19][col] = 1;
+        }
+
+        int[] result = boardManager.clearCompletedAndBombLinesSeparately();
+        assertEquals(2, result[0], "완성된 줄 2개가 삭제되어야 합니다.");
+        assertEquals(0b11, boardManager.getRowMask(18), "O블록이 2칸 아래로 이동해야 합니다.");
+        assertEquals(0b11, boardManager.getRowMask(19), "O블록이 2칸 아래로 이동해야 합니다.");
+        assertEquals(0, boardManager.getRowMask(16), "원래 위치는 비어있어야 합니다.");
+    }
+
+    // board 배열을 직접 훑어 열 높이와 구멍 수를 인덱스와 비교
+    private void assertColumnIndexMatchesBoard(String message) {
+        int[][] board = boardManager.getBoard();
+        for (int col = 0; col < 10; col++) {
+            int top = 0;
+            while (top < 20 && board[top][col] == 0) top++;
+            int holes = 0;
+            for (int row = top + 1; row < 20; row++) {
+                if (board[row][col] == 0) holes++;
+            }
+            assertEquals(20 - top, boardManager.getColumnHeight(col), message + " (" + col + "열 높이)");
+            assertEquals(holes, boardManager.getColumnHoles(col), message + " (" + col + "열 구멍)");
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. 배치, 줄 삭제, 공격 줄 추가 후 열 인덱스와 낙하 위치")
+    void testColumnIndexFollowsBoard() {
+        Random random = new Random(11);
+        int placed = 0;
+        int cleared = 0;
+        for (int step = 0; step < 400 && !boardManager.isGameOver(); step++) {
+            Block[] blocks = { new IBlock(), new JBlock(), new LBlock(), new OBlock(), new SBlock(), new TBlock(), new ZBlock() };
+            Block block = blocks[random.nextInt(blocks.length)];
+            for (int r = random.nextInt(4); r > 0; r--) block.rotate();
+            // 모든 열에서 낙하 위치를 비교하고, 가장 깊이 떨어지는 곳에 놓음
+            int bestX = -1;
+            int bestY = -1;
+            for (int x = 0; x + block.width() <= 10; x++) {
+                if (!boardManager.canPlaceBlock(block, x, 0)) continue;
+                // 한 줄씩 내려 보는 기준 계산과 비교
+                int expected = 0;
+                while (boardManager.canPlaceBlock(block, x, expected + 1)) expected++;
+                assertEquals(expected, boardManager.getDropY(block, x, 0), step + "번째 블록 " + x + "열 낙하 위치");
+                if (expected > bestY) {
+                    bestX = x;
+                    bestY = expected;
+                }
+            }
+            if (bestX < 0) break;
+            boardManager.placeBlock(block, bestX, bestY);
+            placed++;
+            assertColumnIndexMatchesBoard(step + "번째 배치 후");
+
+            cleared += boardManager.clearCompletedAndBombLinesSeparately()[0];
+            assertColumnIndexMatchesBoard(step + "번째 줄 삭제 후");
+
+            if (step % 7 == 6) {
+                int hole = random.nextInt(10);
+                Color[] colors = new Color[10];
+                int[] types = new int[10];
+                Arrays.fill(colors, Color.GRAY);
+                Arrays.fill(types, 8);
+                boardManager.insertBottomRow(0x3FF & ~(1 << hole), colors, types);
+                assertEquals(0x3FF & ~(1 << hole), boardManager.getRowMask(19), "공격 줄이 맨 아래에 있어야 합니다.");
+                assertColumnIndexMatchesBoard(step + "번째 공격 줄 추가 후");
+            }
+        }
+        assertTrue(placed >= 30, "여러 블록을 놓아야 의미가 있습니다: " + placed);
+        assertTrue(cleared > 0 || boardManager.getTotalHoles() > 0, "줄 삭제나 구멍이 생겨야 합니다.");
+
+        // 외부에서 셀 하나를 직접 바꾼 경우
+        boardManager.getBoard()[19][0] = 1 - boardManager.getBoard()[19][0];
+        boardManager.syncRowMask(19);
+        assertColumnIndexMatchesBoard("직접 수정 후");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. 튀어나온 블록 아래로 떨어지는 위치")
+    void testDropUnderOverhang() {
+        // 가로 I 블록을 0~3열 15행에 띄워 놓음 (아래는 빈칸)
+        int[][] board = boardManager.getBoard();
+        for (int col = 0; col < 4; col++) board[15][col] = 1;
+        boardManager.syncRowMasks();
+        assertEquals(5, boardManager.getColumnHeight(0), "띄운 블록까지가 열 높이입니다.");
+        assertEquals(4, boardManager.getColumnHoles(0), "띄운 블록 아래 4칸은 구멍입니다.");
+        assertEquals(16, boardManager.getTotalHoles(), "4열 모두 구멍 4칸씩입니다.");
+
+        Block block = new OBlock();
+        assertEquals(18, boardManager.getDropY(block, 1, 16), "튀어나온 블록 아래에서는 바닥까지 떨어져야 합니다.");
+        assertEquals(13, boardManager.getDropY(block, 1, 0), "위에서는 튀어나온 블록 위에 멈춰야 합니다.");
+        assertEquals(13, boardManager.getDropY(block, 3, 0), "한 열만 걸쳐도 멈춰야 합니다.");
+        assertEquals(18, boardManager.getDropY(block, 4, 0), "막힌 열이 없으면 바닥까지 떨어져야 합니다.");
+        assertEquals(18, boardManager.getDropY(block, 4, 18), "이미 바닥이면 그대로입니다.");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. 줄 삭제와 공격 줄 추가 시 행 단위로 함께 이동")
+    void testRowsMoveTogether() {
+        int[][] board = boardManager.getBoard();
+        byte[][] colors = boardManager.getBoardColorIndices();
+        boardManager.placeBlock(new OBlock(), 0, 16);
+        for (int col = 0; col < 10; col++) {
+            board[19][col] = 1;
+        }
+        boardManager.setItemCell(9, 19, true); // 삭제되는 줄의 아이템 표시
+        boardManager.syncRowMasks();
+
+        assertEquals(1, boardManager.clearCompletedAndBombLinesSeparately()[0], "완성된 줄 1개가 삭제되어야 합니다.");
+        assertSame(board, boardManager.getBoard(), "보드 배열 자체는 그대로여야 합니다.");
+        assertNotNull(boardManager.getBoardColor(0, 18), "O블록 색상이 한 줄 아래로 이동해야 합니다.");
+        assertNull(boardManager.getBoardColor(0, 16), "원래 위치의 색상은 비어야 합니다.");
+        assertFalse(boardManager.isItemCell(9, 19), "삭제된 줄의 아이템 표시가 남으면 안 됩니다.");
+        assertFalse(boardManager.isItemCell(9, 0), "맨 위로 다시 쓴 줄은 비어 있어야 합니다.");
+        assertEquals(0, board[0][9], "맨 위로 다시 쓴 줄은 비어 있어야 합니다.");
+
+        Color[] garbage = new Color[10];
+        int[] types = new int[10];
+        Arrays.fill(garbage, Color.GRAY);
+        Arrays.fill(types, 8);
+        boardManager.insertBottomRow(0x3FE, garbage, types);
+        assertEquals(0b11, boardManager.getRowMask(16), "O블록이 한 줄 위로 올라가야 합니다.");
+        assertNotNull(boardManager.getBoardColor(1, 16), "색상도 함께 올라가야 합니다.");
+        assertNull(boardManager.getBoardColor(1, 18), "O블록 아래 빈 줄도 함께 올라가야 합니다.");
+        assertEquals(Color.GRAY, boardManager.getBoardColor(1, 19), "공격 줄 색상이 맨 아래에 있어야 합니다.");
+        assertEquals(8, boardManager.getBoardTypes()[19][5], "공격 줄 타입이 맨 아래에 있어야 합니다.");
+
+        // 행 배열이 서로 공유되지 않아야 함
+        for (int i = 0; i < 20; i++) {
+            for (int j = i + 1; j < 20; j++) {
+                assertNotSame(board[i], board[j], i + "행과 " + j + "행이 같은 배열이면 안 됩니다.");
+                assertNotSame(colors[i], colors[j], i + "행과 " + j + "행 색상이 같은 배열이면 안 됩니다.");
+            }
+        }
+    }
+}
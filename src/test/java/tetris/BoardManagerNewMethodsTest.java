@@ -308,9 +308,9 @@ public class BoardManagerNewMethodsTest {
         if (y >= 0 && y < 20 && x >= 0 && x < 10) {
             boardManager.getBoard()[y][x] = value;
             if (value == 1) {
-                boardManager.getBoardColors()[y][x] = Color.BLUE; // 기본 색상
+                boardManager.setBoardColor(x, y, Color.BLUE); // 기본 색상
             } else {
-                boardManager.getBoardColors()[y][x] = null;
+                boardManager.setBoardColor(x, y, null);
             }
         }
     }
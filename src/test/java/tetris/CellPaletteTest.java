@@ -0,0 +1,88 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import tetris.scene.game.blocks.ItemBlock;
+import tetris.scene.game.blocks.ZBlock;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.items.ItemEffectType;
+import tetris.util.CellPalette;
+
+/**
+ * 보드 셀 색상 팔레트(인덱스 저장, 색맹 모드별 팔레트 교체) 테스트
+ */
+@DisplayName("셀 색상 팔레트 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CellPaletteTest {
+
+    private int originalMode;
+
+    @BeforeEach
+    void setUp() {
+        originalMode = GameSettings.getInstance().getColorBlindMode();
+        GameSettings.getInstance().setColorBlindMode(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GameSettings.getInstance().setColorBlindMode(originalMode);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 인덱스와 색 변환")
+    void testIndexRoundTrip() {
+        CellPalette palette = CellPalette.forMode(1);
+        assertSame(palette, CellPalette.forMode(1), "모드별 팔레트는 한 번만 만들어야 합니다.");
+        assertNull(palette.color(CellPalette.EMPTY), "0은 빈칸입니다.");
+        assertEquals(CellPalette.EMPTY, palette.indexOf(null), "null은 빈칸입니다.");
+
+        for (int type = 0; type < CellPalette.BLOCK_COUNT; type++) {
+            Color color = ColorBlindHelper.getBlockColor(type, 1);
+            assertEquals(CellPalette.blockIndex(type), palette.indexOf(color), type + "번 블록 색은 블록 인덱스여야 합니다.");
+            assertEquals(color, palette.color(CellPalette.blockIndex(type)), type + "번 블록 색으로 돌아와야 합니다.");
+        }
+        assertEquals(CellPalette.GRAY, palette.indexOf(Color.GRAY), "회색은 고정 인덱스입니다.");
+        assertEquals(CellPalette.BLACK, palette.indexOf(Color.BLACK), "검정은 고정 인덱스입니다.");
+
+        Color custom = new Color(12, 34, 56);
+        byte index = palette.indexOf(custom);
+        assertEquals(index, CellPalette.forMode(2).indexOf(custom), "고정 색은 모든 팔레트에서 같은 인덱스입니다.");
+        assertEquals(custom, CellPalette.forMode(0).color(index), "고정 색은 모든 팔레트에서 같은 색입니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 색맹 모드를 바꾸면 보드를 고치지 않고 블록 색만 바뀜")
+    void testModeSwitchSwapsPalette() {
+        BoardManager boardManager = new BoardManager();
+        boardManager.placeBlock(new ZBlock(), 0, 18);
+        // Z 블록 모양에서 아이템 셀 하나를 가진 블록 (줄 삭제 아이템은 빨간색 = 일반 모드 Z 블록 색)
+        ItemBlock itemBlock = new ItemBlock(new ZBlock(), ItemEffectType.LINE_CLEAR);
+        boardManager.placeBlock(itemBlock, 5, 18);
+
+        int itemX = -1, itemY = -1;
+        for (int y = 18; y < 20; y++) {
+            for (int x = 5; x < 8; x++) {
+                if (boardManager.isItemCell(x, y)) { itemX = x; itemY = y; }
+            }
+        }
+        assertTrue(itemX >= 0, "아이템 셀이 보드에 놓여야 합니다.");
+
+        assertEquals(ColorBlindHelper.getBlockColor(0, 0), boardManager.getBoardColor(0, 18), "일반 모드 Z 블록 색이어야 합니다.");
+        assertEquals(itemBlock.getItemColor(), boardManager.getBoardColor(itemX, itemY), "아이템 셀은 아이템 색이어야 합니다.");
+        long version = boardManager.getVersion();
+
+        GameSettings.getInstance().setColorBlindMode(1);
+        assertEquals(ColorBlindHelper.getBlockColor(0, 1), boardManager.getBoardColor(0, 18), "모드를 바꾸면 새 팔레트의 색이어야 합니다.");
+        assertEquals(itemBlock.getItemColor(), boardManager.getBoardColor(itemX, itemY), "아이템 색은 모드와 관계없이 같아야 합니다.");
+        assertEquals(version, boardManager.getVersion(), "모드 변경으로 보드가 바뀌면 안 됩니다.");
+
+        BoardManager.State state = boardManager.copyState();
+        boardManager.reset();
+        boardManager.restoreState(state);
+        assertEquals(ColorBlindHelper.getBlockColor(0, 1), boardManager.getBoardColor(0, 18), "스냅샷 복원 후에도 같은 색이어야 합니다.");
+    }
+}
@@ -0,0 +1,94 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import tetris.scene.game.core.CellSpriteAtlas;
+import tetris.scene.game.items.ItemEffectType;
+import tetris.util.CellPalette;
+
+/**
+ * 셀 스프라이트 아틀라스(셀 크기·색맹 모드별 사전 렌더링) 테스트
+ */
+@DisplayName("셀 스프라이트 아틀라스 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CellSpriteAtlasTest {
+
+    private static final int SIZE = 28;
+
+    // 셀 하나를 (10, 10)에 그린 이미지
+    private static BufferedImage drawCell(CellSpriteAtlas atlas, byte colorIndex, int blockType, boolean outlined) {
+        BufferedImage image = new BufferedImage(SIZE + 20, SIZE + 20, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        atlas.drawCell(g2d, 10, 10, colorIndex, blockType, outlined);
+        g2d.dispose();
+        return image;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 크기·모드 조합마다 한 번만 생성")
+    void testAtlasIsShared() {
+        CellSpriteAtlas atlas = CellSpriteAtlas.forSize(SIZE, 1);
+        assertSame(atlas, CellSpriteAtlas.forSize(SIZE, 1), "같은 조합은 같은 아틀라스를 써야 합니다.");
+        assertNotSame(atlas, CellSpriteAtlas.forSize(SIZE, 0), "색맹 모드가 다르면 다른 아틀라스여야 합니다.");
+        assertNotSame(atlas, CellSpriteAtlas.forSize(SIZE + 1, 1), "셀 크기가 다르면 다른 아틀라스여야 합니다.");
+        assertEquals(SIZE, atlas.getCellSize());
+        assertEquals(1, atlas.getColorBlindMode());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 블록 색과 테두리를 셀 위치에 그림")
+    void testCellFillAndOutline() {
+        CellSpriteAtlas atlas = CellSpriteAtlas.forSize(SIZE, 0);
+        byte index = CellPalette.blockIndex(2);
+        BufferedImage image = drawCell(atlas, index, 2, true);
+
+        Color expected = ColorBlindHelper.getBlockColor(2, 0);
+        assertEquals(expected.getRGB(), image.getRGB(10 + SIZE / 2, 10 + SIZE / 2), "셀 안쪽은 블록 색이어야 합니다.");
+        assertEquals(Color.BLACK.getRGB(), image.getRGB(10 + SIZE / 2, 10 + SIZE), "셀 아래 테두리는 검정이어야 합니다.");
+        assertEquals(Color.BLACK.getRGB(), image.getRGB(5, 5), "셀 밖은 그리지 않아야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 색맹 모드에서는 블록 타입별 패턴 포함")
+    void testPatternOnlyInColorBlindMode() {
+        byte index = CellPalette.blockIndex(1);
+        BufferedImage plain = drawCell(CellSpriteAtlas.forSize(SIZE, 1), index, -1, false);
+        BufferedImage patterned = drawCell(CellSpriteAtlas.forSize(SIZE, 1), index, 1, false);
+
+        boolean differs = false;
+        for (int y = 10; y < 10 + SIZE && !differs; y++) {
+            for (int x = 10; x < 10 + SIZE && !differs; x++) {
+                differs = plain.getRGB(x, y) != patterned.getRGB(x, y);
+            }
+        }
+        assertTrue(differs, "L 블록 패턴(가로 줄무늬)이 그려져야 합니다.");
+
+        BufferedImage normal = drawCell(CellSpriteAtlas.forSize(SIZE, 0), CellPalette.blockIndex(1), 1, false);
+        Color color = ColorBlindHelper.getBlockColor(1, 0);
+        for (int y = 12; y < 8 + SIZE; y++) {
+            assertEquals(color.getRGB(), normal.getRGB(10 + SIZE / 2, y), "일반 모드에서는 패턴이 없어야 합니다.");
+        }
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 고정 색과 아이템 셀")
+    void testFixedColorsAndItems() {
+        CellSpriteAtlas atlas = CellSpriteAtlas.forSize(SIZE, 0);
+        Color custom = new Color(21, 43, 65);
+        BufferedImage image = drawCell(atlas, CellPalette.fixedIndex(custom), -1, false);
+        assertEquals(custom.getRGB(), image.getRGB(10 + SIZE / 2, 10 + SIZE / 2), "처음 쓰는 고정 색도 그려야 합니다.");
+
+        BufferedImage item = new BufferedImage(SIZE + 20, SIZE + 20, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = item.createGraphics();
+        atlas.drawItem(g2d, 10, 10, ItemEffectType.LINE_CLEAR, true);
+        g2d.dispose();
+        assertEquals(Color.BLACK.getRGB(), item.getRGB(11, 11), "줄 삭제 아이템은 검정 바탕이어야 합니다.");
+    }
+}
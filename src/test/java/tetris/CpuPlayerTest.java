@@ -0,0 +1,90 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import tetris.scene.battle.CpuPlayer;
+import tetris.scene.battle.PlacementSearch;
+import tetris.scene.game.blocks.IBlock;
+import tetris.scene.game.blocks.OBlock;
+import tetris.scene.game.core.GameEngine;
+import tetris.scene.game.core.InputHandler;
+
+/**
+ * CPU 대전 상대의 배치 탐색과 플레이 테스트
+ */
+@DisplayName("CPU 플레이어 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class CpuPlayerTest {
+
+    private static long farDeadline() {
+        return System.nanoTime() + 10_000_000_000L;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 빈 보드에서 도달 가능한 모든 위치를 나열")
+    void testEnumerateEmptyBoard() {
+        int[] rows = new int[PlacementSearch.HEIGHT];
+        PlacementSearch.Placement[] placements = PlacementSearch.search(rows, new PlacementSearch.Piece(new IBlock()), 3, 0, null, farDeadline());
+        assertEquals(7 + 10, placements.length, "I 블록은 가로 7곳, 세로 10곳이어야 합니다.");
+
+        PlacementSearch.Placement best = placements[0];
+        assertEquals(PlacementSearch.HEIGHT - 1, best.landingY, "빈 보드에서는 가로로 바닥에 눕혀야 합니다.");
+
+        placements = PlacementSearch.search(rows, new PlacementSearch.Piece(new OBlock()), 3, 0, null, farDeadline());
+        assertEquals(9, placements.length, "O 블록은 회전해도 같은 모양이므로 9곳이어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 줄을 완성하는 위치와 다음 블록을 고려한 평가")
+    void testPrefersLineClear() {
+        int[] rows = new int[PlacementSearch.HEIGHT];
+        for (int row = PlacementSearch.HEIGHT - 4; row < PlacementSearch.HEIGHT; row++) {
+            rows[row] = 0x1FF; // 맨 오른쪽 열만 비어 있는 4줄
+        }
+        PlacementSearch.Piece piece = new PlacementSearch.Piece(new IBlock());
+        PlacementSearch.Placement[] placements = PlacementSearch.search(rows, piece, 3, 0, piece, farDeadline());
+        assertEquals(4, placements[0].linesCleared, "세로 I 블록으로 4줄을 지워야 합니다.");
+        assertTrue(placements[0].isLookedAhead(), "시간 안에 다음 블록까지 평가해야 합니다.");
+        for (int i = 1; i < placements.length; i++) {
+            assertTrue(placements[i - 1].getScore() >= placements[i].getScore(), "점수 내림차순이어야 합니다.");
+        }
+
+        PlacementSearch.Placement[] late = PlacementSearch.search(rows, piece, 3, 0, piece, System.nanoTime() - 1);
+        assertEquals(placements.length, late.length, "시간을 넘겨도 모든 후보를 평가해야 합니다.");
+        assertFalse(late[0].isLookedAhead(), "시간을 넘기면 다음 블록은 건너뛰어야 합니다.");
+        assertEquals(4, late[0].linesCleared, "시간을 넘겨도 줄 삭제 위치를 골라야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. CPU가 실제 게임 규칙으로 오래 버티며 줄을 지움")
+    void testCpuPlaysGame() {
+        GameEngine engine = new GameEngine(GameSettings.Difficulty.NORMAL, 42L);
+        CpuPlayer cpu = new CpuPlayer(CpuPlayer.Level.HARD, engine.getBlockManager(), engine.getBoardManager(),
+            new CpuPlayer.Controller() {
+                @Override
+                public boolean canAct() {
+                    return !engine.isGameOver();
+                }
+
+                @Override
+                public void apply(InputHandler.GameAction action) {
+                    engine.applyAction(action);
+                }
+            }, 1L);
+
+        // 탐색은 다른 스레드에서 진행되므로 결과가 나올 때까지 틱을 반복 (최대 약 30초 분량)
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (engine.getBlocksPlaced() < 60 && !engine.isGameOver() && System.nanoTime() < deadline) {
+            cpu.update(10);
+        }
+        cpu.stop();
+
+        assertFalse(engine.isGameOver(), "CPU가 60블록 안에 게임 오버되면 안 됩니다.");
+        assertEquals(60, engine.getBlocksPlaced(), "제한 시간 안에 60블록을 놓아야 합니다.");
+        assertTrue(engine.getLinesCleared() >= 15, "60블록이면 15줄 이상 지워야 합니다: " + engine.getLinesCleared());
+    }
+}
@@ -0,0 +1,79 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.DirtyRegion;
+import tetris.scene.game.core.ScoreManager;
+
+/**
+ * 부분 갱신(다시 그릴 영역) 추적 테스트
+ */
+@DisplayName("다시 그릴 영역 추적 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class DirtyRegionTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 표시한 셀들이 하나의 사각형으로 합쳐짐")
+    void testMergeAndClamp() {
+        DirtyRegion region = new DirtyRegion(10, 20);
+        assertTrue(region.isFull(), "처음에는 전체를 그려야 합니다.");
+        assertArrayEquals(new int[] { 0, 0, 9, 19 }, region.take(), "보드 전체 범위여야 합니다.");
+        assertTrue(region.isEmpty(), "가져간 뒤에는 비어 있어야 합니다.");
+        assertNull(region.take(), "표시가 없으면 null이어야 합니다.");
+
+        region.markCells(2, 3, 2, 2);
+        region.markCells(5, 1, 1, 1);
+        assertArrayEquals(new int[] { 2, 1, 5, 4 }, region.take(), "두 영역을 감싸는 사각형이어야 합니다.");
+
+        region.markCells(8, 18, 4, 4);
+        assertArrayEquals(new int[] { 8, 18, 9, 19 }, region.take(), "보드 밖은 잘려야 합니다.");
+
+        region.markCells(-5, -5, 2, 2);
+        assertNull(region.take(), "완전히 보드 밖인 영역은 무시되어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 블록 이동 시 이동 전후 열만 표시")
+    void testBlockMoveMarksColumns() {
+        BoardManager boardManager = new BoardManager();
+        BlockManager blockManager = new BlockManager(10, 20, boardManager, new ScoreManager(), GameSettings.Difficulty.NORMAL);
+        blockManager.setSeed(7L);
+        blockManager.initializeBlocks();
+
+        DirtyRegion region = boardManager.enableDirtyTracking();
+        region.clear();
+
+        int x = blockManager.getX();
+        int size = Math.max(blockManager.getCurrentBlock().width(), blockManager.getCurrentBlock().height());
+        blockManager.moveRight();
+        assertEquals(x + 1, blockManager.getX(), "오른쪽으로 이동해야 합니다.");
+
+        int[] bounds = region.take();
+        assertNotNull(bounds, "이동하면 영역이 표시되어야 합니다.");
+        assertEquals(x, bounds[0], "이동 전 위치부터 표시되어야 합니다.");
+        assertEquals(Math.min(9, x + size), bounds[2], "이동 후 위치까지 표시되어야 합니다.");
+        assertEquals(19, bounds[3], "고스트 블록을 위해 바닥까지 표시되어야 합니다.");
+        assertFalse(bounds[0] == 0 && bounds[2] == 9, "보드 전체가 아니라 일부만 표시되어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 줄 삭제 시 전체 표시, 추적을 켜지 않으면 표시 없음")
+    void testLineClearMarksAll() {
+        BoardManager boardManager = new BoardManager();
+        assertNull(boardManager.getDirtyRegion(), "추적은 기본적으로 꺼져 있어야 합니다.");
+
+        DirtyRegion region = boardManager.enableDirtyTracking();
+        region.clear();
+        int[][] board = boardManager.getBoard();
+        for (int col = 0; col < 10; col++) {
+            board[19][col] = 1;
+        }
+        boardManager.clearCompletedAndBombLinesSeparately();
+        assertTrue(region.isFull(), "줄 삭제 후에는 전체를 다시 그려야 합니다.");
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import tetris.scene.game.GameScene;
 import tetris.scene.game.core.BlockManager;
 import tetris.scene.game.core.InputHandler;
+import tetris.scene.game.core.TickTimer;
 import tetris.scene.game.core.TimerManager;
 import tetris.scene.game.core.GameStateManager;
 import tetris.util.SpeedUp;
@@ -134,7 +135,7 @@ public class GameControlTest {
             // 기본 타이머 간격 확인 (1초 = 1000ms)
             Field dropTimerField = TimerManager.class.getDeclaredField("dropTimer");
             dropTimerField.setAccessible(true);
-            Timer dropTimer = (Timer) dropTimerField.get(timerManager);
+            TickTimer dropTimer = (TickTimer) dropTimerField.get(timerManager);
             
             if (dropTimer != null) {
                 int initialDelay = dropTimer.getDelay();
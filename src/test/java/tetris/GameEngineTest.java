@@ -0,0 +1,139 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.GameEngine;
+import tetris.scene.game.core.InputHandler;
+import tetris.scene.game.core.SimulationRunner;
+import tetris.util.DebugLog;
+
+/**
+ * 헤드리스 GameEngine 및 병렬 시뮬레이션 테스트
+ */
+@DisplayName("헤드리스 게임 엔진 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GameEngineTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 틱 누적에 따른 자동 낙하")
+    void testGravityTicks() {
+        GameEngine engine = new GameEngine(GameSettings.Difficulty.NORMAL, 42L);
+        int startY = engine.getBlockManager().getY();
+
+        engine.step(99); // 990ms
+        assertEquals(startY, engine.getBlockManager().getY(), "1초가 지나기 전에는 떨어지지 않아야 합니다.");
+
+        engine.tick(); // 1000ms
+        assertEquals(startY + 1, engine.getBlockManager().getY(), "1초가 지나면 한 칸 떨어져야 합니다.");
+        assertEquals(1000, engine.getElapsedMillis(), "경과 시간은 틱 수 x 틱 길이여야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 하드 드롭 후 다음 블록 생성")
+    void testHardDropPlacesBlock() {
+        GameEngine engine = new GameEngine(GameSettings.Difficulty.NORMAL, 7L);
+        Object next = engine.getBlockManager().getNextBlock();
+
+        engine.applyAction(InputHandler.GameAction.HARD_DROP);
+        assertEquals(1, engine.getBlocksPlaced(), "블록 하나가 고정되어야 합니다.");
+        assertSame(next, engine.getBlockManager().getCurrentBlock(), "다음 블록이 현재 블록이 되어야 합니다.");
+        assertTrue(engine.getScore() > 0, "하드 드롭 점수가 추가되어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 같은 시드는 같은 결과")
+    void testDeterministicWithSeed() {
+        SimulationRunner runner = new SimulationRunner(GameSettings.Difficulty.NORMAL, 1);
+        SimulationRunner.InputPolicy dropAlways = engine -> InputHandler.GameAction.HARD_DROP;
+
+        SimulationRunner.Result first = runner.runGame(1234L, dropAlways, 10_000);
+        SimulationRunner.Result second = runner.runGame(1234L, dropAlways, 10_000);
+
+        assertTrue(first.gameOver, "계속 하드 드롭하면 게임이 끝나야 합니다.");
+        assertEquals(first.score, second.score, "같은 시드의 점수가 같아야 합니다.");
+        assertEquals(first.blocksPlaced, second.blocksPlaced, "같은 시드의 블록 수가 같아야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 병렬 실행 결과는 시드 순서를 유지")
+    void testParallelRunOrder() {
+        SimulationRunner runner = new SimulationRunner(GameSettings.Difficulty.EASY, 4);
+        SimulationRunner.InputPolicy dropAlways = engine -> InputHandler.GameAction.HARD_DROP;
+
+        List<SimulationRunner.Result> results = runner.runGames(8, 100L, dropAlways, 10_000);
+        assertEquals(8, results.size(), "게임 수만큼 결과가 있어야 합니다.");
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(100L + i, results.get(i).seed, "결과가 시드 순서대로 정렬되어야 합니다.");
+            SimulationRunner.Result single = runner.runGame(100L + i, dropAlways, 10_000);
+            assertEquals(single.score, results.get(i).score, "병렬 실행 결과가 단일 실행과 같아야 합니다.");
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. 일시정지 중에는 진행하지 않음")
+    void testPause() {
+        GameEngine engine = new GameEngine(GameSettings.Difficulty.NORMAL, 1L);
+        engine.applyAction(InputHandler.GameAction.PAUSE);
+        assertEquals(0, engine.step(500), "일시정지 중에는 틱이 진행되지 않아야 합니다.");
+
+        engine.applyAction(InputHandler.GameAction.PAUSE);
+        assertEquals(500, engine.step(500), "일시정지 해제 후에는 진행되어야 합니다.");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. 줄 삭제를 미루면 삭제 전까지 조작과 낙하를 막음")
+    void testDeferredLineClear() {
+        GameEngine engine = new GameEngine(GameSettings.Difficulty.NORMAL, 42L);
+        engine.setDeferLineClear(true);
+        BoardManager board = engine.getBoardManager();
+        for (int col = 0; col < 10; col++) {
+            board.getBoard()[19][col] = 1;
+        }
+        board.syncRowMask(19);
+
+        engine.applyAction(InputHandler.GameAction.HARD_DROP);
+        assertTrue(engine.isLinesPending(), "완성된 줄이 있으면 삭제 대기 상태여야 합니다.");
+        assertEquals(0, engine.getLinesCleared(), "삭제 전에는 줄 수가 늘지 않아야 합니다.");
+        int x = engine.getBlockManager().getX();
+        int y = engine.getBlockManager().getY();
+        engine.applyAction(InputHandler.GameAction.MOVE_LEFT);
+        engine.step(200);
+        assertEquals(x, engine.getBlockManager().getX(), "삭제 대기 중에는 이동하지 않아야 합니다.");
+        assertEquals(y, engine.getBlockManager().getY(), "삭제 대기 중에는 떨어지지 않아야 합니다.");
+
+        Object next = engine.getBlockManager().getNextBlock();
+        engine.applyLinesCleared();
+        assertFalse(engine.isLinesPending(), "삭제 후에는 대기 상태가 풀려야 합니다.");
+        assertEquals(1, engine.getLinesCleared(), "완성된 줄 하나가 삭제되어야 합니다.");
+        assertSame(next, engine.getBlockManager().getCurrentBlock(), "삭제 후 다음 블록이 생성되어야 합니다.");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. 디버그 출력이 꺼져 있으면 한 판 동안 표준 출력이 없음")
+    void testNoLoggingOnHotPath() {
+        Assumptions.assumeFalse(DebugLog.ENABLED, "tetris.debug가 켜져 있으면 확인하지 않음");
+        SimulationRunner runner = new SimulationRunner(GameSettings.Difficulty.NORMAL, 1);
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        SimulationRunner.Result result;
+        try {
+            result = runner.runGame(42L, engine -> InputHandler.GameAction.HARD_DROP, 10_000);
+        } finally {
+            System.setOut(original);
+        }
+        assertTrue(result.blocksPlaced > 0, "블록이 고정되어야 합니다.");
+        assertEquals("", captured.toString(), "블록 고정, 줄 삭제, 속도 변경 경로에서 출력하지 않아야 합니다.");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import tetris.scene.game.core.GameLoop;
+import tetris.scene.game.core.TickTimer;
+
+/**
+ * 고정 틱 게임 루프와 게임 시간 타이머 테스트
+ */
+@DisplayName("게임 루프 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class GameLoopTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 게임 시간 타이머 만료와 정지")
+    void testTickTimer() {
+        TickTimer timer = new TickTimer(50);
+        assertFalse(timer.advance(100), "시작 전에는 만료되지 않아야 합니다.");
+
+        timer.start();
+        for (int i = 0; i < 4; i++) {
+            assertFalse(timer.advance(10), "주기 전에는 만료되지 않아야 합니다.");
+        }
+        assertTrue(timer.advance(10), "50ms가 지나면 만료되어야 합니다.");
+        assertTrue(timer.advance(120), "밀린 주기는 한 번으로 합쳐져야 합니다.");
+        assertTrue(timer.advance(30), "남은 20ms에 이어서 진행되어야 합니다.");
+
+        timer.advance(40);
+        timer.stop();
+        timer.start();
+        assertFalse(timer.advance(40), "정지 후 다시 시작하면 처음부터 기다려야 합니다.");
+
+        TickTimer once = new TickTimer(20);
+        once.setRepeats(false);
+        once.start();
+        assertTrue(once.advance(20), "한 번은 만료되어야 합니다.");
+        assertFalse(once.isRunning(), "반복하지 않는 타이머는 만료 후 정지해야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 흐른 시간만큼 고정 틱 실행, 화면 갱신은 프레임당 한 번")
+    void testFixedStepAccumulator() {
+        GameLoop loop = new GameLoop();
+        List<Integer> steps = new ArrayList<>();
+        int[] frames = { 0 };
+        loop.add(stepMillis -> {
+            steps.add(stepMillis);
+            return steps.size() % 2 == 0;
+        });
+        loop.setFrameCallback(() -> frames[0]++);
+
+        assertEquals(0, loop.advance(1_000 * MS), "첫 호출은 기준 시각만 잡아야 합니다.");
+        assertEquals(3, loop.advance(1_035 * MS), "35ms면 틱 3번이어야 합니다.");
+        assertEquals(1, frames[0], "여러 틱이 돌아도 화면 갱신은 한 번이어야 합니다.");
+        assertEquals(1, loop.advance(1_040 * MS), "남은 5ms가 다음 프레임에 이어져야 합니다.");
+        assertEquals(2, frames[0]);
+        assertEquals(4, loop.getTickCount());
+        assertTrue(steps.stream().allMatch(s -> s == GameLoop.STEP_MILLIS), "틱 길이는 항상 같아야 합니다.");
+
+        assertEquals(0, loop.advance(1_045 * MS), "틱 길이보다 짧으면 실행하지 않아야 합니다.");
+        assertEquals(2, frames[0], "틱이 없으면 화면 갱신도 없어야 합니다.");
+
+        assertEquals(25, loop.advance(11_045 * MS), "너무 밀린 시간은 한 번에 몰아서 실행하지 않아야 합니다.");
+        assertEquals(0, loop.advance(11_046 * MS), "버린 시간은 다음 프레임으로 넘어가지 않아야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 게임 시간 기준 예약 작업")
+    void testScheduledTask() {
+        GameLoop loop = new GameLoop();
+        List<Long> ranAt = new ArrayList<>();
+        loop.schedule(50, () -> {
+            ranAt.add(loop.getTickCount());
+            loop.schedule(20, () -> ranAt.add(loop.getTickCount())); // 작업 안에서 다시 예약
+        });
+
+        loop.advance(0);
+        loop.advance(40 * MS);
+        assertTrue(ranAt.isEmpty(), "예약 시간 전에는 실행되지 않아야 합니다.");
+        loop.advance(100 * MS);
+        assertEquals(List.of(5L, 7L), ranAt, "게임 시간 50ms, 70ms에 실행되어야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 일시정지 중에는 예약 작업 대기 시간이 흐르지 않음")
+    void testScheduledTaskPaused() {
+        GameLoop loop = new GameLoop();
+        boolean[] paused = {false};
+        loop.setPauseCondition(() -> paused[0]);
+        List<Long> ranAt = new ArrayList<>();
+        loop.schedule(50, () -> ranAt.add(loop.getTickCount()));
+
+        loop.advance(0);
+        loop.advance(20 * MS);
+        paused[0] = true;
+        loop.advance(100 * MS);
+        assertTrue(ranAt.isEmpty(), "일시정지 중에는 실행되지 않아야 합니다.");
+
+        paused[0] = false;
+        loop.advance(120 * MS);
+        assertTrue(ranAt.isEmpty(), "일시정지 전후 합쳐 50ms가 지나기 전에는 실행되지 않아야 합니다.");
+        loop.advance(130 * MS);
+        assertEquals(List.of(13L), ranAt, "일시정지한 80ms를 빼고 게임 시간 50ms에 실행되어야 합니다.");
+    }
+}
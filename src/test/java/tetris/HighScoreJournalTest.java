@@ -0,0 +1,117 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import tetris.util.HighScore;
+
+/**
+ * 점수 기록 저널(추가 전용 저장, 손상 복구, 압축) 테스트
+ */
+@DisplayName("점수 기록 저널 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HighScoreJournalTest {
+
+    private static final String TEST_FILE = "./data/test_highscore_journal.txt";
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() throws IOException {
+        Files.deleteIfExists(Paths.get(TEST_FILE));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 저장한 기록만 다시 읽힘")
+    void testSaveAndReload() {
+        Paths.get(TEST_FILE).toAbsolutePath().getParent().toFile().mkdirs();
+        HighScore first = new HighScore(TEST_FILE);
+        first.add("normal", 1000, 10, 60);
+        int idx = first.add("normal", 3000, 30, 90);
+        first.updateUserName("normal", idx, "AAA");
+        first.save();
+        first.add("normal", 9000, 90, 30); // 저장하지 않음
+
+        List<List<String>> rows = new HighScore(TEST_FILE).get("normal");
+        assertEquals(2, rows.size(), "저장한 기록만 남아야 합니다.");
+        assertEquals("AAA", rows.get(0).get(1), "이름도 다시 읽혀야 합니다.");
+        assertEquals("3000", rows.get(0).get(2));
+        assertEquals("null", String.valueOf(rows.get(1).get(1)), "이름 없는 기록은 이름이 없어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 잘리거나 손상된 저널 레코드는 무시")
+    void testCorruptedRecordSkipped() throws IOException {
+        Paths.get(TEST_FILE).toAbsolutePath().getParent().toFile().mkdirs();
+        HighScore highScore = new HighScore(TEST_FILE);
+        highScore.add("hard", 2000, 20, 100);
+        highScore.save();
+
+        // 기록 도중 종료된 상황 재현: 체크섬이 틀린 줄과 줄바꿈 없이 잘린 줄
+        Files.write(Paths.get(TEST_FILE), "+hard,8000,80,50;deadbeef\n+hard,7000".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        HighScore reloaded = new HighScore(TEST_FILE);
+        assertEquals(1, reloaded.get("hard").size(), "손상된 레코드는 적용되지 않아야 합니다.");
+
+        reloaded.add("hard", 5000, 50, 80);
+        reloaded.save();
+        assertEquals(2, new HighScore(TEST_FILE).get("hard").size(), "잘린 줄 뒤에도 새 기록을 덧붙일 수 있어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 압축 후 스냅샷만 남고 순위는 유지")
+    void testCompaction() throws IOException {
+        Paths.get(TEST_FILE).toAbsolutePath().getParent().toFile().mkdirs();
+        HighScore highScore = new HighScore(TEST_FILE);
+        for (int i = 1; i <= 15; i++) {
+            highScore.add("easy", i * 100, i, i);
+            highScore.save();
+        }
+        List<List<String>> before = highScore.get("easy");
+        assertEquals(10, before.size(), "상위 10개만 유지되어야 합니다.");
+
+        HighScore.compact(TEST_FILE);
+
+        Path file = Paths.get(TEST_FILE);
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            assertFalse(line.startsWith("+") || line.startsWith("="), "압축 후 저널 레코드가 없어야 합니다: " + line);
+        }
+        List<List<String>> after = new HighScore(TEST_FILE).get("easy");
+        assertEquals(before.size(), after.size(), "압축 전후 기록 수가 같아야 합니다.");
+        for (int i = 0; i < before.size(); i++) {
+            assertEquals(before.get(i).get(2), after.get(i).get(2), "압축 전후 순위가 같아야 합니다.");
+        }
+
+        // 압축 뒤에 덧붙인 이름 지정도 적용되어야 함
+        highScore.updateUserName("easy", 0, "BBB");
+        highScore.save();
+        assertEquals("BBB", new HighScore(TEST_FILE).get("easy").get(0).get(1), "압축 후 이름 지정이 적용되어야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 같은 기록이 여럿이면 이름을 지정한 순위에만 적용")
+    void testTiedEntryNamedByRank() {
+        Paths.get(TEST_FILE).toAbsolutePath().getParent().toFile().mkdirs();
+        HighScore highScore = new HighScore(TEST_FILE);
+        highScore.add("item", 4000, 40, 120);
+        int second = highScore.add("item", 4000, 40, 120);
+        highScore.updateUserName("item", second, "CCC");
+        highScore.save();
+
+        List<List<String>> rows = new HighScore(TEST_FILE).get("item");
+        assertEquals(2, rows.size());
+        assertEquals("null", String.valueOf(rows.get(0).get(1)), "먼저 세운 기록에는 이름이 없어야 합니다.");
+        assertEquals("CCC", rows.get(1).get(1), "이름을 지정한 순위의 기록에 이름이 붙어야 합니다.");
+    }
+}
@@ -375,4 +375,28 @@ public class ItemEffectSystemTest {
         
         System.out.println("✅ ItemEffectContext setter 메서드 테스트 통과");
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(12)
+    @DisplayName("12. 같은 시드의 아이템 매니저는 같은 아이템을 만듦")
+    void testSeededItemManagerIsDeterministic() {
+        tetris.scene.game.core.ItemManager first = new tetris.scene.game.core.ItemManager();
+        tetris.scene.game.core.ItemManager second = new tetris.scene.game.core.ItemManager();
+        first.setSeed(1234L);
+        second.setSeed(1234L);
+
+        for (int i = 0; i < 20; i++) {
+            tetris.scene.game.blocks.Block a = first.createItemBlock(new tetris.scene.game.blocks.TBlock());
+            tetris.scene.game.blocks.Block b = second.createItemBlock(new tetris.scene.game.blocks.TBlock());
+            assertEquals(a.getClass(), b.getClass(), (i + 1) + "번째 아이템 블록 종류가 같아야 합니다.");
+            if (a instanceof tetris.scene.game.blocks.ItemBlock) {
+                tetris.scene.game.blocks.ItemBlock itemA = (tetris.scene.game.blocks.ItemBlock) a;
+                tetris.scene.game.blocks.ItemBlock itemB = (tetris.scene.game.blocks.ItemBlock) b;
+                assertEquals(itemA.getItemType(), itemB.getItemType(), (i + 1) + "번째 아이템 종류가 같아야 합니다.");
+                assertArrayEquals(itemA.getItemPosition(), itemB.getItemPosition(), (i + 1) + "번째 아이템 칸 위치가 같아야 합니다.");
+            }
+        }
+
+        System.out.println("✅ 시드 아이템 재현 테스트 통과");
+    }
+}
@@ -0,0 +1,108 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import tetris.scene.battle.LockstepSession;
+import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.InputHandler;
+import tetris.scene.game.core.ScoreManager;
+
+/**
+ * P2P 입력 기반 동기화(lockstep) 세션 테스트
+ */
+@DisplayName("P2P 입력 동기화 세션 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class LockstepSessionTest {
+
+    private static String payload(String message) {
+        return message.substring(LockstepSession.INPUT.length());
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 프레임 순서대로 입력 수신")
+    void testInputOrdering() {
+        LockstepSession sender = new LockstepSession(1L);
+        LockstepSession receiver = new LockstepSession(2L);
+
+        String first = sender.recordLocalAction(InputHandler.GameAction.MOVE_LEFT, 0, 0x1234);
+        String second = sender.recordLocalAction(InputHandler.GameAction.HARD_DROP, 2, 0xBEEF);
+
+        assertTrue(receiver.onRemoteInput(payload(first)), "시드 전 입력은 무시되어야 합니다.");
+        assertEquals(0, receiver.getPendingCount(), "시드 전 입력은 대기열에 들어가지 않아야 합니다.");
+
+        assertTrue(receiver.onRemoteSeed(1L), "처음 받은 시드는 true여야 합니다.");
+        assertFalse(receiver.onRemoteSeed(1L), "중복 시드는 false여야 합니다.");
+
+        assertTrue(receiver.onRemoteInput(payload(first)));
+        assertTrue(receiver.onRemoteInput(payload(first)), "중복 프레임은 무시되어야 합니다.");
+        assertTrue(receiver.onRemoteInput(payload(second)));
+        assertEquals(2, receiver.getPendingCount(), "두 프레임이 대기열에 있어야 합니다.");
+
+        LockstepSession.InputEvent event = receiver.pollRemoteInput();
+        assertEquals(1, event.frame);
+        assertEquals(InputHandler.GameAction.MOVE_LEFT, event.action);
+        event = receiver.pollRemoteInput();
+        assertEquals(2, event.attacksApplied, "공격 블록 수가 전달되어야 합니다.");
+        assertEquals(0xBEEF, event.boardHash, "보드 해시가 전달되어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 프레임 누락 감지")
+    void testFrameGap() {
+        LockstepSession sender = new LockstepSession(1L);
+        LockstepSession receiver = new LockstepSession(2L);
+        receiver.onRemoteSeed(1L);
+
+        sender.recordLocalAction(InputHandler.GameAction.ROTATE, 0, 0);
+        String second = sender.recordLocalAction(InputHandler.GameAction.ROTATE, 0, 0);
+        assertFalse(receiver.onRemoteInput(payload(second)), "1번 프레임 없이 2번 프레임은 거부되어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 동기화 요청 시 시드와 전체 입력 재전송")
+    void testHandshakeReplay() {
+        LockstepSession sender = new LockstepSession(99L);
+        sender.recordLocalAction(InputHandler.GameAction.MOVE_RIGHT, 0, 0);
+        sender.recordLocalAction(InputHandler.GameAction.MOVE_DOWN, 0, 0);
+
+        List<String> messages = sender.handshakeMessages();
+        assertEquals(3, messages.size(), "시드 1개와 입력 2개가 있어야 합니다.");
+        assertEquals(LockstepSession.SEED + 99L, messages.get(0), "첫 메시지는 시드여야 합니다.");
+        assertTrue(messages.get(1).startsWith(LockstepSession.INPUT + "1:"), "입력은 1번 프레임부터 재전송되어야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 같은 시드와 입력이면 같은 보드 해시")
+    void testDeterministicReplay() {
+        BoardManager localBoard = new BoardManager();
+        BlockManager local = new BlockManager(10, 20, localBoard, new ScoreManager(), GameSettings.Difficulty.NORMAL);
+        BoardManager remoteBoard = new BoardManager();
+        BlockManager remote = new BlockManager(10, 20, remoteBoard, new ScoreManager(), GameSettings.Difficulty.NORMAL);
+
+        local.setSeed(2024L);
+        local.initializeBlocks();
+        remote.setSeed(2024L);
+        remote.initializeBlocks();
+
+        for (int i = 0; i < 8; i++) {
+            local.moveLeft();
+            remote.moveLeft();
+            local.rotateBlock();
+            remote.rotateBlock();
+            local.executeHardDrop();
+            remote.executeHardDrop();
+            localBoard.clearCompletedAndBombLinesSeparately();
+            remoteBoard.clearCompletedAndBombLinesSeparately();
+            local.generateNextBlock();
+            remote.generateNextBlock();
+            assertEquals(LockstepSession.boardHash(localBoard, local), LockstepSession.boardHash(remoteBoard, remote),
+                i + "번째 블록 후 해시가 같아야 합니다.");
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JFrame;
 
+import tetris.network.BoardSyncCodec;
 import tetris.network.P2PBase;
 import tetris.network.P2PClient;
 import tetris.network.P2PServer;
@@ -223,16 +224,16 @@ public class P2PModeExecutionTest {
             assertNotNull(serialized, "직렬화된 게임 상태가 null이 아니어야 합니다");
             assertFalse(serialized.isEmpty(), "직렬화된 문자열이 비어있지 않아야 합니다");
             
-            // 실제 SerializedGameState 클래스의 필드들 확인
-            assertTrue(serialized.contains("board"), "보드 정보가 포함되어야 합니다");
-            assertTrue(serialized.contains("boardColors"), "보드 색상 정보가 포함되어야 합니다");
-            assertTrue(serialized.contains("boardTypes"), "보드 타입 정보가 포함되어야 합니다");
-            assertTrue(serialized.contains("score"), "점수 정보가 포함되어야 합니다");
-            assertTrue(serialized.contains("type"), "블록 타입 정보가 포함되어야 합니다");
-            assertTrue(serialized.contains("gameOverFlag"), "게임 오버 플래그가 포함되어야 합니다");
-            assertTrue(serialized.contains("pauseFlag"), "일시정지 플래그가 포함되어야 합니다");
-            assertTrue(serialized.contains("fallSpeed1"), "Player 1 낙하 속도가 포함되어야 합니다");
-            assertTrue(serialized.contains("fallSpeed2"), "Player 2 낙하 속도가 포함되어야 합니다");
+            // 바이너리 보드 동기화 프레임 해석 결과 확인 (첫 프레임은 키프레임)
+            BoardSyncCodec.Frame frame = new BoardSyncCodec.Decoder().decode(serialized);
+            assertNotNull(frame, "첫 프레임은 키프레임으로 바로 해석되어야 합니다");
+            assertEquals(20, frame.cells.length, "보드 높이 정보가 포함되어야 합니다");
+            assertEquals(10, frame.cells[0].length, "보드 너비 정보가 포함되어야 합니다");
+            assertEquals(0, frame.score, "점수 정보가 포함되어야 합니다");
+            assertFalse(frame.gameOverFlag, "게임 오버 플래그가 포함되어야 합니다");
+            assertFalse(frame.pauseFlag, "일시정지 플래그가 포함되어야 합니다");
+            assertTrue(frame.fallSpeed1 > 0, "Player 1 낙하 속도가 포함되어야 합니다");
+            assertTrue(frame.fallSpeed2 > 0, "Player 2 낙하 속도가 포함되어야 합니다");
             
             System.out.println("✅ 게임 상태 직렬화 성공");
             System.out.println("직렬화 길이: " + serialized.length() + " bytes");
@@ -301,7 +302,7 @@ public class P2PModeExecutionTest {
             CountDownLatch messageLatch = new CountDownLatch(1);
             AtomicBoolean messageReceived = new AtomicBoolean(false);
             
-            client.addCallback("board:", (data) -> {
+            client.addCallback("board-delta:", (data) -> {
                 messageReceived.set(true);
                 messageLatch.countDown();
             });
@@ -312,7 +313,7 @@ public class P2PModeExecutionTest {
             // 메시지 수신 확인
             boolean received = messageLatch.await(3, TimeUnit.SECONDS);
             assertTrue(received, "클라이언트가 서버의 게임 상태를 수신해야 합니다");
-            assertTrue(messageReceived.get(), "board: 메시지가 수신되어야 합니다");
+            assertTrue(messageReceived.get(), "board-delta: 메시지가 수신되어야 합니다");
             
             System.out.println("✅ 서버→클라이언트 게임 상태 전송 성공");
             
@@ -347,7 +348,7 @@ public class P2PModeExecutionTest {
             CountDownLatch messageLatch = new CountDownLatch(1);
             AtomicBoolean messageReceived = new AtomicBoolean(false);
             
-            server.addCallback("board:", (data) -> {
+            server.addCallback("board-delta:", (data) -> {
                 messageReceived.set(true);
                 messageLatch.countDown();
             });
@@ -358,7 +359,7 @@ public class P2PModeExecutionTest {
             // 메시지 수신 확인
             boolean received = messageLatch.await(3, TimeUnit.SECONDS);
             assertTrue(received, "서버가 클라이언트의 게임 상태를 수신해야 합니다");
-            assertTrue(messageReceived.get(), "board: 메시지가 수신되어야 합니다");
+            assertTrue(messageReceived.get(), "board-delta: 메시지가 수신되어야 합니다");
             
             System.out.println("✅ 클라이언트→서버 게임 상태 전송 성공");
             
@@ -392,8 +393,8 @@ public class P2PModeExecutionTest {
             CountDownLatch serverLatch = new CountDownLatch(1);
             CountDownLatch clientLatch = new CountDownLatch(1);
             
-            server.addCallback("board:", (data) -> serverLatch.countDown());
-            client.addCallback("board:", (data) -> clientLatch.countDown());
+            server.addCallback("board-delta:", (data) -> serverLatch.countDown());
+            client.addCallback("board-delta:", (data) -> clientLatch.countDown());
             
             // 양방향 전송 대기 (writeTimer가 100ms마다 전송하므로 충분한 시간)
             Thread.sleep(500);
@@ -682,7 +683,9 @@ public class P2PModeExecutionTest {
             serializeMethod.setAccessible(true);
             String serialized = (String) serializeMethod.invoke(battleScene);
             
-            assertTrue(serialized.contains("gameOverFlag"), "게임 오버 플래그가 포함되어야 합니다");
+            BoardSyncCodec.Frame frame = new BoardSyncCodec.Decoder().decode(serialized);
+            assertNotNull(frame, "게임 상태 프레임이 해석되어야 합니다");
+            assertFalse(frame.gameOverFlag, "게임 시작 직후 게임 오버 플래그는 false여야 합니다");
             
             System.out.println("✅ 게임 오버 플래그 동기화 메커니즘 확인");
             
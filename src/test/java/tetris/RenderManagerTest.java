@@ -0,0 +1,80 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import tetris.scene.game.blocks.OBlock;
+import tetris.scene.game.core.BlockManager;
+import tetris.scene.game.core.BoardManager;
+import tetris.scene.game.core.GameStateManager;
+import tetris.scene.game.core.RenderManager;
+import tetris.scene.game.core.ScoreManager;
+
+/**
+ * RenderManager 레이어 캐시 테스트
+ */
+@DisplayName("렌더링 레이어 캐시 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RenderManagerTest {
+
+    private static final int CELL_SIZE = 30;
+
+    private BoardManager boardManager;
+    private RenderManager renderManager;
+
+    @BeforeEach
+    void setUp() {
+        boardManager = new BoardManager();
+        ScoreManager scoreManager = new ScoreManager();
+        BlockManager blockManager = new BlockManager(10, 20, boardManager, scoreManager, GameSettings.Difficulty.NORMAL);
+        renderManager = new RenderManager(10, 20, CELL_SIZE, 4, 20,
+            boardManager, blockManager, new GameStateManager(null), scoreManager);
+    }
+
+    private BufferedImage render() {
+        BufferedImage image = new BufferedImage(600, 700, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        renderManager.render(g2d, image.getWidth(), image.getHeight(), null, null, 0, 0, false, false, null, false);
+        g2d.dispose();
+        return image;
+    }
+
+    // 셀 중앙의 픽셀 색상
+    private static int cellPixel(BufferedImage image, int col, int row) {
+        return image.getRGB((col + 1) * CELL_SIZE + CELL_SIZE / 2, (row + 1) * CELL_SIZE + CELL_SIZE / 2);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 블록 고정 시 고정 블록 레이어 갱신")
+    void testLockedLayerInvalidatedOnPlace() {
+        BufferedImage before = render();
+        assertEquals(Color.DARK_GRAY.getRGB(), cellPixel(before, 0, 19), "빈 칸은 게임 영역 배경색이어야 합니다.");
+
+        long version = boardManager.getVersion();
+        OBlock block = new OBlock();
+        boardManager.placeBlock(block, 0, 18);
+        assertTrue(boardManager.getVersion() > version, "블록 고정 시 버전이 올라가야 합니다.");
+
+        BufferedImage after = render();
+        assertEquals(block.getColor().getRGB(), cellPixel(after, 0, 19), "고정된 블록이 그려져야 합니다.");
+        assertEquals(Color.DARK_GRAY.getRGB(), cellPixel(after, 5, 19), "다른 칸은 그대로여야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 줄 삭제 시 고정 블록 레이어 갱신")
+    void testLockedLayerInvalidatedOnLineClear() {
+        for (int col = 0; col < 10; col += 2) {
+            boardManager.placeBlock(new OBlock(), col, 18);
+        }
+        assertNotEquals(Color.DARK_GRAY.getRGB(), cellPixel(render(), 3, 19), "줄이 채워져 있어야 합니다.");
+
+        boardManager.clearCompletedAndBombLinesSeparately();
+        BufferedImage cleared = render();
+        assertEquals(Color.DARK_GRAY.getRGB(), cellPixel(cleared, 3, 19), "삭제된 줄은 비어 있어야 합니다.");
+        assertEquals(Color.DARK_GRAY.getRGB(), cellPixel(cleared, 3, 18), "삭제된 줄은 비어 있어야 합니다.");
+    }
+}
@@ -0,0 +1,179 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+import tetris.scene.game.core.GameEngine;
+import tetris.scene.game.core.InputHandler;
+import tetris.scene.game.core.Replay;
+import tetris.scene.game.core.ReplayPlayer;
+import tetris.scene.game.core.ReplayRecorder;
+
+/**
+ * 리플레이 재생(키프레임 이동, 배속, 한 단계 진행)과 헤드리스 검증 테스트
+ */
+@DisplayName("리플레이 재생 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplayPlayerTest {
+
+    private static final long BLINK_MILLIS = 900; // LineBlinkEffect 연출 시간
+
+    private Path file;
+    private Replay replay;
+
+    /**
+     * GameScene처럼 입력과 자동 낙하를 적용하기 직전에 녹화하며 한 판을 진행합니다.
+     * 블록마다 무작위로 회전/이동한 뒤 하드 드롭합니다.
+     * 줄이 완성되면 점멸 연출 시간(BLINK_MILLIS) 동안 입력과 자동 낙하 없이 기다린 뒤 줄 삭제를 기록합니다.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("replay-player-test", ReplayRecorder.FILE_EXTENSION);
+        GameEngine engine = new GameEngine(GameSettings.Difficulty.NORMAL, 1234L);
+        engine.setDeferLineClear(true);
+        ReplayRecorder recorder = new ReplayRecorder(file, "classic", GameSettings.Difficulty.NORMAL, 1234L);
+        Random input = new Random(7);
+        ArrayDeque<InputHandler.GameAction> plan = new ArrayDeque<>();
+
+        long time = 0;
+        long blinkEnd = -1;
+        while (time < 60_000 && !engine.isGameOver()) {
+            time += GameEngine.DEFAULT_TICK_MILLIS;
+            if (engine.isLinesPending()) {
+                if (blinkEnd < 0) blinkEnd = time + BLINK_MILLIS;
+                if (time >= blinkEnd) {
+                    recorder.recordLinesCleared(0, time);
+                    engine.applyLinesCleared();
+                    blinkEnd = -1;
+                }
+            } else if (time % 500 == 0) {
+                recorder.recordGravity(0, time);
+                engine.applyAction(InputHandler.GameAction.MOVE_DOWN);
+            } else if (time % 130 == 0) {
+                if (plan.isEmpty()) {
+                    for (int r = input.nextInt(4); r > 0; r--) plan.add(InputHandler.GameAction.ROTATE);
+                    int dx = input.nextInt(11) - 5;
+                    for (int i = 0; i < Math.abs(dx); i++) {
+                        plan.add(dx < 0 ? InputHandler.GameAction.MOVE_LEFT : InputHandler.GameAction.MOVE_RIGHT);
+                    }
+                    plan.add(InputHandler.GameAction.HARD_DROP);
+                }
+                InputHandler.GameAction action = plan.poll();
+                recorder.recordAction(0, action, time);
+                engine.applyAction(action);
+            }
+        }
+        recorder.finish(time, new int[] { engine.getScore() }, new int[] { engine.getLinesCleared() });
+        replay = Replay.read(file);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // 다음 이벤트를 하나씩 적용해 target 시각까지 진행 (키프레임을 쓰지 않는 기준 상태)
+    private static ReplayPlayer linearTo(Replay replay, long target) {
+        ReplayPlayer player = new ReplayPlayer(replay);
+        while (player.getAppliedEventCount() < replay.getEventCount()
+            && replay.getTime(player.getAppliedEventCount()) <= target) {
+            player.stepForward();
+        }
+        return player;
+    }
+
+    private static void assertSameState(ReplayPlayer expected, ReplayPlayer actual, String message) {
+        GameEngine e = expected.getEngine();
+        GameEngine a = actual.getEngine();
+        assertEquals(expected.getAppliedEventCount(), actual.getAppliedEventCount(), message + " (이벤트 수)");
+        assertTrue(Arrays.deepEquals(e.getBoardManager().getBoard(), a.getBoardManager().getBoard()), message + " (보드)");
+        assertEquals(e.getScore(), a.getScore(), message + " (점수)");
+        assertEquals(e.getBlockManager().getX(), a.getBlockManager().getX(), message + " (블록 x)");
+        assertEquals(e.getBlockManager().getY(), a.getBlockManager().getY(), message + " (블록 y)");
+        assertEquals(e.getBlockManager().getCurrentBlock().getType(), a.getBlockManager().getCurrentBlock().getType(), message + " (현재 블록)");
+        assertEquals(e.getBlockManager().getNextBlock().getType(), a.getBlockManager().getNextBlock().getType(), message + " (다음 블록)");
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 헤드리스 검증 시 최종 점수가 녹화와 일치")
+    void testVerify() {
+        ReplayPlayer.Verification result = ReplayPlayer.verify(replay);
+        assertTrue(replay.isComplete(), "종료까지 녹화되어야 합니다.");
+        assertTrue(result.actualScore > 0, "점수가 있는 게임이어야 의미가 있습니다.");
+        assertTrue(result.matches(), "다시 시뮬레이션한 점수가 같아야 합니다: " + result);
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.seek(player.getDurationMillis());
+        assertEquals(replay.getFinalScore(0), player.getEngine().getScore(), "끝으로 이동하면 최종 점수여야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 키프레임을 이용한 이동이 처음부터 진행한 상태와 같음")
+    void testSeekMatchesLinearReplay() {
+        ReplayPlayer player = new ReplayPlayer(replay);
+        assertTrue(player.getKeyframeCount() > 1, "키프레임이 여러 개 만들어져야 합니다.");
+
+        long duration = player.getDurationMillis();
+        long[] targets = { duration / 2, 7_000, duration * 3 / 4 + 123, 0, 12_345, duration };
+        for (long target : targets) {
+            player.seek(target);
+            assertEquals(target, player.getPosition(), "이동한 위치가 요청한 시각이어야 합니다.");
+            assertSameState(linearTo(replay, target), player, target + "ms로 이동");
+        }
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 배속 제한, 배속 재생, 한 단계 앞뒤 이동")
+    void testSpeedAndStepping() {
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.setSpeed(100);
+        assertEquals(ReplayPlayer.MAX_SPEED, player.getSpeed(), "최대 배속으로 제한되어야 합니다.");
+        player.setSpeed(0.01);
+        assertEquals(ReplayPlayer.MIN_SPEED, player.getSpeed(), "최소 배속으로 제한되어야 합니다.");
+
+        player.play();
+        for (int i = 0; i < 100; i++) player.update(10);
+        assertEquals(250, player.getPosition(), "0.25배속이면 실제 1초에 250ms 진행해야 합니다.");
+        player.setSpeed(16);
+        player.update(1000);
+        assertEquals(16_250, player.getPosition(), "16배속이면 실제 1초에 16초 진행해야 합니다.");
+
+        player.seek(player.getDurationMillis() / 2);
+        int applied = player.getAppliedEventCount();
+        assertTrue(player.stepForward(), "다음 이벤트가 있어야 합니다.");
+        assertFalse(player.isPlaying(), "한 단계 진행 시 재생이 멈춰야 합니다.");
+        assertEquals(applied + 1, player.getAppliedEventCount());
+        assertTrue(player.stepBackward());
+        assertTrue(player.stepBackward());
+        assertSameState(linearTo(replay, replay.getTime(applied - 2)), player, "두 단계 뒤로");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 아이템 모드 녹화는 재생과 검증을 거부함")
+    void testRejectsItemMode() throws IOException {
+        Path itemFile = Files.createTempFile("replay-player-item-test", ReplayRecorder.FILE_EXTENSION);
+        try {
+            ReplayRecorder recorder = new ReplayRecorder(itemFile, "item", GameSettings.Difficulty.NORMAL, 1234L);
+            recorder.recordGravity(0, 500);
+            recorder.finish(500, new int[] { 0 }, new int[] { 0 });
+            Replay itemReplay = Replay.read(itemFile);
+
+            assertThrows(IllegalArgumentException.class, () -> new ReplayPlayer(itemReplay),
+                         "아이템 모드 녹화는 재생할 수 없어야 합니다.");
+            assertThrows(IllegalArgumentException.class, () -> ReplayPlayer.verify(itemReplay),
+                         "아이템 모드 녹화는 검증할 수 없어야 합니다.");
+        } finally {
+            Files.deleteIfExists(itemFile);
+        }
+    }
+}
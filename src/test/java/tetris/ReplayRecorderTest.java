@@ -0,0 +1,89 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import tetris.scene.game.core.InputHandler;
+import tetris.scene.game.core.Replay;
+import tetris.scene.game.core.ReplayRecorder;
+
+/**
+ * 입력 로그 리플레이 녹화/읽기 테스트
+ */
+@DisplayName("리플레이 녹화 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReplayRecorderTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("replay-test", ReplayRecorder.FILE_EXTENSION);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 녹화한 이벤트와 최종 점수를 그대로 읽음")
+    void testRoundTrip() throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder(file, "normal", GameSettings.Difficulty.HARD, 11L, 22L);
+        recorder.recordAction(0, InputHandler.GameAction.MOVE_LEFT, 120);
+        recorder.recordGravity(1, 1000);
+        recorder.recordSeed(1, 99L, 1000);
+        recorder.recordLinesCleared(0, 250_000); // 긴 간격도 기록
+        recorder.recordAction(1, InputHandler.GameAction.HARD_DROP, 250_010);
+        recorder.finish(250_020, new int[] { 1200, 300 }, new int[] { 12, 3 });
+        assertTrue(recorder.isClosed(), "종료 후 파일이 닫혀야 합니다.");
+
+        Replay replay = Replay.read(file);
+        assertEquals("normal", replay.getGameMode());
+        assertEquals(GameSettings.Difficulty.HARD, replay.getDifficulty());
+        assertEquals(2, replay.getPlayerCount());
+        assertEquals(22L, replay.getSeed(1), "플레이어별 시드가 저장되어야 합니다.");
+
+        assertEquals(5, replay.getEventCount(), "이벤트 수가 같아야 합니다.");
+        assertEquals(InputHandler.GameAction.MOVE_LEFT, replay.getAction(0));
+        assertEquals(120L, replay.getTime(0), "게임 시간이 복원되어야 합니다.");
+        assertEquals(Replay.TYPE_GRAVITY, replay.getType(1));
+        assertEquals(1, replay.getPlayer(1), "플레이어 번호가 복원되어야 합니다.");
+        assertEquals(99L, replay.getSeedArg(2), "시드 변경 값이 복원되어야 합니다.");
+        assertEquals(250_000L, replay.getTime(3));
+        assertEquals(InputHandler.GameAction.HARD_DROP, replay.getAction(4));
+
+        assertTrue(replay.isComplete(), "종료 기록이 있어야 합니다.");
+        assertEquals(250_020L, replay.getDurationMillis());
+        assertEquals(1200, replay.getFinalScore(0));
+        assertEquals(3, replay.getFinalLines(1));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 이벤트당 수 바이트, 버퍼보다 긴 녹화와 잘린 파일")
+    void testCompactAndTruncated() throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder(file, "classic", GameSettings.Difficulty.NORMAL, 5L);
+        int events = 10_000;
+        for (int i = 0; i < events; i++) {
+            recorder.recordAction(0, InputHandler.GameAction.values()[i % 5], i * 50L);
+        }
+        recorder.finish(events * 50L, new int[] { 0 }, new int[] { 0 });
+
+        long size = Files.size(file);
+        assertTrue(size < events * 3, "이벤트 하나는 3바이트 미만이어야 합니다: " + size);
+        assertEquals(events, Replay.read(file).getEventCount(), "버퍼를 여러 번 비워도 모든 이벤트가 남아야 합니다.");
+
+        // 녹화 도중 종료된 파일: 마지막 이벤트 일부가 잘림
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+        Replay truncated = Replay.read(file);
+        assertFalse(truncated.isComplete(), "종료 기록이 없으면 미완성이어야 합니다.");
+        assertTrue(truncated.getEventCount() >= events - 2, "잘린 부분 앞의 이벤트는 읽혀야 합니다.");
+    }
+}
@@ -0,0 +1,77 @@
+package tetris;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.awt.Color;
+import java.awt.Font;
+import tetris.util.Theme;
+
+/**
+ * 테마 스냅샷(색상·폰트 사전 계산 및 캐시) 테스트
+ */
+@DisplayName("테마 스냅샷 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ThemeSnapshotTest {
+
+    private int originalMode;
+    private int originalResolution;
+
+    @BeforeEach
+    void setUp() {
+        originalMode = GameSettings.getInstance().getColorBlindMode();
+        originalResolution = GameSettings.getInstance().getResolution();
+        Theme.setCurrentFrame(null);
+        GameSettings.getInstance().setColorBlindMode(0);
+        GameSettings.getInstance().setResolution(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GameSettings.getInstance().setColorBlindMode(originalMode);
+        GameSettings.getInstance().setResolution(originalResolution);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 설정이 그대로면 같은 색상 객체를 반환")
+    void testColorsAreReused() {
+        Theme.Snapshot snapshot = Theme.current();
+        assertSame(snapshot, Theme.current(), "설정이 바뀌지 않으면 스냅샷을 다시 만들지 않아야 합니다.");
+        assertSame(Theme.BG(), Theme.BG(), "배경색은 매번 새로 만들지 않아야 합니다.");
+        assertSame(Theme.MenuButton(true), Theme.MenuButton(true), "버튼 색은 매번 새로 만들지 않아야 합니다.");
+        assertSame(Theme.Block('T'), Theme.Block('T'), "블록 색은 매번 새로 만들지 않아야 합니다.");
+        assertEquals(new Color(120, 120, 200), Theme.MenuButton(true));
+        assertEquals(Theme.getCustomeBlock(4), Theme.Block(Theme.ColorType.CYAN));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 색맹 모드 변경 시 새 스냅샷")
+    void testModeChangeRebuildsSnapshot() {
+        Theme.Snapshot normal = Theme.current();
+        GameSettings.getInstance().setColorBlindMode(1);
+
+        Theme.Snapshot deuteranopia = Theme.current();
+        assertNotSame(normal, deuteranopia, "색맹 모드가 바뀌면 새 스냅샷이어야 합니다.");
+        assertEquals(1, deuteranopia.getColorBlindMode());
+        assertEquals(ColorBlindHelper.getBackgroundColor(1), Theme.BG());
+        assertEquals(ColorBlindHelper.getBorderColor(1), Theme.MenuButton(false));
+        assertEquals(ColorBlindHelper.getBlockColor(6, 1), Theme.Block('T'));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 해상도별 파생 폰트 캐시")
+    void testFontsAreCachedPerResolution() {
+        Font font = Theme.GIANTS_BOLD(1.2f);
+        assertSame(font, Theme.GIANTS_BOLD(1.2f), "같은 비율의 폰트는 캐시해야 합니다.");
+        assertEquals(1.2f / 100.0f * 1280, font.getSize2D(), 0.01f, "폰트 크기는 화면 너비 비율이어야 합니다.");
+        assertEquals(640, Theme.getPixelWidth(0.5f));
+
+        GameSettings.getInstance().setResolution(3);
+        Font larger = Theme.GIANTS_BOLD(1.2f);
+        assertNotSame(font, larger, "해상도가 바뀌면 폰트를 다시 만들어야 합니다.");
+        assertEquals(1.2f / 100.0f * 1920, larger.getSize2D(), 0.01f);
+        assertEquals(540, Theme.getPixelHeight(0.5f));
+    }
+}
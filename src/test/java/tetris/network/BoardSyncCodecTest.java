@@ -0,0 +1,103 @@
+package tetris.network;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 바이너리 보드 델타 동기화 포맷 테스트
+ */
+@DisplayName("보드 동기화 코덱 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BoardSyncCodecTest {
+
+    private BoardSyncCodec.Frame createFrame() {
+        BoardSyncCodec.Frame frame = new BoardSyncCodec.Frame();
+        frame.cells = new int[20][10];
+        frame.nextType = 4;
+        frame.score = 1200;
+        frame.speedMultiplier = 1.2;
+        frame.difficultyMultiplier = 0.8;
+        frame.elapsedSeconds = 42;
+        frame.fallSpeed1 = 1000;
+        frame.fallSpeed2 = 800;
+        return frame;
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. 키프레임 왕복")
+    void testKeyframeRoundTrip() {
+        BoardSyncCodec.Encoder encoder = new BoardSyncCodec.Encoder();
+        BoardSyncCodec.Decoder decoder = new BoardSyncCodec.Decoder();
+
+        BoardSyncCodec.Frame frame = createFrame();
+        frame.cells[19][3] = 0x1ABC & 0x7FFF;
+        frame.pauseFlag = true;
+        frame.nextItem = 2;
+
+        BoardSyncCodec.Frame decoded = decoder.decode(encoder.encode(frame));
+        assertNotNull(decoded, "키프레임은 바로 해석되어야 합니다.");
+        assertEquals(frame.cells[19][3], decoded.cells[19][3], "셀 코드가 복원되어야 합니다.");
+        assertEquals(1200, decoded.score, "점수가 복원되어야 합니다.");
+        assertEquals(1.2, decoded.speedMultiplier, 1e-9, "속도 배율이 복원되어야 합니다.");
+        assertEquals(800, decoded.fallSpeed2, "낙하 속도가 복원되어야 합니다.");
+        assertEquals(2, decoded.nextItem, "다음 아이템 정보가 복원되어야 합니다.");
+        assertTrue(decoded.pauseFlag, "일시정지 플래그가 복원되어야 합니다.");
+        assertEquals(1, encoder.getKeyframesSent(), "첫 프레임은 키프레임이어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 바뀐 칸만 델타로 전송")
+    void testDeltaIsSmall() {
+        BoardSyncCodec.Encoder encoder = new BoardSyncCodec.Encoder();
+        BoardSyncCodec.Decoder decoder = new BoardSyncCodec.Decoder();
+
+        BoardSyncCodec.Frame frame = createFrame();
+        String keyframe = encoder.encode(frame);
+        decoder.decode(keyframe);
+
+        frame.cells[5][4] = 7;
+        frame.cells[6][4] = 7;
+        String delta = encoder.encode(frame);
+        assertTrue(delta.length() < keyframe.length() / 4, "델타는 키프레임보다 훨씬 작아야 합니다.");
+
+        BoardSyncCodec.Frame decoded = decoder.decode(delta);
+        assertNotNull(decoded, "연속된 델타는 해석되어야 합니다.");
+        assertEquals(7, decoded.cells[5][4], "바뀐 칸이 반영되어야 합니다.");
+        assertEquals(7, decoded.cells[6][4], "바뀐 칸이 반영되어야 합니다.");
+        assertEquals(0, decoded.cells[19][0], "바뀌지 않은 칸은 유지되어야 합니다.");
+        assertEquals(1, encoder.getDeltasSent(), "델타 프레임 수가 집계되어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 기준 상태가 어긋나면 재동기화")
+    void testResyncOnMissingBase() {
+        BoardSyncCodec.Encoder encoder = new BoardSyncCodec.Encoder();
+        BoardSyncCodec.Decoder decoder = new BoardSyncCodec.Decoder();
+
+        BoardSyncCodec.Frame frame = createFrame();
+        encoder.encode(frame); // 키프레임 유실
+        frame.cells[0][0] = 1;
+        assertNull(decoder.decode(encoder.encode(frame)), "기준 키프레임 없이 델타는 해석할 수 없어야 합니다.");
+
+        encoder.requestKeyframe();
+        BoardSyncCodec.Frame decoded = decoder.decode(encoder.encode(frame));
+        assertNotNull(decoded, "재요청한 키프레임은 해석되어야 합니다.");
+        assertEquals(1, decoded.cells[0][0], "키프레임으로 전체 상태가 복원되어야 합니다.");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. 주기적으로 키프레임 전송")
+    void testPeriodicKeyframe() {
+        BoardSyncCodec.Encoder encoder = new BoardSyncCodec.Encoder();
+        BoardSyncCodec.Frame frame = createFrame();
+
+        for (int i = 0; i <= BoardSyncCodec.KEYFRAME_INTERVAL + 1; i++) {
+            encoder.encode(frame);
+        }
+        assertEquals(2, encoder.getKeyframesSent(), "간격마다 키프레임을 다시 보내야 합니다.");
+    }
+}
@@ -0,0 +1,60 @@
+package tetris.network;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * P2P 메시지 종류(opcode) 레지스트리 및 수신 통계 테스트
+ */
+@DisplayName("P2P 메시지 분류 테스트")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class MessageDispatchTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("1. opcode는 겹치지 않고 줄바꿈 문자를 쓰지 않음")
+    void testOpcodeRegistry() {
+        for (MessageType type : MessageType.values()) {
+            assertTrue(MessageType.isOpcodeByte(type.getOpcode()), type + " opcode는 제어 문자여야 합니다.");
+            assertNotEquals('\n', type.getOpcode(), "줄바꿈은 opcode로 쓸 수 없습니다.");
+            assertSame(type, MessageType.fromOpcode(type.getOpcode()), "opcode로 종류를 찾을 수 있어야 합니다.");
+            assertSame(type, MessageType.fromPrefix(type.getPrefix()), "접두어로 종류를 찾을 수 있어야 합니다.");
+        }
+        assertNull(MessageType.fromOpcode(0x1E), "등록되지 않은 opcode는 null이어야 합니다.");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 텍스트 메시지 접두어 분류")
+    void testPrefixMatch() {
+        assertEquals(MessageType.BOARD_DELTA, MessageType.match("board-delta:AAAA"));
+        assertEquals(MessageType.BOARD_RESYNC, MessageType.match("board-resync"));
+        assertEquals(MessageType.ITEM_SPEED_DOWN, MessageType.match("item:speed-down:"));
+        assertEquals(MessageType.LOCKSTEP_INPUT, MessageType.match("ls-input:1:ROTATE:0:ff"));
+        assertNull(MessageType.match("board-"), "접두어 일부만 같으면 분류되지 않아야 합니다.");
+        assertNull(MessageType.match("test:message"), "등록되지 않은 접두어는 null이어야 합니다.");
+        assertTrue(MessageType.ATTACK_GENERATE.isPriority(), "공격 메시지는 우선 전송되어야 합니다.");
+        assertFalse(MessageType.BOARD_DELTA.isPriority(), "보드 동기화는 일반 전송이어야 합니다.");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. 종류별 처리 시간과 미확인 메시지 집계")
+    void testMessageStats() {
+        MessageStats stats = new MessageStats();
+        stats.record(MessageType.BOARD_DELTA, 2_000_000);
+        stats.record(MessageType.BOARD_DELTA, 4_000_000);
+        stats.record(MessageType.ATTACK_APPLY, 1_000);
+        stats.recordUnknown();
+
+        assertEquals(2, stats.getCount(MessageType.BOARD_DELTA));
+        assertEquals(3000.0, stats.getAverageMicros(MessageType.BOARD_DELTA), 1e-9, "평균 처리 시간이 계산되어야 합니다.");
+        assertEquals(4000.0, stats.getMaxMicros(MessageType.BOARD_DELTA), 1e-9, "최대 처리 시간이 기록되어야 합니다.");
+        assertEquals(MessageType.BOARD_DELTA, stats.getSlowestType(), "가장 느린 종류가 선택되어야 합니다.");
+        assertEquals(1, stats.getUnknownCount());
+        assertEquals("미확인 1 · board-delta 3.00ms", stats.summary());
+
+        stats.reset();
+        assertNull(stats.getSlowestType(), "초기화 후에는 기록이 없어야 합니다.");
+    }
+}
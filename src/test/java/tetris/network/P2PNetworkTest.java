@@ -2,6 +2,9 @@ package tetris.network;
 
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -757,5 +760,176 @@ public class P2PNetworkTest {
             }
         }, "빠른 연속 메시지 전송 테스트는 예외 없이 작동해야 합니다");
     }
-}
 
+    @Test
+    @DisplayName("대기 중 네트워크 스레드 CPU 사용량 테스트")
+    @Timeout(value = TEST_TIMEOUT_SECONDS, unit = TimeUnit.SECONDS)
+    void testIdleCpuUsage() {
+        System.out.println("--- 대기 중 CPU 사용량 테스트 ---");
+        
+        assertDoesNotThrow(() -> {
+            P2PServer server = null;
+            P2PClient client = null;
+            
+            try {
+                server = new P2PServer();
+                String serverHost = server.HOST;
+                Thread.sleep(NETWORK_WAIT_MS);
+                
+                client = new P2PClient();
+                assertTrue(client.connect(serverHost), "클라이언트가 연결되어야 합니다");
+                Thread.sleep(NETWORK_WAIT_MS);
+                
+                // 메시지 없이 ping/pong만 오가는 상태에서 네트워크 스레드의 CPU 시간 측정
+                ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+                assumeTrue(threadBean.isThreadCpuTimeSupported(), "스레드 CPU 시간 측정을 지원하지 않는 환경");
+                
+                long before = networkThreadCpuNanos(threadBean);
+                Thread.sleep(1000);
+                long used = networkThreadCpuNanos(threadBean) - before;
+                
+                System.out.println("네트워크 스레드 CPU 사용 시간 (1초 대기): " + (used / 1_000_000) + "ms");
+                assertTrue(used < 200_000_000L, "대기 중 네트워크 스레드가 CPU를 계속 사용하면 안 됩니다");
+                assertTrue(client.getLastRttMs() >= 0, "대기 중에도 ping/pong은 계속 오가야 합니다");
+                
+            } finally {
+                if (client != null) {
+                    client.release();
+                }
+                if (server != null) {
+                    server.release();
+                }
+                Thread.sleep(300);
+            }
+        }, "대기 중 CPU 사용량 테스트는 예외 없이 작동해야 합니다");
+    }
+
+    @Test
+    @DisplayName("송신 대기열 배치 전송 테스트")
+    @Timeout(value = TEST_TIMEOUT_SECONDS, unit = TimeUnit.SECONDS)
+    void testBatchedSendQueue() {
+        System.out.println("--- 송신 대기열 배치 전송 테스트 ---");
+        
+        assertDoesNotThrow(() -> {
+            P2PServer server = null;
+            P2PClient client = null;
+            
+            try {
+                server = new P2PServer();
+                String serverHost = server.HOST;
+                Thread.sleep(NETWORK_WAIT_MS);
+                
+                client = new P2PClient();
+                assertTrue(client.connect(serverHost), "클라이언트가 연결되어야 합니다");
+                Thread.sleep(NETWORK_WAIT_MS);
+                
+                int count = 2000;
+                CountDownLatch allReceived = new CountDownLatch(count);
+                CountDownLatch attackReceived = new CountDownLatch(1);
+                AtomicBoolean inOrder = new AtomicBoolean(true);
+                int[] expected = { 0 };
+                
+                server.addCallback("bulk:", (message) -> {
+                    if (Integer.parseInt(message) != expected[0]++) inOrder.set(false);
+                    allReceived.countDown();
+                });
+                server.addCallback("attack-generate:", (message) -> attackReceived.countDown());
+                
+                // 호출 스레드에서는 대기열에 넣기만 하므로 연속 전송이 바로 끝나야 함
+                long sentBefore = client.getMessagesSent();
+                long batchesBefore = client.getBatchesSent();
+                for (int i = 0; i < count; i++) {
+                    client.send("bulk:" + i);
+                }
+                client.send("attack-generate:test");
+                
+                assertTrue(allReceived.await(5, TimeUnit.SECONDS), "모든 메시지가 수신되어야 합니다");
+                assertTrue(attackReceived.await(1, TimeUnit.SECONDS), "우선 메시지가 수신되어야 합니다");
+                assertTrue(inOrder.get(), "같은 대기열의 메시지는 순서가 유지되어야 합니다");
+                
+                long messages = client.getMessagesSent() - sentBefore;
+                long batches = client.getBatchesSent() - batchesBefore;
+                System.out.println("메시지 " + messages + "개를 배치 " + batches + "번으로 전송, 최대 대기 "
+                    + client.getMaxQueuedBytes() + " bytes");
+                assertTrue(batches < messages, "여러 메시지가 한 번에 합쳐서 전송되어야 합니다");
+                assertEquals(0, client.getQueuedMessages(), "전송 후 대기열이 비어 있어야 합니다");
+                
+            } finally {
+                if (client != null) {
+                    client.release();
+                }
+                if (server != null) {
+                    server.release();
+                }
+                Thread.sleep(300);
+            }
+        }, "송신 대기열 배치 전송 테스트는 예외 없이 작동해야 합니다");
+    }
+
+    @Test
+    @DisplayName("opcode 메시지 분류 및 미확인 메시지 집계 테스트")
+    @Timeout(value = TEST_TIMEOUT_SECONDS, unit = TimeUnit.SECONDS)
+    void testTypedDispatch() {
+        System.out.println("--- opcode 메시지 분류 테스트 ---");
+        
+        assertDoesNotThrow(() -> {
+            P2PServer server = null;
+            P2PClient client = null;
+            
+            try {
+                server = new P2PServer();
+                String serverHost = server.HOST;
+                Thread.sleep(NETWORK_WAIT_MS);
+                
+                client = new P2PClient();
+                assertTrue(client.connect(serverHost), "클라이언트가 연결되어야 합니다");
+                Thread.sleep(NETWORK_WAIT_MS);
+                
+                AtomicReference<String> typed = new AtomicReference<>();
+                AtomicReference<String> custom = new AtomicReference<>();
+                CountDownLatch received = new CountDownLatch(2);
+                server.addCallback("attack-generate:", (message) -> {
+                    typed.set(message);
+                    received.countDown();
+                });
+                server.addCallback("custom:", (message) -> {
+                    custom.set(message);
+                    received.countDown();
+                });
+                
+                client.send("unknown-message");
+                client.send(MessageType.ATTACK_GENERATE, "{\"x\":1}");
+                client.send("custom:문자열 접두어");
+                
+                assertTrue(received.await(3, TimeUnit.SECONDS), "메시지가 수신되어야 합니다");
+                assertEquals("{\"x\":1}", typed.get(), "opcode 메시지는 접두어를 뺀 내용이 전달되어야 합니다");
+                assertEquals("문자열 접두어", custom.get(), "등록되지 않은 접두어도 기존처럼 전달되어야 합니다");
+                
+                MessageStats stats = server.getMessageStats();
+                assertEquals(1, stats.getUnknownCount(), "처리되지 않은 메시지가 집계되어야 합니다");
+                assertEquals(1, stats.getCount(MessageType.ATTACK_GENERATE), "종류별 수신 횟수가 집계되어야 합니다");
+                assertTrue(stats.getCount(MessageType.PING) > 0, "ping도 opcode로 처리되어야 합니다");
+                
+            } finally {
+                if (client != null) {
+                    client.release();
+                }
+                if (server != null) {
+                    server.release();
+                }
+                Thread.sleep(300);
+            }
+        }, "opcode 메시지 분류 테스트는 예외 없이 작동해야 합니다");
+    }
+
+    private long networkThreadCpuNanos(ThreadMXBean threadBean) {
+        long total = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("P2P-Network".equals(thread.getName())) {
+                long cpu = threadBean.getThreadCpuTime(thread.getId());
+                if (cpu > 0) total += cpu;
+            }
+        }
+        return total;
+    }
+}